@@ -0,0 +1,152 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Utility methods that create the (deterministic) data used by the
+ * benchmarks.
+ */
+final class BenchmarkData {
+
+    /** The seed for the random number generator. */
+    private static final long SEED = 20220101L;
+
+    /** The number of rows used for category datasets. */
+    static final int CATEGORY_ROWS = 10;
+
+    private BenchmarkData() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Creates a random walk of the specified length.
+     *
+     * @param count  the number of values.
+     *
+     * @return The values.
+     */
+    static double[] randomWalk(int count) {
+        Random random = new Random(SEED);
+        double[] result = new double[count];
+        double y = 100.0;
+        for (int i = 0; i < count; i++) {
+            y = y + random.nextGaussian();
+            result[i] = y;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a collection containing a single series with the specified
+     * number of items (the x-values are 0, 1, 2, ...).
+     *
+     * @param count  the number of items.
+     *
+     * @return The dataset.
+     */
+    static XYSeriesCollection<String> createXYDataset(int count) {
+        XYSeries<String> series = new XYSeries<>("S1", true, false);
+        double[] y = randomWalk(count);
+        for (int i = 0; i < count; i++) {
+            series.add(i, y[i], false);
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(series);
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset containing (approximately) the specified
+     * number of values, spread over {@link #CATEGORY_ROWS} rows.
+     *
+     * @param count  the number of values.
+     *
+     * @return The dataset.
+     */
+    static DefaultCategoryDataset<String, Integer> createCategoryDataset(
+            int count) {
+        int columns = Math.max(1, count / CATEGORY_ROWS);
+        double[] y = randomWalk(columns * CATEGORY_ROWS);
+        DefaultCategoryDataset<String, Integer> dataset
+                = new DefaultCategoryDataset<>();
+        for (int r = 0; r < CATEGORY_ROWS; r++) {
+            String rowKey = "R" + r;
+            for (int c = 0; c < columns; c++) {
+                dataset.addValue(y[r * columns + c], rowKey,
+                        Integer.valueOf(c));
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates the time periods for a time series of the specified length
+     * (one period per millisecond).
+     *
+     * @param count  the number of periods.
+     *
+     * @return The periods.
+     */
+    static RegularTimePeriod[] createPeriods(int count) {
+        RegularTimePeriod[] result = new RegularTimePeriod[count];
+        RegularTimePeriod p = new Millisecond(0, 0, 0, 0, 1, 1, 2020);
+        for (int i = 0; i < count; i++) {
+            result[i] = p;
+            p = p.next();
+        }
+        return result;
+    }
+
+    /**
+     * Creates a time series with the specified number of items.
+     *
+     * @param count  the number of items.
+     *
+     * @return The series.
+     */
+    static TimeSeries<String> createTimeSeries(int count) {
+        TimeSeries<String> series = new TimeSeries<>("T1");
+        RegularTimePeriod[] periods = createPeriods(count);
+        double[] y = randomWalk(count);
+        for (int i = 0; i < count; i++) {
+            series.add(periods[i], y[i], false);
+        }
+        return series;
+    }
+
+}
@@ -0,0 +1,130 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for drawing a category line chart to a headless
+ * {@code Graphics2D}.  The values are spread over
+ * {@link BenchmarkData#CATEGORY_ROWS} series.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx8g"})
+@State(Scope.Thread)
+public class CategoryRenderingBenchmark {
+
+    /** The total number of values in the dataset. */
+    @Param({"1000", "100000", "10000000"})
+    public int points;
+
+    private JFreeChart chart;
+
+    private CategoryPlot<String, Integer> plot;
+
+    private Graphics2D g2;
+
+    private Rectangle2D chartArea;
+
+    private Rectangle2D dataArea;
+
+    /**
+     * Creates the chart and performs one full draw so that the axis ranges
+     * and the data area are established before measurement.
+     */
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        DefaultCategoryDataset<String, Integer> dataset
+                = BenchmarkData.createCategoryDataset(this.points);
+        this.chart = ChartFactory.createLineChart("Category Benchmark",
+                "Category", "Value", dataset);
+        this.plot = (CategoryPlot<String, Integer>) this.chart.getPlot();
+        BufferedImage image = new BufferedImage(XYRenderingBenchmark.WIDTH,
+                XYRenderingBenchmark.HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = image.createGraphics();
+        this.chartArea = new Rectangle2D.Double(0, 0,
+                XYRenderingBenchmark.WIDTH, XYRenderingBenchmark.HEIGHT);
+        ChartRenderingInfo info = new ChartRenderingInfo(null);
+        this.chart.draw(this.g2, this.chartArea, info);
+        this.dataArea = info.getPlotInfo().getDataArea();
+    }
+
+    /**
+     * Releases the graphics resources.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the complete chart.
+     */
+    @Benchmark
+    public void chartDraw() {
+        this.chart.draw(this.g2, this.chartArea);
+    }
+
+    /**
+     * Renders the data for the primary dataset only.
+     *
+     * @return The flag returned by the plot.
+     */
+    @Benchmark
+    public boolean plotRender() {
+        return this.plot.render(this.g2, this.dataArea, 0, null, null);
+    }
+
+}
@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for dataset construction and range calculation.  The "fill"
+ * benchmarks add {@code points} items to a new series in each invocation, so
+ * the reported time (and, with the GC profiler, the allocation rate) covers
+ * the whole series.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx8g"})
+@State(Scope.Thread)
+public class DatasetBenchmark {
+
+    /** The number of data items. */
+    @Param({"1000", "100000", "10000000"})
+    public int points;
+
+    private XYSeriesCollection<String> dataset;
+
+    private List<String> visibleSeriesKeys;
+
+    private Range xRange;
+
+    private double[] values;
+
+    private RegularTimePeriod[] periods;
+
+    /**
+     * Creates the source data.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.dataset = BenchmarkData.createXYDataset(this.points);
+        this.visibleSeriesKeys = List.of("S1");
+        this.xRange = new Range(this.points * 0.25, this.points * 0.75);
+        this.values = BenchmarkData.randomWalk(this.points);
+        this.periods = BenchmarkData.createPeriods(this.points);
+    }
+
+    /**
+     * Finds the range bounds for the complete dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range findRangeBounds() {
+        return DatasetUtils.findRangeBounds(this.dataset);
+    }
+
+    /**
+     * Finds the range bounds for the items in the middle half of the
+     * x-range, using the dataset's own implementation if there is one.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range findRangeBoundsInXRange() {
+        return DatasetUtils.findRangeBounds(this.dataset,
+                this.visibleSeriesKeys, this.xRange, true);
+    }
+
+    /**
+     * Finds the range bounds for the items in the middle half of the
+     * x-range by iterating over the items.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateToFindRangeBounds() {
+        return DatasetUtils.iterateToFindRangeBounds(this.dataset,
+                this.visibleSeriesKeys, this.xRange, true);
+    }
+
+    /**
+     * Fills a new {@code XYSeries} with {@code add()}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries<String> xySeriesAdd() {
+        XYSeries<String> series = new XYSeries<>("S");
+        for (int i = 0; i < this.points; i++) {
+            series.add(i, this.values[i]);
+        }
+        return series;
+    }
+
+    /**
+     * Fills a new {@code XYSeries} (that does not allow duplicate x-values)
+     * with {@code addOrUpdate()}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries<String> xySeriesAddOrUpdate() {
+        XYSeries<String> series = new XYSeries<>("S", true, false);
+        for (int i = 0; i < this.points; i++) {
+            series.addOrUpdate(i, this.values[i]);
+        }
+        return series;
+    }
+
+    /**
+     * Fills a new {@code TimeSeries} with {@code add()}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries<String> timeSeriesAdd() {
+        TimeSeries<String> series = new TimeSeries<>("T");
+        for (int i = 0; i < this.points; i++) {
+            series.add(this.periods[i], this.values[i]);
+        }
+        return series;
+    }
+
+}
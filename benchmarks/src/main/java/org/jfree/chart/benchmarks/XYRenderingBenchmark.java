@@ -0,0 +1,183 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for drawing an XY line chart to a headless {@code Graphics2D}
+ * (backed by a {@link BufferedImage}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx8g"})
+@State(Scope.Thread)
+public class XYRenderingBenchmark {
+
+    /** The image width. */
+    static final int WIDTH = 1200;
+
+    /** The image height. */
+    static final int HEIGHT = 800;
+
+    /** The number of data items in the chart. */
+    @Param({"1000", "100000", "10000000"})
+    public int points;
+
+    private JFreeChart chart;
+
+    private XYPlot<String> plot;
+
+    private XYLineAndShapeRenderer renderer;
+
+    private XYSeriesCollection<String> dataset;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Rectangle2D chartArea;
+
+    private Rectangle2D dataArea;
+
+    private XYItemRendererState rendererState;
+
+    private int item;
+
+    /**
+     * Creates the chart and performs one full draw so that the axis ranges
+     * and the data area are established before measurement.
+     */
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        this.dataset = BenchmarkData.createXYDataset(this.points);
+        this.chart = ChartFactory.createXYLineChart("XY Benchmark", "X", "Y",
+                this.dataset);
+        this.plot = (XYPlot<String>) this.chart.getPlot();
+        this.renderer = new XYLineAndShapeRenderer(true, false);
+        this.plot.setRenderer(this.renderer);
+        this.image = new BufferedImage(WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.chartArea = new Rectangle2D.Double(0, 0, WIDTH, HEIGHT);
+        ChartRenderingInfo info = new ChartRenderingInfo(null);
+        this.chart.draw(this.g2, this.chartArea, info);
+        this.dataArea = info.getPlotInfo().getDataArea();
+        this.rendererState = this.renderer.initialise(this.g2, this.dataArea,
+                this.plot, this.dataset, null);
+        this.rendererState.startSeriesPass(this.dataset, 0, 0,
+                this.points - 1, 0, 1);
+    }
+
+    /**
+     * Releases the graphics resources.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the complete chart (titles, axes, legend and data).
+     */
+    @Benchmark
+    public void chartDraw() {
+        this.chart.draw(this.g2, this.chartArea);
+    }
+
+    /**
+     * Renders the data for the primary dataset only.
+     *
+     * @return The flag returned by the plot.
+     */
+    @Benchmark
+    public boolean plotRender() {
+        return this.plot.render(this.g2, this.dataArea, 0, null, null);
+    }
+
+    /**
+     * Calls the renderer's {@code drawItem()} method for a single item (the
+     * item index advances on each invocation).  Note that this benchmark
+     * reports a per-item time, not a per-chart time.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void rendererDrawItem() {
+        this.renderer.drawItem(this.g2, this.rendererState, this.dataArea,
+                null, this.plot, this.plot.getDomainAxis(),
+                this.plot.getRangeAxis(), this.dataset, 0, this.item, null, 0);
+        this.item++;
+        if (this.item >= this.points) {
+            this.item = 0;
+        }
+    }
+
+    /**
+     * Renders the chart to a {@code BufferedImage} and encodes it in PNG
+     * format (the encoded bytes are discarded).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public void writeChartAsPNG() throws IOException {
+        ChartUtils.writeChartAsPNG(OutputStream.nullOutputStream(), this.chart,
+                WIDTH, HEIGHT);
+    }
+
+}
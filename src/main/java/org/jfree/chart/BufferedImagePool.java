@@ -0,0 +1,186 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A thread-safe pool of {@link BufferedImage} instances, keyed by width,
+ * height and image type.  Images are handed out by
+ * {@link #acquire(int, int, int)} and should be handed back with
+ * {@link #release(BufferedImage)} once they are no longer referenced.  Up to
+ * {@code maxImagesPerKey} idle images are retained for each distinct size and
+ * type, any further released images are left for the garbage collector.
+ * <p>
+ * Note that an acquired image may contain the pixels from an earlier use,
+ * callers are responsible for clearing it.
+ *
+ * @since 2.0.0
+ */
+public class BufferedImagePool {
+
+    /** The maximum number of idle images retained per size and type. */
+    private final int maxImagesPerKey;
+
+    /** The idle images. */
+    private final ConcurrentMap<Key, BlockingQueue<BufferedImage>> images;
+
+    /**
+     * Creates a new pool that retains up to 4 idle images per size and type.
+     */
+    public BufferedImagePool() {
+        this(4);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxImagesPerKey  the maximum number of idle images retained for
+     *     each distinct size and type (must be at least 1).
+     */
+    public BufferedImagePool(int maxImagesPerKey) {
+        Args.requireInRange(maxImagesPerKey, "maxImagesPerKey", 1,
+                Integer.MAX_VALUE);
+        this.maxImagesPerKey = maxImagesPerKey;
+        this.images = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the maximum number of idle images retained for each distinct
+     * size and type.
+     *
+     * @return The maximum number of idle images.
+     */
+    public int getMaxImagesPerKey() {
+        return this.maxImagesPerKey;
+    }
+
+    /**
+     * Returns an image with the specified size and type, reusing an idle
+     * image from the pool if there is one.
+     *
+     * @param width  the width (must be positive).
+     * @param height  the height (must be positive).
+     * @param imageType  the image type (for example
+     *     {@link BufferedImage#TYPE_INT_ARGB}).
+     *
+     * @return An image (never {@code null}).
+     */
+    public BufferedImage acquire(int width, int height, int imageType) {
+        Args.requireInRange(width, "width", 1, Integer.MAX_VALUE);
+        Args.requireInRange(height, "height", 1, Integer.MAX_VALUE);
+        BlockingQueue<BufferedImage> queue = this.images.get(
+                new Key(width, height, imageType));
+        if (queue != null) {
+            BufferedImage image = queue.poll();
+            if (image != null) {
+                return image;
+            }
+        }
+        return new BufferedImage(width, height, imageType);
+    }
+
+    /**
+     * Returns an image to the pool.  The caller must not use the image after
+     * calling this method.
+     *
+     * @param image  the image ({@code null} not permitted).
+     */
+    public void release(BufferedImage image) {
+        Args.nullNotPermitted(image, "image");
+        Key key = new Key(image.getWidth(), image.getHeight(),
+                image.getType());
+        BlockingQueue<BufferedImage> queue = this.images.computeIfAbsent(key,
+                k -> new ArrayBlockingQueue<>(this.maxImagesPerKey));
+        queue.offer(image);
+    }
+
+    /**
+     * Returns the total number of idle images held by the pool.
+     *
+     * @return The number of idle images.
+     */
+    public int getIdleImageCount() {
+        int result = 0;
+        for (BlockingQueue<BufferedImage> queue : this.images.values()) {
+            result += queue.size();
+        }
+        return result;
+    }
+
+    /**
+     * Discards all idle images.
+     */
+    public void clear() {
+        this.images.clear();
+    }
+
+    /**
+     * The key for the image map.
+     */
+    private static final class Key {
+
+        private final int width;
+
+        private final int height;
+
+        private final int imageType;
+
+        Key(int width, int height, int imageType) {
+            this.width = width;
+            this.height = height;
+            this.imageType = imageType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.imageType == that.imageType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.width, this.height, this.imageType);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+
+/**
+ * The layers that a chart is drawn in.  By default a chart is drawn in a
+ * single pass, but a caller can draw selected layers only by setting the
+ * {@link JFreeChart#KEY_LAYER} rendering hint (and, for the data layer,
+ * {@link JFreeChart#KEY_LAYER_DATASET_INDEX}) on the target
+ * {@code Graphics2D}.  The layout of the chart is calculated in every
+ * pass, unless the passes share a {@link ChartLayerLayout} (set with the
+ * {@link JFreeChart#KEY_LAYER_LAYOUT} hint), so the layers line up when they
+ * are composited in the order they are declared here (with the data layers
+ * in the plot's dataset rendering order).  This is used by the
+ * {@code ChartPanel} class to redraw only the layers that are affected by a
+ * change.
+ * <p>
+ * Only plots that return a non-{@code null} list from
+ * {@link org.jfree.chart.plot.Plot#getLayerDatasetIndices()} honour the
+ * hint.
+ *
+ * @since 2.0.0
+ */
+public enum ChartLayer {
+
+    /**
+     * The chart and plot backgrounds, tick bands, gridlines and background
+     * markers and annotations.
+     */
+    BACKGROUND,
+
+    /** The data items (one layer per dataset index). */
+    DATA,
+
+    /**
+     * Foreground markers and annotations, crosshairs and the "no data"
+     * message.
+     */
+    ANNOTATIONS,
+
+    /** The titles, legends, axes, chart border and plot outline. */
+    AXES;
+
+    /**
+     * Returns {@code true} if the specified layer should be drawn to
+     * {@code g2}, based on the {@link JFreeChart#KEY_LAYER} hint.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param layer  the layer ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isDrawn(Graphics2D g2, ChartLayer layer) {
+        Object hint = g2.getRenderingHint(JFreeChart.KEY_LAYER);
+        return hint == null || hint == layer;
+    }
+
+    /**
+     * Returns {@code true} if the data items for the specified dataset should
+     * be drawn to {@code g2}, based on the {@link JFreeChart#KEY_LAYER} and
+     * {@link JFreeChart#KEY_LAYER_DATASET_INDEX} hints.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param datasetIndex  the dataset index.
+     *
+     * @return A boolean.
+     */
+    public static boolean isDatasetDrawn(Graphics2D g2, int datasetIndex) {
+        Object hint = g2.getRenderingHint(JFreeChart.KEY_LAYER);
+        if (hint == null) {
+            return true;
+        }
+        if (hint != DATA) {
+            return false;
+        }
+        Object index = g2.getRenderingHint(JFreeChart.KEY_LAYER_DATASET_INDEX);
+        return index == null || (Integer) index == datasetIndex;
+    }
+
+}
@@ -0,0 +1,162 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Map;
+
+import org.jfree.chart.axis.Axis;
+import org.jfree.chart.axis.AxisState;
+
+/**
+ * The layout of a chart, shared by the passes that draw the layers of the
+ * chart (see {@link ChartLayer}) in a single repaint.  The first pass
+ * records the plot area, the data area and the axis states, and the later
+ * passes reuse them rather than measuring the titles and axes again.  A
+ * layout is passed to {@link JFreeChart#draw(Graphics2D, Rectangle2D)} with
+ * the {@link JFreeChart#KEY_LAYER_LAYOUT} rendering hint, and must not be
+ * reused once the chart (or the area that it is drawn in) has changed.
+ * <p>
+ * Only plots that return a non-{@code null} list from
+ * {@link org.jfree.chart.plot.Plot#getLayerDatasetIndices()} use the data
+ * area and axis states.
+ *
+ * @since 2.0.0
+ */
+public final class ChartLayerLayout {
+
+    /** The chart area that the plot area was calculated for. */
+    private Rectangle2D chartArea;
+
+    /** The plot area. */
+    private Rectangle2D plotArea;
+
+    /** The area (inside the plot insets) the data area was calculated for. */
+    private Rectangle2D area;
+
+    /** The data area. */
+    private Rectangle2D dataArea;
+
+    /** The axis states. */
+    private Map<Axis, AxisState> axisStates;
+
+    /**
+     * Creates a new (empty) layout.
+     */
+    public ChartLayerLayout() {
+    }
+
+    /**
+     * Returns the layout that is set for {@code g2} with the
+     * {@link JFreeChart#KEY_LAYER_LAYOUT} hint.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     *
+     * @return The layout (possibly {@code null}).
+     */
+    public static ChartLayerLayout getLayout(Graphics2D g2) {
+        return (ChartLayerLayout) g2.getRenderingHint(
+                JFreeChart.KEY_LAYER_LAYOUT);
+    }
+
+    /**
+     * Returns a copy of the plot area, if it has been recorded for the
+     * specified chart area.
+     *
+     * @param chartArea  the chart area ({@code null} not permitted).
+     *
+     * @return The plot area (possibly {@code null}).
+     */
+    public Rectangle2D getPlotArea(Rectangle2D chartArea) {
+        if (this.plotArea == null || !chartArea.equals(this.chartArea)) {
+            return null;
+        }
+        return (Rectangle2D) this.plotArea.clone();
+    }
+
+    /**
+     * Records the plot area for a chart area.
+     *
+     * @param chartArea  the chart area ({@code null} not permitted).
+     * @param plotArea  the plot area ({@code null} not permitted).
+     */
+    public void setPlotArea(Rectangle2D chartArea, Rectangle2D plotArea) {
+        this.chartArea = (Rectangle2D) chartArea.clone();
+        this.plotArea = (Rectangle2D) plotArea.clone();
+    }
+
+    /**
+     * Returns a copy of the data area, if it has been recorded for the
+     * specified area.
+     *
+     * @param area  the plot area, inside the plot insets ({@code null} not
+     *     permitted).
+     *
+     * @return The data area (possibly {@code null}).
+     */
+    public Rectangle2D getDataArea(Rectangle2D area) {
+        if (this.dataArea == null || !area.equals(this.area)) {
+            return null;
+        }
+        return (Rectangle2D) this.dataArea.clone();
+    }
+
+    /**
+     * Records the data area for an area.
+     *
+     * @param area  the plot area, inside the plot insets ({@code null} not
+     *     permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     */
+    public void setDataArea(Rectangle2D area, Rectangle2D dataArea) {
+        this.area = (Rectangle2D) area.clone();
+        this.dataArea = (Rectangle2D) dataArea.clone();
+        this.axisStates = null;
+    }
+
+    /**
+     * Returns the axis states for the data area.
+     *
+     * @return The axis states (possibly {@code null}).
+     */
+    public Map<Axis, AxisState> getAxisStates() {
+        return this.axisStates;
+    }
+
+    /**
+     * Records the axis states for the data area.
+     *
+     * @param axisStates  the axis states ({@code null} permitted).
+     */
+    public void setAxisStates(Map<Axis, AxisState> axisStates) {
+        this.axisStates = axisStates;
+    }
+
+}
@@ -0,0 +1,180 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+/**
+ * A snapshot of the counters maintained by a {@link ChartRenderingService},
+ * returned by {@link ChartRenderingService#getMetrics()}.  All times are in
+ * nanoseconds and are totals over the completed jobs.
+ *
+ * @since 2.0.0
+ */
+public final class ChartRenderingMetrics {
+
+    /** The number of jobs submitted. */
+    private final long submittedJobs;
+
+    /** The number of jobs completed successfully. */
+    private final long completedJobs;
+
+    /** The number of jobs that failed. */
+    private final long failedJobs;
+
+    /** The number of jobs waiting for a thread. */
+    private final int queuedJobs;
+
+    /** The number of jobs currently running. */
+    private final int activeJobs;
+
+    /** The total queue time (in nanoseconds). */
+    private final long totalQueueNanos;
+
+    /** The total render time (in nanoseconds). */
+    private final long totalRenderNanos;
+
+    /** The total encode time (in nanoseconds). */
+    private final long totalEncodeNanos;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param submittedJobs  the number of jobs submitted.
+     * @param completedJobs  the number of jobs completed successfully.
+     * @param failedJobs  the number of jobs that failed.
+     * @param queuedJobs  the number of jobs waiting for a thread.
+     * @param activeJobs  the number of jobs currently running.
+     * @param totalQueueNanos  the total queue time.
+     * @param totalRenderNanos  the total render time.
+     * @param totalEncodeNanos  the total encode time.
+     */
+    public ChartRenderingMetrics(long submittedJobs, long completedJobs,
+            long failedJobs, int queuedJobs, int activeJobs,
+            long totalQueueNanos, long totalRenderNanos,
+            long totalEncodeNanos) {
+        this.submittedJobs = submittedJobs;
+        this.completedJobs = completedJobs;
+        this.failedJobs = failedJobs;
+        this.queuedJobs = queuedJobs;
+        this.activeJobs = activeJobs;
+        this.totalQueueNanos = totalQueueNanos;
+        this.totalRenderNanos = totalRenderNanos;
+        this.totalEncodeNanos = totalEncodeNanos;
+    }
+
+    /**
+     * Returns the number of jobs submitted to the service.
+     *
+     * @return The number of jobs submitted.
+     */
+    public long getSubmittedJobs() {
+        return this.submittedJobs;
+    }
+
+    /**
+     * Returns the number of jobs that completed successfully.
+     *
+     * @return The number of completed jobs.
+     */
+    public long getCompletedJobs() {
+        return this.completedJobs;
+    }
+
+    /**
+     * Returns the number of jobs that failed with an exception.
+     *
+     * @return The number of failed jobs.
+     */
+    public long getFailedJobs() {
+        return this.failedJobs;
+    }
+
+    /**
+     * Returns the number of jobs waiting for a thread.
+     *
+     * @return The number of queued jobs.
+     */
+    public int getQueuedJobs() {
+        return this.queuedJobs;
+    }
+
+    /**
+     * Returns the number of jobs currently running.
+     *
+     * @return The number of active jobs.
+     */
+    public int getActiveJobs() {
+        return this.activeJobs;
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) that finished jobs spent
+     * waiting for a thread.
+     *
+     * @return The total queue time.
+     */
+    public long getTotalQueueNanos() {
+        return this.totalQueueNanos;
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) spent drawing charts.
+     *
+     * @return The total render time.
+     */
+    public long getTotalRenderNanos() {
+        return this.totalRenderNanos;
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) spent encoding and writing
+     * images.
+     *
+     * @return The total encode time.
+     */
+    public long getTotalEncodeNanos() {
+        return this.totalEncodeNanos;
+    }
+
+    /**
+     * Returns a string representing the metrics, for debugging purposes.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "ChartRenderingMetrics[submitted=" + this.submittedJobs
+                + ", completed=" + this.completedJobs + ", failed="
+                + this.failedJobs + ", queued=" + this.queuedJobs
+                + ", active=" + this.activeJobs + ", queueNanos="
+                + this.totalQueueNanos + ", renderNanos="
+                + this.totalRenderNanos + ", encodeNanos="
+                + this.totalEncodeNanos + "]";
+    }
+
+}
@@ -0,0 +1,117 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+/**
+ * The timing information for one job completed by a
+ * {@link ChartRenderingService}.  All times are in nanoseconds.
+ *
+ * @since 2.0.0
+ */
+public final class ChartRenderingResult {
+
+    /** The time the job spent waiting for a thread. */
+    private final long queueNanos;
+
+    /** The time taken to draw the chart. */
+    private final long renderNanos;
+
+    /** The time taken to encode and write the image. */
+    private final long encodeNanos;
+
+    /** The number of bytes written to the output stream. */
+    private final long byteCount;
+
+    /**
+     * Creates a new result.
+     *
+     * @param queueNanos  the time the job spent waiting for a thread.
+     * @param renderNanos  the time taken to draw the chart.
+     * @param encodeNanos  the time taken to encode and write the image.
+     * @param byteCount  the number of bytes written.
+     */
+    public ChartRenderingResult(long queueNanos, long renderNanos,
+            long encodeNanos, long byteCount) {
+        this.queueNanos = queueNanos;
+        this.renderNanos = renderNanos;
+        this.encodeNanos = encodeNanos;
+        this.byteCount = byteCount;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) that the job spent waiting for a
+     * thread.
+     *
+     * @return The queue time.
+     */
+    public long getQueueNanos() {
+        return this.queueNanos;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) taken to draw the chart.
+     *
+     * @return The render time.
+     */
+    public long getRenderNanos() {
+        return this.renderNanos;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) taken to encode the image and write
+     * it to the output stream.
+     *
+     * @return The encode time.
+     */
+    public long getEncodeNanos() {
+        return this.encodeNanos;
+    }
+
+    /**
+     * Returns the number of bytes written to the output stream.
+     *
+     * @return The byte count.
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns a string representing the result, for debugging purposes.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "ChartRenderingResult[queueNanos=" + this.queueNanos
+                + ", renderNanos=" + this.renderNanos + ", encodeNanos="
+                + this.encodeNanos + ", byteCount=" + this.byteCount + "]";
+    }
+
+}
@@ -0,0 +1,402 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A service that renders charts to encoded images (PNG by default) on an
+ * executor, for server-side use where many charts are generated
+ * concurrently.  Compared with calling
+ * {@link ChartUtils#writeChartAsPNG(OutputStream, JFreeChart, int, int)} on
+ * each request thread, the service:
+ * <ul>
+ * <li>bounds the number of charts drawn at the same time (by the choice of
+ * executor);</li>
+ * <li>reuses {@code BufferedImage} instances of the same size and type via
+ * a {@link BufferedImagePool};</li>
+ * <li>records per-job timings (see {@link ChartRenderingResult}) and running
+ * totals (see {@link #getMetrics()}) that can be used to size the executor
+ * to the available cores.</li>
+ * </ul>
+ * Any {@code ExecutorService} can be supplied, for example a fixed pool with
+ * one thread per core, or (on Java 21 or later) the executor returned by
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}.  Drawing is CPU bound,
+ * so with virtual threads it is the size of the carrier thread pool that
+ * limits throughput.
+ * <p>
+ * {@code JFreeChart} instances are not thread-safe:  a chart must not be
+ * modified, or submitted again, while a job that renders it is still
+ * running.
+ *
+ * @since 2.0.0
+ */
+public class ChartRenderingService implements AutoCloseable {
+
+    /** The executor that runs the jobs. */
+    private final ExecutorService executor;
+
+    /** A flag that controls whether the executor is shut down by close(). */
+    private final boolean ownsExecutor;
+
+    /** The image pool. */
+    private final BufferedImagePool imagePool;
+
+    /** The image type for the rendered charts. */
+    private final int imageType;
+
+    /** The output format (see {@link ImageFormat}). */
+    private final String format;
+
+    /** The number of jobs accepted by the executor. */
+    private final AtomicLong submittedJobs = new AtomicLong();
+
+    /** The number of jobs that completed successfully. */
+    private final AtomicLong completedJobs = new AtomicLong();
+
+    /** The number of jobs that failed with an exception. */
+    private final AtomicLong failedJobs = new AtomicLong();
+
+    /**
+     * The number of jobs waiting for a thread (jobs cancelled before they
+     * start are removed from this count).
+     */
+    private final AtomicInteger queuedJobs = new AtomicInteger();
+
+    /** The number of jobs currently running. */
+    private final AtomicInteger activeJobs = new AtomicInteger();
+
+    /** The total time (in nanoseconds) that jobs spent waiting. */
+    private final LongAdder totalQueueNanos = new LongAdder();
+
+    /** The total time (in nanoseconds) spent drawing charts. */
+    private final LongAdder totalRenderNanos = new LongAdder();
+
+    /** The total time (in nanoseconds) spent encoding images. */
+    private final LongAdder totalEncodeNanos = new LongAdder();
+
+    /**
+     * Creates a new service with a fixed pool of threads, one per available
+     * processor.
+     */
+    public ChartRenderingService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new service with a fixed pool of threads.  The threads are
+     * daemon threads and are shut down by {@link #close()}.
+     *
+     * @param threads  the number of threads (must be at least 1).
+     */
+    public ChartRenderingService(int threads) {
+        this(createExecutor(threads), true, new BufferedImagePool(threads),
+                BufferedImage.TYPE_INT_ARGB, ImageFormat.PNG);
+    }
+
+    /**
+     * Creates a new service that runs jobs on the specified executor.  The
+     * executor is not shut down by {@link #close()}.
+     *
+     * @param executor  the executor ({@code null} not permitted).
+     */
+    public ChartRenderingService(ExecutorService executor) {
+        this(executor, false, new BufferedImagePool(),
+                BufferedImage.TYPE_INT_ARGB, ImageFormat.PNG);
+    }
+
+    /**
+     * Creates a new service.
+     *
+     * @param executor  the executor ({@code null} not permitted).
+     * @param ownsExecutor  if {@code true}, {@link #close()} shuts down the
+     *     executor.
+     * @param imagePool  the image pool ({@code null} not permitted).
+     * @param imageType  the image type (for example
+     *     {@link BufferedImage#TYPE_INT_ARGB}).
+     * @param format  the output format (see {@link ImageFormat},
+     *     {@code null} not permitted).
+     */
+    public ChartRenderingService(ExecutorService executor,
+            boolean ownsExecutor, BufferedImagePool imagePool, int imageType,
+            String format) {
+        Args.nullNotPermitted(executor, "executor");
+        Args.nullNotPermitted(imagePool, "imagePool");
+        Args.nullNotPermitted(format, "format");
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.imagePool = imagePool;
+        this.imageType = imageType;
+        this.format = format;
+    }
+
+    /**
+     * Creates a fixed thread pool with daemon threads.
+     *
+     * @param threads  the number of threads.
+     *
+     * @return The executor.
+     */
+    private static ExecutorService createExecutor(int threads) {
+        Args.requireInRange(threads, "threads", 1, Integer.MAX_VALUE);
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "ChartRenderingService-"
+                    + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns the image pool used by the service.
+     *
+     * @return The image pool (never {@code null}).
+     */
+    public BufferedImagePool getImagePool() {
+        return this.imagePool;
+    }
+
+    /**
+     * Returns the image type for the rendered charts.
+     *
+     * @return The image type.
+     */
+    public int getImageType() {
+        return this.imageType;
+    }
+
+    /**
+     * Returns the output format.
+     *
+     * @return The output format (never {@code null}).
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Submits a job that draws the chart and writes the encoded image to the
+     * output stream.  The stream is not closed.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param out  the output stream ({@code null} not permitted).
+     *
+     * @return A future that supplies the job timings.
+     */
+    public Future<ChartRenderingResult> submit(JFreeChart chart, int width,
+            int height, OutputStream out) {
+        return submit(chart, width, height, out, null);
+    }
+
+    /**
+     * Submits a job that draws the chart and writes the encoded image to the
+     * output stream.  The stream is not closed.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param out  the output stream ({@code null} not permitted).
+     * @param info  carries back chart state information ({@code null}
+     *     permitted), this is only valid once the job has completed.
+     *
+     * @return A future that supplies the job timings.
+     */
+    public Future<ChartRenderingResult> submit(JFreeChart chart, int width,
+            int height, OutputStream out, ChartRenderingInfo info) {
+        Args.nullNotPermitted(chart, "chart");
+        Args.nullNotPermitted(out, "out");
+        Args.requireInRange(width, "width", 1, Integer.MAX_VALUE);
+        Args.requireInRange(height, "height", 1, Integer.MAX_VALUE);
+        long submitTime = System.nanoTime();
+        this.submittedJobs.incrementAndGet();
+        this.queuedJobs.incrementAndGet();
+        AtomicBoolean queued = new AtomicBoolean(true);
+        FutureTask<ChartRenderingResult> job
+                = new FutureTask<ChartRenderingResult>(() -> {
+            dequeue(queued);
+            return render(chart, width, height, out, info, submitTime);
+        }) {
+            @Override
+            protected void done() {
+                // a job that is cancelled before it starts never runs
+                dequeue(queued);
+            }
+        };
+        try {
+            this.executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            this.submittedJobs.decrementAndGet();
+            dequeue(queued);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Removes a job from the queued job count, if it has not been removed
+     * already.
+     *
+     * @param queued  the flag that records whether the job is queued.
+     */
+    private void dequeue(AtomicBoolean queued) {
+        if (queued.compareAndSet(true, false)) {
+            this.queuedJobs.decrementAndGet();
+        }
+    }
+
+    /**
+     * Draws the chart and writes the encoded image.
+     *
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param out  the output stream.
+     * @param info  the rendering info ({@code null} permitted).
+     * @param submitTime  the time the job was submitted.
+     *
+     * @return The job timings.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private ChartRenderingResult render(JFreeChart chart, int width,
+            int height, OutputStream out, ChartRenderingInfo info,
+            long submitTime) throws IOException {
+        long startTime = System.nanoTime();
+        this.activeJobs.incrementAndGet();
+        long queueNanos = startTime - submitTime;
+        this.totalQueueNanos.add(queueNanos);
+        BufferedImage image = this.imagePool.acquire(width, height,
+                this.imageType);
+        boolean success = false;
+        try {
+            Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, width, height);
+                g2.setComposite(AlphaComposite.SrcOver);
+                chart.draw(g2, new Rectangle2D.Double(0, 0, width, height),
+                        null, info);
+            } finally {
+                g2.dispose();
+            }
+            long renderTime = System.nanoTime();
+            CountingOutputStream cout = new CountingOutputStream(out);
+            EncoderUtil.writeBufferedImage(image, this.format, cout);
+            cout.flush();
+            long endTime = System.nanoTime();
+            this.totalRenderNanos.add(renderTime - startTime);
+            this.totalEncodeNanos.add(endTime - renderTime);
+            success = true;
+            return new ChartRenderingResult(queueNanos,
+                    renderTime - startTime, endTime - renderTime,
+                    cout.count);
+        } finally {
+            this.imagePool.release(image);
+            this.activeJobs.decrementAndGet();
+            if (success) {
+                this.completedJobs.incrementAndGet();
+            } else {
+                this.failedJobs.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the service counters.
+     *
+     * @return The metrics (never {@code null}).
+     */
+    public ChartRenderingMetrics getMetrics() {
+        return new ChartRenderingMetrics(this.submittedJobs.get(),
+                this.completedJobs.get(), this.failedJobs.get(),
+                this.queuedJobs.get(), this.activeJobs.get(),
+                this.totalQueueNanos.sum(), this.totalRenderNanos.sum(),
+                this.totalEncodeNanos.sum());
+    }
+
+    /**
+     * Shuts down the executor, if it was created by this service.  Jobs that
+     * have already been submitted are completed.
+     */
+    @Override
+    public void close() {
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+    }
+
+    /**
+     * An output stream that counts the bytes written to it.
+     */
+    private static final class CountingOutputStream
+            extends FilterOutputStream {
+
+        /** The number of bytes written. */
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+    }
+
+}
@@ -70,6 +70,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.event.EventListenerList;
 
@@ -80,6 +82,7 @@ import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.JFreeChartEntity;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressEventType;
@@ -161,6 +164,52 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             return val instanceof Boolean;
         }
     };
+
+    /**
+     * The key for a rendering hint that restricts drawing to a single
+     * {@link ChartLayer}.  The hint value must be a {@code ChartLayer}, if
+     * the hint is not set all layers are drawn.
+     *
+     * @since 2.0.0
+     */
+    public static final RenderingHints.Key KEY_LAYER
+            = new RenderingHints.Key(1) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof ChartLayer;
+        }
+    };
+
+    /**
+     * The key for a rendering hint that restricts drawing of the
+     * {@link ChartLayer#DATA} layer to a single dataset.  The hint value must
+     * be an {@code Integer} (the dataset index), if the hint is not set all
+     * datasets are drawn.
+     *
+     * @since 2.0.0
+     */
+    public static final RenderingHints.Key KEY_LAYER_DATASET_INDEX
+            = new RenderingHints.Key(2) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof Integer;
+        }
+    };
+
+    /**
+     * The key for a rendering hint that supplies a {@link ChartLayerLayout},
+     * so that the passes that draw the layers of a chart (see
+     * {@link #KEY_LAYER}) calculate the layout once only.
+     *
+     * @since 2.0.0
+     */
+    public static final RenderingHints.Key KEY_LAYER_LAYOUT
+            = new RenderingHints.Key(3) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof ChartLayerLayout;
+        }
+    };
     
     /**
      * Rendering hints that will be used for chart drawing.  This should never
@@ -219,6 +268,18 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /**
+     * The minimum interval (in milliseconds) between change events sent to
+     * the registered listeners (zero means events are sent immediately).
+     */
+    private int changeEventInterval;
+
+    /** The timer used to send coalesced change events. */
+    private transient Timer changeEventTimer;
+
+    /** The change event waiting to be sent by the timer. */
+    private transient AtomicReference<ChartChangeEvent> pendingChangeEvent;
+
     /** 
      * A flag that controls whether or not rendering hints that identify
      * chart element should be added during rendering.  This defaults to false
@@ -285,6 +346,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         // create storage for listeners...
         this.progressListeners = new EventListenerList();
         this.changeListeners = new EventListenerList();
+        this.pendingChangeEvent = new AtomicReference<>();
+        this.changeEventTimer = createChangeEventTimer();
         this.notify = true;  // default is to notify listeners when the
                              // chart changes
 
@@ -972,6 +1035,61 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     }
 
+    /**
+     * Returns the minimum interval (in milliseconds) between the change
+     * events sent to registered listeners.  The default value is zero.
+     *
+     * @return The interval.
+     *
+     * @see #setChangeEventInterval(int)
+     *
+     * @since 2.0.0
+     */
+    public int getChangeEventInterval() {
+        return this.changeEventInterval;
+    }
+
+    /**
+     * Sets the minimum interval (in milliseconds) between the change events
+     * sent to registered listeners.  When this is greater than zero, the
+     * change events received within the interval are combined and one event
+     * is sent (on the Swing event dispatch thread) when the interval
+     * expires, so that a burst of changes results in at most one redraw per
+     * interval.  A value of zero (the default) sends each event immediately.
+     * For animated or streaming charts, an interval around the display frame
+     * time (for example, 16 milliseconds) is typical.
+     *
+     * @param millis  the interval (must be non-negative).
+     *
+     * @see #getChangeEventInterval()
+     *
+     * @since 2.0.0
+     */
+    public void setChangeEventInterval(int millis) {
+        Args.requireNonNegative(millis, "millis");
+        this.changeEventInterval = millis;
+        if (millis == 0) {
+            flushChangeEvents();
+        } else {
+            this.changeEventTimer.setInitialDelay(millis);
+        }
+    }
+
+    /**
+     * Sends any change event that is waiting for the change event interval
+     * to expire (see {@link #setChangeEventInterval(int)}) to the registered
+     * listeners immediately.
+     *
+     * @since 2.0.0
+     */
+    public void flushChangeEvents() {
+        this.changeEventTimer.stop();
+        ChartChangeEvent event = this.pendingChangeEvent.getAndSet(null);
+        if (event != null) {
+            sendChangeEvent(event);
+        }
+    }
+
     @Override
     public void receive(ChartElementVisitor visitor) {
         this.title.receive(visitor);
@@ -1042,7 +1160,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             info.setChartArea(chartArea);
             entities = info.getEntityCollection();
         }
-        if (entities != null) {
+        boolean drawBackground = ChartLayer.isDrawn(g2, ChartLayer.BACKGROUND);
+        if (entities != null && drawBackground) {
             entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(),
                     this));
         }
@@ -1054,12 +1173,12 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.addRenderingHints(this.renderingHints);
 
         // draw the chart background...
-        if (this.backgroundPaint != null) {
+        if (this.backgroundPaint != null && drawBackground) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
         }
 
-        if (this.backgroundImage != null) {
+        if (this.backgroundImage != null && drawBackground) {
             Composite originalComposite = g2.getComposite();
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                     this.backgroundImageAlpha));
@@ -1073,7 +1192,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             g2.setComposite(originalComposite);
         }
 
-        if (isBorderVisible()) {
+        if (isBorderVisible() && ChartLayer.isDrawn(g2, ChartLayer.AXES)) {
             Paint paint = getBorderPaint();
             Stroke stroke = getBorderStroke();
             if (paint != null && stroke != null) {
@@ -1087,30 +1206,39 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             }
         }
 
-        // draw the title and subtitles...
-        Rectangle2D nonTitleArea = new Rectangle2D.Double();
-        nonTitleArea.setRect(chartArea);
-        this.padding.trim(nonTitleArea);
-
-        if (this.title != null && this.title.isVisible()) {
-            EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
-                    (entities != null));
-            if (e != null && entities != null) {
-                entities.addAll(e);
-            }
-        }
-
-        for (Title currentTitle : this.subtitles) {
-            if (currentTitle.isVisible()) {
-                EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
+        // draw the title and subtitles (the titles only need arranging in
+        // a layer pass if no earlier pass has recorded the plot area)...
+        ChartLayerLayout layout = ChartLayerLayout.getLayout(g2);
+        Rectangle2D plotArea = layout != null
+                ? layout.getPlotArea(chartArea) : null;
+        if (plotArea == null || ChartLayer.isDrawn(g2, ChartLayer.AXES)) {
+            Rectangle2D nonTitleArea = new Rectangle2D.Double();
+            nonTitleArea.setRect(chartArea);
+            this.padding.trim(nonTitleArea);
+
+            if (this.title != null && this.title.isVisible()) {
+                EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
                         (entities != null));
                 if (e != null && entities != null) {
                     entities.addAll(e);
                 }
             }
-        }
 
-        Rectangle2D plotArea = nonTitleArea;
+            for (Title currentTitle : this.subtitles) {
+                if (currentTitle.isVisible()) {
+                    EntityCollection e = drawTitle(currentTitle, g2,
+                            nonTitleArea, (entities != null));
+                    if (e != null && entities != null) {
+                        entities.addAll(e);
+                    }
+                }
+            }
+
+            plotArea = nonTitleArea;
+            if (layout != null) {
+                layout.setPlotArea(chartArea, plotArea);
+            }
+        }
 
         // draw the plot (axes and data visualisation)
         PlotRenderingInfo plotInfo = null;
@@ -1210,12 +1338,16 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         Object retValue = null;
         BlockParams p = new BlockParams();
         p.setGenerateEntities(entities);
+        // the title is always arranged, since it takes space from the plot
+        boolean drawn = ChartLayer.isDrawn(g2, ChartLayer.AXES);
         switch (position) {
             case TOP: {
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.TOP);
-                retValue = t.draw(g2, titleArea, p);
+                if (drawn) {
+                    retValue = t.draw(g2, titleArea, p);
+                }
                 area.setRect(area.getX(), Math.min(area.getY() + size.height,
                         area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                         - size.height, 0));
@@ -1225,7 +1357,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-                retValue = t.draw(g2, titleArea, p);
+                if (drawn) {
+                    retValue = t.draw(g2, titleArea, p);
+                }
                 area.setRect(area.getX(), area.getY(), area.getWidth(),
                         area.getHeight() - size.height);
                 break;
@@ -1234,7 +1368,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
+                if (drawn) {
+                    retValue = t.draw(g2, titleArea, p);
+                }
                 area.setRect(area.getX(), area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1243,7 +1379,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.LEFT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
+                if (drawn) {
+                    retValue = t.draw(g2, titleArea, p);
+                }
                 area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1401,12 +1539,91 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     protected void notifyListeners(ChartChangeEvent event) {
         if (this.notify) {
-            Object[] listeners = this.changeListeners.getListenerList();
-            for (int i = listeners.length - 2; i >= 0; i -= 2) {
-                if (listeners[i] == ChartChangeListener.class) {
-                    ((ChartChangeListener) listeners[i + 1]).chartChanged(
-                            event);
-                }
+            if (this.changeEventInterval > 0) {
+                coalesceChangeEvent(event);
+            } else {
+                sendChangeEvent(event);
+            }
+        }
+    }
+
+    /**
+     * Records a change event to be sent when the change event interval
+     * expires, combining it with any event already waiting.
+     *
+     * @param event  the event.
+     */
+    private void coalesceChangeEvent(ChartChangeEvent event) {
+        // events can arrive on any thread, the timer flushes on the EDT
+        ChartChangeEvent pending;
+        ChartChangeEvent combined;
+        do {
+            pending = this.pendingChangeEvent.get();
+            if (pending == null) {
+                combined = event;
+            } else if (pending.getType() != event.getType()) {
+                combined = new ChartChangeEvent(this, this,
+                        ChartChangeEventType.GENERAL);
+            } else if (!isSameChange(pending, event)) {
+                // a plain chart event, so listeners don't assume that only
+                // the source of the first event changed
+                combined = new ChartChangeEvent(this, this,
+                        pending.getType());
+            } else {
+                combined = pending;
+            }
+        } while (!this.pendingChangeEvent.compareAndSet(pending, combined));
+        if (!this.changeEventTimer.isRunning()) {
+            this.changeEventTimer.setInitialDelay(this.changeEventInterval);
+            this.changeEventTimer.start();
+        }
+    }
+
+    /**
+     * Creates the timer that sends coalesced change events.  This is called
+     * from the constructor (and when a chart is cloned or deserialized)
+     * rather than on demand, because change events can arrive on any thread.
+     *
+     * @return The timer (never {@code null}).
+     */
+    private Timer createChangeEventTimer() {
+        Timer timer = new Timer(this.changeEventInterval,
+                e -> flushChangeEvents());
+        timer.setRepeats(false);
+        return timer;
+    }
+
+    /**
+     * Returns {@code true} if two change events have the same class and
+     * source (and, for plot change events, the same dataset index).
+     *
+     * @param e1  the first event.
+     * @param e2  the second event.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSameChange(ChartChangeEvent e1,
+            ChartChangeEvent e2) {
+        if (e1.getClass() != e2.getClass() || e1.getSource() != e2.getSource()) {
+            return false;
+        }
+        if (e1 instanceof PlotChangeEvent) {
+            return ((PlotChangeEvent) e1).getDatasetIndex()
+                    == ((PlotChangeEvent) e2).getDatasetIndex();
+        }
+        return true;
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void sendChangeEvent(ChartChangeEvent event) {
+        Object[] listeners = this.changeListeners.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChartChangeListener.class) {
+                ((ChartChangeListener) listeners[i + 1]).chartChanged(event);
             }
         }
     }
@@ -1530,6 +1747,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         if (this.notify != that.notify) {
             return false;
         }
+        if (this.changeEventInterval != that.changeEventInterval) {
+            return false;
+        }
         return true;
     }
 
@@ -1549,6 +1769,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         hash = 59 * hash + Objects.hashCode(this.backgroundImageAlignment);
         hash = 59 * hash + Float.floatToIntBits(this.backgroundImageAlpha);
         hash = 59 * hash + (this.notify ? 1 : 0);
+        hash = 59 * hash + this.changeEventInterval;
         return hash;
     }
 
@@ -1582,6 +1803,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         this.backgroundPaint = SerialUtils.readPaint(stream);
         this.progressListeners = new EventListenerList();
         this.changeListeners = new EventListenerList();
+        this.pendingChangeEvent = new AtomicReference<>();
+        this.changeEventTimer = createChangeEventTimer();
         this.renderingHints = new RenderingHints(
                 RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
@@ -1635,6 +1858,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.pendingChangeEvent = new AtomicReference<>();
+        chart.changeEventTimer = chart.createChangeEventTimer();
         return chart;
     }
 
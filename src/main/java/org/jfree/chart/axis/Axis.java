@@ -244,6 +244,15 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
     /** Storage for registered listeners. */
     private transient EventListenerList listenerList;
 
+    /**
+     * A counter that is incremented each time a change event is sent to the
+     * listeners (used to invalidate cached tick layouts).
+     */
+    private transient long changeCount;
+
+    /** The cached tick layouts and label measurements for this axis. */
+    private transient TickLayoutCache tickLayoutCache;
+
     /**
      * Constructs an axis with the specific label and default values for other
      * attributes.  
@@ -282,6 +291,7 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
         this.plot = null;
 
         this.listenerList = new EventListenerList();
+        this.tickLayoutCache = new TickLayoutCache();
     }
 
     /**
@@ -1149,6 +1159,7 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
      * @param event  information about the change to the axis.
      */
     protected void notifyListeners(AxisChangeEvent event) {
+        this.changeCount++;
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == AxisChangeListener.class) {
@@ -1164,6 +1175,27 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
         notifyListeners(new AxisChangeEvent(this));
     }
 
+    /**
+     * Returns the number of change events that have been sent by this axis.
+     * Cached tick layouts include this count in their keys, so that any
+     * change to the axis attributes invalidates them.
+     *
+     * @return The change count.
+     */
+    long getChangeCount() {
+        return this.changeCount;
+    }
+
+    /**
+     * Returns the cache of tick layouts and label measurements for this
+     * axis.
+     *
+     * @return The cache (never {@code null}).
+     */
+    TickLayoutCache getTickLayoutCache() {
+        return this.tickLayoutCache;
+    }
+
     /**
      * Returns a rectangle that encloses the axis label.  This is typically
      * used for layout purposes (it gives the maximum dimensions of the label).
@@ -1530,6 +1562,7 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
         // It's up to the plot which clones up to restore the correct references
         clone.plot = null;
         clone.listenerList = new EventListenerList();
+        clone.tickLayoutCache = new TickLayoutCache();
         return clone;
     }
 
@@ -1677,6 +1710,7 @@ public abstract class Axis implements ChartElement, Cloneable, Serializable {
         this.tickMarkStroke = SerialUtils.readStroke(stream);
         this.tickMarkPaint = SerialUtils.readPaint(stream);
         this.listenerList = new EventListenerList();
+        this.tickLayoutCache = new TickLayoutCache();
     }
 
 }
@@ -1058,6 +1058,22 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
         CategoryPlot plot = (CategoryPlot) getPlot();
         List categories = plot.getCategoriesForAxis(this);
+
+        // subclasses may customise the labels, so the layout cache is only
+        // used for this class...
+        TickLayoutCache cache = null;
+        List<Object> key = null;
+        if (getClass() == CategoryAxis.class) {
+            cache = getTickLayoutCache();
+            key = TickLayoutCache.createKey(getChangeCount(), categories, 
+                    dataArea.getWidth(), dataArea.getHeight(), edge, 
+                    g2.getFontRenderContext());
+            TickLayoutCache.Layout layout = cache.getLayout(key);
+            if (layout != null) {
+                state.setMax(layout.getMax());
+                return layout.getTicks();
+            }
+        }
         double max = 0.0;
 
         if (categories != null) {
@@ -1102,6 +1118,9 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             }
         }
         state.setMax(max);
+        if (cache != null) {
+            cache.putLayout(key, null, ticks, max);
+        }
         return ticks;
 
     }
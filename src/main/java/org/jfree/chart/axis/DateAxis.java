@@ -68,6 +68,7 @@ import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.text.TextAnchor;
+import org.jfree.chart.text.TextUtils;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
@@ -1280,7 +1281,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
+        LineMetrics lm = TextUtils.getLineMetrics("ABCxyz", tickLabelFont,
+                frc);
         if (isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
@@ -1302,8 +1304,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TickLayoutCache cache = getTickLayoutCache();
+            double w1 = cache.getStringWidth(fm, lowerStr);
+            double w2 = cache.getStringWidth(fm, upperStr);
             result += Math.max(w1, w2);
         }
 
@@ -1332,7 +1335,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
+        LineMetrics lm = TextUtils.getLineMetrics("ABCxyz", tickLabelFont,
+                frc);
         if (!isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
@@ -1354,8 +1358,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TickLayoutCache cache = getTickLayoutCache();
+            double w1 = cache.getStringWidth(fm, lowerStr);
+            double w2 = cache.getStringWidth(fm, upperStr);
             result += Math.max(w1, w2);
         }
 
@@ -1378,6 +1383,20 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public List<? extends Tick> refreshTicks(Graphics2D g2, AxisState state, 
             Rectangle2D dataArea, RectangleEdge edge) {
 
+        // subclasses may keep state in the tick calculations, so the layout
+        // cache is only used for this class...
+        TickLayoutCache cache = null;
+        List<Object> key = null;
+        if (getClass() == DateAxis.class) {
+            cache = getTickLayoutCache();
+            key = createTickLayoutKey(g2, dataArea, edge);
+            TickLayoutCache.Layout layout = cache.getLayout(key);
+            if (layout != null) {
+                g2.setFont(getTickLabelFont());
+                setTickUnit((DateTickUnit) layout.getTickUnit(), false, false);
+                return layout.getTicks();
+            }
+        }
         List<? extends Tick> result = null;
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -1385,10 +1404,38 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (cache != null && result != null) {
+            // store the layout under the tick unit that was selected, since
+            // that is the unit that the next lookup will start from
+            cache.putLayout(createTickLayoutKey(g2, dataArea, edge),
+                    getTickUnit(), result, 0.0);
+        }
         return result;
 
     }
 
+    /**
+     * Creates the key used to look up the tick layout for this axis.  The 
+     * key includes every input to the tick calculation that is not covered
+     * by the axis change count (the range and tick unit can be updated 
+     * without sending a change event).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area in which the plot should be drawn.
+     * @param edge  the location of the axis.
+     *
+     * @return The key.
+     */
+    private List<Object> createTickLayoutKey(Graphics2D g2, 
+            Rectangle2D dataArea, RectangleEdge edge) {
+        double length = RectangleEdge.isTopOrBottom(edge) 
+                ? dataArea.getWidth() : dataArea.getHeight();
+        return TickLayoutCache.createKey(getChangeCount(), getRange(), 
+                length, edge, getTickLabelFont(), getDateFormatOverride(), 
+                getTickUnit(), isAutoTickUnitSelection(), 
+                g2.getFontRenderContext());
+    }
+
     /**
      * Corrects the given tick date for the position setting.
      *
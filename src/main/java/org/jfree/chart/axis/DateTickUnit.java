@@ -40,10 +40,12 @@ import java.io.Serializable;
 import java.text.DateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.TimeZone;
 
 import org.jfree.chart.internal.Args;
+import org.jfree.data.time.EpochCalendar;
 
 /**
  * A tick unit for use by subclasses of {@link DateAxis}.  Instances of this
@@ -54,6 +56,9 @@ public class DateTickUnit extends TickUnit implements Serializable {
     /** For serialization. */
     private static final long serialVersionUID = -7289292157229621901L;
 
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
     /**
      * The units.
      */
@@ -196,12 +201,81 @@ public class DateTickUnit extends TickUnit implements Serializable {
         // number calculations, and since DateTickUnit doesn't do week
         // arithmetic, the default locale (whatever it is) should be fine
         // here...
+        long millis = getFixedMillis(this.unitType);
+        if (millis > 0L) {
+            return new Date(base.getTime() + millis * this.count);
+        }
+        if (this.unitType.equals(DateTickUnitType.DAY)) {
+            Date result = addDays(base, this.count, zone);
+            if (result != null) {
+                return result;
+            }
+        }
         Calendar calendar = Calendar.getInstance(zone);
         calendar.setTime(base);
         calendar.add(this.unitType.getCalendarField(), this.count);
         return calendar.getTime();
     }
 
+    /**
+     * Returns the length in milliseconds of the specified unit type if it 
+     * is fixed (for hours and smaller units, where {@code Calendar.add()} 
+     * is plain millisecond arithmetic in every time zone), or zero if the
+     * length depends on the calendar.
+     *
+     * @param unitType  the unit type.
+     *
+     * @return The length in milliseconds, or zero.
+     */
+    private static long getFixedMillis(DateTickUnitType unitType) {
+        if (unitType.equals(DateTickUnitType.HOUR)) {
+            return 60L * 60L * 1000L;
+        } else if (unitType.equals(DateTickUnitType.MINUTE)) {
+            return 60L * 1000L;
+        } else if (unitType.equals(DateTickUnitType.SECOND)) {
+            return 1000L;
+        } else if (unitType.equals(DateTickUnitType.MILLISECOND)) {
+            return 1L;
+        }
+        return 0L;
+    }
+
+    /**
+     * Adds a number of days to a date in the same way as 
+     * {@code Calendar.add(Calendar.DATE, days)} for the default calendar in
+     * the specified time zone, but without creating a calendar.  Returns
+     * {@code null} if there is no {@link EpochCalendar} for the time zone
+     * and default locale, or the date is outside its supported range.
+     *
+     * @param base  the base date.
+     * @param days  the number of days.
+     * @param zone  the time zone.
+     *
+     * @return The new date (possibly {@code null}).
+     */
+    private static Date addDays(Date base, int days, TimeZone zone) {
+        EpochCalendar engine = EpochCalendar.getInstance(zone, 
+                Locale.getDefault(Locale.Category.FORMAT));
+        long time = base.getTime();
+        if (engine == null || !engine.isSupportedInstant(time)) {
+            return null;
+        }
+        int offset = engine.getOffset(time);
+        long local = time + offset + days * MILLIS_PER_DAY;
+        long result = local - offset;
+        if (!engine.isSupportedInstant(result)) {
+            return null;
+        }
+        // like the calendar, keep the old offset unless the new offset
+        // preserves the day
+        int diff = offset - engine.getOffset(result);
+        if (diff != 0 && Math.floorDiv(engine.toLocalMillis(result + diff), 
+                MILLIS_PER_DAY) == Math.floorDiv(local, MILLIS_PER_DAY)) {
+            result = result + diff;
+        }
+        return new Date(result);
+    }
+
     /**
      * Rolls the date forward by the amount specified by the roll unit and
      * count.
@@ -230,6 +304,16 @@ public class DateTickUnit extends TickUnit implements Serializable {
         // number calculations, and since DateTickUnit doesn't do week
         // arithmetic, the default locale (whatever it is) should be fine
         // here...
+        long millis = getFixedMillis(this.rollUnitType);
+        if (millis > 0L) {
+            return new Date(base.getTime() + millis * this.rollCount);
+        }
+        if (this.rollUnitType.equals(DateTickUnitType.DAY)) {
+            Date result = addDays(base, this.rollCount, zone);
+            if (result != null) {
+                return result;
+            }
+        }
         Calendar calendar = Calendar.getInstance(zone);
         calendar.setTime(base);
         calendar.add(this.rollUnitType.getCalendarField(), this.rollCount);
@@ -57,6 +57,7 @@ import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.text.TextAnchor;
+import org.jfree.chart.text.TextUtils;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.Range;
 import org.jfree.data.RangeType;
@@ -686,7 +687,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        result += tickLabelFont.getLineMetrics("123", frc).getHeight();
+        result += TextUtils.getLineMetrics("123", tickLabelFont, frc)
+                .getHeight();
         return result;
     }
 
@@ -713,7 +715,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             // all tick labels have the same width (equal to the height of the
             // font)...
             FontRenderContext frc = g2.getFontRenderContext();
-            LineMetrics lm = getTickLabelFont().getLineMetrics("0", frc);
+            LineMetrics lm = TextUtils.getLineMetrics("0", getTickLabelFont(),
+                    frc);
             result += lm.getHeight();
         }
         else {
@@ -732,8 +735,9 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TickLayoutCache cache = getTickLayoutCache();
+            double w1 = cache.getStringWidth(fm, lowerStr);
+            double w2 = cache.getStringWidth(fm, upperStr);
             result += Math.max(w1, w2);
         }
 
@@ -861,6 +865,21 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     public List refreshTicks(Graphics2D g2, AxisState state, 
             Rectangle2D dataArea, RectangleEdge edge) {
 
+        // subclasses may keep state in the tick calculations, so the layout
+        // cache is only used for this class...
+        TickLayoutCache cache = null;
+        List<Object> key = null;
+        if (getClass() == NumberAxis.class) {
+            cache = getTickLayoutCache();
+            key = createTickLayoutKey(g2, dataArea, edge);
+            TickLayoutCache.Layout layout = cache.getLayout(key);
+            if (layout != null) {
+                g2.setFont(getTickLabelFont());
+                setTickUnit((NumberTickUnit) layout.getTickUnit(), false, 
+                        false);
+                return layout.getTicks();
+            }
+        }
         List result = new java.util.ArrayList();
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -868,10 +887,38 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (cache != null) {
+            // store the layout under the tick unit that was selected, since
+            // that is the unit that the next lookup will start from
+            cache.putLayout(createTickLayoutKey(g2, dataArea, edge),
+                    getTickUnit(), result, 0.0);
+        }
         return result;
 
     }
 
+    /**
+     * Creates the key used to look up the tick layout for this axis.  The 
+     * key includes every input to the tick calculation that is not covered
+     * by the axis change count (the range and tick unit can be updated 
+     * without sending a change event).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area in which the plot should be drawn.
+     * @param edge  the location of the axis.
+     *
+     * @return The key.
+     */
+    private List<Object> createTickLayoutKey(Graphics2D g2, 
+            Rectangle2D dataArea, RectangleEdge edge) {
+        double length = RectangleEdge.isTopOrBottom(edge) 
+                ? dataArea.getWidth() : dataArea.getHeight();
+        return TickLayoutCache.createKey(getChangeCount(), getRange(), 
+                length, edge, getTickLabelFont(), getNumberFormatOverride(), 
+                getTickUnit(), isAutoTickUnitSelection(), 
+                g2.getFontRenderContext());
+    }
+
     /**
      * Calculates the positions of the tick labels for the axis, storing the
      * results in the tick label list (ready for drawing).
@@ -0,0 +1,248 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.font.FontRenderContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jfree.chart.text.TextUtils;
+
+/**
+ * A memo of the tick layouts and tick label measurements for a single axis.
+ * An axis looks up the ticks for a redraw using a key that captures every
+ * input to the tick calculation (the range, the length of the data area,
+ * the font, the formatter, the edge and so on) and, when the same key is
+ * seen again, reuses the tick unit, tick list and label extent that were
+ * computed last time.  Label widths are retained separately, keyed by the
+ * label text, so that they can be reused when the axis is panned and only
+ * some of the labels change (label bounds are cached by
+ * {@link TextUtils#getTextBounds(String, java.awt.Graphics2D, FontMetrics)}
+ * when its measurement cache is enabled).
+ * <P>
+ * Each axis owns its own cache, which is not copied when the axis is cloned
+ * or serialized.
+ */
+class TickLayoutCache {
+
+    /** The maximum number of tick layouts retained. */
+    static final int MAX_LAYOUTS = 4;
+
+    /** The maximum number of label measurements retained. */
+    static final int MAX_LABELS = 512;
+
+    /**
+     * A tick layout computed by an axis.
+     */
+    static final class Layout {
+
+        /** The tick unit selected for the layout (possibly {@code null}). */
+        private final TickUnit tickUnit;
+
+        /** The ticks (an unmodifiable list). */
+        private final List<Tick> ticks;
+
+        /** The maximum label width or height. */
+        private final double max;
+
+        /**
+         * Creates a new layout.
+         *
+         * @param tickUnit  the tick unit ({@code null} permitted).
+         * @param ticks  the ticks ({@code null} not permitted, every 
+         *     element must be a {@link Tick}).
+         * @param max  the maximum label width or height.
+         */
+        Layout(TickUnit tickUnit, List<?> ticks, double max) {
+            this.tickUnit = tickUnit;
+            List<Tick> copy = new ArrayList<>(ticks.size());
+            for (Object tick : ticks) {
+                copy.add((Tick) tick);
+            }
+            this.ticks = Collections.unmodifiableList(copy);
+            this.max = max;
+        }
+
+        /**
+         * Returns the tick unit selected for the layout.
+         *
+         * @return The tick unit (possibly {@code null}).
+         */
+        TickUnit getTickUnit() {
+            return this.tickUnit;
+        }
+
+        /**
+         * Returns a new list containing the ticks for the layout.
+         *
+         * @return The ticks (never {@code null}).
+         */
+        List<Tick> getTicks() {
+            return new ArrayList<>(this.ticks);
+        }
+
+        /**
+         * Returns the maximum label width or height.
+         *
+         * @return The maximum label width or height.
+         */
+        double getMax() {
+            return this.max;
+        }
+
+    }
+
+    /** The layouts, in access order. */
+    private final Map<List<Object>, Layout> layouts;
+
+    /** The font used for the retained label measurements. */
+    private Font labelFont;
+
+    /** The font render context used for the retained label measurements. */
+    private FontRenderContext labelFontRenderContext;
+
+    /** The label widths returned by {@code FontMetrics.stringWidth()}. */
+    private final Map<String, Integer> labelWidths;
+
+    /**
+     * Creates a new, empty, cache.
+     */
+    TickLayoutCache() {
+        this.layouts = createLRUMap(MAX_LAYOUTS);
+        this.labelWidths = createLRUMap(MAX_LABELS);
+    }
+
+    /**
+     * Creates a map that discards its least recently used entry once it
+     * holds more than {@code capacity} entries.
+     *
+     * @param capacity  the capacity.
+     *
+     * @return The map.
+     */
+    private static <K, V> Map<K, V> createLRUMap(int capacity) {
+        return new LinkedHashMap<K, V>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Creates a layout key from the supplied parts.  The parts are compared
+     * with {@code equals()}, so they should be immutable (or at least not
+     * modified while the key is in use).
+     *
+     * @param parts  the parts of the key.
+     *
+     * @return The key.
+     */
+    static List<Object> createKey(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Returns the layout for the specified key, or {@code null} if there is
+     * no such layout in the cache.
+     *
+     * @param key  the key.
+     *
+     * @return The layout (possibly {@code null}).
+     */
+    synchronized Layout getLayout(List<Object> key) {
+        return this.layouts.get(key);
+    }
+
+    /**
+     * Stores a layout in the cache.
+     *
+     * @param key  the key.
+     * @param tickUnit  the tick unit ({@code null} permitted).
+     * @param ticks  the ticks ({@code null} not permitted, every element
+     *     must be a {@link Tick}).
+     * @param max  the maximum label width or height.
+     */
+    synchronized void putLayout(List<Object> key, TickUnit tickUnit,
+            List<?> ticks, double max) {
+        this.layouts.put(key, new Layout(tickUnit, ticks, max));
+    }
+
+    /**
+     * Returns the width of a label, as given by
+     * {@code fm.stringWidth(text)}.
+     *
+     * @param fm  the font metrics.
+     * @param text  the label text.
+     *
+     * @return The width.
+     */
+    synchronized int getStringWidth(FontMetrics fm, String text) {
+        checkLabelContext(fm);
+        Integer width = this.labelWidths.get(text);
+        if (width == null) {
+            width = fm.stringWidth(text);
+            this.labelWidths.put(text, width);
+        }
+        return width;
+    }
+
+    /**
+     * Discards the retained label measurements if they were made with a
+     * different font or font render context.
+     *
+     * @param fm  the font metrics.
+     */
+    private void checkLabelContext(FontMetrics fm) {
+        Font font = fm.getFont();
+        FontRenderContext frc = fm.getFontRenderContext();
+        if (!font.equals(this.labelFont)
+                || !frc.equals(this.labelFontRenderContext)) {
+            this.labelWidths.clear();
+            this.labelFont = font;
+            this.labelFontRenderContext = frc;
+        }
+    }
+
+    /**
+     * Discards all layouts and label measurements.
+     */
+    synchronized void clear() {
+        this.layouts.clear();
+        this.labelWidths.clear();
+        this.labelFont = null;
+        this.labelFontRenderContext = null;
+    }
+
+}
@@ -786,7 +786,7 @@ public abstract class ValueAxis extends Axis
                 }
             }
         } else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz",
+            LineMetrics metrics = TextUtils.getLineMetrics("ABCxyz", font,
                     g2.getFontRenderContext());
             maxHeight = metrics.getHeight()
                         + insets.getTop() + insets.getBottom();
@@ -835,7 +835,7 @@ public abstract class ValueAxis extends Axis
                 }
             }
         } else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz",
+            LineMetrics metrics = TextUtils.getLineMetrics("ABCxyz", font,
                     g2.getFontRenderContext());
             maxWidth = metrics.getHeight()
                        + insets.getTop() + insets.getBottom();
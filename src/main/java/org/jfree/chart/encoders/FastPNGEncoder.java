@@ -0,0 +1,783 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A PNG encoder that writes the image directly from its raster, without
+ * going through {@code ImageIO}.  In addition to the compression level
+ * (which is set via {@link #setQuality(float)}, as for the other PNG
+ * encoders), it supports:
+ * <ul>
+ * <li>a choice of row filter (see {@link PNGFilterStrategy});</li>
+ * <li>indexed (palette) output, used when the image contains at most 256
+ * distinct colours, which is common for charts drawn without
+ * anti-aliasing;</li>
+ * <li>compressing horizontal stripes of the image in parallel, on the
+ * common fork-join pool.  Each stripe is compressed independently, so the
+ * output is slightly larger than for a single stripe.</li>
+ * </ul>
+ * This encoder is registered with the {@link ImageEncoderFactory} for the
+ * {@link ImageFormat#FAST_PNG} format.  Instances are not thread-safe.
+ *
+ * @since 2.0.0
+ */
+public class FastPNGEncoder implements ImageEncoder {
+
+    /** The default compression level. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The minimum number of rows in a stripe that is compressed in parallel. */
+    private static final int MIN_STRIPE_ROWS = 32;
+
+    /** The zlib compression level (0-9). */
+    private int compressionLevel;
+
+    /** The row filter. */
+    private PNGFilterStrategy filterStrategy;
+
+    /** A flag that controls whether alpha transparency is encoded. */
+    private boolean encodingAlpha;
+
+    /** A flag that controls whether indexed output is attempted. */
+    private boolean paletteEnabled;
+
+    /** The maximum number of stripes compressed in parallel. */
+    private int parallelism;
+
+    /**
+     * Creates a new encoder with the default compression level, adaptive
+     * filtering, alpha encoding, no palette and no parallelism.
+     */
+    public FastPNGEncoder() {
+        this.compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+        this.filterStrategy = PNGFilterStrategy.ADAPTIVE;
+        this.encodingAlpha = true;
+        this.paletteEnabled = false;
+        this.parallelism = 1;
+    }
+
+    /**
+     * Returns the compression level (0-9) as a float.
+     *
+     * @return The compression level.
+     */
+    @Override
+    public float getQuality() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level.  The value is rounded and clamped to the
+     * range 0 (no compression) to 9 (best compression).
+     *
+     * @param quality  the compression level.
+     */
+    @Override
+    public void setQuality(float quality) {
+        this.compressionLevel = Math.max(0, Math.min(9, Math.round(quality)));
+    }
+
+    /**
+     * Returns the flag that controls whether alpha transparency is encoded
+     * (for images that have an alpha channel).  The default is
+     * {@code true}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether alpha transparency is encoded
+     * (for images that have an alpha channel).
+     *
+     * @param encodingAlpha  the new flag value.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the row filter.  The default is
+     * {@link PNGFilterStrategy#ADAPTIVE}.
+     *
+     * @return The row filter (never {@code null}).
+     */
+    public PNGFilterStrategy getFilterStrategy() {
+        return this.filterStrategy;
+    }
+
+    /**
+     * Sets the row filter.  For indexed output the adaptive strategy is
+     * replaced by {@link PNGFilterStrategy#NONE}, as recommended by the PNG
+     * specification.
+     *
+     * @param strategy  the row filter ({@code null} not permitted).
+     */
+    public void setFilterStrategy(PNGFilterStrategy strategy) {
+        Args.nullNotPermitted(strategy, "strategy");
+        this.filterStrategy = strategy;
+    }
+
+    /**
+     * Returns the flag that controls whether indexed (palette) output is
+     * written for images with at most 256 distinct colours.  The default is
+     * {@code false}.
+     *
+     * @return A boolean.
+     */
+    public boolean isPaletteEnabled() {
+        return this.paletteEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether indexed (palette) output is
+     * written for images with at most 256 distinct colours.  Counting the
+     * colours requires an extra pass over the image, which stops as soon as
+     * the 257th colour is found.
+     *
+     * @param enabled  the new flag value.
+     */
+    public void setPaletteEnabled(boolean enabled) {
+        this.paletteEnabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of stripes that are compressed in parallel.
+     * The default is 1 (no parallelism).
+     *
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the maximum number of stripes that are compressed in parallel
+     * (for example {@code Runtime.getRuntime().availableProcessors()}).
+     * Small images are compressed as a single stripe regardless of this
+     * setting.
+     *
+     * @param parallelism  the parallelism (must be at least 1).
+     */
+    public void setParallelism(int parallelism) {
+        Args.requireInRange(parallelism, "parallelism", 1, Integer.MAX_VALUE);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  the image to be encoded.
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(bufferedImage, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an OutputStream.
+     *
+     * @param bufferedImage  the image to be encoded.
+     * @param outputStream  the OutputStream to write the encoded image to.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        Args.nullNotPermitted(bufferedImage, "bufferedImage");
+        Args.nullNotPermitted(outputStream, "outputStream");
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        boolean alpha = this.encodingAlpha
+                && bufferedImage.getColorModel().hasAlpha();
+        Palette palette = this.paletteEnabled
+                ? Palette.create(bufferedImage, alpha) : null;
+        PNGFilterStrategy strategy = this.filterStrategy;
+        if (palette != null && strategy == PNGFilterStrategy.ADAPTIVE) {
+            strategy = PNGFilterStrategy.NONE;
+        }
+        RowEncoder rows = new RowEncoder(bufferedImage, alpha, palette,
+                strategy);
+
+        int stripeCount = Math.max(1, Math.min(this.parallelism,
+                height / MIN_STRIPE_ROWS));
+        Stripe[] stripes;
+        if (stripeCount == 1) {
+            stripes = new Stripe[] {compress(rows, 0, height, true)};
+        } else {
+            int rowsPerStripe = (height + stripeCount - 1) / stripeCount;
+            stripes = IntStream.range(0, stripeCount).parallel()
+                    .mapToObj(i -> {
+                        int y0 = i * rowsPerStripe;
+                        int y1 = Math.min(height, y0 + rowsPerStripe);
+                        return compress(rows, y0, y1, y1 == height);
+                    })
+                    .toArray(Stripe[]::new);
+        }
+        long adler = 1L;
+        for (Stripe stripe : stripes) {
+            adler = adler32Combine(adler, stripe.adler, stripe.length);
+        }
+
+        outputStream.write(SIGNATURE);
+        byte[] ihdr = new byte[13];
+        writeInt(ihdr, 0, width);
+        writeInt(ihdr, 4, height);
+        ihdr[8] = 8;  // bit depth
+        ihdr[9] = (byte) (palette != null ? 3 : (alpha ? 6 : 2));
+        writeChunk(outputStream, "IHDR", ihdr);
+        if (palette != null) {
+            writeChunk(outputStream, "PLTE", palette.getRGBEntries());
+            if (palette.hasTransparency()) {
+                writeChunk(outputStream, "tRNS", palette.getAlphaEntries());
+            }
+        }
+        writeChunk(outputStream, "IDAT", zlibHeader(this.compressionLevel),
+                stripes[0].data);
+        for (int i = 1; i < stripes.length; i++) {
+            writeChunk(outputStream, "IDAT", stripes[i].data);
+        }
+        byte[] trailer = new byte[4];
+        writeInt(trailer, 0, (int) adler);
+        writeChunk(outputStream, "IDAT", trailer);
+        writeChunk(outputStream, "IEND");
+        outputStream.flush();
+    }
+
+    /**
+     * Filters and compresses the rows {@code y0} (inclusive) to {@code y1}
+     * (exclusive) as raw deflate data.  Unless this is the last stripe, the
+     * output ends with a sync flush so that the stripes can be concatenated.
+     *
+     * @param rows  the row encoder.
+     * @param y0  the first row.
+     * @param y1  the last row (exclusive).
+     * @param last  is this the last stripe?
+     *
+     * @return The compressed stripe.
+     */
+    private Stripe compress(RowEncoder rows, int y0, int y1, boolean last) {
+        Deflater deflater = new Deflater(this.compressionLevel, true);
+        try {
+            RowEncoder.Buffers buffers = rows.createBuffers();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    (y1 - y0) * buffers.filtered.length / 4 + 64);
+            byte[] buffer = new byte[16384];
+            Adler32 adler = new Adler32();
+            if (y0 > 0) {
+                rows.read(y0 - 1, buffers.previous, buffers);
+            }
+            for (int y = y0; y < y1; y++) {
+                byte[] filtered = rows.encode(y, buffers);
+                adler.update(filtered);
+                deflater.setInput(filtered);
+                while (!deflater.needsInput()) {
+                    int n = deflater.deflate(buffer);
+                    out.write(buffer, 0, n);
+                }
+            }
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    out.write(buffer, 0, n);
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length,
+                            Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return new Stripe(out.toByteArray(), adler.getValue(),
+                    (long) (y1 - y0) * buffers.filtered.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the two byte zlib header for the specified compression level.
+     *
+     * @param level  the compression level.
+     *
+     * @return The header.
+     */
+    private static byte[] zlibHeader(int level) {
+        int cmf = 0x78;  // deflate, 32K window
+        int flevel = level < 2 ? 0 : (level < 6 ? 1 : (level == 6 ? 2 : 3));
+        int flg = flevel << 6;
+        flg += 31 - ((cmf << 8) + flg) % 31;
+        return new byte[] {(byte) cmf, (byte) flg};
+    }
+
+    /**
+     * Combines the Adler-32 checksums of two consecutive blocks of data.
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param length2  the length of the second block.
+     *
+     * @return The checksum of the combined block.
+     */
+    private static long adler32Combine(long adler1, long adler2, long length2) {
+        final long base = 65521L;
+        long rem = length2 % base;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFF) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) + base
+                - rem;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 -= (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    private static void writeInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Writes a chunk whose data is the concatenation of {@code parts}.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param parts  the chunk data.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChunk(OutputStream out, String type,
+            byte[]... parts) throws IOException {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] header = new byte[8];
+        writeInt(header, 0, length);
+        for (int i = 0; i < 4; i++) {
+            header[4 + i] = (byte) type.charAt(i);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(header, 4, 4);
+        out.write(header);
+        for (byte[] part : parts) {
+            crc.update(part);
+            out.write(part);
+        }
+        byte[] trailer = new byte[4];
+        writeInt(trailer, 0, (int) crc.getValue());
+        out.write(trailer);
+    }
+
+    /**
+     * A compressed stripe.
+     */
+    private static final class Stripe {
+
+        final byte[] data;
+
+        final long adler;
+
+        final long length;
+
+        Stripe(byte[] data, long adler, long length) {
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The colour table for indexed output.
+     */
+    private static final class Palette {
+
+        /** The size of the hash table (a power of two, at least 2 * 257). */
+        private static final int TABLE_SIZE = 1024;
+
+        /** The ARGB colours, in table order. */
+        private final int[] colors = new int[256];
+
+        /** The number of colours. */
+        private int count;
+
+        /** The hash table keys. */
+        private final int[] keys = new int[TABLE_SIZE];
+
+        /** The hash table values (-1 for an empty slot). */
+        private final short[] indices = new short[TABLE_SIZE];
+
+        private Palette() {
+            Arrays.fill(this.indices, (short) -1);
+        }
+
+        /**
+         * Creates a palette for the image, or returns {@code null} if the
+         * image has more than 256 colours.
+         *
+         * @param image  the image.
+         * @param alpha  encode alpha?
+         *
+         * @return The palette, or {@code null}.
+         */
+        static Palette create(BufferedImage image, boolean alpha) {
+            Palette palette = new Palette();
+            int width = image.getWidth();
+            int[] row = new int[width];
+            for (int y = 0; y < image.getHeight(); y++) {
+                readARGB(image, y, row);
+                int lastColor = ~row[0];
+                for (int x = 0; x < width; x++) {
+                    int c = alpha ? row[x] : row[x] | 0xFF000000;
+                    if (c != lastColor) {
+                        if (palette.add(c) < 0) {
+                            return null;
+                        }
+                        lastColor = c;
+                    }
+                }
+            }
+            return palette;
+        }
+
+        private static int slot(int color) {
+            return (color * 0x9E3779B9) >>> 22;
+        }
+
+        /**
+         * Adds a colour (if it is not already present) and returns its
+         * index, or -1 if the palette is full.
+         *
+         * @param color  the ARGB colour.
+         *
+         * @return The index, or -1.
+         */
+        int add(int color) {
+            int i = slot(color);
+            while (this.indices[i] >= 0) {
+                if (this.keys[i] == color) {
+                    return this.indices[i];
+                }
+                i = (i + 1) & (TABLE_SIZE - 1);
+            }
+            if (this.count == 256) {
+                return -1;
+            }
+            this.keys[i] = color;
+            this.indices[i] = (short) this.count;
+            this.colors[this.count] = color;
+            return this.count++;
+        }
+
+        /**
+         * Returns the index of a colour that is known to be present.
+         *
+         * @param color  the ARGB colour.
+         *
+         * @return The index.
+         */
+        int indexOf(int color) {
+            int i = slot(color);
+            while (this.keys[i] != color) {
+                i = (i + 1) & (TABLE_SIZE - 1);
+            }
+            return this.indices[i];
+        }
+
+        byte[] getRGBEntries() {
+            byte[] result = new byte[this.count * 3];
+            for (int i = 0; i < this.count; i++) {
+                result[i * 3] = (byte) (this.colors[i] >> 16);
+                result[i * 3 + 1] = (byte) (this.colors[i] >> 8);
+                result[i * 3 + 2] = (byte) this.colors[i];
+            }
+            return result;
+        }
+
+        boolean hasTransparency() {
+            for (int i = 0; i < this.count; i++) {
+                if ((this.colors[i] >>> 24) != 0xFF) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        byte[] getAlphaEntries() {
+            byte[] result = new byte[this.count];
+            for (int i = 0; i < this.count; i++) {
+                result[i] = (byte) (this.colors[i] >>> 24);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Reads one row of the image as non-premultiplied ARGB values.  Images
+     * that store packed ARGB or RGB ints are read directly from the raster.
+     *
+     * @param image  the image.
+     * @param y  the row index.
+     * @param row  the array to receive the pixels.
+     */
+    private static void readARGB(BufferedImage image, int y, int[] row) {
+        int width = image.getWidth();
+        switch (image.getType()) {
+            case BufferedImage.TYPE_INT_ARGB:
+                image.getRaster().getDataElements(0, y, width, 1, row);
+                break;
+            case BufferedImage.TYPE_INT_RGB:
+                image.getRaster().getDataElements(0, y, width, 1, row);
+                for (int x = 0; x < width; x++) {
+                    row[x] |= 0xFF000000;
+                }
+                break;
+            default:
+                image.getRGB(0, y, width, 1, row, 0, width);
+        }
+    }
+
+    /**
+     * Converts image rows to PNG scanlines and applies the row filter.  The
+     * encoder itself holds no mutable state, the per-thread working arrays
+     * are held in a {@link Buffers} instance.
+     */
+    private static final class RowEncoder {
+
+        private final BufferedImage image;
+
+        private final boolean alpha;
+
+        private final Palette palette;
+
+        private final PNGFilterStrategy strategy;
+
+        /** The number of bytes per pixel. */
+        private final int bpp;
+
+        /** The number of bytes per scanline (excluding the filter byte). */
+        private final int rowBytes;
+
+        RowEncoder(BufferedImage image, boolean alpha, Palette palette,
+                PNGFilterStrategy strategy) {
+            this.image = image;
+            this.alpha = alpha;
+            this.palette = palette;
+            this.strategy = strategy;
+            this.bpp = palette != null ? 1 : (alpha ? 4 : 3);
+            this.rowBytes = image.getWidth() * this.bpp;
+        }
+
+        /**
+         * The working arrays for one thread.
+         */
+        static final class Buffers {
+
+            final int[] pixels;
+
+            byte[] previous;
+
+            byte[] current;
+
+            byte[] filtered;
+
+            byte[] candidate;
+
+            Buffers(int width, int rowBytes, boolean adaptive) {
+                this.pixels = new int[width];
+                this.previous = new byte[rowBytes];
+                this.current = new byte[rowBytes];
+                this.filtered = new byte[rowBytes + 1];
+                this.candidate = adaptive ? new byte[rowBytes + 1] : null;
+            }
+        }
+
+        Buffers createBuffers() {
+            return new Buffers(this.image.getWidth(), this.rowBytes,
+                    this.strategy == PNGFilterStrategy.ADAPTIVE);
+        }
+
+        /**
+         * Reads row {@code y} into {@code dest} as unfiltered scanline
+         * bytes.
+         */
+        void read(int y, byte[] dest, Buffers buffers) {
+            int[] pixels = buffers.pixels;
+            readARGB(this.image, y, pixels);
+            int j = 0;
+            if (this.palette != null) {
+                for (int x = 0; x < pixels.length; x++) {
+                    int c = this.alpha ? pixels[x] : pixels[x] | 0xFF000000;
+                    dest[x] = (byte) this.palette.indexOf(c);
+                }
+            } else if (this.alpha) {
+                for (int p : pixels) {
+                    dest[j++] = (byte) (p >> 16);
+                    dest[j++] = (byte) (p >> 8);
+                    dest[j++] = (byte) p;
+                    dest[j++] = (byte) (p >>> 24);
+                }
+            } else {
+                for (int p : pixels) {
+                    dest[j++] = (byte) (p >> 16);
+                    dest[j++] = (byte) (p >> 8);
+                    dest[j++] = (byte) p;
+                }
+            }
+        }
+
+        /**
+         * Reads and filters row {@code y}.  The previous row must already be
+         * in {@code buffers.previous} (or zero for the first row).
+         *
+         * @return The filtered scanline, including the filter type byte.
+         */
+        byte[] encode(int y, Buffers buffers) {
+            read(y, buffers.current, buffers);
+            byte[] result = buffers.filtered;
+            if (this.strategy == PNGFilterStrategy.ADAPTIVE) {
+                long best = Long.MAX_VALUE;
+                for (int type = 0; type <= 4; type++) {
+                    byte[] dest = buffers.candidate;
+                    filter(type, buffers.current, buffers.previous, dest);
+                    long sum = 0;
+                    for (int i = 1; i < dest.length; i++) {
+                        sum += Math.abs(dest[i]);
+                    }
+                    if (sum < best) {
+                        best = sum;
+                        buffers.candidate = buffers.filtered;
+                        buffers.filtered = dest;
+                        result = dest;
+                    }
+                }
+            } else {
+                // the first five constants match the PNG filter types
+                filter(this.strategy.ordinal(), buffers.current,
+                        buffers.previous, result);
+            }
+            byte[] tmp = buffers.previous;
+            buffers.previous = buffers.current;
+            buffers.current = tmp;
+            return result;
+        }
+
+        /**
+         * Applies a PNG filter.
+         *
+         * @param type  the filter type (0-4).
+         * @param cur  the current row.
+         * @param prev  the previous row.
+         * @param dest  the destination (the filter type followed by the
+         *     filtered bytes).
+         */
+        private void filter(int type, byte[] cur, byte[] prev, byte[] dest) {
+            int bpp = this.bpp;
+            int n = cur.length;
+            dest[0] = (byte) type;
+            switch (type) {
+                case 0:
+                    System.arraycopy(cur, 0, dest, 1, n);
+                    break;
+                case 1:
+                    for (int i = 0; i < n; i++) {
+                        int left = i >= bpp ? cur[i - bpp] : 0;
+                        dest[i + 1] = (byte) (cur[i] - left);
+                    }
+                    break;
+                case 2:
+                    for (int i = 0; i < n; i++) {
+                        dest[i + 1] = (byte) (cur[i] - prev[i]);
+                    }
+                    break;
+                case 3:
+                    for (int i = 0; i < n; i++) {
+                        int left = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+                        int up = prev[i] & 0xFF;
+                        dest[i + 1] = (byte) (cur[i] - ((left + up) >>> 1));
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < n; i++) {
+                        int a = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+                        int b = prev[i] & 0xFF;
+                        int c = i >= bpp ? prev[i - bpp] & 0xFF : 0;
+                        int p = a + b - c;
+                        int pa = Math.abs(p - a);
+                        int pb = Math.abs(p - b);
+                        int pc = Math.abs(p - c);
+                        int predictor = (pa <= pb && pa <= pc) ? a
+                                : (pb <= pc ? b : c);
+                        dest[i + 1] = (byte) (cur[i] - predictor);
+                    }
+            }
+        }
+    }
+
+}
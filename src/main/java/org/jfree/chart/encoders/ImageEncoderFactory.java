@@ -69,6 +69,7 @@ public class ImageEncoderFactory {
         encoders = new HashMap<>();
         encoders.put("jpeg", "org.jfree.chart.encoders.SunJPEGEncoderAdapter");
         encoders.put("png", "org.jfree.chart.encoders.SunPNGEncoderAdapter");
+        encoders.put("fastpng", "org.jfree.chart.encoders.FastPNGEncoder");
     }
 
     /**
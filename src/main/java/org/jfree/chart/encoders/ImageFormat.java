@@ -49,6 +49,14 @@ public interface ImageFormat {
     /** Portable Network Graphics - lossless */
     String PNG = "png";
 
+    /**
+     * Portable Network Graphics written by the {@link FastPNGEncoder} -
+     * lossless.
+     *
+     * @since 2.0.0
+     */
+    String FAST_PNG = "fastpng";
+
     /** Joint Photographic Experts Group format - lossy */
     String JPEG = "jpeg";
 
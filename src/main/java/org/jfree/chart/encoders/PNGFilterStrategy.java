@@ -0,0 +1,62 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+/**
+ * The row filter used by the {@link FastPNGEncoder}.  The PNG specification
+ * defines five filter types, a filter is applied to each row of the image
+ * before it is compressed.
+ *
+ * @since 2.0.0
+ */
+public enum PNGFilterStrategy {
+
+    /** No filtering (fastest). */
+    NONE,
+
+    /** Each byte minus the corresponding byte of the pixel to the left. */
+    SUB,
+
+    /** Each byte minus the corresponding byte of the pixel above. */
+    UP,
+
+    /** Each byte minus the average of the pixels to the left and above. */
+    AVERAGE,
+
+    /** Each byte minus the Paeth predictor. */
+    PAETH,
+
+    /**
+     * For each row, the filter that gives the smallest sum of absolute
+     * (signed) output values.  This usually gives the smallest output, but
+     * is the slowest option.
+     */
+    ADAPTIVE
+
+}
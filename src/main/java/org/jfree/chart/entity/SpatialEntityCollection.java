@@ -0,0 +1,380 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * An entity collection that maintains a uniform grid index over the bounds
+ * of the entities, so that {@link #getEntity(double, double)} only tests the
+ * entities that overlap the grid cell containing the point, rather than
+ * every entity in the collection.  This makes a significant difference for
+ * tooltips and mouse-over handling on charts with a large number of data
+ * items.  The collection also supports finding all the entities that
+ * intersect a rectangle (see {@link #getEntities(Rectangle2D)}), for
+ * example to implement a selection tool.
+ * <p>
+ * Entities are added to the index as they are added to the collection once
+ * the index exists.  The index is created (or recreated, if an entity falls
+ * outside the current grid) on the first query after entities have been
+ * added, so the cost of adding entities during rendering remains low.
+ * Entities with very large areas (for example the plot entity) are not
+ * stored in the grid cells but are tested on every query.
+ */
+public class SpatialEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The maximum number of cells in each direction. */
+    private static final int MAX_CELLS = 512;
+
+    /**
+     * The maximum number of cells that an entity can occupy before it is
+     * treated as a large entity.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The number of entities that have been indexed. */
+    private transient int indexedCount;
+
+    /** The bounds of the grid ({@code null} if there is no index). */
+    private transient Rectangle2D gridBounds;
+
+    /** The number of columns in the grid. */
+    private transient int columns;
+
+    /** The number of rows in the grid. */
+    private transient int rows;
+
+    /** The entity indices for each cell (in ascending order). */
+    private transient int[][] cells;
+
+    /** The number of entity indices in each cell. */
+    private transient int[] cellCounts;
+
+    /** The indices of the large entities (in ascending order). */
+    private transient int[] large;
+
+    /** The number of large entities. */
+    private transient int largeCount;
+
+    /**
+     * Creates a new collection (initially empty).
+     */
+    public SpatialEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.gridBounds = null;
+        this.cells = null;
+        this.cellCounts = null;
+        this.large = null;
+        this.indexedCount = 0;
+        this.largeCount = 0;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        if (this.gridBounds != null
+                && this.indexedCount == getEntityCount() - 1) {
+            Rectangle2D b = entity.getArea().getBounds2D();
+            if (this.gridBounds.contains(b) || isLarge(b)) {
+                insert(this.indexedCount, b);
+                this.indexedCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the last entity added to the collection with an area that
+     * contains the specified coordinates, or {@code null} if there is no
+     * such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        updateIndex();
+        int[] cell = null;
+        int cellCount = 0;
+        if (this.gridBounds != null && this.gridBounds.contains(x, y)) {
+            int c = column(x);
+            int r = row(y);
+            cell = this.cells[r * this.columns + c];
+            cellCount = this.cellCounts[r * this.columns + c];
+        }
+        // visit the candidates in descending order of index
+        int i = cellCount - 1;
+        int j = this.largeCount - 1;
+        while (i >= 0 || j >= 0) {
+            int index;
+            if (j < 0 || (i >= 0 && cell[i] > this.large[j])) {
+                index = cell[i--];
+            } else {
+                index = this.large[j--];
+            }
+            ChartEntity entity = getEntity(index);
+            if (entity.getArea().contains(x, y)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities with an area that intersects the specified
+     * rectangle, in the order they were added to the collection.
+     *
+     * @param area  the rectangle ({@code null} not permitted).
+     *
+     * @return A list of entities (possibly empty).
+     */
+    public List<ChartEntity> getEntities(Rectangle2D area) {
+        Args.nullNotPermitted(area, "area");
+        updateIndex();
+        BitSet candidates = new BitSet(getEntityCount());
+        for (int j = 0; j < this.largeCount; j++) {
+            candidates.set(this.large[j]);
+        }
+        if (this.gridBounds != null && area.intersects(this.gridBounds)) {
+            int c0 = column(Math.max(area.getMinX(),
+                    this.gridBounds.getMinX()));
+            int c1 = column(Math.min(area.getMaxX(),
+                    this.gridBounds.getMaxX()));
+            int r0 = row(Math.max(area.getMinY(), this.gridBounds.getMinY()));
+            int r1 = row(Math.min(area.getMaxY(), this.gridBounds.getMaxY()));
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    for (int i = 0; i < this.cellCounts[cell]; i++) {
+                        candidates.set(this.cells[cell][i]);
+                    }
+                }
+            }
+        }
+        List<ChartEntity> result = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0;
+                i = candidates.nextSetBit(i + 1)) {
+            ChartEntity entity = getEntity(i);
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of this entity collection.  The index is not copied,
+     * it will be created by the clone when required.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SpatialEntityCollection clone = (SpatialEntityCollection) super.clone();
+        clone.gridBounds = null;
+        clone.cells = null;
+        clone.cellCounts = null;
+        clone.large = null;
+        clone.indexedCount = 0;
+        clone.largeCount = 0;
+        return clone;
+    }
+
+    /**
+     * Creates the index if any entities have been added that are not yet
+     * indexed.
+     */
+    private void updateIndex() {
+        int count = getEntityCount();
+        if (this.indexedCount == count && (this.gridBounds != null
+                || count == 0)) {
+            return;
+        }
+        // find the bounds of the entities that are not large
+        Rectangle2D bounds = null;
+        Rectangle2D[] entityBounds = new Rectangle2D[count];
+        for (int i = 0; i < count; i++) {
+            Shape area = getEntity(i).getArea();
+            Rectangle2D b = area.getBounds2D();
+            entityBounds[i] = b;
+            if (isFinite(b)) {
+                if (bounds == null) {
+                    bounds = new Rectangle2D.Double(b.getX(), b.getY(),
+                            b.getWidth(), b.getHeight());
+                } else {
+                    bounds.add(b);
+                }
+            }
+        }
+        this.large = new int[16];
+        this.largeCount = 0;
+        if (bounds == null) {
+            bounds = new Rectangle2D.Double();
+        }
+        this.gridBounds = bounds;
+        // aim for roughly one entity per cell, with cells that are
+        // approximately square
+        double w = Math.max(bounds.getWidth(), 1.0);
+        double h = Math.max(bounds.getHeight(), 1.0);
+        int n = Math.max(count, 1);
+        this.columns = (int) Math.max(1, Math.min(MAX_CELLS,
+                Math.round(Math.sqrt(n * w / h))));
+        this.rows = (int) Math.max(1, Math.min(MAX_CELLS,
+                Math.round((double) n / this.columns)));
+        this.cells = new int[this.columns * this.rows][];
+        this.cellCounts = new int[this.columns * this.rows];
+        this.indexedCount = 0;
+        for (int i = 0; i < count; i++) {
+            insert(i, entityBounds[i]);
+        }
+        this.indexedCount = count;
+    }
+
+    /**
+     * Adds an entity to the index.
+     *
+     * @param index  the entity index.
+     * @param bounds  the entity bounds.
+     */
+    private void insert(int index, Rectangle2D bounds) {
+        if (!isFinite(bounds) || isLarge(bounds)) {
+            if (this.largeCount == this.large.length) {
+                this.large = Arrays.copyOf(this.large, this.largeCount * 2);
+            }
+            this.large[this.largeCount++] = index;
+            return;
+        }
+        int c0 = column(bounds.getMinX());
+        int c1 = column(bounds.getMaxX());
+        int r0 = row(bounds.getMinY());
+        int r1 = row(bounds.getMaxY());
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * this.columns + c;
+                int[] items = this.cells[cell];
+                if (items == null) {
+                    items = new int[4];
+                    this.cells[cell] = items;
+                } else if (this.cellCounts[cell] == items.length) {
+                    items = Arrays.copyOf(items, items.length * 2);
+                    this.cells[cell] = items;
+                }
+                items[this.cellCounts[cell]++] = index;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if an entity with the specified bounds would
+     * occupy too many grid cells.
+     *
+     * @param bounds  the entity bounds.
+     *
+     * @return A boolean.
+     */
+    private boolean isLarge(Rectangle2D bounds) {
+        double cellW = this.gridBounds.getWidth() / this.columns;
+        double cellH = this.gridBounds.getHeight() / this.rows;
+        double cw = cellW > 0.0 ? bounds.getWidth() / cellW + 1.0 : 1.0;
+        double ch = cellH > 0.0 ? bounds.getHeight() / cellH + 1.0 : 1.0;
+        return cw * ch > MAX_CELLS_PER_ENTITY;
+    }
+
+    /**
+     * Returns {@code true} if all the coordinates of a rectangle are finite.
+     *
+     * @param r  the rectangle.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(Rectangle2D r) {
+        return Double.isFinite(r.getX()) && Double.isFinite(r.getY())
+                && Double.isFinite(r.getWidth())
+                && Double.isFinite(r.getHeight());
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate (clamped to the grid).
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column index.
+     */
+    private int column(double x) {
+        double w = this.gridBounds.getWidth();
+        if (w <= 0.0) {
+            return 0;
+        }
+        int c = (int) ((x - this.gridBounds.getMinX()) / w * this.columns);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate (clamped to the grid).
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row index.
+     */
+    private int row(double y) {
+        double h = this.gridBounds.getHeight();
+        if (h <= 0.0) {
+            return 0;
+        }
+        int r = (int) ((y - this.gridBounds.getMinY()) / h * this.rows);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+}
@@ -48,6 +48,12 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private final Plot plot;
 
+    /**
+     * The index of the dataset that changed, or -1 if the event is not
+     * caused by a change to a single dataset.
+     */
+    private int datasetIndex;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -57,6 +63,7 @@ public class PlotChangeEvent extends ChartChangeEvent {
     public PlotChangeEvent(Plot plot) {
         super(plot);
         this.plot = plot;
+        this.datasetIndex = -1;
     }
 
     /**
@@ -68,4 +75,27 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the index of the dataset whose change caused this event, or
+     * -1 if the event is not caused by a change to a single dataset.
+     *
+     * @return The dataset index.
+     *
+     * @since 2.0.0
+     */
+    public int getDatasetIndex() {
+        return this.datasetIndex;
+    }
+
+    /**
+     * Sets the index of the dataset whose change caused this event.
+     *
+     * @param index  the dataset index (or -1).
+     *
+     * @since 2.0.0
+     */
+    public void setDatasetIndex(int index) {
+        this.datasetIndex = index;
+    }
+
 }
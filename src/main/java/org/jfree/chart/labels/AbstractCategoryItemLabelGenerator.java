@@ -66,6 +66,9 @@ public abstract class AbstractCategoryItemLabelGenerator
      */
     private final String labelFormat;
 
+    /** The compiled label format string (created when first required). */
+    private transient LabelTemplate template;
+
     /** The string used to represent a null value. */
     private final String nullValueString;
 
@@ -203,11 +206,26 @@ public abstract class AbstractCategoryItemLabelGenerator
         Args.nullNotPermitted(dataset, "dataset");
         String result;
         Object[] items = createItemArray(dataset, row, column);
-        result = MessageFormat.format(this.labelFormat, items);
+        result = formatLabel(items);
         return result;
 
     }
 
+    /**
+     * Creates a label by substituting the items into the label format
+     * string (see {@link LabelTemplate}).
+     *
+     * @param items  the items.
+     *
+     * @return The label (never {@code null}).
+     */
+    String formatLabel(Object[] items) {
+        LabelTemplate t = LabelTemplate.reuseOrCompile(this.template,
+                this.labelFormat);
+        this.template = t;
+        return t.format(items);
+    }
+
     /**
      * Creates the array of items that can be passed to the
      * {@link MessageFormat} class for creating labels.
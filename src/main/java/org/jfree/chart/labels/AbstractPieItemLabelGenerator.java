@@ -56,6 +56,9 @@ public class AbstractPieItemLabelGenerator implements Serializable {
     /** The label format string. */
     private final String labelFormat;
 
+    /** The compiled label format string (created when first required). */
+    private transient LabelTemplate template;
+
     /** A number formatter for the value. */
     private NumberFormat numberFormat;
 
@@ -160,11 +163,26 @@ public class AbstractPieItemLabelGenerator implements Serializable {
         String result = null;
         if (dataset != null) {
             Object[] items = createItemArray(dataset, key);
-            result = MessageFormat.format(this.labelFormat, items);
+            result = formatLabel(items);
         }
         return result;
     }
 
+    /**
+     * Creates a label by substituting the items into the label format
+     * string (see {@link LabelTemplate}).
+     *
+     * @param items  the items.
+     *
+     * @return The label (never {@code null}).
+     */
+    String formatLabel(Object[] items) {
+        LabelTemplate t = LabelTemplate.reuseOrCompile(this.template,
+                this.labelFormat);
+        this.template = t;
+        return t.format(items);
+    }
+
     /**
      * Tests the generator for equality with an arbitrary object.
      *
@@ -58,6 +58,9 @@ public class AbstractXYItemLabelGenerator implements Cloneable, Serializable {
     /** The item label format string. */
     private final String formatString;
 
+    /** The compiled label format string (created when first required). */
+    private transient LabelTemplate template;
+
     /** A number formatter for the x value. */
     private NumberFormat xFormat;
 
@@ -215,10 +218,25 @@ public class AbstractXYItemLabelGenerator implements Cloneable, Serializable {
     public String generateLabelString(XYDataset dataset, int series, int item) {
         String result;
         Object[] items = createItemArray(dataset, series, item);
-        result = MessageFormat.format(this.formatString, items);
+        result = formatLabel(items);
         return result;
     }
 
+    /**
+     * Creates a label by substituting the items into the label format
+     * string (see {@link LabelTemplate}).
+     *
+     * @param items  the items.
+     *
+     * @return The label (never {@code null}).
+     */
+    String formatLabel(Object[] items) {
+        LabelTemplate t = LabelTemplate.reuseOrCompile(this.template,
+                this.formatString);
+        this.template = t;
+        return t.format(items);
+    }
+
     /**
      * Returns the string representing a null value.
      *
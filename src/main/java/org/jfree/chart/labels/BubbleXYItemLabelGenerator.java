@@ -173,7 +173,7 @@ public class BubbleXYItemLabelGenerator extends AbstractXYItemLabelGenerator
         else {
             items = createItemArray(dataset, series, item);
         }
-        result = MessageFormat.format(getFormatString(), items);
+        result = formatLabel(items);
         return result;
     }
 
@@ -0,0 +1,242 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.labels;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A {@link MessageFormat} pattern that has been parsed once into literal
+ * text and argument references, so that labels can be created without
+ * parsing the pattern again for every data item.  The label generators 
+ * pass pre-formatted strings as the arguments, so only the plain 
+ * {@code {n}} form of argument reference needs to be supported; a pattern
+ * that uses any other feature (for example {@code {0,number}}) is not 
+ * compiled and every call is delegated to {@link MessageFormat}, as is 
+ * any call with a {@code Number} or {@code Date} argument (these are 
+ * formatted by {@code MessageFormat} using the default locale).  In all
+ * cases the result is the same as 
+ * {@code MessageFormat.format(pattern, arguments)}.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+final class LabelTemplate {
+
+    /** 
+     * A buffer (one per thread) that is reused when building labels; if a
+     * buffer grows larger than this it is discarded after use.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
+    /** The buffers used to build labels (one per thread). */
+    private static final ThreadLocal<StringBuilder> BUFFER 
+            = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    /** The pattern. */
+    private final String pattern;
+
+    /** 
+     * The literal text segments, where {@code literals[i]} precedes the 
+     * argument {@code arguments[i]} and the final segment follows the last
+     * argument ({@code null} if the pattern is not compiled).
+     */
+    private final String[] literals;
+
+    /** The argument indices referenced by the pattern. */
+    private final int[] arguments;
+
+    /**
+     * Creates a new template.
+     * 
+     * @param pattern  the pattern.
+     * @param literals  the literal segments ({@code null} if the pattern
+     *     could not be compiled).
+     * @param arguments  the argument indices.
+     */
+    private LabelTemplate(String pattern, String[] literals, 
+            int[] arguments) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Compiles a {@link MessageFormat} pattern.  If the pattern uses 
+     * features that are not supported here (or is not valid) then the 
+     * returned template delegates to {@code MessageFormat}, which reports
+     * invalid patterns in the usual way when a label is formatted.
+     * 
+     * @param pattern  the pattern ({@code null} not permitted).
+     * 
+     * @return The template (never {@code null}).
+     */
+    static LabelTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        boolean inQuote = false;
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    text.append('\'');
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (c == '{' && !inQuote) {
+                int end = i + 1;
+                int index = 0;
+                while (end < length && end - i <= 9
+                        && pattern.charAt(end) >= '0' 
+                        && pattern.charAt(end) <= '9') {
+                    index = index * 10 + (pattern.charAt(end) - '0');
+                    end++;
+                }
+                if (end == i + 1 || end >= length 
+                        || pattern.charAt(end) != '}') {
+                    // a format type, a style or an invalid reference
+                    return new LabelTemplate(pattern, null, null);
+                }
+                literals.add(text.toString());
+                arguments.add(index);
+                text.setLength(0);
+                i = end;
+            } else {
+                text.append(c);
+            }
+            i++;
+        }
+        literals.add(text.toString());
+        int[] indices = new int[arguments.size()];
+        for (int a = 0; a < indices.length; a++) {
+            indices[a] = arguments.get(a);
+        }
+        return new LabelTemplate(pattern, 
+                literals.toArray(new String[0]), indices);
+    }
+
+    /**
+     * Returns {@code cached} if it is the template for the specified
+     * pattern, and otherwise compiles the pattern.  The label generators
+     * keep their template in a transient field and use this method to
+     * compile it the first time a label is created (and again after
+     * deserialization).
+     * 
+     * @param cached  the cached template ({@code null} permitted).
+     * @param pattern  the pattern ({@code null} not permitted).
+     * 
+     * @return The template (never {@code null}).
+     */
+    static LabelTemplate reuseOrCompile(LabelTemplate cached, 
+            String pattern) {
+        if (cached != null && cached.pattern.equals(pattern)) {
+            return cached;
+        }
+        return compile(pattern);
+    }
+
+    /**
+     * Returns the pattern.
+     * 
+     * @return The pattern (never {@code null}).
+     */
+    String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Returns {@code true} if the pattern was compiled, and {@code false} 
+     * if every call is delegated to {@link MessageFormat}.
+     * 
+     * @return A boolean.
+     */
+    boolean isCompiled() {
+        return this.literals != null;
+    }
+
+    /**
+     * Creates a label by substituting the arguments into the pattern.
+     * 
+     * @param items  the arguments ({@code null} permitted).
+     * 
+     * @return The label (never {@code null}).
+     */
+    String format(Object[] items) {
+        if (this.literals == null || requiresFormat(items)) {
+            return MessageFormat.format(this.pattern, items);
+        }
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        int count = items == null ? 0 : items.length;
+        for (int i = 0; i < this.arguments.length; i++) {
+            sb.append(this.literals[i]);
+            int index = this.arguments[i];
+            if (index >= count) {
+                sb.append('{').append(index).append('}');
+            } else {
+                sb.append(items[index]);  // appends "null" for null
+            }
+        }
+        sb.append(this.literals[this.arguments.length]);
+        String result = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if any argument referenced by the pattern is a
+     * number or date (these are formatted by {@code MessageFormat}).
+     * 
+     * @param items  the arguments ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    private boolean requiresFormat(Object[] items) {
+        if (items == null) {
+            return false;
+        }
+        for (int index : this.arguments) {
+            if (index < items.length) {
+                Object item = items[index];
+                if (item instanceof Number || item instanceof Date) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
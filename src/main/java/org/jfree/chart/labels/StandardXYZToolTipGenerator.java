@@ -169,7 +169,7 @@ public class StandardXYZToolTipGenerator extends StandardXYToolTipGenerator
     public String generateLabelString(XYDataset dataset, int series, int item) {
         String result;
         Object[] items = createItemArray((XYZDataset) dataset, series, item);
-        result = MessageFormat.format(getFormatString(), items);
+        result = formatLabel(items);
         return result;
     }
 
@@ -71,6 +71,8 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.ChartLayerLayout;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
@@ -2094,6 +2096,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
      * @param event  information about the event (not used here).
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void datasetChanged(DatasetChangeEvent event) {
         for (ValueAxis yAxis : this.rangeAxes.values()) {
             if (yAxis != null) {
@@ -2105,6 +2108,10 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         } else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            if (event.getDataset() instanceof CategoryDataset) {
+                e.setDatasetIndex(indexOf(
+                        (CategoryDataset<R, C>) event.getDataset()));
+            }
             notifyListeners(e);
         }
 
@@ -3276,26 +3283,57 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         RectangleInsets insets = getInsets();
         insets.trim(area);
 
-        // calculate the data area...
-        AxisSpace space = calculateAxisSpace(g2, area);
-        Rectangle2D dataArea = space.shrink(area, null);
-        this.axisOffset.trim(dataArea);
-        dataArea = integerise(dataArea);
+        // calculate the data area (once only when drawing in layers)...
+        ChartLayerLayout layout = ChartLayerLayout.getLayout(g2);
+        Rectangle2D dataArea = layout != null
+                ? layout.getDataArea(area) : null;
+        if (dataArea == null) {
+            AxisSpace space = calculateAxisSpace(g2, area);
+            dataArea = space.shrink(area, null);
+            this.axisOffset.trim(dataArea);
+            dataArea = integerise(dataArea);
+            if (layout != null) {
+                layout.setDataArea(area, dataArea);
+            }
+        }
         if (dataArea.isEmpty()) {
             return;
         }
         state.setDataArea(dataArea);
-        createAndAddEntity((Rectangle2D) dataArea.clone(), state, null, null);
-
-        // if there is a renderer, it draws the background, otherwise use the
-        // default background...
-        if (getRenderer() != null) {
-            getRenderer().drawBackground(g2, this, dataArea);
-        } else {
-            drawBackground(g2, dataArea);
+        boolean drawBackground = ChartLayer.isDrawn(g2, ChartLayer.BACKGROUND);
+        boolean drawAnnotations = ChartLayer.isDrawn(g2,
+                ChartLayer.ANNOTATIONS);
+        boolean drawAxes = ChartLayer.isDrawn(g2, ChartLayer.AXES);
+        if (drawBackground) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), state, null,
+                    null);
+
+            // if there is a renderer, it draws the background, otherwise use
+            // the default background...
+            if (getRenderer() != null) {
+                getRenderer().drawBackground(g2, this, dataArea);
+            } else {
+                drawBackground(g2, dataArea);
+            }
         }
 
-        Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, state);
+        // the axis states are required for the gridlines, so the axes are
+        // drawn to a clipped copy of the target if they are not in the
+        // selected layer and no earlier layer has recorded the states
+        Map<Axis, AxisState> axisStateMap = layout != null
+                ? layout.getAxisStates() : null;
+        if (drawAxes) {
+            axisStateMap = drawAxes(g2, area, dataArea, state);
+        } else if (axisStateMap == null) {
+            Graphics2D axisG2 = (Graphics2D) g2.create();
+            axisG2.clip(new Rectangle());
+            axisStateMap = drawAxes(axisG2, area, dataArea,
+                    new PlotRenderingInfo(null));
+            axisG2.dispose();
+        }
+        if (layout != null) {
+            layout.setAxisStates(axisStateMap);
+        }
 
         // the anchor point is typically the point where the mouse last
         // clicked - the crosshairs will be driven off this point...
@@ -3335,7 +3373,9 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         Shape savedClip = g2.getClip();
         g2.clip(dataArea);
 
-        drawDomainGridlines(g2, dataArea);
+        if (drawBackground) {
+            drawDomainGridlines(g2, dataArea);
+        }
 
         AxisState rangeAxisState = axisStateMap.get(getRangeAxis());
         if (rangeAxisState == null) {
@@ -3344,7 +3384,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
                         .get(getRangeAxis());
             }
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && drawBackground) {
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
@@ -3362,13 +3402,15 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         }
 
         // draw the markers...
-        for (CategoryItemRenderer renderer : this.renderers.values()) {
-            int i = getIndexOf(renderer);
-            drawDomainMarkers(g2, dataArea, i, Layer.BACKGROUND);
-        }
-        for (CategoryItemRenderer renderer : this.renderers.values()) {
-            int i = getIndexOf(renderer);
-            drawRangeMarkers(g2, dataArea, i, Layer.BACKGROUND);
+        if (drawBackground) {
+            for (CategoryItemRenderer renderer : this.renderers.values()) {
+                int i = getIndexOf(renderer);
+                drawDomainMarkers(g2, dataArea, i, Layer.BACKGROUND);
+            }
+            for (CategoryItemRenderer renderer : this.renderers.values()) {
+                int i = getIndexOf(renderer);
+                drawRangeMarkers(g2, dataArea, i, Layer.BACKGROUND);
+            }
         }
 
         // now render data items...
@@ -3381,22 +3423,31 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
 
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         List<Integer> datasetIndices = getDatasetIndices(order);
+        boolean drawData = false;
         for (int i : datasetIndices) {
-            foundData = render(g2, dataArea, i, state, crosshairState)
-                    || foundData;
+            if (ChartLayer.isDatasetDrawn(g2, i)) {
+                foundData = render(g2, dataArea, i, state, crosshairState)
+                        || foundData;
+                drawData = true;
+            } else {
+                foundData = foundData || (getRenderer(i) != null
+                        && !DatasetUtils.isEmptyOrNull(getDataset(i)));
+            }
         }
 
-        // draw the foreground markers...
-        List<Integer> rendererIndices = getRendererIndices(order);
-        for (int i : rendererIndices) {
-            drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i : rendererIndices) {
-            drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
+        if (drawAnnotations) {
+            // draw the foreground markers...
+            List<Integer> rendererIndices = getRendererIndices(order);
+            for (int i : rendererIndices) {
+                drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i : rendererIndices) {
+                drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
 
-        // draw the annotations (if any)...
-        drawAnnotations(g2, dataArea);
+            // draw the annotations (if any)...
+            drawAnnotations(g2, dataArea);
+        }
 
         if (this.shadowGenerator != null && !suppressShadow) {
             BufferedImage shadowImage = this.shadowGenerator.createDropShadow(
@@ -3412,11 +3463,13 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         g2.setClip(savedClip);
         g2.setComposite(originalComposite);
 
-        if (!foundData) {
+        if (!foundData && drawAnnotations) {
             drawNoDataMessage(g2, dataArea);
         }
 
-        int datasetIndex = crosshairState.getDatasetIndex();
+        // the crosshair dataset is only known when the data is drawn
+        int datasetIndex = drawData ? crosshairState.getDatasetIndex()
+                : getCrosshairDatasetIndex();
         setCrosshairDatasetIndex(datasetIndex, false);
 
         // draw domain crosshair if required...
@@ -3424,7 +3477,8 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         C columnKey = crosshairState.getColumnKey();
         setDomainCrosshairRowKey(rowKey, false);
         setDomainCrosshairColumnKey(columnKey, false);
-        if (isDomainCrosshairVisible() && columnKey != null) {
+        if (isDomainCrosshairVisible() && columnKey != null
+                && drawAnnotations) {
             Paint paint = getDomainCrosshairPaint();
             Stroke stroke = getDomainCrosshairStroke();
             drawDomainCrosshair(g2, dataArea, this.orientation,
@@ -3445,7 +3499,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
             crosshairState.setCrosshairY(yy);
         }
         setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (isRangeCrosshairVisible() && drawAnnotations) {
             double y = getRangeCrosshairValue();
             Paint paint = getRangeCrosshairPaint();
             Stroke stroke = getRangeCrosshairStroke();
@@ -3454,7 +3508,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         }
 
         // draw an outline around the plot area...
-        if (isOutlineVisible()) {
+        if (isOutlineVisible() && drawAxes) {
             if (getRenderer() != null) {
                 getRenderer().drawOutline(g2, this, dataArea);
             }
@@ -3465,6 +3519,20 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
 
     }
 
+    /**
+     * Returns the indices of the datasets in the order that they are
+     * rendered.  This plot can draw selected layers, see
+     * {@link ChartLayer}.
+     *
+     * @return The dataset indices (never {@code null}).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public List<Integer> getLayerDatasetIndices() {
+        return getDatasetIndices(getDatasetRenderingOrder());
+    }
+
     /**
      * Returns the indices of the non-null datasets in the specified order.
      * 
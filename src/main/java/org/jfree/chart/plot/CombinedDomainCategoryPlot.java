@@ -75,6 +75,12 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
     /** The gap between subplots. */
     private double gap;
 
+    /**
+     * A flag that controls whether the subplots are drawn in parallel (as
+     * image tiles).
+     */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
     // FIXME:  move the above to the plot state
@@ -122,6 +128,42 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * the flag is set, the shared axis and the subplot layout are computed
+     * once, then each subplot is drawn into its own image tile on the common
+     * fork-join pool and the tiles are composited into the target in subplot
+     * order.  This is intended for raster output (each tile is an image the
+     * size of the target's clip region, at device resolution) and requires
+     * that the subplots do not share renderer instances.  Printer targets
+     * and transforms with a rotation or shear are always drawn sequentially.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Adds a subplot to the combined chart and sends a {@link PlotChangeEvent}
      * to all registered listeners.
@@ -398,6 +440,19 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         super.receive(visitor);
     }
 
+    /**
+     * Returns {@code null}, since this plot does not support drawing
+     * selected layers (see {@link org.jfree.chart.ChartLayer}).
+     *
+     * @return {@code null}.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public List<Integer> getLayerDatasetIndices() {
+        return null;
+    }
+
     /**
      * Draws the plot on a Java 2D graphics device (such as the screen or a
      * printer).  Will perform all the placement calculations for each of the
@@ -448,19 +503,25 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the subplots
-        for (int i = 0; i < this.subplots.size(); i++) {
-            CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
-            }
-            Point2D subAnchor = null;
-            if (anchor != null && this.subplotAreas[i].contains(anchor)) {
-                subAnchor = anchor;
+        if (this.parallelRendering && SubplotTileRenderer.isSupported(g2,
+                this.subplots.size())) {
+            SubplotTileRenderer.drawSubplots(g2, this.subplots,
+                    this.subplotAreas, anchor, true, parentState, info);
+        } else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                Point2D subAnchor = null;
+                if (anchor != null && this.subplotAreas[i].contains(anchor)) {
+                    subAnchor = anchor;
+                }
+                plot.draw(g2, this.subplotAreas[i], subAnchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], subAnchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -640,6 +701,9 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!Objects.equals(this.subplots, that.subplots)) {
             return false;
         }
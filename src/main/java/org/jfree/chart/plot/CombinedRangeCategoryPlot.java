@@ -76,6 +76,12 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
     /** The gap between subplots. */
     private double gap;
 
+    /**
+     * A flag that controls whether the subplots are drawn in parallel (as
+     * image tiles).
+     */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotArea;  // TODO: move to plot state
 
@@ -117,6 +123,42 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * the flag is set, the shared axis and the subplot layout are computed
+     * once, then each subplot is drawn into its own image tile on the common
+     * fork-join pool and the tiles are composited into the target in subplot
+     * order.  This is intended for raster output (each tile is an image the
+     * size of the target's clip region, at device resolution) and requires
+     * that the subplots do not share renderer instances.  Printer targets
+     * and transforms with a rotation or shear are always drawn sequentially.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Adds a subplot (with a default 'weight' of 1) and sends a
      * {@link PlotChangeEvent} to all registered listeners.
@@ -309,6 +351,19 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         super.receive(visitor);
     }
 
+    /**
+     * Returns {@code null}, since this plot does not support drawing
+     * selected layers (see {@link org.jfree.chart.ChartLayer}).
+     *
+     * @return {@code null}.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public List<Integer> getLayerDatasetIndices() {
+        return null;
+    }
+
     /**
      * Draws the plot on a Java 2D graphics device (such as the screen or a
      * printer).  Will perform all the placement calculations for each
@@ -354,19 +409,25 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         parentState.getSharedAxisStates().put(axis, state);
 
         // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            CategoryPlot plot = this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
-            }
-            Point2D subAnchor = null;
-            if (anchor != null && this.subplotArea[i].contains(anchor)) {
-                subAnchor = anchor;
+        if (this.parallelRendering && SubplotTileRenderer.isSupported(g2,
+                this.subplots.size())) {
+            SubplotTileRenderer.drawSubplots(g2, this.subplots,
+                    this.subplotArea, anchor, true, parentState, info);
+        } else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                CategoryPlot plot = this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                Point2D subAnchor = null;
+                if (anchor != null && this.subplotArea[i].contains(anchor)) {
+                    subAnchor = anchor;
+                }
+                plot.draw(g2, this.subplotArea[i], subAnchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotArea[i], subAnchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -510,6 +571,9 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!Objects.equals(this.subplots, that.subplots)) {
             return false;
         }
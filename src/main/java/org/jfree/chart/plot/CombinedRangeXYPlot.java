@@ -81,6 +81,12 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /**
+     * A flag that controls whether the subplots are drawn in parallel (as
+     * image tiles).
+     */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
 
@@ -133,6 +139,42 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
     public void setGap(double gap) {
         this.gap = gap;
     }
+
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * the flag is set, the shared axis and the subplot layout are computed
+     * once, then each subplot is drawn into its own image tile on the common
+     * fork-join pool and the tiles are composited into the target in subplot
+     * order.  This is intended for raster output (each tile is an image the
+     * size of the target's clip region, at device resolution) and requires
+     * that the subplots do not share renderer instances.  Printer targets
+     * and transforms with a rotation or shear are always drawn sequentially.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
     
     /**
      * Returns {@code true} if the domain is pannable for at least one subplot,
@@ -346,6 +388,19 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
 
     }
 
+    /**
+     * Returns {@code null}, since this plot does not support drawing
+     * selected layers (see {@link org.jfree.chart.ChartLayer}).
+     *
+     * @return {@code null}.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public List<Integer> getLayerDatasetIndices() {
+        return null;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
@@ -389,15 +444,21 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        if (this.parallelRendering && SubplotTileRenderer.isSupported(g2,
+                this.subplots.size())) {
+            SubplotTileRenderer.drawSubplots(g2, this.subplots,
+                    this.subplotAreas, anchor, false, parentState, info);
+        } else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -676,6 +737,9 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!Objects.equals(this.subplots, that.subplots)) {
             return false;
         }
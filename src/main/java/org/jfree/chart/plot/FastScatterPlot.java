@@ -49,6 +49,7 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -56,6 +57,8 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jfree.chart.ChartElementVisitor;
@@ -66,13 +69,16 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.internal.ArrayUtils;
 import org.jfree.chart.internal.PaintUtils;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.SerialUtils;
+import org.jfree.chart.renderer.PaintScale;
 import org.jfree.data.Range;
+import org.jfree.data.general.HeatMapUtils;
 
 /**
  * A fast scatter plot.
@@ -139,6 +145,33 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     private boolean rangePannable;
 
+    /**
+     * The paint scale used to colour the pixel counts in density mode
+     * ({@code null} to draw individual points).
+     */
+    private PaintScale densityPaintScale;
+
+    /**
+     * A flag that controls whether the pixel counts are log-scaled (rather
+     * than linearly scaled) before they are mapped to the paint scale.
+     */
+    private boolean densityLogScaled;
+
+    /**
+     * A flag that controls whether the points are binned in parallel in
+     * density mode.
+     */
+    private boolean densityParallel;
+
+    /** The number of entries in the density colour lookup table. */
+    private static final int DENSITY_LOOKUP_SIZE = 256;
+
+    /**
+     * The minimum number of points binned by each task when the points are
+     * binned in parallel.
+     */
+    private static final int DENSITY_CHUNK_SIZE = 1 << 16;
+
     /** The resourceBundle for the localization. */
 
     @SuppressFBWarnings("MS_SHOULD_BE_FINAL")
@@ -310,6 +343,105 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the paint scale used in density mode.  When this is
+     * {@code null} (the default) each data point is drawn individually
+     * using the plot's paint, otherwise the points are counted per pixel
+     * and the counts are drawn as a single image, coloured using this scale.
+     *
+     * @return The paint scale (possibly {@code null}).
+     *
+     * @see #setDensityPaintScale(PaintScale)
+     *
+     * @since 2.0.0
+     */
+    public PaintScale getDensityPaintScale() {
+        return this.densityPaintScale;
+    }
+
+    /**
+     * Sets the paint scale used in density mode and sends a
+     * {@link PlotChangeEvent} to all registered listeners.  The pixel
+     * counts are normalised to the range 0 to 1 (see
+     * {@link #isDensityLogScaled()}) and mapped linearly onto the bounds of
+     * the scale.  Pixels that contain no points are left transparent.
+     *
+     * @param scale  the paint scale ({@code null} permitted, to switch off
+     *     density mode).
+     *
+     * @see #getDensityPaintScale()
+     *
+     * @since 2.0.0
+     */
+    public void setDensityPaintScale(PaintScale scale) {
+        this.densityPaintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the pixel counts are
+     * log-scaled in density mode.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setDensityLogScaled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isDensityLogScaled() {
+        return this.densityLogScaled;
+    }
+
+    /**
+     * Sets the flag that controls whether the pixel counts are log-scaled
+     * in density mode and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When set, a count {@code c} is normalised as
+     * {@code log(1 + c) / log(1 + max)}, otherwise as {@code c / max}.
+     *
+     * @param logScaled  the new flag value.
+     *
+     * @see #isDensityLogScaled()
+     *
+     * @since 2.0.0
+     */
+    public void setDensityLogScaled(boolean logScaled) {
+        this.densityLogScaled = logScaled;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the points are binned in
+     * parallel (on the common fork-join pool) in density mode.  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setDensityParallel(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isDensityParallel() {
+        return this.densityParallel;
+    }
+
+    /**
+     * Sets the flag that controls whether the points are binned in parallel
+     * in density mode and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  Each task bins a contiguous block of points into its own
+     * count buffer and the buffers are summed, so the result is the same as
+     * for sequential binning.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isDensityParallel()
+     *
+     * @since 2.0.0
+     */
+    public void setDensityParallel(boolean parallel) {
+        this.densityParallel = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Returns {@code true} if the domain gridlines are visible, and
      * {@code false} otherwise.
@@ -557,6 +689,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     public void render(Graphics2D g2, Rectangle2D dataArea,
                        PlotRenderingInfo info, CrosshairState crosshairState) {
+        if (this.densityPaintScale != null) {
+            renderDensity(g2, dataArea);
+            return;
+        }
         g2.setPaint(this.paint);
 
         // if the axes use a linear scale, you can uncomment the code below and
@@ -588,6 +724,135 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         }
     }
 
+    /**
+     * Draws the data in density mode:  the points are counted per pixel
+     * (in one pass over the data, optionally in parallel) and the counts
+     * are mapped through the density paint scale into an image that is
+     * drawn once.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     */
+    private void renderDensity(Graphics2D g2, Rectangle2D dataArea) {
+        if (this.data == null) {
+            return;
+        }
+        int x0 = (int) Math.floor(dataArea.getMinX());
+        int y0 = (int) Math.floor(dataArea.getMinY());
+        int w = (int) Math.ceil(dataArea.getMaxX()) - x0;
+        int h = (int) Math.ceil(dataArea.getMaxY()) - y0;
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        int n = this.data[0].length;
+        int chunks = 1;
+        if (this.densityParallel) {
+            chunks = Math.max(1, Math.min(
+                    ForkJoinPool.getCommonPoolParallelism(),
+                    n / DENSITY_CHUNK_SIZE));
+        }
+        int[] counts;
+        if (chunks == 1) {
+            counts = binPoints(dataArea, x0, y0, w, h, 0, n);
+        } else {
+            final int taskCount = chunks;
+            counts = IntStream.range(0, taskCount).parallel()
+                    .mapToObj(c -> binPoints(dataArea, x0, y0, w, h,
+                            (int) ((long) n * c / taskCount),
+                            (int) ((long) n * (c + 1) / taskCount)))
+                    .reduce((a, b) -> {
+                        for (int i = 0; i < a.length; i++) {
+                            a[i] += b[i];
+                        }
+                        return a;
+                    }).get();
+        }
+
+        int max = 0;
+        for (int count : counts) {
+            max = Math.max(max, count);
+        }
+        if (max == 0) {
+            return;
+        }
+        int[] lookup = HeatMapUtils.createColorLookup(
+                this.densityPaintScale, DENSITY_LOOKUP_SIZE);
+        double logMax = Math.log1p(max);
+        int last = DENSITY_LOOKUP_SIZE - 1;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            if (count > 0) {
+                double t = this.densityLogScaled
+                        ? Math.log1p(count) / logMax : (double) count / max;
+                counts[i] = lookup[(int) (t * last)];
+            }
+        }
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, w, h, counts, 0, w);
+        g2.drawImage(image, x0, y0, null);
+    }
+
+    /**
+     * Counts the points in the specified index range per pixel.  A point is
+     * counted in the pixel that contains its (truncated) Java2D coordinates,
+     * in the same way that the point would be drawn by
+     * {@link #render(Graphics2D, Rectangle2D, PlotRenderingInfo,
+     * CrosshairState)}.  For {@link NumberAxis} axes the coordinates are
+     * calculated inline, for other axes via {@code valueToJava2D()}.
+     *
+     * @param dataArea  the data area.
+     * @param x0  the x-coordinate of the first pixel column.
+     * @param y0  the y-coordinate of the first pixel row.
+     * @param w  the number of pixel columns.
+     * @param h  the number of pixel rows.
+     * @param from  the index of the first point (inclusive).
+     * @param to  the index of the last point (exclusive).
+     *
+     * @return The counts (row by row, {@code w * h} values).
+     */
+    private int[] binPoints(Rectangle2D dataArea, int x0, int y0, int w,
+            int h, int from, int to) {
+        float[] xs = this.data[0];
+        float[] ys = this.data[1];
+        boolean linearX = this.domainAxis.getClass() == NumberAxis.class;
+        boolean linearY = this.rangeAxis.getClass() == NumberAxis.class;
+        double xLower = this.domainAxis.getLowerBound();
+        double xOrigin = this.domainAxis.valueToJava2D(xLower, dataArea,
+                RectangleEdge.BOTTOM);
+        double xScale = (this.domainAxis.valueToJava2D(
+                this.domainAxis.getUpperBound(), dataArea,
+                RectangleEdge.BOTTOM) - xOrigin)
+                / this.domainAxis.getRange().getLength();
+        double yLower = this.rangeAxis.getLowerBound();
+        double yOrigin = this.rangeAxis.valueToJava2D(yLower, dataArea,
+                RectangleEdge.LEFT);
+        double yScale = (this.rangeAxis.valueToJava2D(
+                this.rangeAxis.getUpperBound(), dataArea,
+                RectangleEdge.LEFT) - yOrigin)
+                / this.rangeAxis.getRange().getLength();
+
+        int[] counts = new int[w * h];
+        for (int i = from; i < to; i++) {
+            double px = linearX ? xOrigin + (xs[i] - xLower) * xScale
+                    : this.domainAxis.valueToJava2D(xs[i], dataArea,
+                            RectangleEdge.BOTTOM);
+            double dx = px - x0;
+            if (!(dx >= 0.0 && dx < w)) {
+                continue;
+            }
+            double py = linearY ? yOrigin + (ys[i] - yLower) * yScale
+                    : this.rangeAxis.valueToJava2D(ys[i], dataArea,
+                            RectangleEdge.LEFT);
+            double dy = py - y0;
+            if (!(dy >= 0.0 && dy < h)) {
+                continue;
+            }
+            counts[(int) dy * w + (int) dx]++;
+        }
+        return counts;
+    }
+
     /**
      * Draws the gridlines for the plot, if they are visible.
      *
@@ -1009,6 +1274,15 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         if (!Objects.equals(this.rangeGridlineStroke, that.rangeGridlineStroke)) {
             return false;
         }
+        if (!Objects.equals(this.densityPaintScale, that.densityPaintScale)) {
+            return false;
+        }
+        if (this.densityLogScaled != that.densityLogScaled) {
+            return false;
+        }
+        if (this.densityParallel != that.densityParallel) {
+            return false;
+        }
         return true;
     }
 
@@ -1037,6 +1311,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
             clone.rangeAxis.setPlot(clone);
             clone.rangeAxis.addChangeListener(clone);
         }
+        if (this.densityPaintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.densityPaintScale;
+            clone.densityPaintScale = (PaintScale) pc.clone();
+        }
         return clone;
 
     }
@@ -62,6 +62,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 
 import javax.swing.event.EventListenerList;
@@ -923,6 +924,20 @@ public abstract class Plot implements ChartElement, AxisChangeListener,
     public abstract void draw(Graphics2D g2, Rectangle2D area, Point2D anchor,
             PlotState parentState, PlotRenderingInfo info);
 
+    /**
+     * Returns the indices of the plot's datasets in the order that they are
+     * rendered, if the plot can draw selected layers (see
+     * {@link org.jfree.chart.ChartLayer}), and {@code null} otherwise.  The
+     * default implementation returns {@code null}.
+     *
+     * @return The dataset indices (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public List<Integer> getLayerDatasetIndices() {
+        return null;
+    }
+
     /**
      * Draws the plot background (the background color and/or image).
      * <P>
@@ -0,0 +1,239 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+
+/**
+ * A utility class used by the combined plots to draw their subplots in
+ * parallel.  Each subplot is drawn into its own image tile (at device
+ * resolution) on the common fork-join pool, then the tiles are composited
+ * into the target {@code Graphics2D} in subplot order.  Each tile covers
+ * the subplot's own area plus a small margin (for strokes and tick labels 
+ * at the edge of the area), limited to the current clip region of the 
+ * target, and is composited at the device location of that area.  The 
+ * caller is
+ * responsible for the shared axis and the subplot layout, which are
+ * computed once on the calling thread before this class is used.
+ * <P>
+ * Entities are collected into a separate collection for each subplot and
+ * appended to the owner's collection in subplot order once all the tiles
+ * are complete, so the entity collection has the same content as for
+ * sequential drawing.
+ */
+final class SubplotTileRenderer {
+
+    /**
+     * The margin (in device pixels) added around each subplot area, so that
+     * strokes centred on the edge of the area and the tick labels at the 
+     * ends of an axis (which extend past the area) are not cut off.
+     */
+    private static final int TILE_MARGIN = 16;
+
+    private SubplotTileRenderer() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Returns {@code true} if the subplots can be drawn as image tiles to
+     * the specified target.  Tiles are not used for fewer than two subplots,
+     * for printer devices or when the current transform contains a rotation,
+     * shear or flip.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param subplotCount  the number of subplots.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2, int subplotCount) {
+        if (subplotCount < 2) {
+            return false;
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        if (gc != null && gc.getDevice().getType()
+                == GraphicsDevice.TYPE_PRINTER) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        return (type & (AffineTransform.TYPE_FLIP
+                | AffineTransform.TYPE_MASK_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM)) == 0;
+    }
+
+    /**
+     * Draws the subplots into image tiles in parallel and composites the
+     * tiles into {@code g2}.  The caller should check
+     * {@link #isSupported(Graphics2D, int)} first.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param subplots  the subplots ({@code null} not permitted).
+     * @param areas  the subplot areas, in the same order as the subplots
+     *     ({@code null} not permitted).
+     * @param anchor  the anchor point ({@code null} permitted).
+     * @param restrictAnchor  if {@code true}, the anchor is only passed to
+     *     the subplot whose area contains it.
+     * @param parentState  the state of the combined plot ({@code null} not
+     *     permitted).
+     * @param info  the rendering info for the combined plot ({@code null}
+     *     permitted).
+     */
+    static void drawSubplots(Graphics2D g2, List<? extends Plot> subplots,
+            Rectangle2D[] areas, Point2D anchor, boolean restrictAnchor,
+            PlotState parentState, PlotRenderingInfo info) {
+
+        int count = subplots.size();
+        AffineTransform transform = g2.getTransform();
+        Shape clip = g2.getClip();
+        Rectangle clipBounds = clip != null
+                ? transform.createTransformedShape(clip).getBounds() : null;
+        ChartRenderingInfo owner = info != null ? info.getOwner() : null;
+        EntityCollection entities = owner != null
+                ? owner.getEntityCollection() : null;
+
+        Rectangle[] bounds = new Rectangle[count];
+        BufferedImage[] tiles = new BufferedImage[count];
+        Graphics2D[] tileG2s = new Graphics2D[count];
+        Point2D[] anchors = new Point2D[count];
+        PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+        for (int i = 0; i < count; i++) {
+            if (info != null) {
+                ChartRenderingInfo tileOwner = null;
+                if (owner != null) {
+                    tileOwner = new ChartRenderingInfo(entities != null
+                            ? new StandardEntityCollection() : null);
+                }
+                infos[i] = new PlotRenderingInfo(tileOwner);
+            }
+            if (anchor != null && (!restrictAnchor
+                    || areas[i].contains(anchor))) {
+                anchors[i] = anchor;
+            }
+            Rectangle r = transform.createTransformedShape(areas[i])
+                    .getBounds();
+            r.grow(TILE_MARGIN, TILE_MARGIN);
+            if (clipBounds != null) {
+                r = r.intersection(clipBounds);
+            }
+            bounds[i] = r;
+            if (r.isEmpty()) {
+                // nothing is visible, but the subplots still record info
+                subplots.get(i).draw(g2, areas[i], anchors[i], parentState,
+                        infos[i]);
+                continue;
+            }
+            tiles[i] = new BufferedImage(r.width, r.height,
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D tileG2 = tiles[i].createGraphics();
+            tileG2.setRenderingHints(g2.getRenderingHints());
+            AffineTransform t = AffineTransform.getTranslateInstance(-r.x,
+                    -r.y);
+            t.concatenate(transform);
+            tileG2.setTransform(t);
+            if (clip != null) {
+                tileG2.setClip(clip);
+            }
+            tileG2.setFont(g2.getFont());
+            tileG2.setPaint(g2.getPaint());
+            tileG2.setStroke(g2.getStroke());
+            tileG2s[i] = tileG2;
+        }
+
+        try {
+            IntStream.range(0, count).parallel().forEach(i -> {
+                if (tileG2s[i] != null) {
+                    subplots.get(i).draw(tileG2s[i], areas[i], anchors[i],
+                            parentState, infos[i]);
+                }
+            });
+        } finally {
+            for (Graphics2D tileG2 : tileG2s) {
+                if (tileG2 != null) {
+                    tileG2.dispose();
+                }
+            }
+        }
+
+        Graphics2D deviceG2 = (Graphics2D) g2.create();
+        try {
+            deviceG2.setTransform(new AffineTransform());
+            for (int i = 0; i < count; i++) {
+                if (tiles[i] != null) {
+                    deviceG2.drawImage(tiles[i], bounds[i].x, bounds[i].y,
+                            null);
+                }
+            }
+        } finally {
+            deviceG2.dispose();
+        }
+
+        if (info != null) {
+            for (int i = 0; i < count; i++) {
+                info.addSubplotInfo(copy(infos[i], owner));
+                if (entities != null) {
+                    entities.addAll(infos[i].getOwner().getEntityCollection());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code source} (including its subplot info) that
+     * belongs to the specified owner.
+     *
+     * @param source  the source info ({@code null} not permitted).
+     * @param owner  the owner ({@code null} permitted).
+     *
+     * @return The copy.
+     */
+    private static PlotRenderingInfo copy(PlotRenderingInfo source,
+            ChartRenderingInfo owner) {
+        PlotRenderingInfo result = new PlotRenderingInfo(owner);
+        result.setPlotArea(source.getPlotArea());
+        result.setDataArea(source.getDataArea());
+        for (int i = 0; i < source.getSubplotCount(); i++) {
+            result.addSubplotInfo(copy(source.getSubplotInfo(i), owner));
+        }
+        return result;
+    }
+
+}
@@ -51,6 +51,8 @@
 package org.jfree.chart.plot;
 
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.ChartLayerLayout;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
@@ -75,6 +77,7 @@ import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.xy.ViewportAware;
 import org.jfree.data.xy.XYDataset;
 
 import java.awt.*;
@@ -2861,22 +2864,54 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         RectangleInsets insets = getInsets();
         insets.trim(area);
 
-        AxisSpace space = calculateAxisSpace(g2, area);
-        Rectangle2D dataArea = space.shrink(area, null);
-        this.axisOffset.trim(dataArea);
-
-        dataArea = integerise(dataArea);
+        // the data area is calculated once only when drawing in layers...
+        ChartLayerLayout layout = ChartLayerLayout.getLayout(g2);
+        Rectangle2D dataArea = layout != null
+                ? layout.getDataArea(area) : null;
+        if (dataArea == null) {
+            AxisSpace space = calculateAxisSpace(g2, area);
+            dataArea = space.shrink(area, null);
+            this.axisOffset.trim(dataArea);
+            dataArea = integerise(dataArea);
+            if (layout != null) {
+                layout.setDataArea(area, dataArea);
+            }
+        }
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+        boolean drawBackground = ChartLayer.isDrawn(g2, ChartLayer.BACKGROUND);
+        boolean drawAnnotations = ChartLayer.isDrawn(g2,
+                ChartLayer.ANNOTATIONS);
+        boolean drawAxes = ChartLayer.isDrawn(g2, ChartLayer.AXES);
+        if (drawBackground) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null,
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
-        // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, info);
+        // draw the plot background and axes (the axis states are required
+        // for the gridlines, so the axes are drawn to a clipped copy of the
+        // target if they are not in the selected layer and no earlier layer
+        // has recorded the states)...
+        if (drawBackground) {
+            drawBackground(g2, dataArea);
+        }
+        Map<Axis, AxisState> axisStateMap = layout != null
+                ? layout.getAxisStates() : null;
+        if (drawAxes) {
+            axisStateMap = drawAxes(g2, area, dataArea, info);
+        } else if (axisStateMap == null) {
+            Graphics2D axisG2 = (Graphics2D) g2.create();
+            axisG2.clip(new Rectangle());
+            axisStateMap = drawAxes(axisG2, area, dataArea, null);
+            axisG2.dispose();
+        }
+        if (layout != null) {
+            layout.setAxisStates(axisStateMap);
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -2943,17 +2978,17 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         .get(getRangeAxis());
             }
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && drawBackground) {
             drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && drawBackground) {
             drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && drawBackground) {
             drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
             drawZeroDomainBaseline(g2, dataArea);
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && drawBackground) {
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
@@ -2971,13 +3006,15 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
 
         // draw the markers that are associated with a specific dataset...
-        for (XYDataset<S> dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawDomainMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
-        }
-        for (XYDataset<S> dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+        if (drawBackground) {
+            for (XYDataset<S> dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawDomainMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+            }
+            for (XYDataset<S> dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+            }
         }
 
         // now draw annotations and render data items...
@@ -2989,7 +3026,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         // draw background annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && drawBackground) {
                 ValueAxis domainAxis = getDomainAxisForDataset(i);
                 ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -2999,14 +3036,19 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
         // render data items...
         for (int datasetIndex : datasetIndices) {
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+            if (ChartLayer.isDatasetDrawn(g2, datasetIndex)) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
+            } else {
+                foundData = foundData || !DatasetUtils.isEmptyOrNull(
+                        getDataset(datasetIndex));
+            }
         }
 
         // draw foreground annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && drawAnnotations) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -3029,7 +3071,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             crosshairState.setCrosshairX(xx);
         }
         setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
-        if (isDomainCrosshairVisible()) {
+        if (isDomainCrosshairVisible() && drawAnnotations) {
             double x = getDomainCrosshairValue();
             Paint paint = getDomainCrosshairPaint();
             Stroke stroke = getDomainCrosshairStroke();
@@ -3049,25 +3091,25 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             crosshairState.setCrosshairY(yy);
         }
         setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (isRangeCrosshairVisible() && drawAnnotations) {
             double y = getRangeCrosshairValue();
             Paint paint = getRangeCrosshairPaint();
             Stroke stroke = getRangeCrosshairStroke();
             drawRangeCrosshair(g2, dataArea, orient, y, yAxis, stroke, paint);
         }
 
-        if (!foundData) {
-            drawNoDataMessage(g2, dataArea);
-        }
-
-        for (int i : rendererIndices) { 
-            drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i : rendererIndices) {
-            drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+        if (drawAnnotations) {
+            if (!foundData) {
+                drawNoDataMessage(g2, dataArea);
+            }
+            for (int i : rendererIndices) {
+                drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i : rendererIndices) {
+                drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            drawAnnotations(g2, dataArea, info);
         }
-
-        drawAnnotations(g2, dataArea, info);
         if (this.shadowGenerator != null && !suppressShadow) {
             BufferedImage shadowImage
                     = this.shadowGenerator.createDropShadow(dataImage);
@@ -3082,10 +3124,26 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         g2.setClip(originalClip);
         g2.setComposite(originalComposite);
 
-        drawOutline(g2, dataArea);
+        if (drawAxes) {
+            drawOutline(g2, dataArea);
+        }
 
     }
 
+    /**
+     * Returns the indices of the datasets in the order that they are
+     * rendered.  This plot can draw selected layers, see
+     * {@link ChartLayer}.
+     *
+     * @return The dataset indices (never {@code null}).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public List<Integer> getLayerDatasetIndices() {
+        return getDatasetIndices(getDatasetRenderingOrder());
+    }
+
     /**
      * Returns the indices of the non-null datasets in the specified order.
      * 
@@ -3429,6 +3487,15 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 }
             }
 
+            if (dataset instanceof ViewportAware) {
+                // let the dataset limit the items to the visible range and
+                // the number of pixels available
+                double pixels = this.orientation == PlotOrientation.VERTICAL
+                        ? dataArea.getWidth() : dataArea.getHeight();
+                ((ViewportAware) dataset).setViewport(xAxis.getRange(),
+                        Math.max(1, (int) Math.ceil(pixels)));
+            }
+
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
@@ -3453,7 +3520,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
+                        for (int item = firstItem; item <= lastItem;
+                                item = state.getNextItemIndex(item)) {
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3479,7 +3547,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
+                        for (int item = firstItem; item <= lastItem;
+                                item = state.getNextItemIndex(item)) {
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -4212,6 +4281,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      * @param event  information about the event (not used here).
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void datasetChanged(DatasetChangeEvent event) {
         configureDomainAxes();
         configureRangeAxes();
@@ -4221,6 +4291,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            if (event.getDataset() instanceof XYDataset) {
+                e.setDatasetIndex(indexOf((XYDataset<S>) event.getDataset()));
+            }
             notifyListeners(e);
         }
     }
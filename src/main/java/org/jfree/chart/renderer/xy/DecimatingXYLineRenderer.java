@@ -0,0 +1,467 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYMinMaxPyramid;
+
+/**
+ * A line renderer for very large series that draws, for each pixel column
+ * of the data area, only the first, last, lowest and highest items in that
+ * column.  The resulting line is visually identical to the line through all
+ * of the items, but the number of items passed to
+ * {@link #drawItem(Graphics2D, XYItemRendererState, Rectangle2D,
+ * PlotRenderingInfo, XYPlot, ValueAxis, ValueAxis, XYDataset, int, int,
+ * org.jfree.chart.plot.CrosshairState, int) drawItem()} is bounded by the
+ * width of the data area rather than the number of items in the series.
+ * <p>
+ * The lowest and highest items in each column are found using an
+ * {@link XYMinMaxPyramid} that the renderer maintains for each series, so
+ * the cost of drawing a series is O(pixels * log n).  The renderer listens
+ * for changes to the datasets that it has indexed and, since a change event
+ * does not say which items changed, rebuilds the index for a dataset the
+ * next time it is drawn after a change.  Decimation is only
+ * applied to datasets whose x-values are in ascending order (see
+ * {@link XYDataset#getDomainOrder()}); other datasets are drawn in full.
+ * <p>
+ * Each series is drawn as a single path (see
+ * {@link #setDrawSeriesLineAsPath(boolean)}) and, by default, shapes are
+ * not drawn.
+ */
+public class DecimatingXYLineRenderer extends XYLineAndShapeRenderer {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The min/max indices for the series that have been drawn. */
+    private transient List<XYMinMaxPyramid> pyramids;
+
+    /** The listener registered with the datasets that have been indexed. */
+    private transient DatasetChangeListener datasetListener;
+
+    /**
+     * Creates a new renderer.
+     */
+    public DecimatingXYLineRenderer() {
+        super(true, false);
+        setDrawSeriesLineAsPath(true);
+        this.pyramids = new ArrayList<>();
+        this.datasetListener = this::datasetChanged;
+    }
+
+    /**
+     * Returns the min/max index for a series, creating it if necessary, and
+     * brings it up to date with the dataset.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return The index.
+     */
+    protected XYMinMaxPyramid getPyramid(XYDataset dataset, int series) {
+        XYMinMaxPyramid result = null;
+        synchronized (this.pyramids) {
+            for (XYMinMaxPyramid p : this.pyramids) {
+                if (p.getDataset() == dataset && p.getSeries() == series) {
+                    result = p;
+                    break;
+                }
+            }
+            if (result == null) {
+                if (!isIndexed(dataset)) {
+                    dataset.addChangeListener(this.datasetListener);
+                }
+                result = new XYMinMaxPyramid(dataset, series);
+                this.pyramids.add(result);
+            }
+        }
+        result.update();
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the renderer holds an index for any series in
+     * the specified dataset.  The caller must hold the lock on
+     * {@code pyramids}.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return A boolean.
+     */
+    private boolean isIndexed(XYDataset<?> dataset) {
+        for (XYMinMaxPyramid p : this.pyramids) {
+            if (p.getDataset() == dataset) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Receives notification of a change to a dataset that has been indexed,
+     * and discards the indices for that dataset (they are rebuilt when the
+     * dataset is next drawn).
+     *
+     * @param event  the event.
+     */
+    private void datasetChanged(DatasetChangeEvent event) {
+        synchronized (this.pyramids) {
+            for (XYMinMaxPyramid p : this.pyramids) {
+                if (p.getDataset() == event.getDataset()) {
+                    p.invalidate();
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the min/max indices held by the renderer, and stops listening
+     * for changes to the indexed datasets.
+     */
+    public void clearIndices() {
+        synchronized (this.pyramids) {
+            for (XYMinMaxPyramid p : this.pyramids) {
+                p.getDataset().removeChangeListener(this.datasetListener);
+            }
+            this.pyramids.clear();
+        }
+    }
+
+    /**
+     * Initialises the renderer.  Indices held for datasets that no longer
+     * belong to the plot are discarded.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param data  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+        synchronized (this.pyramids) {
+            Iterator<XYMinMaxPyramid> iterator = this.pyramids.iterator();
+            while (iterator.hasNext()) {
+                XYDataset<?> dataset = iterator.next().getDataset();
+                if (indexOf(plot, dataset) < 0) {
+                    iterator.remove();
+                    if (!isIndexed(dataset)) {
+                        dataset.removeChangeListener(this.datasetListener);
+                    }
+                }
+            }
+        }
+        ValueAxis domainAxis = plot.getDomainAxisForDataset(
+                Math.max(indexOf(plot, data), 0));
+        return new State(info, this, dataArea, plot, domainAxis);
+    }
+
+    /**
+     * Returns the index of a dataset in a plot.
+     *
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     *
+     * @return The dataset index, or {@code -1} if the dataset does not
+     *     belong to the plot.
+     */
+    @SuppressWarnings("unchecked")
+    private static int indexOf(XYPlot plot, XYDataset dataset) {
+        // the renderer API uses raw types, the dataset is only compared
+        return plot.indexOf(dataset);
+    }
+
+    /**
+     * The state for a {@link DecimatingXYLineRenderer}.  At the start of each
+     * series pass the state selects the items that will be drawn.
+     */
+    public static class State extends XYLineAndShapeRenderer.State {
+
+        /** The renderer. */
+        private final DecimatingXYLineRenderer renderer;
+
+        /** The data area. */
+        private final Rectangle2D dataArea;
+
+        /** The plot. */
+        private final XYPlot plot;
+
+        /** The domain axis. */
+        private final ValueAxis domainAxis;
+
+        /** The selected item indices (in ascending order). */
+        private int[] selection;
+
+        /** The number of selected items ({@code -1} for no selection). */
+        private int selectionCount;
+
+        /** The position of the current item in the selection. */
+        private int cursor;
+
+        /** Working storage for the min/max query. */
+        private final int[] minMax;
+
+        /** Working storage for the items in one column. */
+        private final int[] column;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         * @param renderer  the renderer.
+         * @param dataArea  the data area.
+         * @param plot  the plot.
+         * @param domainAxis  the domain axis.
+         */
+        public State(PlotRenderingInfo info,
+                DecimatingXYLineRenderer renderer, Rectangle2D dataArea,
+                XYPlot plot, ValueAxis domainAxis) {
+            super(info);
+            this.renderer = renderer;
+            this.dataArea = dataArea;
+            this.plot = plot;
+            this.domainAxis = domainAxis;
+            this.selection = new int[0];
+            this.selectionCount = -1;
+            this.minMax = new int[2];
+            this.column = new int[4];
+        }
+
+        /**
+         * Returns the number of items selected for the current series pass,
+         * or {@code -1} if all items are being drawn.
+         *
+         * @return The selected item count.
+         */
+        public int getSelectedItemCount() {
+            return this.selectionCount;
+        }
+
+        /**
+         * Selects the items to draw for the series.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param firstItem  the first item index for this pass.
+         * @param lastItem  the last item index for this pass.
+         * @param pass  the current pass index.
+         * @param passCount  the number of passes.
+         */
+        @Override
+        public void startSeriesPass(XYDataset dataset, int series,
+                int firstItem, int lastItem, int pass, int passCount) {
+            super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                    passCount);
+            this.selectionCount = -1;
+            this.cursor = 0;
+            boolean vertical
+                    = this.plot.getOrientation() == PlotOrientation.VERTICAL;
+            double j2dLow = vertical ? this.dataArea.getMinX()
+                    : this.dataArea.getMinY();
+            double j2dHigh = vertical ? this.dataArea.getMaxX()
+                    : this.dataArea.getMaxY();
+            int columns = (int) Math.ceil(j2dHigh - j2dLow);
+            if (this.domainAxis == null || lastItem - firstItem < 4 * columns
+                    || !this.renderer.getDrawSeriesLineAsPath()) {
+                return;
+            }
+            XYMinMaxPyramid pyramid = this.renderer.getPyramid(dataset, 
+                    series);
+            if (!pyramid.isSupported()) {
+                return;
+            }
+            if (this.selection.length < 4 * columns + 8) {
+                this.selection = new int[4 * columns + 8];
+            }
+            this.selectionCount = 0;
+            addItem(firstItem);
+            RectangleEdge edge = this.plot.getDomainAxisEdge();
+            boolean ascending = this.domainAxis.java2DToValue(j2dLow,
+                    this.dataArea, edge) <= this.domainAxis.java2DToValue(
+                    j2dHigh, this.dataArea, edge);
+            int start = firstItem + 1;
+            for (int c = 1; c <= columns && start < lastItem; c++) {
+                double j2d = ascending ? j2dLow + c : j2dHigh - c;
+                double boundary = this.domainAxis.java2DToValue(j2d,
+                        this.dataArea, edge);
+                int end = Math.min(pyramid.findFirstItem(boundary),
+                        lastItem) - 1;
+                if (end >= start) {
+                    addColumn(pyramid, start, end);
+                    start = end + 1;
+                }
+            }
+            if (start < lastItem) {
+                addColumn(pyramid, start, lastItem - 1);
+            }
+            addItem(lastItem);
+        }
+
+        /**
+         * Adds the first, last, lowest and highest items in a range of items
+         * (one column) to the selection.
+         *
+         * @param pyramid  the min/max index.
+         * @param start  the first item in the column.
+         * @param end  the last item in the column.
+         */
+        private void addColumn(XYMinMaxPyramid pyramid, int start, int end) {
+            if (end - start < 4) {
+                for (int i = start; i <= end; i++) {
+                    addItem(i);
+                }
+                return;
+            }
+            pyramid.findMinMax(start, end, this.minMax);
+            this.column[0] = start;
+            this.column[1] = this.minMax[0];
+            this.column[2] = this.minMax[1];
+            this.column[3] = end;
+            Arrays.sort(this.column);
+            for (int item : this.column) {
+                addItem(item);
+            }
+        }
+
+        /**
+         * Adds an item to the selection, ignoring items that are not after
+         * the last selected item (including {@code -1}).
+         *
+         * @param item  the item index.
+         */
+        private void addItem(int item) {
+            if (this.selectionCount > 0
+                    && item <= this.selection[this.selectionCount - 1]) {
+                return;
+            }
+            if (item < 0) {
+                return;
+            }
+            if (this.selectionCount == this.selection.length) {
+                this.selection = Arrays.copyOf(this.selection,
+                        this.selection.length * 2);
+            }
+            this.selection[this.selectionCount++] = item;
+        }
+
+        /**
+         * Returns the index of the next selected item.
+         *
+         * @param item  the index of the item that has just been drawn.
+         *
+         * @return The index of the next item to draw.
+         */
+        @Override
+        public int getNextItemIndex(int item) {
+            if (this.selectionCount < 0) {
+                return item + 1;
+            }
+            while (this.cursor < this.selectionCount
+                    && this.selection[this.cursor] <= item) {
+                this.cursor++;
+            }
+            if (this.cursor < this.selectionCount) {
+                return this.selection[this.cursor];
+            }
+            return Integer.MAX_VALUE;
+        }
+
+    }
+
+    /**
+     * Returns a clone of the renderer.  The clone does not share the min/max
+     * indices of this renderer.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the clone cannot be created.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DecimatingXYLineRenderer clone
+                = (DecimatingXYLineRenderer) super.clone();
+        clone.pyramids = new ArrayList<>();
+        clone.datasetListener = clone::datasetChanged;
+        return clone;
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return {@code true} or {@code false}.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DecimatingXYLineRenderer)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.pyramids = new ArrayList<>();
+        this.datasetListener = this::datasetChanged;
+    }
+
+}
@@ -38,9 +38,14 @@ package org.jfree.chart.renderer.xy;
 
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
 
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -55,6 +60,7 @@ import org.jfree.chart.internal.Args;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.general.HeatMapUtils;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYZDataset;
 
@@ -70,6 +76,34 @@ import org.jfree.data.xy.XYZDataset;
 public class XYBlockRenderer extends AbstractXYItemRenderer
         implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
 
+    /**
+     * A state object used by this renderer.
+     */
+    static class XYBlockRendererState extends XYItemRendererState {
+
+        /**
+         * The index of the series that has been drawn as an image in the
+         * current pass (or -1).
+         */
+        int rasterSeries = -1;
+
+        /**
+         * Creates a new state.
+         *
+         * @param info  the plot rendering info.
+         */
+        XYBlockRendererState(PlotRenderingInfo info) {
+            super(info);
+        }
+
+    }
+
+    /** The number of entries in the colour lookup table for raster mode. */
+    private static final int RASTER_LOOKUP_SIZE = 1024;
+
+    /** The maximum number of grid cells for a series in raster mode. */
+    private static final long MAX_RASTER_CELLS = 1L << 26;
+
     /**
      * The block width (defaults to 1.0).
      */
@@ -104,6 +138,12 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
      */
     private boolean useOutlinePaint;
 
+    /**
+     * A flag that controls whether each series is drawn as a single image
+     * (rather than one block per item).
+     */
+    private boolean rasterized;
+
     /**
      * Creates a new {@code XYBlockRenderer} instance with default
      * attributes.
@@ -281,6 +321,43 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether each series is drawn as a
+     * single image.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterized(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isRasterized() {
+        return this.rasterized;
+    }
+
+    /**
+     * Sets the flag that controls whether each series is drawn as a single
+     * image and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  This mode is intended for an {@link XYZDataset} that
+     * holds a regular grid of (x, y) values, with a spacing equal to the
+     * block width and height:  the z-values are written into an image with
+     * one pixel per grid cell (via a colour lookup table created from the
+     * paint scale) and the image is drawn once, scaled to the data area.
+     * No outlines, item labels or entities are drawn in this mode.  If
+     * either axis is not a {@link NumberAxis} (with a linear scale) or the
+     * grid is too large, the blocks are drawn individually.
+     *
+     * @param rasterized  the new flag value.
+     *
+     * @see #isRasterized()
+     *
+     * @since 2.0.0
+     */
+    public void setRasterized(boolean rasterized) {
+        this.rasterized = rasterized;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -376,6 +453,25 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Initialises the renderer and returns a state object that should be
+     * passed to all subsequent calls to the drawItem() method.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return A state object for use by the renderer.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        return new XYBlockRendererState(info);
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -398,6 +494,17 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        if (this.rasterized && state instanceof XYBlockRendererState) {
+            XYBlockRendererState blockState = (XYBlockRendererState) state;
+            if (item == state.getFirstItemIndex()) {
+                blockState.rasterSeries = drawSeriesImage(g2, dataArea, plot,
+                        domainAxis, rangeAxis, dataset, series) ? series : -1;
+            }
+            if (blockState.rasterSeries == series) {
+                return;
+            }
+        }
+
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
         double z = 0.0;
@@ -457,6 +564,117 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws all the items in a series as a single image, with one pixel per
+     * grid cell.  Returns {@code false}, without drawing anything, if the
+     * series cannot be drawn this way.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    private boolean drawSeriesImage(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+            XYDataset dataset, int series) {
+
+        if (!(dataset instanceof XYZDataset)
+                || domainAxis.getClass() != NumberAxis.class
+                || rangeAxis.getClass() != NumberAxis.class) {
+            return false;
+        }
+        XYZDataset xyz = (XYZDataset) dataset;
+        int itemCount = xyz.getItemCount(series);
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int item = 0; item < itemCount; item++) {
+            double x = xyz.getXValue(series, item);
+            double y = xyz.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        if (minX > maxX) {
+            return true;  // nothing to draw
+        }
+        long cols = Math.round((maxX - minX) / this.blockWidth) + 1;
+        long rows = Math.round((maxY - minY) / this.blockHeight) + 1;
+        if (cols * rows > MAX_RASTER_CELLS) {
+            return false;
+        }
+        int w = (int) cols;
+        int h = (int) rows;
+
+        // fill the image, one pixel per grid cell (top row = highest y)
+        int[] lookup = HeatMapUtils.createColorLookup(this.paintScale,
+                RASTER_LOOKUP_SIZE);
+        double lower = this.paintScale.getLowerBound();
+        double factor = (RASTER_LOOKUP_SIZE - 1)
+                / (this.paintScale.getUpperBound() - lower);
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        for (int item = 0; item < itemCount; item++) {
+            double x = xyz.getXValue(series, item);
+            double y = xyz.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            int c = (int) Math.round((x - minX) / this.blockWidth);
+            int r = h - 1 - (int) Math.round((y - minY) / this.blockHeight);
+            pixels[r * w + c] = HeatMapUtils.lookupColor(lookup,
+                    xyz.getZValue(series, item), lower, factor);
+        }
+
+        // map image space to Java2D space (both axes are linear)
+        double xLower = domainAxis.getLowerBound();
+        double x0 = domainAxis.valueToJava2D(xLower, dataArea,
+                plot.getDomainAxisEdge());
+        double xScale = (domainAxis.valueToJava2D(domainAxis.getUpperBound(),
+                dataArea, plot.getDomainAxisEdge()) - x0)
+                / domainAxis.getRange().getLength();
+        double yLower = rangeAxis.getLowerBound();
+        double y0 = rangeAxis.valueToJava2D(yLower, dataArea,
+                plot.getRangeAxisEdge());
+        double yScale = (rangeAxis.valueToJava2D(rangeAxis.getUpperBound(),
+                dataArea, plot.getRangeAxisEdge()) - y0)
+                / rangeAxis.getRange().getLength();
+        double gridLeft = x0 + xScale * (minX + this.xOffset - xLower);
+        double gridTop = y0 + yScale * (minY + this.yOffset
+                + h * this.blockHeight - yLower);
+        double cellWidth = xScale * this.blockWidth;
+        double cellHeight = -yScale * this.blockHeight;
+        AffineTransform t;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            t = new AffineTransform(0.0, cellWidth, cellHeight, 0.0, gridTop,
+                    gridLeft);
+        } else {
+            t = new AffineTransform(cellWidth, 0.0, 0.0, cellHeight, gridLeft,
+                    gridTop);
+        }
+        Object savedHint = g2.getRenderingHint(
+                RenderingHints.KEY_INTERPOLATION);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(image, t, null);
+        if (savedHint != null) {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, savedHint);
+        }
+        return true;
+    }
+
     /**
      * Tests this {@code XYBlockRenderer} for equality with an arbitrary
      * object.  This method returns {@code true} if and only if:
@@ -498,6 +716,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.rasterized != that.rasterized) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -173,6 +173,22 @@ public class XYItemRendererState extends RendererState {
         this.lastItemIndex = lastItem;
     }
 
+    /**
+     * Returns the index of the next item in the current series pass that the
+     * {@link XYPlot} should pass to the renderer.  The default implementation
+     * returns {@code item + 1} so that every item between the first and last
+     * item indices is drawn, but renderers that reduce the number of items
+     * drawn can override this method to skip items.  Any value greater than
+     * the last item index ends the pass.
+     *
+     * @param item  the index of the item that has just been drawn.
+     *
+     * @return The index of the next item to draw.
+     */
+    public int getNextItemIndex(int item) {
+        return item + 1;
+    }
+
     /**
      * This method is called by the {@link XYPlot} when it ends a pass
      * through the (visible) items in a series.  The default implementation
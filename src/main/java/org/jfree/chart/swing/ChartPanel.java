@@ -91,6 +91,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -105,23 +106,32 @@ import javax.swing.SwingUtilities;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.ChartLayerLayout;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.ChartTransferable;
 import org.jfree.chart.ChartUtils;
 import org.jfree.chart.JFreeChart;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.swing.editor.ChartEditor;
 import org.jfree.chart.swing.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.SpatialEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.internal.Args;
 
@@ -285,6 +295,28 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     protected int chartBufferWidth;
 
+    /**
+     * A flag that controls whether the off-screen buffer is drawn in layers
+     * (see {@link ChartLayer}), so that a change to one dataset only redraws
+     * the layer for that dataset.
+     */
+    private boolean layeredBufferEnabled;
+
+    /** The layer buffers, in drawing order ({@code null} if not used). */
+    private transient Map<Object, LayerBuffer> layerBuffers;
+
+    /**
+     * A flag that indicates that a dataset change may have changed the axis
+     * ranges or the legend, and so all the layers may need redrawing.
+     */
+    private transient boolean checkLayerLayout;
+
+    /** The axis ranges and legend items when the layers were last drawn. */
+    private transient List<Object> layerLayoutKey;
+
+    /** The data area when the layers were last drawn. */
+    private transient Rectangle2D layerDataArea;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -593,7 +625,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         setChart(chart);
         this.chartMouseListeners = new EventListenerList();
-        this.info = new ChartRenderingInfo();
+        // the spatial index keeps tooltip and mouse-over lookups fast for
+        // charts with a large number of entities
+        this.info = new ChartRenderingInfo(new SpatialEntityCollection());
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
@@ -673,6 +707,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         if (this.useBuffer) {
             this.refreshBuffer = true;
         }
+        this.layerBuffers = null;
         repaint();
 
     }
@@ -1391,6 +1426,43 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether the off-screen buffer is drawn
+     * in layers.  The default is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isLayeredBufferEnabled() {
+        return this.layeredBufferEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the off-screen buffer is drawn in
+     * layers.  When set (and the buffer is used), the background, the data
+     * for each dataset, the annotations and the axes (with the titles) are
+     * each drawn to a separate image and then composited.  A dataset change
+     * then redraws just that dataset's layer and the annotations layer,
+     * unless it changes the axis ranges, the legend or the layout.  This is
+     * useful for live charts, at the cost of more memory.  The flag only has
+     * an effect for plots that support layered drawing, see
+     * {@link Plot#getLayerDatasetIndices()}.
+     * <p>
+     * Note that crosshairs that are locked on the data are updated from the
+     * layers that are redrawn only.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setLayeredBufferEnabled(boolean enabled) {
+        this.layeredBufferEnabled = enabled;
+        this.layerBuffers = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1476,35 +1548,18 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
                 this.refreshBuffer = false; // clear the flag
 
-                // scale graphics of the buffer to the same value as global
-                // Swing graphics - this allow to paint all elements as usual
-                // but applies all necessary smoothing
-                Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
-                bufferG2.scale(globalScaleX, globalScaleY);
-
-                Rectangle2D bufferArea = new Rectangle2D.Double(
-                        0, 0, available.getWidth(), available.getHeight());
-
-                // make the background of the buffer clear and transparent
-                Composite savedComposite = bufferG2.getComposite();
-                bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
-                Rectangle r = new Rectangle(0, 0, (int) available.getWidth(), (int) available.getHeight());
-                bufferG2.fill(r);
-                bufferG2.setComposite(savedComposite);
-                
-                if (scale) {
-                    AffineTransform saved = bufferG2.getTransform();
-                    AffineTransform st = AffineTransform.getScaleInstance(
-                            this.scaleX, this.scaleY);
-                    bufferG2.transform(st);
-                    this.chart.draw(bufferG2, chartArea, this.anchor,
-                            this.info);
-                    bufferG2.setTransform(saved);
+                List<Integer> datasetIndices = this.layeredBufferEnabled
+                        ? this.chart.getPlot().getLayerDatasetIndices() : null;
+                if (datasetIndices != null) {
+                    refreshLayers(g2.getDeviceConfiguration(), datasetIndices,
+                            available, chartArea, scale, globalScaleX,
+                            globalScaleY);
                 } else {
-                    this.chart.draw(bufferG2, bufferArea, this.anchor,
-                            this.info);
+                    this.layerBuffers = null;
+                    drawChartToBuffer(this.chartBuffer, available, chartArea,
+                            scale, globalScaleX, globalScaleY, null, -1,
+                            null);
                 }
-                bufferG2.dispose();
             }
 
             // zap the buffer onto the panel...
@@ -1538,6 +1593,264 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.anchor = null;
     }
 
+    /**
+     * Draws the chart (or one layer of the chart) to a buffer image.
+     *
+     * @param buffer  the buffer.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area, if the chart is scaled.
+     * @param scale  is the chart scaled?
+     * @param globalScaleX  the x-scale of the panel's graphics.
+     * @param globalScaleY  the y-scale of the panel's graphics.
+     * @param layer  the layer to draw ({@code null} for the whole chart).
+     * @param datasetIndex  the dataset index (for the data layer).
+     * @param layout  the layout shared by the layers ({@code null} for the
+     *     whole chart).
+     */
+    private void drawChartToBuffer(Image buffer, Rectangle2D available,
+            Rectangle2D chartArea, boolean scale, double globalScaleX,
+            double globalScaleY, ChartLayer layer, int datasetIndex,
+            ChartLayerLayout layout) {
+
+        // scale graphics of the buffer to the same value as global
+        // Swing graphics - this allow to paint all elements as usual
+        // but applies all necessary smoothing
+        Graphics2D bufferG2 = (Graphics2D) buffer.getGraphics();
+        bufferG2.scale(globalScaleX, globalScaleY);
+        if (layer != null) {
+            bufferG2.setRenderingHint(JFreeChart.KEY_LAYER, layer);
+            bufferG2.setRenderingHint(JFreeChart.KEY_LAYER_DATASET_INDEX,
+                    datasetIndex);
+        }
+        if (layout != null) {
+            bufferG2.setRenderingHint(JFreeChart.KEY_LAYER_LAYOUT, layout);
+        }
+
+        Rectangle2D bufferArea = new Rectangle2D.Double(
+                0, 0, available.getWidth(), available.getHeight());
+
+        // make the background of the buffer clear and transparent
+        Composite savedComposite = bufferG2.getComposite();
+        bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
+        Rectangle r = new Rectangle(0, 0, (int) available.getWidth(), (int) available.getHeight());
+        bufferG2.fill(r);
+        bufferG2.setComposite(savedComposite);
+
+        if (scale) {
+            AffineTransform saved = bufferG2.getTransform();
+            AffineTransform st = AffineTransform.getScaleInstance(
+                    this.scaleX, this.scaleY);
+            bufferG2.transform(st);
+            this.chart.draw(bufferG2, chartArea, this.anchor,
+                    this.info);
+            bufferG2.setTransform(saved);
+        } else {
+            this.chart.draw(bufferG2, bufferArea, this.anchor,
+                    this.info);
+        }
+        bufferG2.dispose();
+    }
+
+    /**
+     * Redraws the layers that are out of date and composites all the layers
+     * into the chart buffer.
+     *
+     * @param gc  the graphics configuration (used to create the layer
+     *     images).
+     * @param datasetIndices  the dataset indices in rendering order.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area, if the chart is scaled.
+     * @param scale  is the chart scaled?
+     * @param globalScaleX  the x-scale of the panel's graphics.
+     * @param globalScaleY  the y-scale of the panel's graphics.
+     */
+    private void refreshLayers(GraphicsConfiguration gc,
+            List<Integer> datasetIndices, Rectangle2D available,
+            Rectangle2D chartArea, boolean scale, double globalScaleX,
+            double globalScaleY) {
+
+        // work out the layers in drawing order, reusing the existing images
+        List<Object> keys = new ArrayList<>();
+        keys.add(ChartLayer.BACKGROUND);
+        keys.addAll(datasetIndices);
+        keys.add(ChartLayer.ANNOTATIONS);
+        keys.add(ChartLayer.AXES);
+        Map<Object, LayerBuffer> layers = new LinkedHashMap<>();
+        for (Object key : keys) {
+            LayerBuffer layer = this.layerBuffers != null
+                    ? this.layerBuffers.get(key) : null;
+            if (layer == null
+                    || layer.image.getWidth(null) != this.chartBufferWidth
+                    || layer.image.getHeight(null) != this.chartBufferHeight) {
+                layer = new LayerBuffer(gc.createCompatibleImage(
+                        this.chartBufferWidth, this.chartBufferHeight,
+                        Transparency.TRANSLUCENT));
+            }
+            layers.put(key, layer);
+        }
+        this.layerBuffers = layers;
+
+        // a dataset change can also change the axis ranges or the legend
+        List<Object> layoutKey = createLayerLayoutKey();
+        if (this.checkLayerLayout && !layoutKey.equals(this.layerLayoutKey)) {
+            invalidateLayers();
+        }
+        this.checkLayerLayout = false;
+        this.layerLayoutKey = layoutKey;
+
+        // a refresh without a change event redraws everything
+        boolean all = true;
+        boolean any = false;
+        for (LayerBuffer layer : layers.values()) {
+            all = all && layer.dirty;
+            any = any || layer.dirty;
+        }
+        if (!any) {
+            invalidateLayers();
+            all = true;
+        }
+        // the first layer drawn calculates the layout, the others reuse it
+        ChartLayerLayout layout = new ChartLayerLayout();
+        drawLayers(available, chartArea, scale, globalScaleX, globalScaleY,
+                layout);
+
+        // if the layout moved (for example a title became longer), the other
+        // layers no longer line up
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        if (!all && !dataArea.equals(this.layerDataArea)) {
+            invalidateLayers();
+            drawLayers(available, chartArea, scale, globalScaleX,
+                    globalScaleY, layout);
+        }
+        this.layerDataArea = (Rectangle2D) dataArea.clone();
+
+        // the entities are collected per layer
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities != null) {
+            entities.clear();
+            for (LayerBuffer layer : layers.values()) {
+                for (ChartEntity entity : layer.entities) {
+                    entities.add(entity);
+                }
+            }
+        }
+
+        Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
+        bufferG2.setComposite(AlphaComposite.Clear);
+        bufferG2.fillRect(0, 0, this.chartBufferWidth, this.chartBufferHeight);
+        bufferG2.setComposite(AlphaComposite.SrcOver);
+        for (LayerBuffer layer : layers.values()) {
+            bufferG2.drawImage(layer.image, 0, 0, null);
+        }
+        bufferG2.dispose();
+    }
+
+    /**
+     * Draws the layers that are out of date.
+     *
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area, if the chart is scaled.
+     * @param scale  is the chart scaled?
+     * @param globalScaleX  the x-scale of the panel's graphics.
+     * @param globalScaleY  the y-scale of the panel's graphics.
+     * @param layout  the layout shared by the layers.
+     */
+    private void drawLayers(Rectangle2D available, Rectangle2D chartArea,
+            boolean scale, double globalScaleX, double globalScaleY,
+            ChartLayerLayout layout) {
+        for (Map.Entry<Object, LayerBuffer> entry
+                : this.layerBuffers.entrySet()) {
+            LayerBuffer layer = entry.getValue();
+            if (!layer.dirty) {
+                continue;
+            }
+            Object key = entry.getKey();
+            if (key instanceof Integer) {
+                drawChartToBuffer(layer.image, available, chartArea, scale,
+                        globalScaleX, globalScaleY, ChartLayer.DATA,
+                        (Integer) key, layout);
+            } else {
+                drawChartToBuffer(layer.image, available, chartArea, scale,
+                        globalScaleX, globalScaleY, (ChartLayer) key, -1,
+                        layout);
+            }
+            layer.entities.clear();
+            EntityCollection entities = this.info.getEntityCollection();
+            if (entities != null) {
+                layer.entities.addAll(entities.getEntities());
+            }
+            layer.dirty = false;
+        }
+    }
+
+    /**
+     * Marks all the layers as out of date.
+     */
+    private void invalidateLayers() {
+        for (LayerBuffer layer : this.layerBuffers.values()) {
+            layer.dirty = true;
+        }
+    }
+
+    /**
+     * Marks the layers that are affected by a chart change event as out of
+     * date.
+     *
+     * @param event  the event.
+     */
+    private void invalidateLayers(ChartChangeEvent event) {
+        if (event instanceof PlotChangeEvent
+                && event.getType() == ChartChangeEventType.DATASET_UPDATED
+                && ((PlotChangeEvent) event).getDatasetIndex() >= 0) {
+            LayerBuffer layer = this.layerBuffers.get(
+                    ((PlotChangeEvent) event).getDatasetIndex());
+            if (layer != null) {
+                layer.dirty = true;
+            }
+            this.layerBuffers.get(ChartLayer.ANNOTATIONS).dirty = true;
+            this.checkLayerLayout = true;
+        } else if (event instanceof TitleChangeEvent) {
+            this.layerBuffers.get(ChartLayer.AXES).dirty = true;
+        } else {
+            invalidateLayers();
+        }
+    }
+
+    /**
+     * Returns a list of the plot properties (other than the data) that the
+     * layers depend on:  the axis ranges, the categories and the legend
+     * items.
+     *
+     * @return The list.
+     */
+    private List<Object> createLayerLayoutKey() {
+        List<Object> result = new ArrayList<>();
+        Plot plot = this.chart.getPlot();
+        if (plot instanceof XYPlot) {
+            XYPlot<?> xyPlot = (XYPlot<?>) plot;
+            for (int i = 0; i < xyPlot.getDomainAxisCount(); i++) {
+                ValueAxis axis = xyPlot.getDomainAxis(i);
+                result.add(axis != null ? axis.getRange() : null);
+            }
+            for (int i = 0; i < xyPlot.getRangeAxisCount(); i++) {
+                ValueAxis axis = xyPlot.getRangeAxis(i);
+                result.add(axis != null ? axis.getRange() : null);
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot<?, ?> categoryPlot = (CategoryPlot<?, ?>) plot;
+            for (int i = 0; i < categoryPlot.getDomainAxisCount(); i++) {
+                result.add(categoryPlot.getCategoriesForAxis(
+                        categoryPlot.getDomainAxis(i)));
+            }
+            for (int i = 0; i < categoryPlot.getRangeAxisCount(); i++) {
+                ValueAxis axis = categoryPlot.getRangeAxis(i);
+                result.add(axis != null ? axis.getRange() : null);
+            }
+        }
+        result.add(plot.getLegendItems());
+        return result;
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
      *
@@ -1546,6 +1859,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     @Override
     public void chartChanged(ChartChangeEvent event) {
         this.refreshBuffer = true;
+        if (this.layerBuffers != null) {
+            invalidateLayers(event);
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -3075,5 +3391,26 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
     }
 
-}
+    /**
+     * An image for one layer of the chart, with the entities that were
+     * created when it was drawn.
+     */
+    private static final class LayerBuffer {
+
+        /** The image. */
+        final Image image;
+
+        /** The entities. */
+        final List<ChartEntity> entities;
 
+        /** A flag that indicates that the layer needs to be redrawn. */
+        boolean dirty;
+
+        LayerBuffer(Image image) {
+            this.image = image;
+            this.entities = new ArrayList<>();
+            this.dirty = true;
+        }
+    }
+
+}
@@ -0,0 +1,392 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextLayout;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A bounded, thread-safe, least-recently-used cache of text measurements
+ * (string bounds, line metrics and text layouts), keyed by the text, the
+ * font and the font render context.  Charts tend to measure the same
+ * strings (axis labels, legend items, item labels) on every repaint, and
+ * a server that renders many similar charts will measure the same strings
+ * over and over again.
+ * <P>
+ * The cache used by {@link TextUtils} can be obtained (or replaced) with
+ * {@link TextUtils#getTextMeasurementCache()}.  The hit and miss counts
+ * can be used to tune the maximum size.
+ *
+ * @since 2.0.0
+ */
+public class TextMeasurementCache {
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    /** The number of independently locked segments. */
+    private static final int SEGMENT_COUNT = 16;
+
+    /** Measurement kind: bounds from FontMetrics.getStringBounds(). */
+    private static final int STRING_BOUNDS = 0;
+
+    /** Measurement kind: bounds from FontMetrics.stringWidth(). */
+    private static final int STRING_WIDTH_BOUNDS = 1;
+
+    /** Measurement kind: line metrics. */
+    private static final int LINE_METRICS = 2;
+
+    /** Measurement kind: text layout. */
+    private static final int TEXT_LAYOUT = 3;
+
+    /**
+     * The key for a cached measurement.
+     */
+    private static final class Key {
+
+        /** The measurement kind. */
+        private final int kind;
+
+        /** The text. */
+        private final String text;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The font metrics class (or {@code null}). */
+        private final Class<?> metricsClass;
+
+        /** The precomputed hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param kind  the measurement kind.
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param metricsClass  the font metrics class ({@code null}
+         *     permitted).
+         */
+        Key(int kind, String text, Font font, FontRenderContext frc, 
+                Class<?> metricsClass) {
+            this.kind = kind;
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.metricsClass = metricsClass;
+            int h = kind;
+            h = 31 * h + text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + frc.hashCode();
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash && this.kind == that.kind
+                    && this.metricsClass == that.metricsClass
+                    && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /** The segments (each one is an LRU map guarded by its own lock). */
+    private final LinkedHashMap<Key, Object>[] segments;
+
+    /** The maximum number of entries in each segment. */
+    private volatile int segmentCapacity;
+
+    /** The number of lookups that found a cached measurement. */
+    private final LongAdder hitCount;
+
+    /** The number of lookups that did not find a cached measurement. */
+    private final LongAdder missCount;
+
+    /**
+     * Creates a new cache with the default maximum size.
+     */
+    public TextMeasurementCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize  the maximum number of entries (at least 1).
+     */
+    @SuppressWarnings("unchecked")
+    public TextMeasurementCache(int maximumSize) {
+        Args.requireInRange(maximumSize, "maximumSize", 1, Integer.MAX_VALUE);
+        this.segments = new LinkedHashMap[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            this.segments[i] = new LinkedHashMap<Key, Object>(16, 0.75f, 
+                    true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Key, Object> eldest) {
+                    return size() > segmentCapacity;
+                }
+            };
+        }
+        this.segmentCapacity = segmentCapacity(maximumSize);
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    /**
+     * Returns the capacity of each segment for the specified maximum size.
+     *
+     * @param maximumSize  the maximum size.
+     *
+     * @return The segment capacity.
+     */
+    private static int segmentCapacity(int maximumSize) {
+        return Math.max(1, maximumSize / SEGMENT_COUNT);
+    }
+
+    /**
+     * Returns the maximum number of entries in the cache.  This is the value
+     * passed to the constructor or {@link #setMaximumSize(int)}, rounded 
+     * down to a multiple of the number of segments (the cache is split into
+     * independently locked segments so that concurrent rendering threads 
+     * rarely contend).
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return this.segmentCapacity * SEGMENT_COUNT;
+    }
+
+    /**
+     * Sets the maximum number of entries in the cache and discards all the
+     * cached measurements.
+     *
+     * @param maximumSize  the maximum size (at least 1).
+     */
+    public void setMaximumSize(int maximumSize) {
+        Args.requireInRange(maximumSize, "maximumSize", 1, Integer.MAX_VALUE);
+        this.segmentCapacity = segmentCapacity(maximumSize);
+        clear();
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     *
+     * @return The number of entries.
+     */
+    public int getSize() {
+        int result = 0;
+        for (LinkedHashMap<Key, Object> segment : this.segments) {
+            synchronized (segment) {
+                result += segment.size();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached measurement.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached measurement.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Discards all cached measurements and resets the hit and miss counts.
+     */
+    public void clear() {
+        for (LinkedHashMap<Key, Object> segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        this.hitCount.reset();
+        this.missCount.reset();
+    }
+
+    /**
+     * Returns the bounds of the specified text, as calculated by
+     * {@link TextUtils#getTextBounds(String, Graphics2D, FontMetrics)}.
+     * The result is a new rectangle that the caller is free to modify.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param fm  the font metrics ({@code null} not permitted).
+     *
+     * @return The text bounds.
+     */
+    public Rectangle2D getTextBounds(String text, Graphics2D g2, 
+            FontMetrics fm) {
+        FontRenderContext frc = g2.getFontRenderContext();
+        if (!frc.equals(fm.getFontRenderContext())) {
+            // the metrics were not obtained from this graphics device, so 
+            // the key would not describe the measurement
+            return TextUtils.measureTextBounds(text, g2, fm);
+        }
+        int kind = TextUtils.getUseFontMetricsGetStringBounds() 
+                ? STRING_BOUNDS : STRING_WIDTH_BOUNDS;
+        Key key = new Key(kind, text, fm.getFont(), frc, fm.getClass());
+        Rectangle2D bounds = (Rectangle2D) lookup(key);
+        if (bounds == null) {
+            bounds = TextUtils.measureTextBounds(text, g2, fm);
+            store(key, bounds.getFrame());
+        }
+        return bounds.getFrame();
+    }
+
+    /**
+     * Returns the line metrics for the specified text, as calculated by
+     * {@link Font#getLineMetrics(String, FontRenderContext)}.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The line metrics.
+     */
+    public LineMetrics getLineMetrics(String text, Font font, 
+            FontRenderContext frc) {
+        Key key = new Key(LINE_METRICS, text, font, frc, null);
+        LineMetrics result = (LineMetrics) lookup(key);
+        if (result == null) {
+            result = font.getLineMetrics(text, frc);
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a text layout for the specified text (text layouts are 
+     * immutable, so the same instance can be drawn any number of times).
+     *
+     * @param text  the text ({@code null} not permitted, and not empty).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The text layout.
+     */
+    public TextLayout getTextLayout(String text, Font font, 
+            FontRenderContext frc) {
+        Key key = new Key(TEXT_LAYOUT, text, font, frc, null);
+        TextLayout result = (TextLayout) lookup(key);
+        if (result == null) {
+            result = new TextLayout(text, font, frc);
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the segment for the specified key.
+     *
+     * @param key  the key.
+     *
+     * @return The segment.
+     */
+    private LinkedHashMap<Key, Object> segmentFor(Key key) {
+        int h = key.hash;
+        return this.segments[(h ^ (h >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Returns the cached value for a key, updating the hit and miss counts.
+     *
+     * @param key  the key.
+     *
+     * @return The value (possibly {@code null}).
+     */
+    private Object lookup(Key key) {
+        LinkedHashMap<Key, Object> segment = segmentFor(key);
+        Object result;
+        synchronized (segment) {
+            result = segment.get(key);
+        }
+        if (result != null) {
+            this.hitCount.increment();
+        } else {
+            this.missCount.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Stores a value in the cache.  The measurement is made outside the lock
+     * so two threads may occasionally measure the same text, in which case
+     * the later value is kept.
+     *
+     * @param key  the key.
+     * @param value  the value.
+     */
+    private void store(Key key, Object value) {
+        LinkedHashMap<Key, Object> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+}
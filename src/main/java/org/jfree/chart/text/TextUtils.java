@@ -69,6 +69,13 @@ public class TextUtils {
      */
     private static boolean useFontMetricsGetStringBounds = false;
 
+    /**
+     * The cache used for text measurements ({@code null} if measurements
+     * are not cached).
+     */
+    private static volatile TextMeasurementCache measurementCache
+            = new TextMeasurementCache();
+
     /**
      * Private constructor prevents object creation.
      */
@@ -256,6 +263,25 @@ public class TextUtils {
      */
     public static Rectangle2D getTextBounds(String text, Graphics2D g2, 
             FontMetrics fm) {
+        TextMeasurementCache cache = measurementCache;
+        if (cache != null && text != null) {
+            return cache.getTextBounds(text, g2, fm);
+        }
+        return measureTextBounds(text, g2, fm);
+    }
+
+    /**
+     * Measures the bounds for the specified text, without using the 
+     * measurement cache.
+     *
+     * @param text  the text.
+     * @param g2  the graphics context (not {@code null}).
+     * @param fm  the font metrics (not {@code null}).
+     *
+     * @return The text bounds.
+     */
+    static Rectangle2D measureTextBounds(String text, Graphics2D g2, 
+            FontMetrics fm) {
 
         Rectangle2D bounds;
         if (TextUtils.useFontMetricsGetStringBounds) {
@@ -356,7 +382,7 @@ public class TextUtils {
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
         Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, f, frc);
         float ascent = metrics.getAscent();
         result[2] = -ascent;
         float halfAscent = ascent / 2.0f;
@@ -441,8 +467,15 @@ public class TextUtils {
 
         if (useDrawRotatedStringWorkaround) {
             // workaround for JDC bug ID 4312117 and others...
-            TextLayout tl = new TextLayout(text, g2.getFont(),
-                    g2.getFontRenderContext());
+            TextLayout tl;
+            TextMeasurementCache cache = measurementCache;
+            if (cache != null) {
+                tl = cache.getTextLayout(text, g2.getFont(),
+                        g2.getFontRenderContext());
+            } else {
+                tl = new TextLayout(text, g2.getFont(),
+                        g2.getFontRenderContext());
+            }
             tl.draw(g2, textX, textY);
         } else {
             if (!drawStringsWithFontAttributes) {
@@ -571,7 +604,7 @@ public class TextUtils {
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
         Rectangle2D bounds = getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, f, frc);
         float ascent = metrics.getAscent();
         float halfAscent = ascent / 2.0f;
         float descent = metrics.getDescent();
@@ -618,7 +651,7 @@ public class TextUtils {
 
         float[] result = new float[2];
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, g2.getFont(), frc);
         FontMetrics fm = g2.getFontMetrics();
         Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
         float ascent = metrics.getAscent();
@@ -687,6 +720,52 @@ public class TextUtils {
 
     }
 
+    /**
+     * Returns the line metrics for the specified text, using the measurement
+     * cache if there is one.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The line metrics.
+     *
+     * @since 2.0.0
+     */
+    public static LineMetrics getLineMetrics(String text, Font font, 
+            FontRenderContext frc) {
+        TextMeasurementCache cache = measurementCache;
+        if (cache != null) {
+            return cache.getLineMetrics(text, font, frc);
+        }
+        return font.getLineMetrics(text, frc);
+    }
+
+    /**
+     * Returns the cache used for text measurements.  By default a cache 
+     * with {@link TextMeasurementCache#DEFAULT_MAXIMUM_SIZE} entries is 
+     * shared by all charts.
+     *
+     * @return The cache (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public static TextMeasurementCache getTextMeasurementCache() {
+        return measurementCache;
+    }
+
+    /**
+     * Sets the cache used for text measurements.  If you set this to 
+     * {@code null}, every string is measured each time it is needed.
+     *
+     * @param cache  the cache ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public static void setTextMeasurementCache(TextMeasurementCache cache) {
+        measurementCache = cache;
+    }
+
     /**
      * Returns the flag that controls whether the FontMetrics.getStringBounds()
      * method is used or not.  If you are having trouble with label alignment
@@ -38,6 +38,7 @@ package org.jfree.data;
 
 import java.util.Arrays;
 import org.jfree.chart.internal.Args;
+import org.jfree.data.category.CategoryTotalsInfo;
 import org.jfree.data.general.DatasetUtils;
 
 /**
@@ -106,6 +107,9 @@ public abstract class DataUtils {
      */
     public static double calculateColumnTotal(Values2D data, int column) {
         Args.nullNotPermitted(data, "data");
+        if (data instanceof CategoryTotalsInfo) {
+            return ((CategoryTotalsInfo) data).getColumnTotal(column);
+        }
         double total = 0.0;
         int rowCount = data.getRowCount();
         for (int r = 0; r < rowCount; r++) {
@@ -130,6 +134,10 @@ public abstract class DataUtils {
     public static double calculateColumnTotal(Values2D data, int column,
              int[] validRows) {
         Args.nullNotPermitted(data, "data");
+        if (data instanceof CategoryTotalsInfo
+                && isAllIndices(validRows, data.getRowCount())) {
+            return ((CategoryTotalsInfo) data).getColumnTotal(column);
+        }
         double total = 0.0;
         int rowCount = data.getRowCount();
         for (int row : validRows) {
@@ -154,6 +162,9 @@ public abstract class DataUtils {
      */
     public static double calculateRowTotal(Values2D data, int row) {
         Args.nullNotPermitted(data, "data");
+        if (data instanceof CategoryTotalsInfo) {
+            return ((CategoryTotalsInfo) data).getRowTotal(row);
+        }
         double total = 0.0;
         int columnCount = data.getColumnCount();
         for (int c = 0; c < columnCount; c++) {
@@ -191,6 +202,27 @@ public abstract class DataUtils {
         return total;
     }
 
+    /**
+     * Returns {@code true} if the array holds the indices {@code 0} to
+     * {@code count - 1} in order, and {@code false} otherwise.
+     *
+     * @param indices  the indices.
+     * @param count  the count.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAllIndices(int[] indices, int count) {
+        if (indices.length != count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (indices[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Constructs an array of {@code Number} objects from an array of
      * {@code double} primitives.
@@ -0,0 +1,79 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.category;
+
+/**
+ * An interface that can (optionally) be implemented by a dataset that 
+ * maintains the totals of its rows and columns, so that they do not need
+ * to be recalculated from the values (for example, by
+ * {@link org.jfree.data.DataUtils} and by the stacked range calculation in
+ * {@link org.jfree.data.general.DatasetUtils}).  Missing values are not 
+ * included in the totals.
+ *
+ * @since 2.0.0
+ */
+public interface CategoryTotalsInfo {
+
+    /**
+     * Returns the total of the values in a row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     */
+    double getRowTotal(int row);
+
+    /**
+     * Returns the total of the values in a column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     */
+    double getColumnTotal(int column);
+
+    /**
+     * Returns the total of the positive values in a column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total (zero or positive).
+     */
+    double getPositiveColumnTotal(int column);
+
+    /**
+     * Returns the total of the negative values in a column.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total (zero or negative).
+     */
+    double getNegativeColumnTotal(int column);
+
+}
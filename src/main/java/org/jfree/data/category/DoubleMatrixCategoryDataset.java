@@ -0,0 +1,852 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * An implementation of the {@link IntervalCategoryDataset} interface that
+ * stores the values in a dense, row-major {@code double[]} matrix, with
+ * {@code Double.NaN} marking missing values.  The row and column keys are
+ * each held once (with a map from key to index), so the memory used by a
+ * large table is close to eight bytes per cell, compared with several
+ * objects per cell for {@link DefaultCategoryDataset}.
+ * <P>
+ * Rows and columns are added as required when values are set, but adding a
+ * column means copying the whole matrix, so where possible the keys should
+ * be supplied to the constructor and the data loaded with
+ * {@link #setRow(Comparable, double[])} or
+ * {@link #setColumn(Comparable, double[])}.
+ * <P>
+ * The start and end values (for the {@link IntervalCategoryDataset}
+ * interface) are the same as the value unless intervals have been set (see
+ * {@link #setInterval(double, double, Comparable, Comparable)}), and 
+ * setting a value also sets the start and end values for the item.  The row
+ * and column totals (see {@link CategoryTotalsInfo}, used by the stacked 
+ * renderers) are calculated once and cached until the data changes.
+ *
+ * @param <R> The type for the row (series) keys.
+ * @param <C> The type for the column (item) keys.
+ *
+ * @since 2.0.0
+ */
+public class DoubleMatrixCategoryDataset<R extends Comparable<R>,
+        C extends Comparable<C>> extends AbstractDataset
+        implements IntervalCategoryDataset<R, C>, CategoryTotalsInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3196314810268730219L;
+
+    /** The row keys. */
+    private ArrayList<R> rowKeys;
+
+    /** A map from row key to row index. */
+    private HashMap<R, Integer> rowIndices;
+
+    /** The column keys. */
+    private ArrayList<C> columnKeys;
+
+    /** A map from column key to column index. */
+    private HashMap<C, Integer> columnIndices;
+
+    /**
+     * The values, in row-major order (the array can have capacity for more
+     * rows than there are row keys).
+     */
+    private double[] values;
+
+    /** The start values, with the same layout as the values (or null). */
+    private double[] startValues;
+
+    /** The end values, with the same layout as the values (or null). */
+    private double[] endValues;
+
+    /** The cached row totals (null if they need to be recalculated). */
+    private transient double[] rowTotals;
+
+    /** The cached column totals (null if they need to be recalculated). */
+    private transient double[] columnTotals;
+
+    /** The cached totals of the positive values in each column. */
+    private transient double[] positiveColumnTotals;
+
+    /** The cached totals of the negative values in each column. */
+    private transient double[] negativeColumnTotals;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DoubleMatrixCategoryDataset() {
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates a new dataset with the specified row and column keys, and all
+     * values missing.
+     *
+     * @param rowKeys  the row keys ({@code null} not permitted, duplicates
+     *     not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted,
+     *     duplicates not permitted).
+     */
+    public DoubleMatrixCategoryDataset(List<R> rowKeys, List<C> columnKeys) {
+        Args.nullNotPermitted(rowKeys, "rowKeys");
+        Args.nullNotPermitted(columnKeys, "columnKeys");
+        this.rowKeys = new ArrayList<>(rowKeys.size());
+        this.rowIndices = new HashMap<>();
+        for (R key : rowKeys) {
+            addKey(key, this.rowKeys, this.rowIndices);
+        }
+        this.columnKeys = new ArrayList<>(columnKeys.size());
+        this.columnIndices = new HashMap<>();
+        for (C key : columnKeys) {
+            addKey(key, this.columnKeys, this.columnIndices);
+        }
+        this.values = new double[this.rowKeys.size()
+                * this.columnKeys.size()];
+        Arrays.fill(this.values, Double.NaN);
+    }
+
+    /**
+     * Adds a key to a key list and index map.
+     *
+     * @param key  the key ({@code null} not permitted).
+     * @param keys  the key list.
+     * @param indices  the index map.
+     *
+     * @param <K>  the key type.
+     */
+    private static <K> void addKey(K key, List<K> keys,
+            Map<K, Integer> indices) {
+        Args.nullNotPermitted(key, "key");
+        if (indices.putIfAbsent(key, keys.size()) != null) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        keys.add(key);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    @Override
+    public R getRowKey(int row) {
+        return this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key ({@code null} not permitted).
+     *
+     * @return The row index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getRowIndex(R key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.rowIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    @Override
+    public List<R> getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    @Override
+    public C getColumnKey(int column) {
+        return this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key ({@code null} not permitted).
+     *
+     * @return The column index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getColumnIndex(C key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.columnIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    @Override
+    public List<C> getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a
+     * {@code Number} object.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        return this.values[cellIndex(row, column)];
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        return toNumber(this.values[cellIndex(row, column)]);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The value (possibly {@code null}).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getValue(R rowKey, C columnKey) {
+        return getValue(requireRow(rowKey), requireColumn(columnKey));
+    }
+
+    /**
+     * Returns the start value for an item.
+     *
+     * @param series  the series (row) index (zero-based).
+     * @param category  the category (column) index (zero-based).
+     *
+     * @return The start value (possibly {@code null}).
+     */
+    @Override
+    public Number getStartValue(int series, int category) {
+        int index = cellIndex(series, category);
+        return toNumber(this.startValues != null ? this.startValues[index]
+                : this.values[index]);
+    }
+
+    /**
+     * Returns the start value for an item.
+     *
+     * @param series  the series (row) key ({@code null} not permitted).
+     * @param category  the category (column) key ({@code null} not
+     *     permitted).
+     *
+     * @return The start value (possibly {@code null}).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getStartValue(R series, C category) {
+        return getStartValue(requireRow(series), requireColumn(category));
+    }
+
+    /**
+     * Returns the end value for an item.
+     *
+     * @param series  the series (row) index (zero-based).
+     * @param category  the category (column) index (zero-based).
+     *
+     * @return The end value (possibly {@code null}).
+     */
+    @Override
+    public Number getEndValue(int series, int category) {
+        int index = cellIndex(series, category);
+        return toNumber(this.endValues != null ? this.endValues[index]
+                : this.values[index]);
+    }
+
+    /**
+     * Returns the end value for an item.
+     *
+     * @param series  the series (row) key ({@code null} not permitted).
+     * @param category  the category (column) key ({@code null} not
+     *     permitted).
+     *
+     * @return The end value (possibly {@code null}).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getEndValue(R series, C category) {
+        return getEndValue(requireRow(series), requireColumn(category));
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  If either key
+     * is not yet in the dataset, a new row or column is added.
+     *
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(double value, R rowKey, C columnKey) {
+        int row = rowFor(rowKey);
+        int column = columnFor(columnKey);
+        setCell(cellIndex(row, column), value);
+        dataChanged();
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value ({@code null} permitted, for a missing value).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(Number value, R rowKey, C columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Sets the start and end values for an item and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  If either key
+     * is not yet in the dataset, a new row or column is added.
+     *
+     * @param start  the start value ({@code Double.NaN} for a missing
+     *     value).
+     * @param end  the end value ({@code Double.NaN} for a missing value).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setInterval(double start, double end, R rowKey,
+            C columnKey) {
+        int row = rowFor(rowKey);
+        int column = columnFor(columnKey);
+        ensureIntervals();
+        int index = cellIndex(row, column);
+        this.startValues[index] = start;
+        this.endValues[index] = end;
+        dataChanged();
+    }
+
+    /**
+     * Sets all the values in a row (adding the row if the key is not yet in
+     * the dataset) and sends a single {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param rowValues  the values, one for each column ({@code null} not
+     *     permitted, {@code Double.NaN} for missing values).
+     */
+    public void setRow(R rowKey, double[] rowValues) {
+        Args.nullNotPermitted(rowValues, "rowValues");
+        requireLength(rowValues, getColumnCount());
+        int row = rowFor(rowKey);
+        int offset = row * getColumnCount();
+        for (int c = 0; c < rowValues.length; c++) {
+            setCell(offset + c, rowValues[c]);
+        }
+        dataChanged();
+    }
+
+    /**
+     * Sets all the values in a column (adding the column if the key is not
+     * yet in the dataset) and sends a single {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param columnKey  the column key ({@code null} not permitted).
+     * @param columnValues  the values, one for each row ({@code null} not
+     *     permitted, {@code Double.NaN} for missing values).
+     */
+    public void setColumn(C columnKey, double[] columnValues) {
+        Args.nullNotPermitted(columnValues, "columnValues");
+        requireLength(columnValues, getRowCount());
+        int column = columnFor(columnKey);
+        int columnCount = getColumnCount();
+        for (int r = 0; r < columnValues.length; r++) {
+            setCell(r * columnCount + column, columnValues[r]);
+        }
+        dataChanged();
+    }
+
+    /**
+     * Returns the total of the (non-missing) values in a row.  The totals
+     * are cached until the data changes.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The total.
+     */
+    @Override
+    public double getRowTotal(int row) {
+        Args.requireInRange(row, "row", 0, getRowCount() - 1);
+        if (this.rowTotals == null) {
+            calculateTotals();
+        }
+        return this.rowTotals[row];
+    }
+
+    /**
+     * Returns the total of the (non-missing) values in a column.  The totals
+     * are cached until the data changes.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total.
+     */
+    @Override
+    public double getColumnTotal(int column) {
+        Args.requireInRange(column, "column", 0, getColumnCount() - 1);
+        if (this.columnTotals == null) {
+            calculateTotals();
+        }
+        return this.columnTotals[column];
+    }
+
+    /**
+     * Returns the total of the positive values in a column (the top of the
+     * column when the values are stacked from zero).
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total (zero or positive).
+     */
+    @Override
+    public double getPositiveColumnTotal(int column) {
+        Args.requireInRange(column, "column", 0, getColumnCount() - 1);
+        if (this.positiveColumnTotals == null) {
+            calculateTotals();
+        }
+        return this.positiveColumnTotals[column];
+    }
+
+    /**
+     * Returns the total of the negative values in a column (the bottom of
+     * the column when the values are stacked from zero).
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The total (zero or negative).
+     */
+    @Override
+    public double getNegativeColumnTotal(int column) {
+        Args.requireInRange(column, "column", 0, getColumnCount() - 1);
+        if (this.negativeColumnTotals == null) {
+            calculateTotals();
+        }
+        return this.negativeColumnTotals[column];
+    }
+
+    /**
+     * Clears all data (including the keys) from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.rowIndices.clear();
+        this.columnKeys.clear();
+        this.columnIndices.clear();
+        this.values = new double[0];
+        this.startValues = null;
+        this.endValues = null;
+        dataChanged();
+    }
+
+    /**
+     * Calculates the row and column totals in a single pass over the
+     * matrix.
+     */
+    private void calculateTotals() {
+        int rowCount = getRowCount();
+        int columnCount = getColumnCount();
+        double[] rows = new double[rowCount];
+        double[] columns = new double[columnCount];
+        double[] positive = new double[columnCount];
+        double[] negative = new double[columnCount];
+        for (int r = 0; r < rowCount; r++) {
+            int offset = r * columnCount;
+            double rowTotal = 0.0;
+            for (int c = 0; c < columnCount; c++) {
+                double v = this.values[offset + c];
+                if (Double.isNaN(v)) {
+                    continue;
+                }
+                if (v > 0.0) {
+                    positive[c] += v;
+                } else {
+                    negative[c] += v;
+                }
+                rowTotal += v;
+                columns[c] += v;
+            }
+            rows[r] = rowTotal;
+        }
+        this.rowTotals = rows;
+        this.columnTotals = columns;
+        this.positiveColumnTotals = positive;
+        this.negativeColumnTotals = negative;
+    }
+
+    /**
+     * Clears the cached totals and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     */
+    private void dataChanged() {
+        this.rowTotals = null;
+        this.columnTotals = null;
+        this.positiveColumnTotals = null;
+        this.negativeColumnTotals = null;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index into the value arrays for a cell.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The index.
+     */
+    private int cellIndex(int row, int column) {
+        int columnCount = getColumnCount();
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+        return row * columnCount + column;
+    }
+
+    /**
+     * Sets the value for a cell.  If intervals have been set for any item, 
+     * the start and end values for the cell are set to the same value.
+     *
+     * @param index  the index into the value arrays.
+     * @param value  the value.
+     */
+    private void setCell(int index, double value) {
+        this.values[index] = value;
+        if (this.startValues != null) {
+            this.startValues[index] = value;
+            this.endValues[index] = value;
+        }
+    }
+
+    /**
+     * Returns a {@code Number} for a primitive value.
+     *
+     * @param value  the value.
+     *
+     * @return The number ({@code null} for {@code Double.NaN}).
+     */
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : Double.valueOf(value);
+    }
+
+    /**
+     * Returns the index of a row key, throwing an exception if the key is
+     * not recognised.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The row index.
+     */
+    private int requireRow(R key) {
+        int row = getRowIndex(key);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised row key: " + key);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the index of a column key, throwing an exception if the key
+     * is not recognised.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The column index.
+     */
+    private int requireColumn(C key) {
+        int column = getColumnIndex(key);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised column key: " + key);
+        }
+        return column;
+    }
+
+    /**
+     * Checks the length of a data array.
+     *
+     * @param data  the array.
+     * @param length  the required length.
+     */
+    private static void requireLength(double[] data, int length) {
+        if (data.length != length) {
+            throw new IllegalArgumentException("Requires " + length
+                    + " values but found " + data.length + ".");
+        }
+    }
+
+    /**
+     * Returns the index of a row key, adding a new row (with all values
+     * missing) if the key is not yet in the dataset.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The row index.
+     */
+    private int rowFor(R key) {
+        int row = getRowIndex(key);
+        if (row >= 0) {
+            return row;
+        }
+        row = getRowCount();
+        int columnCount = getColumnCount();
+        int required = (row + 1) * columnCount;
+        if (required > this.values.length) {
+            int capacity = Math.max(required,
+                    (row + row / 2 + 1) * columnCount);
+            this.values = grow(this.values, capacity);
+            if (this.startValues != null) {
+                this.startValues = grow(this.startValues, capacity);
+                this.endValues = grow(this.endValues, capacity);
+            }
+        }
+        addKey(key, this.rowKeys, this.rowIndices);
+        return row;
+    }
+
+    /**
+     * Returns a copy of an array with a larger capacity, with the new
+     * elements set to {@code Double.NaN}.
+     *
+     * @param data  the array.
+     * @param capacity  the new capacity.
+     *
+     * @return The new array.
+     */
+    private static double[] grow(double[] data, int capacity) {
+        double[] result = Arrays.copyOf(data, capacity);
+        Arrays.fill(result, data.length, capacity, Double.NaN);
+        return result;
+    }
+
+    /**
+     * Returns the index of a column key, adding a new column (with all values
+     * missing) if the key is not yet in the dataset.  Adding a column copies
+     * the matrix.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The column index.
+     */
+    private int columnFor(C key) {
+        int column = getColumnIndex(key);
+        if (column >= 0) {
+            return column;
+        }
+        column = getColumnCount();
+        this.values = addColumn(this.values, column);
+        if (this.startValues != null) {
+            this.startValues = addColumn(this.startValues, column);
+            this.endValues = addColumn(this.endValues, column);
+        }
+        addKey(key, this.columnKeys, this.columnIndices);
+        return column;
+    }
+
+    /**
+     * Returns a copy of a matrix with an extra column (of missing values).
+     *
+     * @param data  the matrix.
+     * @param columnCount  the current column count.
+     *
+     * @return The new matrix.
+     */
+    private double[] addColumn(double[] data, int columnCount) {
+        int rowCount = getRowCount();
+        int newCount = columnCount + 1;
+        double[] result = new double[rowCount * newCount];
+        for (int r = 0; r < rowCount; r++) {
+            System.arraycopy(data, r * columnCount, result, r * newCount,
+                    columnCount);
+            result[r * newCount + columnCount] = Double.NaN;
+        }
+        return result;
+    }
+
+    /**
+     * Creates the start and end value arrays (if they do not already
+     * exist), initialised with the current values.
+     */
+    private void ensureIntervals() {
+        if (this.startValues == null) {
+            this.startValues = this.values.clone();
+            this.endValues = this.values.clone();
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleMatrixCategoryDataset)) {
+            return false;
+        }
+        DoubleMatrixCategoryDataset<?, ?> that
+                = (DoubleMatrixCategoryDataset<?, ?>) obj;
+        if (!this.rowKeys.equals(that.rowKeys)) {
+            return false;
+        }
+        if (!this.columnKeys.equals(that.columnKeys)) {
+            return false;
+        }
+        int size = getRowCount() * getColumnCount();
+        if (!Arrays.equals(this.values, 0, size, that.values, 0, size)) {
+            return false;
+        }
+        double[] s1 = this.startValues != null ? this.startValues : this.values;
+        double[] s2 = that.startValues != null ? that.startValues : that.values;
+        if (!Arrays.equals(s1, 0, size, s2, 0, size)) {
+            return false;
+        }
+        double[] e1 = this.endValues != null ? this.endValues : this.values;
+        double[] e2 = that.endValues != null ? that.endValues : that.values;
+        if (!Arrays.equals(e1, 0, size, e2, 0, size)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 59 * hash + this.rowKeys.hashCode();
+        hash = 59 * hash + this.columnKeys.hashCode();
+        return hash;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        DoubleMatrixCategoryDataset<R, C> clone
+                = (DoubleMatrixCategoryDataset<R, C>) super.clone();
+        clone.rowKeys = new ArrayList<>(this.rowKeys);
+        clone.rowIndices = new HashMap<>(this.rowIndices);
+        clone.columnKeys = new ArrayList<>(this.columnKeys);
+        clone.columnIndices = new HashMap<>(this.columnIndices);
+        clone.values = this.values.clone();
+        if (this.startValues != null) {
+            clone.startValues = this.startValues.clone();
+            clone.endValues = this.endValues.clone();
+        }
+        return clone;
+    }
+
+}
@@ -62,6 +62,12 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /** The number of batches that are open (see {@link #beginBatch()}). */
+    private transient int batchDepth;
+
+    /** A flag that records whether an event was deferred by a batch. */
+    private transient boolean batchChanged;
+
     /**
      * Constructs a dataset.
      */
@@ -139,6 +145,54 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         return list.contains(listener);
     }
 
+    /**
+     * Starts a batch of changes.  Until the returned batch is closed, no
+     * {@link DatasetChangeEvent} is sent to the registered listeners; when
+     * it is closed, a single event is sent if there were any changes.
+     * Batches can be nested, in which case the event is sent when the
+     * outermost batch is closed.
+     *
+     * @return The batch (close it to end the batch).
+     *
+     * @since 2.0.0
+     */
+    public BatchUpdate beginBatch() {
+        this.batchDepth++;
+        return new BatchUpdate() {
+            private boolean closed;
+            @Override
+            public void close() {
+                if (!this.closed) {
+                    this.closed = true;
+                    endBatch();
+                }
+            }
+        };
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    private void endBatch() {
+        this.batchDepth--;
+        if (this.batchDepth == 0 && this.batchChanged) {
+            this.batchChanged = false;
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a batch of changes is in progress (see
+     * {@link #beginBatch()}).
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isBatchInProgress() {
+        return this.batchDepth > 0;
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed, 
      * provided that the {@code notify} flag has not been set to 
@@ -162,6 +216,10 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.batchDepth > 0) {
+            this.batchChanged = true;
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -185,6 +243,8 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.batchDepth = 0;
+        clone.batchChanged = false;
         return clone;
     }
 
@@ -0,0 +1,53 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A batch of changes to a dataset or series, returned by
+ * {@link AbstractDataset#beginBatch()} and {@link Series#beginBatch()}.
+ * Change events are deferred until the batch is closed, and then a single
+ * event is sent if anything changed.  Use it with a try-with-resources
+ * statement:
+ * <pre>
+ * try (BatchUpdate batch = series.beginBatch()) {
+ *     for (int i = 0; i &lt; 100000; i++) {
+ *         series.add(x[i], y[i]);
+ *     }
+ * }
+ * </pre>
+ */
+public interface BatchUpdate extends AutoCloseable {
+
+    /**
+     * Ends the batch.  Calling this method more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
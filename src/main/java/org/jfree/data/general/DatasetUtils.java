@@ -57,6 +57,7 @@ import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.CategoryRangeInfo;
+import org.jfree.data.category.CategoryTotalsInfo;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.category.IntervalCategoryDataset;
 import org.jfree.data.function.Function2D;
@@ -1982,6 +1983,17 @@ public final class DatasetUtils {
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
         int categoryCount = dataset.getColumnCount();
+        if (dataset instanceof CategoryTotalsInfo) {
+            // use the totals maintained by the dataset
+            CategoryTotalsInfo matrix = (CategoryTotalsInfo) dataset;
+            for (int item = 0; item < categoryCount; item++) {
+                minimum = Math.min(minimum,
+                        base + matrix.getNegativeColumnTotal(item));
+                maximum = Math.max(maximum,
+                        base + matrix.getPositiveColumnTotal(item));
+            }
+            return minimum <= maximum ? new Range(minimum, maximum) : null;
+        }
         for (int item = 0; item < categoryCount; item++) {
             double positive = base;
             double negative = base;
@@ -36,9 +36,14 @@
 
 package org.jfree.data.general;
 
+import java.awt.AlphaComposite;
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.stream.IntStream;
+
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.xy.XYDataset;
@@ -124,4 +129,122 @@ public abstract class HeatMapUtils {
         return image;
     }
 
+    /**
+     * Creates an image that displays the values from the specified dataset,
+     * writing the pixels directly into the image's data buffer.  The paint
+     * scale is sampled once into a lookup table of {@code lookupSize} ARGB
+     * values (see {@link #createColorLookup(PaintScale, int)}) and each
+     * z-value is mapped to the nearest entry, so the colours can differ
+     * slightly from {@link #createHeatMapImage(HeatMapDataset, PaintScale)}
+     * for continuous scales.  Z-values that are {@code NaN} give a
+     * transparent pixel.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param paintScale  the paint scale for the z-values ({@code null}
+     *         not permitted).
+     * @param lookupSize  the number of entries in the colour lookup table
+     *         (at least 2).
+     * @param parallel  if {@code true}, the rows are filled in parallel
+     *         (on the common fork-join pool).
+     *
+     * @return A buffered image (of type {@code TYPE_INT_ARGB}).
+     *
+     * @since 2.0.0
+     */
+    public static BufferedImage createHeatMapImage(HeatMapDataset dataset,
+            PaintScale paintScale, int lookupSize, boolean parallel) {
+
+        Args.nullNotPermitted(dataset, "dataset");
+        int[] lookup = createColorLookup(paintScale, lookupSize);
+        int xCount = dataset.getXSampleCount();
+        int yCount = dataset.getYSampleCount();
+        BufferedImage image = new BufferedImage(xCount, yCount,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        double lower = paintScale.getLowerBound();
+        double factor = (lookupSize - 1)
+                / (paintScale.getUpperBound() - lower);
+        IntStream rows = IntStream.range(0, yCount);
+        if (parallel) {
+            rows = rows.parallel();
+        }
+        rows.forEach(yIndex -> {
+            int offset = (yCount - yIndex - 1) * xCount;
+            for (int xIndex = 0; xIndex < xCount; xIndex++) {
+                double z = dataset.getZValue(xIndex, yIndex);
+                pixels[offset + xIndex] = lookupColor(lookup, z, lower,
+                        factor);
+            }
+        });
+        return image;
+    }
+
+    /**
+     * Creates a lookup table of ARGB values sampled at regular intervals
+     * over the bounds of the paint scale (the first entry is for the lower
+     * bound and the last entry for the upper bound).  Paints that are not
+     * instances of {@code Color} are sampled by filling a single pixel.
+     *
+     * @param paintScale  the paint scale ({@code null} not permitted).
+     * @param size  the number of entries (at least 2).
+     *
+     * @return The lookup table.
+     *
+     * @since 2.0.0
+     */
+    public static int[] createColorLookup(PaintScale paintScale, int size) {
+        Args.nullNotPermitted(paintScale, "paintScale");
+        Args.requireInRange(size, "size", 2, Integer.MAX_VALUE);
+        double lower = paintScale.getLowerBound();
+        double length = paintScale.getUpperBound() - lower;
+        int[] result = new int[size];
+        BufferedImage sample = null;
+        for (int i = 0; i < size; i++) {
+            Paint p = paintScale.getPaint(lower + length * i / (size - 1));
+            if (p instanceof Color) {
+                result[i] = ((Color) p).getRGB();
+            } else {
+                if (sample == null) {
+                    sample = new BufferedImage(1, 1,
+                            BufferedImage.TYPE_INT_ARGB);
+                }
+                Graphics2D g2 = sample.createGraphics();
+                g2.setComposite(AlphaComposite.Src);
+                g2.setPaint(p);
+                g2.fillRect(0, 0, 1, 1);
+                g2.dispose();
+                result[i] = sample.getRGB(0, 0);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ARGB value from a colour lookup table for a value,
+     * clamping values outside the bounds of the scale to the first or last
+     * entry.  {@code NaN} values give 0 (transparent).
+     *
+     * @param lookup  the lookup table (see
+     *     {@link #createColorLookup(PaintScale, int)}).
+     * @param value  the value.
+     * @param lower  the lower bound of the paint scale.
+     * @param factor  the number of lookup table intervals per unit of the
+     *     scale, that is {@code (lookup.length - 1) / (upper - lower)}.
+     *
+     * @return The ARGB value.
+     *
+     * @since 2.0.0
+     */
+    public static int lookupColor(int[] lookup, double value, double lower,
+            double factor) {
+        double t = (value - lower) * factor;
+        if (t > 0.0) {
+            return lookup[(int) Math.min(t + 0.5, lookup.length - 1)];
+        } else if (t <= 0.0) {
+            return lookup[0];
+        }
+        return 0;
+    }
+
 }
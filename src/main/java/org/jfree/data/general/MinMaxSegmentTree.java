@@ -0,0 +1,263 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+
+/**
+ * A segment tree over a sequence of values that finds the minimum and
+ * maximum of any contiguous subsequence in O(log n) time.  Values can be
+ * appended to the end of the sequence, removed from the start of the
+ * sequence and updated in place, each in O(log n) time (amortized for
+ * appends).  {@code Double.NaN} values are ignored.
+ * <p>
+ * This is used by the series classes to find the range of y-values for a
+ * range of x-values without iterating over the items.
+ */
+public class MinMaxSegmentTree {
+
+    /** The minimum capacity. */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The number of leaves (a power of two).  The leaf for position i is
+     * stored at index {@code capacity + i} in the node arrays.
+     */
+    private int capacity;
+
+    /** The minimum value for each node. */
+    private double[] min;
+
+    /** The maximum value for each node. */
+    private double[] max;
+
+    /** The leaf position of the first value. */
+    private int start;
+
+    /** The leaf position after the last value. */
+    private int end;
+
+    /**
+     * Creates a new tree (initially empty).
+     */
+    public MinMaxSegmentTree() {
+        this(new double[0], 0);
+    }
+
+    /**
+     * Creates a new tree containing the first {@code count} items in the
+     * specified array.  The tree is built in O(n) time.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param count  the number of values to use.
+     */
+    public MinMaxSegmentTree(double[] values, int count) {
+        Args.nullNotPermitted(values, "values");
+        Args.requireInRange(count, "count", 0, values.length);
+        this.capacity = capacityFor(count);
+        this.min = new double[2 * this.capacity];
+        this.max = new double[2 * this.capacity];
+        Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < count; i++) {
+            setLeaf(this.capacity + i, values[i]);
+        }
+        this.start = 0;
+        this.end = count;
+        for (int node = this.capacity - 1; node > 0; node--) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Returns a power of two that is large enough to hold the specified
+     * number of values with some room to grow.
+     *
+     * @param count  the number of values.
+     *
+     * @return The capacity.
+     */
+    private static int capacityFor(int count) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < count + count / 2) {
+            capacity = capacity * 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Appends a value to the end of the sequence.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        if (this.end == this.capacity) {
+            rebuild();
+        }
+        setLeaf(this.capacity + this.end, value);
+        update(this.capacity + this.end);
+        this.end++;
+    }
+
+    /**
+     * Removes the first value from the sequence.
+     */
+    public void removeFirst() {
+        if (size() == 0) {
+            throw new IllegalStateException("The tree is empty.");
+        }
+        setLeaf(this.capacity + this.start, Double.NaN);
+        update(this.capacity + this.start);
+        this.start++;
+        if (this.start == this.end) {
+            this.start = 0;
+            this.end = 0;
+        }
+    }
+
+    /**
+     * Updates the value at the specified position in the sequence.
+     *
+     * @param index  the position (zero-based).
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void set(int index, double value) {
+        Args.requireInRange(index, "index", 0, size() - 1);
+        int leaf = this.capacity + this.start + index;
+        setLeaf(leaf, value);
+        update(leaf);
+    }
+
+    /**
+     * Returns the range of the values from position {@code first} to
+     * position {@code last} inclusive, or {@code null} if there are no
+     * values (other than {@code Double.NaN}) in that part of the sequence.
+     *
+     * @param first  the first position.
+     * @param last  the last position.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public Range find(int first, int last) {
+        Args.requireInRange(first, "first", 0, size() - 1);
+        Args.requireInRange(last, "last", first, size() - 1);
+        double lo = Double.POSITIVE_INFINITY;
+        double hi = Double.NEGATIVE_INFINITY;
+        int l = this.capacity + this.start + first;
+        int r = this.capacity + this.start + last + 1;
+        while (l < r) {
+            if ((l & 1) == 1) {
+                lo = Math.min(lo, this.min[l]);
+                hi = Math.max(hi, this.max[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                lo = Math.min(lo, this.min[r]);
+                hi = Math.max(hi, this.max[r]);
+            }
+            l = l >> 1;
+            r = r >> 1;
+        }
+        if (lo > hi) {
+            return null;
+        }
+        return new Range(lo, hi);
+    }
+
+    /**
+     * Sets the value of a leaf node.
+     *
+     * @param leaf  the node index.
+     * @param value  the value.
+     */
+    private void setLeaf(int leaf, double value) {
+        if (Double.isNaN(value)) {
+            this.min[leaf] = Double.POSITIVE_INFINITY;
+            this.max[leaf] = Double.NEGATIVE_INFINITY;
+        } else {
+            this.min[leaf] = value;
+            this.max[leaf] = value;
+        }
+    }
+
+    /**
+     * Recalculates the ancestors of a leaf node.
+     *
+     * @param leaf  the node index.
+     */
+    private void update(int leaf) {
+        for (int node = leaf >> 1; node > 0; node = node >> 1) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Recalculates a node from its two children.
+     *
+     * @param node  the node index.
+     */
+    private void pull(int node) {
+        this.min[node] = Math.min(this.min[2 * node], this.min[2 * node + 1]);
+        this.max[node] = Math.max(this.max[2 * node], this.max[2 * node + 1]);
+    }
+
+    /**
+     * Moves the values to the start of the leaves, growing the tree if
+     * necessary.
+     */
+    private void rebuild() {
+        int count = size();
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            int leaf = this.capacity + this.start + i;
+            values[i] = this.min[leaf] > this.max[leaf] ? Double.NaN
+                    : this.min[leaf];
+        }
+        MinMaxSegmentTree t = new MinMaxSegmentTree(values, count);
+        this.capacity = t.capacity;
+        this.min = t.min;
+        this.max = t.max;
+        this.start = 0;
+        this.end = count;
+    }
+
+}
@@ -66,6 +66,12 @@ public abstract class Series<K extends Comparable<K>>
     /** A flag that controls whether changes are notified. */
     private boolean notify;
 
+    /** The number of batches that are open (see {@link #beginBatch()}). */
+    private transient int batchDepth;
+
+    /** A flag that records whether an event was deferred by a batch. */
+    private transient boolean batchChanged;
+
     /**
      * Creates a new series with the specified key and description.
      *
@@ -155,6 +161,8 @@ public abstract class Series<K extends Comparable<K>>
         @SuppressWarnings("unchecked")
         Series<K> clone = (Series) super.clone();
         clone.listeners = new EventListenerList();
+        clone.batchDepth = 0;
+        clone.batchChanged = false;
         return clone;
     }
 
@@ -214,6 +222,54 @@ public abstract class Series<K extends Comparable<K>>
         this.listeners.remove(SeriesChangeListener.class, listener);
     }
 
+    /**
+     * Starts a batch of changes.  Until the returned batch is closed, no
+     * {@link SeriesChangeEvent} is sent to the registered listeners; when it
+     * is closed, a single event is sent if there were any changes.  Batches
+     * can be nested, in which case the event is sent when the outermost
+     * batch is closed.
+     *
+     * @return The batch (close it to end the batch).
+     *
+     * @since 2.0.0
+     */
+    public BatchUpdate beginBatch() {
+        this.batchDepth++;
+        return new BatchUpdate() {
+            private boolean closed;
+            @Override
+            public void close() {
+                if (!this.closed) {
+                    this.closed = true;
+                    endBatch();
+                }
+            }
+        };
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    private void endBatch() {
+        this.batchDepth--;
+        if (this.batchDepth == 0 && this.batchChanged) {
+            this.batchChanged = false;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a batch of changes is in progress (see
+     * {@link #beginBatch()}).
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isBatchInProgress() {
+        return this.batchDepth > 0;
+    }
+
     /**
      * General method for signalling to registered listeners that the series
      * has been changed.
@@ -231,6 +287,10 @@ public abstract class Series<K extends Comparable<K>>
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        if (this.batchDepth > 0) {
+            this.batchChanged = true;
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
@@ -0,0 +1,237 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and helper methods for the binary dataset format written by
+ * {@link BinaryDatasetWriter}.  All values are little-endian.  A file
+ * starts with a fixed-size header:
+ * <pre>
+ *   int    magic number ("JFCD")
+ *   short  format version
+ *   short  kind (XY or category)
+ *   int    flags
+ *   int    block size (items per statistics block)
+ *   int    series (row) count
+ *   int    column count (category data only)
+ *   long   directory length in bytes
+ * </pre>
+ * The header is followed by a directory (keys, item counts, summary
+ * statistics and data offsets) and then by the data columns, each of which
+ * starts on an 8-byte boundary so that it can be viewed directly as a
+ * {@link DoubleBuffer}.
+ */
+final class BinaryDatasetFormat {
+
+    /** The magic number at the start of every file. */
+    static final int MAGIC = 0x4A464344;
+
+    /** The current format version. */
+    static final short VERSION = 1;
+
+    /** The kind code for XY data. */
+    static final short KIND_XY = 1;
+
+    /** The kind code for category data. */
+    static final short KIND_CATEGORY = 2;
+
+    /** A flag indicating that x-interval columns are present. */
+    static final int FLAG_X_INTERVALS = 1;
+
+    /** A flag indicating that y-interval columns are present. */
+    static final int FLAG_Y_INTERVALS = 2;
+
+    /** A flag indicating that the x-values are milliseconds (time data). */
+    static final int FLAG_TIME_DOMAIN = 4;
+
+    /** A series flag indicating that the x-values are in ascending order. */
+    static final int SERIES_ASCENDING = 1;
+
+    /** The length of the header in bytes. */
+    static final int HEADER_LENGTH = 32;
+
+    /** The number of doubles of statistics stored for each XY block. */
+    static final int BLOCK_STATS = 6;
+
+    /** The default number of items per statistics block. */
+    static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /** The number of doubles in each mapped chunk of a column (1 GB). */
+    private static final int CHUNK_SHIFT = 27;
+
+    /** A mask for the index within a chunk. */
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private BinaryDatasetFormat() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Reads and checks the header of a file, and returns it (with the
+     * position set after the header).
+     *
+     * @param channel  the channel.
+     * @param kind  the expected kind of data.
+     *
+     * @return The header.
+     *
+     * @throws IOException if there is an I/O problem or the file is not in
+     *     the expected format.
+     */
+    static ByteBuffer readHeader(FileChannel channel, short kind)
+            throws IOException {
+        ByteBuffer header = read(channel, 0L, HEADER_LENGTH);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a binary dataset file.");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version: " + version);
+        }
+        if (header.getShort() != kind) {
+            throw new IOException("The file contains a different kind of "
+                    + "dataset.");
+        }
+        return header;
+    }
+
+    /**
+     * Reads part of a file into a new (heap) buffer.
+     *
+     * @param channel  the channel.
+     * @param position  the file position.
+     * @param length  the number of bytes.
+     *
+     * @return The buffer, ready for reading.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static ByteBuffer read(FileChannel channel, long position, long length)
+            throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IOException("Invalid block length: " + length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads a key (a UTF-8 string with a length prefix).
+     *
+     * @param buffer  the buffer.
+     *
+     * @return The key.
+     */
+    static String readKey(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of bytes used by a key.
+     *
+     * @param bytes  the UTF-8 encoded key.
+     *
+     * @return The length in bytes.
+     */
+    static long keyLength(byte[] bytes) {
+        return 4L + bytes.length;
+    }
+
+    /**
+     * Rounds a file position up to the next multiple of 8.
+     *
+     * @param position  the position.
+     *
+     * @return The aligned position.
+     */
+    static long align(long position) {
+        return (position + 7L) & ~7L;
+    }
+
+    /**
+     * Maps a column of doubles into memory (read-only).  The column is split
+     * into chunks, because a single mapping is limited to 2 GB.
+     *
+     * @param channel  the channel.
+     * @param position  the file position of the first value.
+     * @param count  the number of values.
+     *
+     * @return The chunks.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static DoubleBuffer[] map(FileChannel channel, long position, long count)
+            throws IOException {
+        if (position + count * 8L > channel.size()) {
+            throw new EOFException("Unexpected end of file.");
+        }
+        int chunkCount = (int) ((count + CHUNK_MASK) >>> CHUNK_SHIFT);
+        DoubleBuffer[] chunks = new DoubleBuffer[chunkCount];
+        long start = 0L;
+        for (int i = 0; i < chunkCount; i++) {
+            long n = Math.min(count - start, CHUNK_MASK + 1);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position + start * 8L, n * 8L)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            start += n;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns a value from a mapped column.
+     *
+     * @param chunks  the column chunks.
+     * @param index  the value index.
+     *
+     * @return The value.
+     */
+    static double get(DoubleBuffer[] chunks, long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)]
+                .get((int) (index & CHUNK_MASK));
+    }
+
+}
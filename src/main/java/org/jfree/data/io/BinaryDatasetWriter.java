@@ -0,0 +1,485 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Writes datasets to files in a compact, columnar binary format that can be
+ * read back with {@link MappedXYDataset} and {@link MappedCategoryDataset}.
+ * Each series is stored as contiguous columns of {@code double} values
+ * (x, y and, if required, the interval bounds), followed by the minimum and
+ * maximum values for each block of items, so that a reader can find the
+ * bounds of the data without touching the values themselves.  A
+ * {@link TimeSeriesCollection} is written as XY data, with the x-values in
+ * milliseconds and the time periods as x-intervals.
+ * <p>
+ * Series and row/column keys are written as strings (using
+ * {@code String.valueOf()}), so they are reloaded as strings.
+ *
+ * @since 2.0.0
+ */
+public class BinaryDatasetWriter {
+
+    /** The size of the output buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The number of items per statistics block. */
+    private int blockSize;
+
+    /**
+     * Creates a new writer with a block size of 1024 items.
+     */
+    public BinaryDatasetWriter() {
+        this.blockSize = BinaryDatasetFormat.DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the number of items in each block for which the minimum and
+     * maximum values are recorded.
+     *
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the number of items in each block for which the minimum and
+     * maximum values are recorded.  Smaller blocks make the bounds of a
+     * sub-range faster to find, at the cost of a larger file.
+     *
+     * @param size  the block size (must be positive).
+     */
+    public void setBlockSize(int size) {
+        Args.requireInRange(size, "size", 1, Integer.MAX_VALUE);
+        this.blockSize = size;
+    }
+
+    /**
+     * Writes an XY dataset to a file (replacing any existing file).  If the
+     * dataset is an {@link IntervalXYDataset}, the x- and y-intervals are
+     * written too (unless they are identical to the x- and y-values).
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeXYDataset(XYDataset<?> dataset, Path path)
+            throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(path, "path");
+        IntervalXYDataset<?> intervals = dataset instanceof IntervalXYDataset
+                ? (IntervalXYDataset<?>) dataset : null;
+        int seriesCount = dataset.getSeriesCount();
+
+        // a first pass finds the summary statistics and the columns needed
+        byte[][] keys = new byte[seriesCount][];
+        double[][] summaries = new double[seriesCount][];
+        boolean[] ascending = new boolean[seriesCount];
+        boolean xIntervals = false;
+        boolean yIntervals = false;
+        long directoryLength = 0L;
+        for (int s = 0; s < seriesCount; s++) {
+            keys[s] = String.valueOf(dataset.getSeriesKey(s))
+                    .getBytes(StandardCharsets.UTF_8);
+            directoryLength += BinaryDatasetFormat.keyLength(keys[s]) + 80;
+            Bounds x = new Bounds();
+            Bounds xi = new Bounds();
+            Bounds y = new Bounds();
+            Bounds yi = new Bounds();
+            boolean sorted = true;
+            double last = Double.NEGATIVE_INFINITY;
+            int itemCount = dataset.getItemCount(s);
+            for (int i = 0; i < itemCount; i++) {
+                double xx = dataset.getXValue(s, i);
+                double yy = dataset.getYValue(s, i);
+                sorted = sorted && xx >= last;
+                last = xx;
+                x.add(xx);
+                xi.add(xx);
+                y.add(yy);
+                yi.add(yy);
+                if (intervals != null) {
+                    double x0 = intervals.getStartXValue(s, i);
+                    double x1 = intervals.getEndXValue(s, i);
+                    double y0 = intervals.getStartYValue(s, i);
+                    double y1 = intervals.getEndYValue(s, i);
+                    xi.add(x0);
+                    xi.add(x1);
+                    yi.add(y0);
+                    yi.add(y1);
+                    xIntervals = xIntervals || !same(x0, xx) || !same(x1, xx);
+                    yIntervals = yIntervals || !same(y0, yy) || !same(y1, yy);
+                }
+            }
+            ascending[s] = sorted;
+            summaries[s] = new double[] {x.lower(), x.upper(), xi.lower(),
+                    xi.upper(), y.lower(), y.upper(), yi.lower(), yi.upper()};
+        }
+        int flags = 0;
+        int columns = 2;
+        if (xIntervals) {
+            flags |= BinaryDatasetFormat.FLAG_X_INTERVALS;
+            columns += 2;
+        }
+        if (yIntervals) {
+            flags |= BinaryDatasetFormat.FLAG_Y_INTERVALS;
+            columns += 2;
+        }
+        if (dataset instanceof TimeSeriesCollection) {
+            flags |= BinaryDatasetFormat.FLAG_TIME_DOMAIN;
+        }
+
+        try (Output out = new Output(path)) {
+            out.putHeader(BinaryDatasetFormat.KIND_XY, flags, this.blockSize,
+                    seriesCount, 0, directoryLength);
+            long offset = BinaryDatasetFormat.align(
+                    BinaryDatasetFormat.HEADER_LENGTH + directoryLength);
+            for (int s = 0; s < seriesCount; s++) {
+                int itemCount = dataset.getItemCount(s);
+                out.putKey(keys[s]);
+                out.putInt(itemCount);
+                out.putInt(ascending[s] 
+                        ? BinaryDatasetFormat.SERIES_ASCENDING : 0);
+                for (double d : summaries[s]) {
+                    out.putDouble(d);
+                }
+                out.putLong(offset);
+                long blockCount = blockCount(itemCount);
+                offset += (itemCount * (long) columns
+                        + blockCount * BinaryDatasetFormat.BLOCK_STATS) * 8L;
+            }
+            out.align();
+            for (int s = 0; s < seriesCount; s++) {
+                writeSeries(out, dataset, xIntervals ? intervals : null,
+                        yIntervals ? intervals : null, s);
+            }
+        }
+    }
+
+    /**
+     * Writes the columns and block statistics for one series.
+     *
+     * @param out  the output.
+     * @param dataset  the dataset.
+     * @param xIntervals  the dataset, if x-intervals are written, otherwise
+     *     {@code null}.
+     * @param yIntervals  the dataset, if y-intervals are written, otherwise
+     *     {@code null}.
+     * @param s  the series index.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeSeries(Output out, XYDataset<?> dataset,
+            IntervalXYDataset<?> xIntervals, IntervalXYDataset<?> yIntervals,
+            int s) throws IOException {
+        int itemCount = dataset.getItemCount(s);
+        for (int i = 0; i < itemCount; i++) {
+            out.putDouble(dataset.getXValue(s, i));
+        }
+        for (int i = 0; i < itemCount; i++) {
+            out.putDouble(dataset.getYValue(s, i));
+        }
+        if (xIntervals != null) {
+            for (int i = 0; i < itemCount; i++) {
+                out.putDouble(xIntervals.getStartXValue(s, i));
+            }
+            for (int i = 0; i < itemCount; i++) {
+                out.putDouble(xIntervals.getEndXValue(s, i));
+            }
+        }
+        if (yIntervals != null) {
+            for (int i = 0; i < itemCount; i++) {
+                out.putDouble(yIntervals.getStartYValue(s, i));
+            }
+            for (int i = 0; i < itemCount; i++) {
+                out.putDouble(yIntervals.getEndYValue(s, i));
+            }
+        }
+        for (int start = 0; start < itemCount; start += this.blockSize) {
+            int end = (int) Math.min(itemCount, (long) start + this.blockSize);
+            Bounds x = new Bounds();
+            Bounds y = new Bounds();
+            Bounds yi = new Bounds();
+            boolean missingX = false;
+            for (int i = start; i < end; i++) {
+                double xx = dataset.getXValue(s, i);
+                double yy = dataset.getYValue(s, i);
+                missingX = missingX || Double.isNaN(xx);
+                x.add(xx);
+                y.add(yy);
+                yi.add(yy);
+                if (yIntervals != null) {
+                    yi.add(yIntervals.getStartYValue(s, i));
+                    yi.add(yIntervals.getEndYValue(s, i));
+                }
+            }
+            // a block with a missing x-value is never summarised by its
+            // statistics, so the x-bounds are recorded as NaN
+            out.putDouble(missingX ? Double.NaN : x.lower());
+            out.putDouble(missingX ? Double.NaN : x.upper());
+            out.putDouble(y.lower());
+            out.putDouble(y.upper());
+            out.putDouble(yi.lower());
+            out.putDouble(yi.upper());
+        }
+    }
+
+    /**
+     * Writes a category dataset to a file (replacing any existing file).
+     * Missing values are written as {@code Double.NaN}.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeCategoryDataset(CategoryDataset<?, ?> dataset, Path path)
+            throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(path, "path");
+        int rowCount = dataset.getRowCount();
+        int columnCount = dataset.getColumnCount();
+        byte[][] rowKeys = new byte[rowCount][];
+        byte[][] columnKeys = new byte[columnCount][];
+        long directoryLength = 16L * rowCount;
+        for (int r = 0; r < rowCount; r++) {
+            rowKeys[r] = String.valueOf(dataset.getRowKey(r))
+                    .getBytes(StandardCharsets.UTF_8);
+            directoryLength += BinaryDatasetFormat.keyLength(rowKeys[r]);
+        }
+        for (int c = 0; c < columnCount; c++) {
+            columnKeys[c] = String.valueOf(dataset.getColumnKey(c))
+                    .getBytes(StandardCharsets.UTF_8);
+            directoryLength += BinaryDatasetFormat.keyLength(columnKeys[c]);
+        }
+        try (Output out = new Output(path)) {
+            out.putHeader(BinaryDatasetFormat.KIND_CATEGORY, 0, 0,
+                    rowCount, columnCount, directoryLength);
+            for (byte[] key : rowKeys) {
+                out.putKey(key);
+            }
+            for (byte[] key : columnKeys) {
+                out.putKey(key);
+            }
+            for (int r = 0; r < rowCount; r++) {
+                Bounds bounds = new Bounds();
+                for (int c = 0; c < columnCount; c++) {
+                    bounds.add(value(dataset, r, c));
+                }
+                out.putDouble(bounds.lower());
+                out.putDouble(bounds.upper());
+            }
+            out.align();
+            for (int r = 0; r < rowCount; r++) {
+                for (int c = 0; c < columnCount; c++) {
+                    out.putDouble(value(dataset, r, c));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a value from a category dataset as a primitive.
+     *
+     * @param dataset  the dataset.
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    private static double value(CategoryDataset<?, ?> dataset, int row,
+            int column) {
+        Number n = dataset.getValue(row, column);
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Returns the number of statistics blocks for a series.
+     *
+     * @param itemCount  the item count.
+     *
+     * @return The block count.
+     */
+    private long blockCount(int itemCount) {
+        return (itemCount + (long) this.blockSize - 1) / this.blockSize;
+    }
+
+    /**
+     * Returns {@code true} if two values are the same (including two NaN
+     * values).
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return A boolean.
+     */
+    private static boolean same(double a, double b) {
+        return Double.compare(a, b) == 0;
+    }
+
+    /**
+     * Tracks the minimum and maximum of a sequence of values, ignoring NaN.
+     */
+    private static class Bounds {
+
+        private double lower = Double.POSITIVE_INFINITY;
+
+        private double upper = Double.NEGATIVE_INFINITY;
+
+        void add(double value) {
+            if (value < this.lower) {
+                this.lower = value;
+            }
+            if (value > this.upper) {
+                this.upper = value;
+            }
+        }
+
+        double lower() {
+            return this.lower <= this.upper ? this.lower : Double.NaN;
+        }
+
+        double upper() {
+            return this.lower <= this.upper ? this.upper : Double.NaN;
+        }
+
+    }
+
+    /**
+     * A buffered, little-endian output to a file channel.
+     */
+    private static class Output implements AutoCloseable {
+
+        private final FileChannel channel;
+
+        private final ByteBuffer buffer;
+
+        private long position;
+
+        Output(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void putHeader(short kind, int flags, int blockSize, int count,
+                int columnCount, long directoryLength) throws IOException {
+            putInt(BinaryDatasetFormat.MAGIC);
+            ensure(4);
+            this.buffer.putShort(BinaryDatasetFormat.VERSION);
+            this.buffer.putShort(kind);
+            this.position += 4;
+            putInt(flags);
+            putInt(blockSize);
+            putInt(count);
+            putInt(columnCount);
+            putLong(directoryLength);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            this.buffer.putInt(value);
+            this.position += 4;
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            this.buffer.putLong(value);
+            this.position += 8;
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            this.buffer.putDouble(value);
+            this.position += 8;
+        }
+
+        void putKey(byte[] key) throws IOException {
+            putInt(key.length);
+            int offset = 0;
+            while (offset < key.length) {
+                ensure(1);
+                int n = Math.min(key.length - offset, this.buffer.remaining());
+                this.buffer.put(key, offset, n);
+                offset += n;
+            }
+            this.position += key.length;
+        }
+
+        void align() throws IOException {
+            while ((this.position & 7L) != 0) {
+                ensure(1);
+                this.buffer.put((byte) 0);
+                this.position++;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                this.channel.close();
+            }
+        }
+
+    }
+
+}
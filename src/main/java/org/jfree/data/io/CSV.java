@@ -51,7 +51,7 @@ import org.jfree.data.category.DefaultCategoryDataset;
 /**
  * A utility class for reading {@link CategoryDataset} data from a CSV file.
  * This initial version is very basic, and won't handle errors in the data
- * file very gracefully.
+ * file very gracefully.  For large inputs, see {@link CSVReader}.
  */
 public class CSV {
 
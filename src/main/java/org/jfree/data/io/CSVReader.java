@@ -0,0 +1,729 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.category.DoubleMatrixCategoryDataset;
+import org.jfree.data.general.BatchUpdate;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYArraySeries;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * A streaming reader for CSV (or TSV) data.  Unlike {@link CSV}, the input 
+ * is read from a {@link ReadableByteChannel} into reusable buffers (a 
+ * {@link FileChannel} is memory-mapped) and each record is passed to a
+ * handler as it is parsed, so the memory used does not depend on the size 
+ * of the input.  The methods that load series and datasets add the data in
+ * batches and send a single change event at the end.
+ * <p>
+ * Fields may be enclosed in text delimiters, in which case they can contain
+ * field delimiters and line breaks, and a pair of text delimiters stands for
+ * one delimiter character.  White space around unquoted fields is ignored.
+ * Blank lines are skipped.
+ * <p>
+ * Instances of this class are not thread-safe, but can be reused for 
+ * several inputs.
+ *
+ * @since 2.0.0
+ */
+public class CSVReader {
+
+    /** The default size of the character buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The size of the windows used to map a file into memory. */
+    private static final long MAPPED_WINDOW_SIZE = 64L * 1024L * 1024L;
+
+    /** The default number of items that are added to a series at once. */
+    private static final int DEFAULT_BATCH_SIZE = 8192;
+
+    /** The field delimiter. */
+    private final char fieldDelimiter;
+
+    /** The text delimiter. */
+    private final char textDelimiter;
+
+    /** The character set of the input. */
+    private Charset charset;
+
+    /** The number of records to skip at the start of the input. */
+    private int skipRecords;
+
+    /** The number of items added to a series at once. */
+    private int batchSize;
+
+    /** The character buffer. */
+    private char[] chars;
+
+    /** The number of valid characters in the buffer. */
+    private int limit;
+
+    /** The start of the first record that has not been parsed yet. */
+    private int recordStart;
+
+    /** The number of records parsed from the current input. */
+    private long recordCount;
+
+    /** The record passed to the handler (reused). */
+    private CSVRecord record;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, and the
+     * text delimiter is a double-quote.
+     */
+    public CSVReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma, semi-colon,
+     *                        colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *                       quote).
+     */
+    public CSVReader(char fieldDelimiter, char textDelimiter) {
+        if (fieldDelimiter == textDelimiter || isLineBreak(fieldDelimiter)
+                || isLineBreak(textDelimiter)) {
+            throw new IllegalArgumentException("Invalid delimiters.");
+        }
+        this.fieldDelimiter = fieldDelimiter;
+        this.textDelimiter = textDelimiter;
+        this.charset = StandardCharsets.UTF_8;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Returns the field delimiter.
+     *
+     * @return The field delimiter.
+     */
+    public char getFieldDelimiter() {
+        return this.fieldDelimiter;
+    }
+
+    /**
+     * Returns the text delimiter.
+     *
+     * @return The text delimiter.
+     */
+    public char getTextDelimiter() {
+        return this.textDelimiter;
+    }
+
+    /**
+     * Returns the character set used to decode the input.  The default is
+     * UTF-8.
+     *
+     * @return The character set (never {@code null}).
+     */
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /**
+     * Sets the character set used to decode the input.
+     *
+     * @param charset  the character set ({@code null} not permitted).
+     */
+    public void setCharset(Charset charset) {
+        Args.nullNotPermitted(charset, "charset");
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the number of records that are skipped at the start of the 
+     * input (for example, header lines).  The default is zero.
+     *
+     * @return The number of records.
+     */
+    public int getSkipRecords() {
+        return this.skipRecords;
+    }
+
+    /**
+     * Sets the number of records that are skipped at the start of the input.
+     *
+     * @param count  the number of records (zero or more).
+     */
+    public void setSkipRecords(int count) {
+        Args.requireNonNegative(count, "count");
+        this.skipRecords = count;
+    }
+
+    /**
+     * Returns the number of items that are added to a series at once by 
+     * {@link #readXYArraySeries(ReadableByteChannel, int, int, XYArraySeries)}.
+     * The default is 8192.
+     *
+     * @return The batch size.
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of items that are added to a series at once.
+     *
+     * @param size  the batch size (must be positive).
+     */
+    public void setBatchSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Requires 'size' > 0.");
+        }
+        this.batchSize = size;
+    }
+
+    /**
+     * Reads the records from a channel and passes each one to the handler.
+     * The record instance is reused, so the handler must not keep a 
+     * reference to it.  The channel is read to the end but not closed.
+     *
+     * @param in  the input channel ({@code null} not permitted).
+     * @param handler  the record handler ({@code null} not permitted).
+     *
+     * @return The number of records passed to the handler.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public long read(ReadableByteChannel in, Consumer<CSVRecord> handler)
+            throws IOException {
+        Args.nullNotPermitted(in, "in");
+        Args.nullNotPermitted(handler, "handler");
+        if (this.chars == null) {
+            this.chars = new char[BUFFER_SIZE];
+        }
+        this.limit = 0;
+        this.recordStart = 0;
+        this.recordCount = 0L;
+        this.record = new CSVRecord(this.textDelimiter);
+        this.record.chars = this.chars;
+        CharsetDecoder decoder = this.charset.newDecoder();
+        if (in instanceof FileChannel) {
+            readMapped((FileChannel) in, decoder, handler);
+        } else {
+            ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+            while (in.read(bytes) >= 0) {
+                bytes.flip();
+                decode(decoder, bytes, false, handler);
+                bytes.compact();
+            }
+            bytes.flip();
+            decode(decoder, bytes, true, handler);
+        }
+        CharBuffer out = CharBuffer.wrap(this.chars, this.limit, 
+                this.chars.length - this.limit);
+        while (decoder.flush(out).isOverflow()) {
+            makeRoom(handler);
+            out = CharBuffer.wrap(this.chars, this.limit, 
+                    this.chars.length - this.limit);
+        }
+        this.limit = out.position();
+        parseRecords(true, handler);
+        this.record = null;
+        return Math.max(0L, this.recordCount - this.skipRecords);
+    }
+
+    /**
+     * Reads a file channel from its current position to the end by mapping
+     * it into memory, one window at a time.
+     *
+     * @param in  the file channel.
+     * @param decoder  the decoder.
+     * @param handler  the record handler.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void readMapped(FileChannel in, CharsetDecoder decoder, 
+            Consumer<CSVRecord> handler) throws IOException {
+        long position = in.position();
+        long size = in.size();
+        if (position >= size) {
+            decode(decoder, ByteBuffer.allocate(0), true, handler);
+        }
+        while (position < size) {
+            long length = Math.min(MAPPED_WINDOW_SIZE, size - position);
+            MappedByteBuffer bytes = in.map(FileChannel.MapMode.READ_ONLY, 
+                    position, length);
+            boolean last = position + length == size;
+            decode(decoder, bytes, last, handler);
+            // bytes of a character that spans two windows are left in the
+            // buffer and mapped again with the next window
+            position += bytes.position();
+            if (!last && bytes.position() == 0) {
+                throw new IOException("Cannot decode the input.");
+            }
+        }
+        in.position(position);
+    }
+
+    /**
+     * Decodes bytes into the character buffer, parsing complete records 
+     * whenever the buffer is full.
+     *
+     * @param decoder  the decoder.
+     * @param bytes  the bytes.
+     * @param endOfInput  is this the end of the input?
+     * @param handler  the record handler.
+     *
+     * @throws IOException if the input cannot be decoded.
+     */
+    private void decode(CharsetDecoder decoder, ByteBuffer bytes, 
+            boolean endOfInput, Consumer<CSVRecord> handler) 
+            throws IOException {
+        while (true) {
+            CharBuffer out = CharBuffer.wrap(this.chars, this.limit, 
+                    this.chars.length - this.limit);
+            CoderResult result = decoder.decode(bytes, out, endOfInput);
+            this.limit = out.position();
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isUnderflow()) {
+                return;
+            }
+            makeRoom(handler);
+        }
+    }
+
+    /**
+     * Parses the complete records in the buffer and then moves the 
+     * remaining characters to the start of the buffer, growing the buffer
+     * if a single record does not fit.
+     *
+     * @param handler  the record handler.
+     */
+    private void makeRoom(Consumer<CSVRecord> handler) {
+        parseRecords(false, handler);
+        int remaining = this.limit - this.recordStart;
+        if (this.recordStart == 0) {
+            this.chars = Arrays.copyOf(this.chars, this.chars.length * 2);
+            this.record.chars = this.chars;
+        } else {
+            System.arraycopy(this.chars, this.recordStart, this.chars, 0,
+                    remaining);
+        }
+        this.recordStart = 0;
+        this.limit = remaining;
+    }
+
+    /**
+     * Parses the complete records in the buffer.
+     *
+     * @param endOfInput  is the end of the input in the buffer?
+     * @param handler  the record handler.
+     */
+    private void parseRecords(boolean endOfInput, 
+            Consumer<CSVRecord> handler) {
+        while (this.recordStart < this.limit) {
+            int next = parseRecord(this.recordStart, endOfInput);
+            if (next < 0) {
+                return;  // the record is not complete
+            }
+            CSVRecord r = this.record;
+            boolean blank = r.fieldCount == 1 && r.starts[0] == r.ends[0]
+                    && !isText(this.recordStart);
+            if (!blank) {
+                if (this.recordCount >= this.skipRecords) {
+                    r.recordIndex = this.recordCount;
+                    handler.accept(r);
+                }
+                this.recordCount++;
+            }
+            this.recordStart = next;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the record starting at the specified position
+     * begins with a text delimiter (after any white space).
+     *
+     * @param start  the start of the record.
+     *
+     * @return A boolean.
+     */
+    private boolean isText(int start) {
+        int p = start;
+        while (p < this.limit && isSpace(this.chars[p])) {
+            p++;
+        }
+        return p < this.limit && this.chars[p] == this.textDelimiter;
+    }
+
+    /**
+     * Parses one record into the {@link CSVRecord} instance.
+     *
+     * @param start  the start of the record.
+     * @param endOfInput  is the end of the input in the buffer?
+     *
+     * @return The position after the record (including the line break), or
+     *     -1 if the record is not complete.
+     */
+    private int parseRecord(int start, boolean endOfInput) {
+        char[] c = this.chars;
+        int end = this.limit;
+        CSVRecord r = this.record;
+        r.fieldCount = 0;
+        int p = start;
+        while (true) {
+            while (p < end && isSpace(c[p])) {
+                p++;
+            }
+            int fieldStart;
+            int fieldEnd;
+            boolean hasEscapes = false;
+            if (p < end && c[p] == this.textDelimiter) {
+                p++;
+                fieldStart = p;
+                while (true) {
+                    if (p >= end) {
+                        if (!endOfInput) {
+                            return -1;
+                        }
+                        fieldEnd = end;  // unterminated text
+                        break;
+                    }
+                    if (c[p] == this.textDelimiter) {
+                        if (p + 1 >= end && !endOfInput) {
+                            return -1;
+                        }
+                        if (p + 1 < end && c[p + 1] == this.textDelimiter) {
+                            hasEscapes = true;
+                            p += 2;
+                            continue;
+                        }
+                        fieldEnd = p;
+                        p++;
+                        break;
+                    }
+                    p++;
+                }
+                // ignore anything between the closing delimiter and the 
+                // end of the field
+                while (p < end && c[p] != this.fieldDelimiter 
+                        && !isLineBreak(c[p])) {
+                    p++;
+                }
+            } else {
+                fieldStart = p;
+                while (p < end && c[p] != this.fieldDelimiter 
+                        && !isLineBreak(c[p])) {
+                    p++;
+                }
+                fieldEnd = p;
+                while (fieldEnd > fieldStart && isSpace(c[fieldEnd - 1])) {
+                    fieldEnd--;
+                }
+            }
+            if (p >= end && !endOfInput) {
+                return -1;
+            }
+            r.addField(fieldStart, fieldEnd, hasEscapes);
+            if (p >= end) {
+                return end;
+            }
+            if (c[p] == this.fieldDelimiter) {
+                p++;
+                continue;
+            }
+            // a line break: \n, \r or \r\n
+            if (c[p] == '\r') {
+                if (p + 1 >= end && !endOfInput) {
+                    return -1;
+                }
+                if (p + 1 < end && c[p + 1] == '\n') {
+                    p++;
+                }
+            }
+            return p + 1;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the character is white space that is ignored
+     * around fields (a space or tab that is not the field delimiter).
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private boolean isSpace(char c) {
+        return (c == ' ' || c == '\t') && c != this.fieldDelimiter;
+    }
+
+    /**
+     * Returns {@code true} if the character is a line break.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * Reads (x, y) values from two columns of the input and adds them to a
+     * series.  A single {@code SeriesChangeEvent} is sent when the input 
+     * has been read.
+     *
+     * @param in  the input channel ({@code null} not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumn  the index of the column containing the y-values.
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The number of items added.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public long readXYSeries(ReadableByteChannel in, int xColumn, 
+            int yColumn, XYSeries<?> series) throws IOException {
+        Args.nullNotPermitted(series, "series");
+        try {
+            return read(in, r -> series.add(r.getDouble(xColumn), 
+                    r.getDouble(yColumn), false));
+        } finally {
+            series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Reads (x, y) values from two columns of the input and appends them to
+     * a series backed by primitive arrays, {@code batchSize} items at a 
+     * time.  The x-values must be in ascending order.  A single 
+     * {@code SeriesChangeEvent} is sent when the input has been read.
+     *
+     * @param in  the input channel ({@code null} not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumn  the index of the column containing the y-values.
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The number of items added.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @SuppressWarnings("try")
+    public long readXYArraySeries(ReadableByteChannel in, int xColumn, 
+            int yColumn, XYArraySeries<?> series) throws IOException {
+        Args.nullNotPermitted(series, "series");
+        XYArrayHandler handler = new XYArrayHandler(xColumn, yColumn, series,
+                this.batchSize);
+        try (BatchUpdate batch = series.beginBatch()) {
+            long result = read(in, handler);
+            handler.flush();
+            return result;
+        }
+    }
+
+    /**
+     * Reads values from the input and adds them to a time series.  The time
+     * column contains milliseconds since 1970-01-01T00:00Z, which are 
+     * converted to time periods of the specified class in the specified 
+     * time zone.  A single {@code SeriesChangeEvent} is sent when the input 
+     * has been read.
+     *
+     * @param in  the input channel ({@code null} not permitted).
+     * @param timeColumn  the index of the column containing the times.
+     * @param valueColumn  the index of the column containing the values.
+     * @param series  the series ({@code null} not permitted).
+     * @param periodClass  the time period class ({@code null} not 
+     *     permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @return The number of items added.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public long readTimeSeries(ReadableByteChannel in, int timeColumn, 
+            int valueColumn, TimeSeries<?> series, 
+            Class<? extends RegularTimePeriod> periodClass, TimeZone zone,
+            Locale locale) throws IOException {
+        Args.nullNotPermitted(series, "series");
+        Args.nullNotPermitted(periodClass, "periodClass");
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(locale, "locale");
+        try {
+            return read(in, r -> {
+                RegularTimePeriod period = RegularTimePeriod.createInstance(
+                        periodClass, new Date(r.getLong(timeColumn)), zone,
+                        locale);
+                series.add(period, r.getDouble(valueColumn), false);
+            });
+        } finally {
+            series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Reads a category dataset in the same layout as 
+     * {@link CSV#readCategoryDataset(java.io.Reader)}: the first record 
+     * contains the column keys (the first field is ignored) and each other
+     * record contains a row key followed by one value for each column.  
+     * Empty fields are missing values.
+     *
+     * @param in  the input channel ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public DoubleMatrixCategoryDataset<String, String> readCategoryDataset(
+            ReadableByteChannel in) throws IOException {
+        CategoryHandler handler = new CategoryHandler();
+        read(in, handler);
+        DoubleMatrixCategoryDataset<String, String> result = handler.dataset;
+        if (result == null) {
+            return new DoubleMatrixCategoryDataset<>();
+        }
+        result.setNotify(true);
+        return result;
+    }
+
+    /**
+     * A record handler that appends (x, y) values to an 
+     * {@link XYArraySeries} in blocks.
+     */
+    private static class XYArrayHandler implements Consumer<CSVRecord> {
+
+        /** The index of the column containing the x-values. */
+        private final int xColumn;
+
+        /** The index of the column containing the y-values. */
+        private final int yColumn;
+
+        /** The series. */
+        private final XYArraySeries<?> series;
+
+        /** The pending x-values. */
+        private final double[] x;
+
+        /** The pending y-values. */
+        private final double[] y;
+
+        /** The number of pending values. */
+        private int count;
+
+        /**
+         * Creates a new handler.
+         *
+         * @param xColumn  the x column.
+         * @param yColumn  the y column.
+         * @param series  the series.
+         * @param batchSize  the number of values added at once.
+         */
+        XYArrayHandler(int xColumn, int yColumn, XYArraySeries<?> series,
+                int batchSize) {
+            this.xColumn = xColumn;
+            this.yColumn = yColumn;
+            this.series = series;
+            this.x = new double[batchSize];
+            this.y = new double[batchSize];
+        }
+
+        @Override
+        public void accept(CSVRecord r) {
+            this.x[this.count] = r.getDouble(this.xColumn);
+            this.y[this.count] = r.getDouble(this.yColumn);
+            this.count++;
+            if (this.count == this.x.length) {
+                this.series.add(this.x, this.y);
+                this.count = 0;
+            }
+        }
+
+        /**
+         * Adds the pending values to the series.
+         */
+        void flush() {
+            if (this.count > 0) {
+                this.series.add(Arrays.copyOf(this.x, this.count), 
+                        Arrays.copyOf(this.y, this.count));
+                this.count = 0;
+            }
+        }
+
+    }
+
+    /**
+     * A record handler that builds a {@link DoubleMatrixCategoryDataset}.
+     */
+    private static class CategoryHandler implements Consumer<CSVRecord> {
+
+        /** The dataset (created when the header record is read). */
+        private DoubleMatrixCategoryDataset<String, String> dataset;
+
+        /** The values for the current row (reused). */
+        private double[] values;
+
+        @Override
+        public void accept(CSVRecord r) {
+            if (this.dataset == null) {
+                List<String> columnKeys = new ArrayList<>();
+                for (int i = 1; i < r.getFieldCount(); i++) {
+                    columnKeys.add(r.getString(i));
+                }
+                this.dataset = new DoubleMatrixCategoryDataset<>(
+                        new ArrayList<String>(), columnKeys);
+                // no events while the dataset is loaded
+                this.dataset.setNotify(false);
+                this.values = new double[columnKeys.size()];
+                return;
+            }
+            for (int i = 0; i < this.values.length; i++) {
+                this.values[i] = i + 1 < r.getFieldCount() 
+                        ? r.getDouble(i + 1) : Double.NaN;
+            }
+            this.dataset.setRow(r.getString(0), this.values);
+        }
+
+    }
+
+}
@@ -0,0 +1,322 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.util.Arrays;
+
+/**
+ * A single record (line) read by a {@link CSVReader}.  To avoid creating
+ * objects for every record, the reader reuses one instance of this class and
+ * the fields are views onto the reader's character buffer, so a record is 
+ * only valid during the call to the handler that receives it.  Numbers are 
+ * parsed directly from the buffer, without creating intermediate strings.
+ *
+ * @since 2.0.0
+ */
+public final class CSVRecord {
+
+    /** Powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+        1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** 
+     * The maximum number of significant digits for the fast path in
+     * {@link #getDouble(int)}. 
+     */
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /** The text delimiter (used to unescape quoted fields). */
+    private final char textDelimiter;
+
+    /** The characters (shared with the reader). */
+    char[] chars;
+
+    /** The start of each field (inclusive). */
+    int[] starts;
+
+    /** The end of each field (exclusive). */
+    int[] ends;
+
+    /** A flag for each field that contains escaped text delimiters. */
+    boolean[] escaped;
+
+    /** The number of fields. */
+    int fieldCount;
+
+    /** The index of the record in the input (zero-based). */
+    long recordIndex;
+
+    /**
+     * Creates a new record.
+     *
+     * @param textDelimiter  the text delimiter.
+     */
+    CSVRecord(char textDelimiter) {
+        this.textDelimiter = textDelimiter;
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.escaped = new boolean[16];
+    }
+
+    /**
+     * Adds a field to the record.
+     *
+     * @param start  the start of the field (inclusive).
+     * @param end  the end of the field (exclusive).
+     * @param hasEscapes  does the field contain escaped text delimiters?
+     */
+    void addField(int start, int end, boolean hasEscapes) {
+        if (this.fieldCount == this.starts.length) {
+            int capacity = this.fieldCount * 2;
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.escaped = Arrays.copyOf(this.escaped, capacity);
+        }
+        this.starts[this.fieldCount] = start;
+        this.ends[this.fieldCount] = end;
+        this.escaped[this.fieldCount] = hasEscapes;
+        this.fieldCount++;
+    }
+
+    /**
+     * Returns the index of the record in the input (zero-based, and 
+     * including any skipped records but not blank lines).
+     *
+     * @return The record index.
+     */
+    public long getRecordIndex() {
+        return this.recordIndex;
+    }
+
+    /**
+     * Returns the number of fields in the record.
+     *
+     * @return The field count.
+     */
+    public int getFieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * Checks that a field index is valid.
+     *
+     * @param field  the field index.
+     */
+    private void checkField(int field) {
+        if (field < 0 || field >= this.fieldCount) {
+            throw new IndexOutOfBoundsException("Record " + this.recordIndex
+                    + " has no field " + field + ".");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified field is empty, and 
+     * {@code false} otherwise.
+     *
+     * @param field  the field index (zero-based).
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty(int field) {
+        checkField(field);
+        return this.starts[field] == this.ends[field];
+    }
+
+    /**
+     * Returns the specified field as a string, without the text delimiters.
+     * Note that this method creates a new string.
+     *
+     * @param field  the field index (zero-based).
+     *
+     * @return The field text (never {@code null}).
+     */
+    public String getString(int field) {
+        checkField(field);
+        int start = this.starts[field];
+        int end = this.ends[field];
+        if (!this.escaped[field]) {
+            return new String(this.chars, start, end - start);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = this.chars[i];
+            sb.append(c);
+            if (c == this.textDelimiter) {
+                i++;  // skip the second delimiter of the pair
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the specified field as a {@code double}.  Decimal numbers with
+     * up to 15 significant digits are parsed directly from the character
+     * buffer, other values fall back to {@link Double#parseDouble(String)}.
+     * An empty field is returned as {@code Double.NaN}.
+     *
+     * @param field  the field index (zero-based).
+     *
+     * @return The value.
+     *
+     * @throws NumberFormatException if the field is not a number.
+     */
+    public double getDouble(int field) {
+        checkField(field);
+        int start = this.starts[field];
+        int end = this.ends[field];
+        if (start == end) {
+            return Double.NaN;
+        }
+        char[] c = this.chars;
+        int p = start;
+        boolean negative = false;
+        if (c[p] == '-' || c[p] == '+') {
+            negative = c[p] == '-';
+            p++;
+        }
+        long mantissa = 0L;
+        int digits = 0;  // significant digits in the mantissa
+        int exponent = 0;
+        boolean anyDigits = false;
+        while (p < end && c[p] >= '0' && c[p] <= '9') {
+            if (mantissa != 0L || c[p] != '0') {
+                if (digits < MAX_FAST_DIGITS) {
+                    mantissa = mantissa * 10L + (c[p] - '0');
+                } else {
+                    exponent++;
+                }
+                digits++;
+            }
+            anyDigits = true;
+            p++;
+        }
+        if (p < end && c[p] == '.') {
+            p++;
+            while (p < end && c[p] >= '0' && c[p] <= '9') {
+                if (mantissa != 0L || c[p] != '0') {
+                    if (digits < MAX_FAST_DIGITS) {
+                        mantissa = mantissa * 10L + (c[p] - '0');
+                        exponent--;
+                    }
+                    digits++;
+                } else {
+                    exponent--;
+                }
+                anyDigits = true;
+                p++;
+            }
+        }
+        if (anyDigits && p < end && (c[p] == 'e' || c[p] == 'E')) {
+            p++;
+            boolean negativeExponent = false;
+            if (p < end && (c[p] == '-' || c[p] == '+')) {
+                negativeExponent = c[p] == '-';
+                p++;
+            }
+            int e = 0;
+            boolean exponentDigits = false;
+            while (p < end && c[p] >= '0' && c[p] <= '9') {
+                if (e < 10000) {
+                    e = e * 10 + (c[p] - '0');
+                }
+                exponentDigits = true;
+                p++;
+            }
+            if (!exponentDigits) {
+                return parseDouble(start, end);
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (!anyDigits || p != end || digits > MAX_FAST_DIGITS) {
+            return parseDouble(start, end);
+        }
+        double result;
+        if (mantissa == 0L) {
+            result = 0.0;
+        } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            result = mantissa * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            // both operands are exact, so the division is correctly rounded
+            result = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return parseDouble(start, end);
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a field with {@link Double#parseDouble(String)}.
+     *
+     * @param start  the start of the field.
+     * @param end  the end of the field.
+     *
+     * @return The value.
+     */
+    private double parseDouble(int start, int end) {
+        return Double.parseDouble(new String(this.chars, start, end - start));
+    }
+
+    /**
+     * Returns the specified field as a {@code long}.
+     *
+     * @param field  the field index (zero-based).
+     *
+     * @return The value.
+     *
+     * @throws NumberFormatException if the field is not an integer (or is
+     *     empty).
+     */
+    public long getLong(int field) {
+        checkField(field);
+        int start = this.starts[field];
+        int end = this.ends[field];
+        char[] c = this.chars;
+        int p = start;
+        boolean negative = false;
+        if (p < end && (c[p] == '-' || c[p] == '+')) {
+            negative = c[p] == '-';
+            p++;
+        }
+        // 18 digits cannot overflow, longer values are checked by the JDK
+        if (p == end || end - p > 18) {
+            return Long.parseLong(new String(c, start, end - start));
+        }
+        long result = 0L;
+        for (; p < end; p++) {
+            int digit = c[p] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(c, start, end - start));
+            }
+            result = result * 10L + digit;
+        }
+        return negative ? -result : result;
+    }
+
+}
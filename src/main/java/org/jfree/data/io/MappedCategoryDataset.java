@@ -0,0 +1,381 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.AbstractDataset;
+
+/**
+ * A read-only {@link CategoryDataset} that is a view of a file written by
+ * {@link BinaryDatasetWriter#writeCategoryDataset}.  The values are 
+ * memory-mapped rather than read, and the range of the values is taken from
+ * the statistics stored for each row.  The row and column keys are strings.
+ * When this dataset is serialized, only the path of the file is written.
+ *
+ * @since 2.0.0
+ */
+public class MappedCategoryDataset extends AbstractDataset
+        implements CategoryDataset<String, String>, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2871593746012258395L;
+
+    /** The file (stored as a string for serialization). */
+    private final String path;
+
+    /** The row keys. */
+    private transient List<String> rowKeys;
+
+    /** A map from row key to row index. */
+    private transient Map<String, Integer> rowIndices;
+
+    /** The column keys. */
+    private transient List<String> columnKeys;
+
+    /** A map from column key to column index. */
+    private transient Map<String, Integer> columnIndices;
+
+    /** The minimum and maximum value in each row. */
+    private transient double[] rowBounds;
+
+    /** The values, in row-major order. */
+    private transient DoubleBuffer[] values;
+
+    /**
+     * Creates a dataset that is a view of the specified file.
+     *
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem or the file is not in
+     *     the expected format.
+     */
+    public MappedCategoryDataset(Path path) throws IOException {
+        Args.nullNotPermitted(path, "path");
+        this.path = path.toString();
+        map();
+    }
+
+    /**
+     * Reads the keys and statistics, and maps the values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(this.path),
+                StandardOpenOption.READ)) {
+            ByteBuffer header = BinaryDatasetFormat.readHeader(channel,
+                    BinaryDatasetFormat.KIND_CATEGORY);
+            header.getInt();  // flags
+            header.getInt();  // block size
+            int rowCount = header.getInt();
+            int columnCount = header.getInt();
+            long directoryLength = header.getLong();
+            ByteBuffer directory = BinaryDatasetFormat.read(channel,
+                    BinaryDatasetFormat.HEADER_LENGTH, directoryLength);
+            String[] rows = new String[rowCount];
+            String[] columns = new String[columnCount];
+            this.rowIndices = readKeys(directory, rows);
+            this.columnIndices = readKeys(directory, columns);
+            this.rowKeys = Collections.unmodifiableList(Arrays.asList(rows));
+            this.columnKeys = Collections.unmodifiableList(
+                    Arrays.asList(columns));
+            this.rowBounds = new double[rowCount * 2];
+            for (int i = 0; i < this.rowBounds.length; i++) {
+                this.rowBounds[i] = directory.getDouble();
+            }
+            this.values = BinaryDatasetFormat.map(channel,
+                    BinaryDatasetFormat.align(BinaryDatasetFormat.HEADER_LENGTH
+                    + directoryLength), (long) rowCount * columnCount);
+        }
+    }
+
+    /**
+     * Reads a sequence of keys.
+     *
+     * @param directory  the directory.
+     * @param keys  the array to fill.
+     *
+     * @return A map from key to index.
+     *
+     * @throws IOException if the file contains duplicate keys.
+     */
+    private static Map<String, Integer> readKeys(ByteBuffer directory, 
+            String[] keys) throws IOException {
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = BinaryDatasetFormat.readKey(directory);
+            if (result.putIfAbsent(keys[i], i) != null) {
+                throw new IOException("Duplicate key: " + keys[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the path of the file that this dataset is a view of.
+     *
+     * @return The path (never {@code null}).
+     */
+    public Path getPath() {
+        return Paths.get(this.path);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    @Override
+    public String getRowKey(int row) {
+        return this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key ({@code null} not permitted).
+     *
+     * @return The row index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getRowIndex(String key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.rowIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    @Override
+    public List<String> getRowKeys() {
+        return this.rowKeys;
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    @Override
+    public String getColumnKey(int column) {
+        return this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key ({@code null} not permitted).
+     *
+     * @return The column index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getColumnIndex(String key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.columnIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    @Override
+    public List<String> getColumnKeys() {
+        return this.columnKeys;
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a
+     * {@code Number} object.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        Args.requireInRange(row, "row", 0, getRowCount() - 1);
+        Args.requireInRange(column, "column", 0, getColumnCount() - 1);
+        return BinaryDatasetFormat.get(this.values,
+                (long) row * getColumnCount() + column);
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double value = getDoubleValue(row, column);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The value (possibly {@code null}).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getValue(String rowKey, String columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised row key: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised column key: " 
+                    + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The minimum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (int i = 0; i < this.rowBounds.length; i += 2) {
+            double value = this.rowBounds[i];
+            if (Double.isNaN(result) || value < result) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The maximum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (int i = 1; i < this.rowBounds.length; i += 2) {
+            double value = this.rowBounds[i];
+            if (Double.isNaN(result) || value > result) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the values in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The range (or {@code null} if the dataset contains no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = getRangeLowerBound(includeInterval);
+        if (Double.isNaN(lower)) {
+            return null;
+        }
+        return new Range(lower, getRangeUpperBound(includeInterval));
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        map();
+    }
+
+}
@@ -0,0 +1,719 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.XYRangeInfo;
+
+/**
+ * A read-only {@link org.jfree.data.xy.IntervalXYDataset} that is a view of
+ * a file written by {@link BinaryDatasetWriter#writeXYDataset}.  The data
+ * columns are memory-mapped rather than read, so creating the dataset takes
+ * the same (short) time whatever the size of the file, and the operating 
+ * system pages the values in as they are accessed.  The bounds of the data
+ * are taken from the statistics stored in the file, and the bounds for a
+ * sub-range of x-values only examine the items in the blocks at the edges 
+ * of the sub-range.
+ * <p>
+ * The series keys are strings.  If the file was written from a
+ * {@link org.jfree.data.time.TimeSeriesCollection}, the x-values are 
+ * milliseconds and {@link #isTimeDomain()} returns {@code true}.  When this 
+ * dataset is serialized, only the path of the file is written.
+ *
+ * @since 2.0.0
+ */
+public class MappedXYDataset extends AbstractIntervalXYDataset<String>
+        implements DomainInfo, RangeInfo, XYRangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5263017838149254711L;
+
+    /** The index of the x-bounds in the series summaries. */
+    private static final int X_BOUNDS = 0;
+
+    /** The index of the x-bounds (including intervals) in the summaries. */
+    private static final int X_INTERVAL_BOUNDS = 2;
+
+    /** The index of the y-bounds in the series summaries. */
+    private static final int Y_BOUNDS = 4;
+
+    /** The index of the y-bounds (including intervals) in the summaries. */
+    private static final int Y_INTERVAL_BOUNDS = 6;
+
+    /** The file (stored as a string for serialization). */
+    private final String path;
+
+    /** The file flags. */
+    private transient int flags;
+
+    /** The number of items per statistics block. */
+    private transient int blockSize;
+
+    /** The series keys. */
+    private transient String[] keys;
+
+    /** The number of items in each series. */
+    private transient int[] itemCounts;
+
+    /** A flag for each series that is in ascending order of x. */
+    private transient boolean[] ascending;
+
+    /** The summary statistics for each series. */
+    private transient double[][] summaries;
+
+    /** The x-values for each series. */
+    private transient DoubleBuffer[][] xValues;
+
+    /** The y-values for each series. */
+    private transient DoubleBuffer[][] yValues;
+
+    /** The start x-values for each series (or {@code null}). */
+    private transient DoubleBuffer[][] startXValues;
+
+    /** The end x-values for each series (or {@code null}). */
+    private transient DoubleBuffer[][] endXValues;
+
+    /** The start y-values for each series (or {@code null}). */
+    private transient DoubleBuffer[][] startYValues;
+
+    /** The end y-values for each series (or {@code null}). */
+    private transient DoubleBuffer[][] endYValues;
+
+    /** The block statistics for each series. */
+    private transient DoubleBuffer[][] blockStats;
+
+    /**
+     * Creates a dataset that is a view of the specified file.
+     *
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem or the file is not in
+     *     the expected format.
+     */
+    public MappedXYDataset(Path path) throws IOException {
+        Args.nullNotPermitted(path, "path");
+        this.path = path.toString();
+        map();
+    }
+
+    /**
+     * Reads the directory and maps the data columns.  The channel can be
+     * closed afterwards, because a mapping remains valid until it is 
+     * garbage collected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(this.path),
+                StandardOpenOption.READ)) {
+            ByteBuffer header = BinaryDatasetFormat.readHeader(channel,
+                    BinaryDatasetFormat.KIND_XY);
+            this.flags = header.getInt();
+            this.blockSize = header.getInt();
+            int seriesCount = header.getInt();
+            header.getInt();
+            ByteBuffer directory = BinaryDatasetFormat.read(channel,
+                    BinaryDatasetFormat.HEADER_LENGTH, header.getLong());
+            this.keys = new String[seriesCount];
+            this.itemCounts = new int[seriesCount];
+            this.ascending = new boolean[seriesCount];
+            this.summaries = new double[seriesCount][8];
+            this.xValues = new DoubleBuffer[seriesCount][];
+            this.yValues = new DoubleBuffer[seriesCount][];
+            this.startXValues = new DoubleBuffer[seriesCount][];
+            this.endXValues = new DoubleBuffer[seriesCount][];
+            this.startYValues = new DoubleBuffer[seriesCount][];
+            this.endYValues = new DoubleBuffer[seriesCount][];
+            this.blockStats = new DoubleBuffer[seriesCount][];
+            for (int s = 0; s < seriesCount; s++) {
+                this.keys[s] = BinaryDatasetFormat.readKey(directory);
+                int n = directory.getInt();
+                this.itemCounts[s] = n;
+                this.ascending[s] = (directory.getInt()
+                        & BinaryDatasetFormat.SERIES_ASCENDING) != 0;
+                for (int i = 0; i < 8; i++) {
+                    this.summaries[s][i] = directory.getDouble();
+                }
+                long offset = directory.getLong();
+                this.xValues[s] = BinaryDatasetFormat.map(channel, offset, n);
+                offset += n * 8L;
+                this.yValues[s] = BinaryDatasetFormat.map(channel, offset, n);
+                offset += n * 8L;
+                if (hasFlag(BinaryDatasetFormat.FLAG_X_INTERVALS)) {
+                    this.startXValues[s] = BinaryDatasetFormat.map(channel,
+                            offset, n);
+                    offset += n * 8L;
+                    this.endXValues[s] = BinaryDatasetFormat.map(channel,
+                            offset, n);
+                    offset += n * 8L;
+                }
+                if (hasFlag(BinaryDatasetFormat.FLAG_Y_INTERVALS)) {
+                    this.startYValues[s] = BinaryDatasetFormat.map(channel,
+                            offset, n);
+                    offset += n * 8L;
+                    this.endYValues[s] = BinaryDatasetFormat.map(channel,
+                            offset, n);
+                    offset += n * 8L;
+                }
+                long blocks = (n + (long) this.blockSize - 1) / this.blockSize;
+                this.blockStats[s] = BinaryDatasetFormat.map(channel, offset,
+                        blocks * BinaryDatasetFormat.BLOCK_STATS);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified flag is set in the file header.
+     *
+     * @param flag  the flag.
+     *
+     * @return A boolean.
+     */
+    private boolean hasFlag(int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    /**
+     * Returns the path of the file that this dataset is a view of.
+     *
+     * @return The path (never {@code null}).
+     */
+    public Path getPath() {
+        return Paths.get(this.path);
+    }
+
+    /**
+     * Returns {@code true} if the file was written from a time series
+     * collection, in which case the x-values are milliseconds since 
+     * 1-Jan-1970.
+     *
+     * @return A boolean.
+     */
+    public boolean isTimeDomain() {
+        return hasFlag(BinaryDatasetFormat.FLAG_TIME_DOMAIN);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public String getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the order of the x-values.  This is
+     * {@link DomainOrder#ASCENDING} if the x-values in every series are 
+     * in ascending order.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (boolean b : this.ascending) {
+            if (!b) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCounts[series];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return value(this.xValues[series], series, item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value (possibly {@code null}).
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return toNumber(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return value(this.yValues[series], series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return toNumber(getYValue(series, item));
+    }
+
+    /**
+     * Returns the start x-value for an item within a series (this is the
+     * x-value if the file does not contain x-intervals).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        DoubleBuffer[] column = this.startXValues[series];
+        return value(column != null ? column : this.xValues[series], series,
+                item);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value (possibly {@code null}).
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return toNumber(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the end x-value for an item within a series (this is the
+     * x-value if the file does not contain x-intervals).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        DoubleBuffer[] column = this.endXValues[series];
+        return value(column != null ? column : this.xValues[series], series,
+                item);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value (possibly {@code null}).
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return toNumber(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the start y-value for an item within a series (this is the
+     * y-value if the file does not contain y-intervals).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        DoubleBuffer[] column = this.startYValues[series];
+        return value(column != null ? column : this.yValues[series], series,
+                item);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return toNumber(getStartYValue(series, item));
+    }
+
+    /**
+     * Returns the end y-value for an item within a series (this is the
+     * y-value if the file does not contain y-intervals).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        DoubleBuffer[] column = this.endYValues[series];
+        return value(column != null ? column : this.yValues[series], series,
+                item);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return toNumber(getEndYValue(series, item));
+    }
+
+    /**
+     * Returns a value from a column, after checking the item index (the 
+     * columns for all series are views of the same file, so an index past
+     * the end of a series would otherwise read the next column).
+     *
+     * @param column  the column.
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The value.
+     */
+    private double value(DoubleBuffer[] column, int series, int item) {
+        if (item < 0 || item >= this.itemCounts[series]) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+        return BinaryDatasetFormat.get(column, item);
+    }
+
+    /**
+     * Converts a value to a {@code Number}, with {@code Double.NaN} 
+     * converted to {@code null}.
+     *
+     * @param value  the value.
+     *
+     * @return The number (possibly {@code null}).
+     */
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        return bound(includeInterval ? X_INTERVAL_BOUNDS : X_BOUNDS, true);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        return bound(includeInterval ? X_INTERVAL_BOUNDS : X_BOUNDS, false);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return toRange(getDomainLowerBound(includeInterval),
+                getDomainUpperBound(includeInterval));
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        return bound(includeInterval ? Y_INTERVAL_BOUNDS : Y_BOUNDS, true);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if there are no values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        return bound(includeInterval ? Y_INTERVAL_BOUNDS : Y_BOUNDS, false);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return toRange(getRangeLowerBound(includeInterval),
+                getRangeUpperBound(includeInterval));
+    }
+
+    /**
+     * Returns the range of the y-values for the items in the specified 
+     * series that have x-values within the specified range.  The statistics
+     * stored for each block of items are used where a block lies entirely
+     * inside (or outside) the x-range, so only the items in the blocks that
+     * straddle the edges of the x-range are examined.
+     *
+     * @param visibleSeriesKeys  the keys of the series to include 
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or {@code null} if there are no values in the 
+     *     x-range).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        double xLower = xRange.getLowerBound();
+        double xUpper = xRange.getUpperBound();
+        boolean intervals = includeInterval
+                && hasFlag(BinaryDatasetFormat.FLAG_Y_INTERVALS);
+        int statsOffset = intervals ? 4 : 2;
+        double[] result = {Double.POSITIVE_INFINITY, 
+                Double.NEGATIVE_INFINITY};
+        for (Object key : visibleSeriesKeys) {
+            int series = indexOf(String.valueOf(key));
+            if (series < 0) {
+                continue;
+            }
+            DoubleBuffer[] stats = this.blockStats[series];
+            int n = this.itemCounts[series];
+            for (int start = 0, b = 0; start < n; 
+                    start += this.blockSize, b++) {
+                long base = (long) b * BinaryDatasetFormat.BLOCK_STATS;
+                double blockLower = BinaryDatasetFormat.get(stats, base);
+                double blockUpper = BinaryDatasetFormat.get(stats, base + 1);
+                if (blockLower >= xLower && blockUpper <= xUpper) {
+                    include(result, 
+                            BinaryDatasetFormat.get(stats, base + statsOffset),
+                            BinaryDatasetFormat.get(stats, 
+                                    base + statsOffset + 1));
+                } else if (!(blockUpper < xLower || blockLower > xUpper)) {
+                    // this includes the blocks that have missing x-values
+                    int end = (int) Math.min(n, (long) start + this.blockSize);
+                    scan(series, start, end, xRange, intervals, result);
+                }
+            }
+        }
+        return result[0] <= result[1] ? new Range(result[0], result[1]) 
+                : null;
+    }
+
+    /**
+     * Updates the y-bounds with the items in part of a series that have 
+     * x-values within a range.
+     *
+     * @param series  the series index.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param xRange  the x-range.
+     * @param intervals  include the y-intervals?
+     * @param result  the bounds to update.
+     */
+    private void scan(int series, int start, int end, Range xRange,
+            boolean intervals, double[] result) {
+        DoubleBuffer[] x = this.xValues[series];
+        DoubleBuffer[] y = this.yValues[series];
+        for (int i = start; i < end; i++) {
+            if (xRange.contains(BinaryDatasetFormat.get(x, i))) {
+                double yy = BinaryDatasetFormat.get(y, i);
+                include(result, yy, yy);
+                if (intervals) {
+                    include(result, 
+                            BinaryDatasetFormat.get(this.startYValues[series],
+                                    i),
+                            BinaryDatasetFormat.get(this.endYValues[series],
+                                    i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the bounds with a lower and upper value (NaN is ignored).
+     *
+     * @param result  the bounds.
+     * @param lower  the lower value.
+     * @param upper  the upper value.
+     */
+    private static void include(double[] result, double lower, 
+            double upper) {
+        if (lower < result[0]) {
+            result[0] = lower;
+        }
+        if (upper > result[1]) {
+            result[1] = upper;
+        }
+    }
+
+    /**
+     * Returns the lower or upper bound of a pair of summary values, over all
+     * series.
+     *
+     * @param index  the index of the lower value in the summaries.
+     * @param lower  {@code true} for the lower bound.
+     *
+     * @return The bound ({@code Double.NaN} if there are no values).
+     */
+    private double bound(int index, boolean lower) {
+        double[] result = {Double.POSITIVE_INFINITY, 
+                Double.NEGATIVE_INFINITY};
+        for (double[] summary : this.summaries) {
+            include(result, summary[index], summary[index + 1]);
+        }
+        if (result[0] > result[1]) {
+            return Double.NaN;
+        }
+        return lower ? result[0] : result[1];
+    }
+
+    /**
+     * Creates a range from a pair of bounds.
+     *
+     * @param lower  the lower bound.
+     * @param upper  the upper bound.
+     *
+     * @return The range, or {@code null} if the bounds are NaN.
+     */
+    private static Range toRange(double lower, double upper) {
+        return Double.isNaN(lower) ? null : new Range(lower, upper);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        map();
+    }
+
+}
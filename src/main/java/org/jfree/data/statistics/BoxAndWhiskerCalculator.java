@@ -150,6 +150,87 @@ public abstract class BoxAndWhiskerCalculator {
 
     }
 
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from a sketch, using the same rules as for a list of values.  If the
+     * sketch holds no more values than it keeps at each end, the result is
+     * exact; otherwise the quartiles are estimates, and if there are more
+     * outliers at one end than the sketch keeps, only the most extreme 
+     * outliers are included and the whisker at that end is drawn to the 
+     * outlier threshold.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     *
+     * @return A box-and-whisker item ({@code null} if the sketch is empty).
+     *
+     * @since 2.0.0
+     */
+    public static BoxAndWhiskerItem calculateSketchStatistics(
+            BoxAndWhiskerSketch sketch) {
+        Args.nullNotPermitted(sketch, "sketch");
+        synchronized (sketch) {
+            long count = sketch.getCount();
+            if (count == 0) {
+                return null;
+            }
+            double[] lowest = sketch.getLowestValues();
+            if (count <= lowest.length) {
+                List<Double> values = new ArrayList<>(lowest.length);
+                for (double v : lowest) {
+                    values.add(v);
+                }
+                return calculateBoxAndWhiskerStatistics(values, false);
+            }
+            double[] highest = sketch.getHighestValues();
+            double q1 = sketch.getQuantile(0.25);
+            double q3 = sketch.getQuantile(0.75);
+            double interQuartileRange = q3 - q1;
+
+            double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+            double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+            double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+            double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+            List<Number> outliers = new ArrayList<>();
+            double minRegularValue = lowerOutlierThreshold;
+            double minOutlier = Double.POSITIVE_INFINITY;
+            for (double value : lowest) {
+                if (value >= lowerOutlierThreshold) {
+                    minRegularValue = value;
+                    break;
+                }
+                outliers.add(value);
+                if (value < minOutlier && value >= lowerFaroutThreshold) {
+                    minOutlier = value;
+                }
+            }
+            double maxRegularValue = upperOutlierThreshold;
+            double maxOutlier = Double.NEGATIVE_INFINITY;
+            int firstUpper = highest.length;
+            for (int i = highest.length - 1; i >= 0; i--) {
+                double value = highest[i];
+                if (value <= upperOutlierThreshold) {
+                    maxRegularValue = value;
+                    break;
+                }
+                firstUpper = i;
+                if (value > maxOutlier && value <= upperFaroutThreshold) {
+                    maxOutlier = value;
+                }
+            }
+            for (int i = firstUpper; i < highest.length; i++) {
+                outliers.add(highest[i]);
+            }
+            minOutlier = Math.min(minOutlier, minRegularValue);
+            maxOutlier = Math.max(maxOutlier, maxRegularValue);
+
+            return new BoxAndWhiskerItem(sketch.getMean(), 
+                    sketch.getQuantile(0.5), q1, q3, minRegularValue, 
+                    maxRegularValue, minOutlier, maxOutlier, outliers);
+        }
+    }
+
     /**
      * Calculates the first quartile for a list of numbers in ascending order.
      * If the items in the list are not in ascending order, the result is
@@ -0,0 +1,397 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+
+/**
+ * Summarises a stream of values for a box-and-whisker plot in a fixed 
+ * amount of memory: the quartiles are estimated with a 
+ * {@link QuantileSketch}, and the smallest and largest values (up to a 
+ * fixed number at each end) are kept so that the whiskers and the outliers
+ * can be found.  Use 
+ * {@link BoxAndWhiskerCalculator#calculateSketchStatistics(
+ * BoxAndWhiskerSketch)} to create a {@link BoxAndWhiskerItem} from the 
+ * sketch.
+ * <p>
+ * Values can be added by any thread (the methods synchronize on the 
+ * sketch), and sketches built separately can be combined with 
+ * {@link #merge(BoxAndWhiskerSketch)}.  NaN values are ignored.
+ *
+ * @since 2.0.0
+ */
+public class BoxAndWhiskerSketch implements Cloneable, PublicCloneable, 
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2204875914417725913L;
+
+    /** The default number of values kept at each end. */
+    public static final int DEFAULT_MAX_OUTLIERS = 32;
+
+    /** The quantile sketch. */
+    private QuantileSketch quantiles;
+
+    /** The maximum number of values kept at each end. */
+    private final int maxOutliers;
+
+    /** The smallest values, as a heap with the largest value first. */
+    private double[] lowest;
+
+    /** The number of values in {@code lowest}. */
+    private int lowestCount;
+
+    /** The largest values, as a heap with the smallest value first. */
+    private double[] highest;
+
+    /** The number of values in {@code highest}. */
+    private int highestCount;
+
+    /**
+     * Creates a new sketch with the default compression and the default
+     * number of outliers.
+     */
+    public BoxAndWhiskerSketch() {
+        this(QuantileSketch.DEFAULT_COMPRESSION, DEFAULT_MAX_OUTLIERS);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param compression  the compression for the quantile sketch (at 
+     *     least 10, see {@link QuantileSketch#QuantileSketch(double)}).
+     * @param maxOutliers  the maximum number of values kept at each end of 
+     *     the distribution (at least 1).  If there are more outliers than 
+     *     this at one end, only the most extreme are reported.
+     */
+    public BoxAndWhiskerSketch(double compression, int maxOutliers) {
+        Args.requireInRange(maxOutliers, "maxOutliers", 1, 
+                Integer.MAX_VALUE);
+        this.quantiles = new QuantileSketch(compression);
+        this.maxOutliers = maxOutliers;
+        this.lowest = new double[maxOutliers];
+        this.highest = new double[maxOutliers];
+    }
+
+    /**
+     * Returns the compression for the quantile sketch.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.quantiles.getCompression();
+    }
+
+    /**
+     * Returns the maximum number of values kept at each end of the 
+     * distribution.
+     *
+     * @return The maximum number of outliers (at each end).
+     */
+    public int getMaxOutliers() {
+        return this.maxOutliers;
+    }
+
+    /**
+     * Returns the number of (non-NaN) values added to the sketch.
+     *
+     * @return The count.
+     */
+    public synchronized long getCount() {
+        return this.quantiles.getCount();
+    }
+
+    /**
+     * Returns the mean of the values added to the sketch.
+     *
+     * @return The mean (NaN if the sketch is empty).
+     */
+    public synchronized double getMean() {
+        return this.quantiles.getMean();
+    }
+
+    /**
+     * Returns an estimate of the value at the specified quantile.
+     *
+     * @param q  the quantile (in the range {@code 0.0} to {@code 1.0}).
+     *
+     * @return The value (NaN if the sketch is empty).
+     *
+     * @see QuantileSketch#getQuantile(double)
+     */
+    public synchronized double getQuantile(double q) {
+        return this.quantiles.getQuantile(q);
+    }
+
+    /**
+     * Returns the smallest values added to the sketch (at most 
+     * {@link #getMaxOutliers()} values).
+     *
+     * @return The values in ascending order (possibly empty, never 
+     *     {@code null}).
+     */
+    public synchronized double[] getLowestValues() {
+        double[] result = Arrays.copyOf(this.lowest, this.lowestCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the largest values added to the sketch (at most 
+     * {@link #getMaxOutliers()} values).
+     *
+     * @return The values in ascending order (possibly empty, never 
+     *     {@code null}).
+     */
+    public synchronized double[] getHighestValues() {
+        double[] result = Arrays.copyOf(this.highest, this.highestCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Adds a value to the sketch.  NaN values are ignored.
+     *
+     * @param value  the value.
+     */
+    public synchronized void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.quantiles.add(value);
+        offerLowest(value);
+        offerHighest(value);
+    }
+
+    /**
+     * Adds an array of values to the sketch.  NaN values are ignored.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void add(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        add(values, 0, values.length);
+    }
+
+    /**
+     * Adds a range of values from an array to the sketch.  NaN values are
+     * ignored.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public synchronized void add(double[] values, int offset, int length) {
+        Args.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " 
+                    + (offset + length) + ") out of bounds for length " 
+                    + values.length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values from another sketch to this sketch.  The other 
+     * sketch is not changed.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     */
+    public void merge(BoxAndWhiskerSketch sketch) {
+        Args.nullNotPermitted(sketch, "sketch");
+        // copy the other sketch first, so that only one lock is held at a 
+        // time
+        QuantileSketch otherQuantiles;
+        double[] otherLowest;
+        double[] otherHighest;
+        synchronized (sketch) {
+            try {
+                otherQuantiles = (QuantileSketch) sketch.quantiles.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+            otherLowest = Arrays.copyOf(sketch.lowest, sketch.lowestCount);
+            otherHighest = Arrays.copyOf(sketch.highest, 
+                    sketch.highestCount);
+        }
+        synchronized (this) {
+            for (double v : otherLowest) {
+                offerLowest(v);
+            }
+            for (double v : otherHighest) {
+                offerHighest(v);
+            }
+            this.quantiles.merge(otherQuantiles);
+        }
+    }
+
+    /**
+     * Offers a value to the heap of smallest values.
+     *
+     * @param value  the value.
+     */
+    private void offerLowest(double value) {
+        if (this.lowestCount < this.maxOutliers) {
+            this.lowest[this.lowestCount] = value;
+            siftUp(this.lowest, this.lowestCount++, false);
+        } else if (value < this.lowest[0]) {
+            this.lowest[0] = value;
+            siftDown(this.lowest, this.lowestCount, false);
+        }
+    }
+
+    /**
+     * Offers a value to the heap of largest values.
+     *
+     * @param value  the value.
+     */
+    private void offerHighest(double value) {
+        if (this.highestCount < this.maxOutliers) {
+            this.highest[this.highestCount] = value;
+            siftUp(this.highest, this.highestCount++, true);
+        } else if (value > this.highest[0]) {
+            this.highest[0] = value;
+            siftDown(this.highest, this.highestCount, true);
+        }
+    }
+
+    /**
+     * Moves the value at {@code index} towards the root of a heap.
+     *
+     * @param heap  the heap.
+     * @param index  the index of the value.
+     * @param minHeap  is the smallest value at the root (otherwise the 
+     *     largest value is)?
+     */
+    private static void siftUp(double[] heap, int index, boolean minHeap) {
+        double value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (minHeap ? heap[parent] <= value : heap[parent] >= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Moves the value at the root of a heap down to its place.
+     *
+     * @param heap  the heap.
+     * @param size  the number of values in the heap.
+     * @param minHeap  is the smallest value at the root (otherwise the 
+     *     largest value is)?
+     */
+    private static void siftDown(double[] heap, int size, boolean minHeap) {
+        double value = heap[0];
+        int index = 0;
+        int child = 1;
+        while (child < size) {
+            if (child + 1 < size && (minHeap 
+                    ? heap[child + 1] < heap[child] 
+                    : heap[child + 1] > heap[child])) {
+                child++;
+            }
+            if (minHeap ? value <= heap[child] : value >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+            child = 2 * index + 1;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Tests this sketch for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BoxAndWhiskerSketch)) {
+            return false;
+        }
+        BoxAndWhiskerSketch that = (BoxAndWhiskerSketch) obj;
+        if (this.maxOutliers != that.maxOutliers) {
+            return false;
+        }
+        if (!Arrays.equals(getLowestValues(), that.getLowestValues())) {
+            return false;
+        }
+        if (!Arrays.equals(getHighestValues(), that.getHighestValues())) {
+            return false;
+        }
+        return this.quantiles.equals(that.quantiles);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public synchronized int hashCode() {
+        int hash = 5;
+        hash = 83 * hash + this.quantiles.hashCode();
+        hash = 83 * hash + this.maxOutliers;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but 
+     *     subclasses may differ.
+     */
+    @Override
+    public synchronized Object clone() throws CloneNotSupportedException {
+        BoxAndWhiskerSketch clone = (BoxAndWhiskerSketch) super.clone();
+        clone.quantiles = (QuantileSketch) this.quantiles.clone();
+        clone.lowest = this.lowest.clone();
+        clone.highest = this.highest.clone();
+        return clone;
+    }
+
+}
@@ -51,6 +51,8 @@ import org.jfree.data.general.DatasetChangeEvent;
 /**
  * A convenience class that provides a default implementation of the
  * {@link BoxAndWhiskerCategoryDataset} interface.
+ *
+ * @see StreamingBoxAndWhiskerCategoryDataset
  */
 public class DefaultBoxAndWhiskerCategoryDataset<R extends Comparable<R>, 
         C extends Comparable<C>> extends AbstractDataset
@@ -50,6 +50,8 @@ import org.jfree.data.xy.AbstractXYDataset;
 /**
  * A simple implementation of the {@link BoxAndWhiskerXYDataset} interface.
  * This dataset implementation can hold only one series.
+ *
+ * @see StreamingBoxAndWhiskerXYDataset
  */
 public class DefaultBoxAndWhiskerXYDataset<S extends Comparable<S>> 
         extends AbstractXYDataset<S>
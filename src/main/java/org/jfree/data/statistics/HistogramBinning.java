@@ -0,0 +1,316 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * An immutable set of adjacent bins covering a range of values, used by
+ * {@link StreamingHistogram}.  The bins have equal widths, either on a 
+ * linear scale or on a logarithmic scale (in which case each bin's upper 
+ * bound is a fixed multiple of its lower bound).  Values below the range 
+ * are assigned to the first bin and values above the range to the last bin,
+ * as for {@link HistogramDataset}.
+ *
+ * @since 2.0.0
+ */
+public final class HistogramBinning implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2291765807164389013L;
+
+    /** The lower bound of the first bin. */
+    private final double lowerBound;
+
+    /** The upper bound of the last bin. */
+    private final double upperBound;
+
+    /** The number of bins. */
+    private final int binCount;
+
+    /** Are the bins equal widths on a logarithmic scale? */
+    private final boolean logarithmic;
+
+    /** The lower bound on the binning scale. */
+    private final double scaledLower;
+
+    /** The width of the bins on the binning scale. */
+    private final double scaledWidth;
+
+    /**
+     * Creates a new binning with bins of equal width on a linear scale.
+     *
+     * @param lowerBound  the lower bound of the first bin.
+     * @param upperBound  the upper bound of the last bin (must be greater 
+     *     than {@code lowerBound}).
+     * @param binCount  the number of bins (must be at least 1).
+     */
+    public HistogramBinning(double lowerBound, double upperBound, 
+            int binCount) {
+        this(lowerBound, upperBound, binCount, false);
+    }
+
+    /**
+     * Creates a new binning.
+     *
+     * @param lowerBound  the lower bound of the first bin (must be positive
+     *     for a logarithmic scale).
+     * @param upperBound  the upper bound of the last bin (must be greater 
+     *     than {@code lowerBound}).
+     * @param binCount  the number of bins (must be at least 1).
+     * @param logarithmic  {@code true} for bins of equal width on a 
+     *     logarithmic scale.
+     */
+    public HistogramBinning(double lowerBound, double upperBound, 
+            int binCount, boolean logarithmic) {
+        Args.requireFinite(lowerBound, "lowerBound");
+        Args.requireFinite(upperBound, "upperBound");
+        Args.requireInRange(binCount, "binCount", 1, Integer.MAX_VALUE);
+        if (!(upperBound > lowerBound)) {
+            throw new IllegalArgumentException(
+                    "Requires upperBound > lowerBound.");
+        }
+        if (logarithmic && !(lowerBound > 0.0)) {
+            throw new IllegalArgumentException(
+                    "Requires lowerBound > 0 for a logarithmic scale.");
+        }
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.binCount = binCount;
+        this.logarithmic = logarithmic;
+        this.scaledLower = scale(lowerBound);
+        this.scaledWidth = (scale(upperBound) - this.scaledLower) / binCount;
+    }
+
+    /**
+     * Returns the lower bound of the first bin.
+     *
+     * @return The lower bound.
+     */
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Returns the upper bound of the last bin.
+     *
+     * @return The upper bound.
+     */
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The bin count.
+     */
+    public int getBinCount() {
+        return this.binCount;
+    }
+
+    /**
+     * Returns {@code true} if the bins have equal widths on a logarithmic 
+     * scale, and {@code false} if they have equal widths on a linear scale.
+     *
+     * @return A boolean.
+     */
+    public boolean isLogarithmic() {
+        return this.logarithmic;
+    }
+
+    /**
+     * Returns the lower bound of a bin.
+     *
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The lower bound.
+     */
+    public double getBinLowerBound(int bin) {
+        Args.requireInRange(bin, "bin", 0, this.binCount - 1);
+        return bin == 0 ? this.lowerBound 
+                : unscale(this.scaledLower + bin * this.scaledWidth);
+    }
+
+    /**
+     * Returns the upper bound of a bin.
+     *
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The upper bound.
+     */
+    public double getBinUpperBound(int bin) {
+        Args.requireInRange(bin, "bin", 0, this.binCount - 1);
+        return bin == this.binCount - 1 ? this.upperBound 
+                : unscale(this.scaledLower + (bin + 1) * this.scaledWidth);
+    }
+
+    /**
+     * Returns the index of the bin for a value.  Values on the boundary of 
+     * two bins are assigned to the higher bin, values below the range to 
+     * the first bin and values above the range to the last bin.
+     *
+     * @param value  the value (not NaN).
+     *
+     * @return The bin index.
+     */
+    public int getBinIndex(double value) {
+        if (!(value > this.lowerBound)) {
+            return 0;
+        }
+        double bin = (scale(value) - this.scaledLower) / this.scaledWidth;
+        return bin < this.binCount ? (int) bin : this.binCount - 1;
+    }
+
+    /**
+     * Returns {@code true} if a value is within the range of the bins 
+     * (including both bounds).
+     *
+     * @param value  the value.
+     *
+     * @return A boolean.
+     */
+    public boolean contains(double value) {
+        return value >= this.lowerBound && value <= this.upperBound;
+    }
+
+    /**
+     * Returns a binning with the same number of bins that covers twice the
+     * range (on the binning scale), extended upwards or downwards.  If the
+     * number of bins is even, each new bin covers exactly two of the 
+     * existing bins (see {@link #getExpandedBinIndex(int, boolean)}).
+     *
+     * @param upwards  extend the range upwards?
+     *
+     * @return The new binning.
+     */
+    public HistogramBinning expand(boolean upwards) {
+        double range = this.scaledWidth * this.binCount;
+        if (upwards) {
+            return new HistogramBinning(this.lowerBound, 
+                    unscale(this.scaledLower + 2 * range), this.binCount,
+                    this.logarithmic);
+        }
+        return new HistogramBinning(unscale(this.scaledLower - range), 
+                this.upperBound, this.binCount, this.logarithmic);
+    }
+
+    /**
+     * Returns {@code true} if {@link #expand(boolean)} would give a valid 
+     * binning (the new bound must be finite, and positive for a logarithmic
+     * scale).
+     *
+     * @param upwards  extend the range upwards?
+     *
+     * @return A boolean.
+     */
+    boolean canExpand(boolean upwards) {
+        double range = this.scaledWidth * this.binCount;
+        double bound = unscale(upwards ? this.scaledLower + 2 * range 
+                : this.scaledLower - range);
+        return Double.isFinite(bound) && (!this.logarithmic || bound > 0.0)
+                && (upwards ? bound > this.upperBound 
+                        : bound < this.lowerBound);
+    }
+
+    /**
+     * Returns the index of the bin in {@code expand(upwards)} that covers
+     * a bin in this binning (the number of bins must be even).
+     *
+     * @param bin  the bin index in this binning.
+     * @param upwards  was the range extended upwards?
+     *
+     * @return The bin index in the expanded binning.
+     */
+    public int getExpandedBinIndex(int bin, boolean upwards) {
+        return upwards ? bin / 2 : (bin + this.binCount) / 2;
+    }
+
+    /**
+     * Converts a value to the binning scale.
+     *
+     * @param value  the value.
+     *
+     * @return The scaled value.
+     */
+    private double scale(double value) {
+        return this.logarithmic ? Math.log(value) : value;
+    }
+
+    /**
+     * Converts a value from the binning scale.
+     *
+     * @param value  the scaled value.
+     *
+     * @return The value.
+     */
+    private double unscale(double value) {
+        return this.logarithmic ? Math.exp(value) : value;
+    }
+
+    /**
+     * Tests this binning for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof HistogramBinning)) {
+            return false;
+        }
+        HistogramBinning that = (HistogramBinning) obj;
+        return this.binCount == that.binCount 
+                && this.logarithmic == that.logarithmic
+                && Double.compare(this.lowerBound, that.lowerBound) == 0
+                && Double.compare(this.upperBound, that.upperBound) == 0;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 53 * hash + Double.hashCode(this.lowerBound);
+        hash = 53 * hash + Double.hashCode(this.upperBound);
+        hash = 53 * hash + this.binCount;
+        hash = 53 * hash + (this.logarithmic ? 1 : 0);
+        return hash;
+    }
+
+}
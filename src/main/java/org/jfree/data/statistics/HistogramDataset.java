@@ -57,6 +57,7 @@ import org.jfree.data.xy.IntervalXYDataset;
  * A dataset that can be used for creating histograms.
  *
  * @see SimpleHistogramDataset
+ * @see StreamingHistogramDataset
  */
 public class HistogramDataset extends AbstractIntervalXYDataset
         implements IntervalXYDataset, Cloneable, PublicCloneable,
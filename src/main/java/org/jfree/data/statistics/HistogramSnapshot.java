@@ -0,0 +1,103 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * A consistent copy of the bin counts in a {@link StreamingHistogram}, 
+ * together with the binning that they belong to.
+ */
+final class HistogramSnapshot implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3710470935928126548L;
+
+    /** The binning. */
+    private final HistogramBinning binning;
+
+    /** The count for each bin. */
+    private final long[] counts;
+
+    /** The total count. */
+    private final long totalCount;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param binning  the binning.
+     * @param counts  the counts (not copied).
+     * @param totalCount  the total count.
+     */
+    HistogramSnapshot(HistogramBinning binning, long[] counts, 
+            long totalCount) {
+        this.binning = binning;
+        this.counts = counts;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the binning.
+     *
+     * @return The binning.
+     */
+    HistogramBinning getBinning() {
+        return this.binning;
+    }
+
+    /**
+     * Returns the count for a bin.
+     *
+     * @param bin  the bin index.
+     *
+     * @return The count.
+     */
+    long getCount(int bin) {
+        return this.counts[bin];
+    }
+
+    /**
+     * Returns a copy of the counts.
+     *
+     * @return The counts.
+     */
+    long[] getCounts() {
+        return this.counts.clone();
+    }
+
+    /**
+     * Returns the total count.
+     *
+     * @return The total count.
+     */
+    long getTotalCount() {
+        return this.totalCount;
+    }
+
+}
@@ -0,0 +1,442 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A mergeable summary of a stream of values that estimates quantiles (for 
+ * example the median and quartiles) in a fixed amount of memory, however
+ * many values are added.  The sketch is a t-digest: the values are 
+ * gathered into weighted centroids that are kept small near both ends of 
+ * the distribution (so that extreme quantiles remain accurate) and larger
+ * in the middle.
+ * <p>
+ * The accuracy is controlled by the compression, which limits the number
+ * of centroids to roughly the same number; the default (100) typically 
+ * gives quantiles within a small fraction of one percent (by rank).  New
+ * values are collected in a buffer that is merged into the centroids when
+ * it is full.  Sketches built separately (for example, one per thread) can
+ * be combined with {@link #merge(QuantileSketch)}.  The minimum, maximum 
+ * and mean are tracked exactly, and NaN values are ignored.
+ * <p>
+ * This class is not thread-safe (see {@link BoxAndWhiskerSketch}, which 
+ * is).
+ *
+ * @since 2.0.0
+ */
+public class QuantileSketch implements Cloneable, PublicCloneable, 
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4781622810512838125L;
+
+    /** The default compression. */
+    public static final double DEFAULT_COMPRESSION = 100.0;
+
+    /** The compression. */
+    private final double compression;
+
+    /** The centroid means (in ascending order). */
+    private double[] means;
+
+    /** The centroid weights. */
+    private double[] weights;
+
+    /** The number of centroids. */
+    private int centroidCount;
+
+    /** The values not yet merged into the centroids. */
+    private double[] buffer;
+
+    /** The number of values in the buffer. */
+    private int bufferCount;
+
+    /** The number of values added. */
+    private long count;
+
+    /** The sum of the values added. */
+    private double sum;
+
+    /** The smallest value added. */
+    private double minimum;
+
+    /** The largest value added. */
+    private double maximum;
+
+    /**
+     * Creates a new sketch with the default compression.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param compression  the compression (at least 10, larger values give
+     *     more accurate quantiles at the cost of more memory).
+     */
+    public QuantileSketch(double compression) {
+        if (!(compression >= 10.0) || Double.isInfinite(compression)) {
+            throw new IllegalArgumentException("Require 'compression' (" 
+                    + compression + ") to be at least 10.");
+        }
+        this.compression = compression;
+        this.means = new double[0];
+        this.weights = new double[0];
+        this.buffer = new double[5 * ((int) Math.ceil(compression) + 2)];
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Returns the compression.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Returns the number of (non-NaN) values added to the sketch.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the smallest value added to the sketch.
+     *
+     * @return The minimum (NaN if the sketch is empty).
+     */
+    public double getMinimum() {
+        return this.count > 0 ? this.minimum : Double.NaN;
+    }
+
+    /**
+     * Returns the largest value added to the sketch.
+     *
+     * @return The maximum (NaN if the sketch is empty).
+     */
+    public double getMaximum() {
+        return this.count > 0 ? this.maximum : Double.NaN;
+    }
+
+    /**
+     * Returns the mean of the values added to the sketch.
+     *
+     * @return The mean (NaN if the sketch is empty).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.sum / this.count : Double.NaN;
+    }
+
+    /**
+     * Adds a value to the sketch.  NaN values are ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.buffer[this.bufferCount++] = value;
+        this.count++;
+        this.sum += value;
+        this.minimum = Math.min(this.minimum, value);
+        this.maximum = Math.max(this.maximum, value);
+        if (this.bufferCount == this.buffer.length) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds a range of values from an array to the sketch.  NaN values are
+     * ignored.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        Args.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " 
+                    + (offset + length) + ") out of bounds for length " 
+                    + values.length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values from another sketch to this sketch.  The other 
+     * sketch is not changed.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     */
+    public void merge(QuantileSketch sketch) {
+        Args.nullNotPermitted(sketch, "sketch");
+        if (sketch.count == 0) {
+            return;
+        }
+        compress();
+        double[] values = Arrays.copyOf(sketch.buffer, sketch.bufferCount);
+        Arrays.sort(values);
+        mergeCentroids(sketch.means, sketch.weights, sketch.centroidCount);
+        mergeCentroids(values, null, values.length);
+        this.count += sketch.count;
+        this.sum += sketch.sum;
+        this.minimum = Math.min(this.minimum, sketch.minimum);
+        this.maximum = Math.max(this.maximum, sketch.maximum);
+    }
+
+    /**
+     * Returns an estimate of the value at the specified quantile.  The 
+     * estimate for {@code 0.0} and {@code 1.0} is the exact minimum and 
+     * maximum.
+     *
+     * @param q  the quantile (in the range {@code 0.0} to {@code 1.0}).
+     *
+     * @return The value (NaN if the sketch is empty).
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("Require 'q' (" + q 
+                    + ") to be in the range 0.0 to 1.0");
+        }
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        compress();
+        int n = this.centroidCount;
+        if (n == 1) {
+            return this.minimum + q * (this.maximum - this.minimum);
+        }
+        // each centroid is centred on its weight, the minimum and maximum 
+        // are at the ends, and values in between are interpolated
+        double index = q * this.count;
+        double left = this.weights[0] / 2.0;
+        if (index <= left) {
+            return this.minimum 
+                    + (index / left) * (this.means[0] - this.minimum);
+        }
+        double right = this.count - this.weights[n - 1] / 2.0;
+        if (index >= right) {
+            return this.means[n - 1] + ((index - right) 
+                    / (this.weights[n - 1] / 2.0)) 
+                    * (this.maximum - this.means[n - 1]);
+        }
+        double weightSoFar = left;
+        for (int i = 0; i < n - 1; i++) {
+            double dw = (this.weights[i] + this.weights[i + 1]) / 2.0;
+            if (weightSoFar + dw >= index) {
+                return this.means[i] + ((index - weightSoFar) / dw) 
+                        * (this.means[i + 1] - this.means[i]);
+            }
+            weightSoFar += dw;
+        }
+        return this.means[n - 1];
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void compress() {
+        if (this.bufferCount > 0) {
+            Arrays.sort(this.buffer, 0, this.bufferCount);
+            int n = this.bufferCount;
+            this.bufferCount = 0;
+            mergeCentroids(this.buffer, null, n);
+        }
+    }
+
+    /**
+     * Merges a sequence of centroids into the current centroids, combining
+     * neighbours as far as the size limit (which depends on the position 
+     * in the distribution) allows.  The caller updates the count.
+     *
+     * @param m  the means (in ascending order).
+     * @param w  the weights ({@code null} if every weight is 1).
+     * @param n  the number of centroids in the sequence.
+     */
+    private void mergeCentroids(double[] m, double[] w, int n) {
+        if (n == 0) {
+            return;
+        }
+        double total = 0.0;
+        for (int i = 0; i < this.centroidCount; i++) {
+            total += this.weights[i];
+        }
+        if (w == null) {
+            total += n;
+        } else {
+            for (int i = 0; i < n; i++) {
+                total += w[i];
+            }
+        }
+        double[] resultMeans = new double[this.centroidCount + n];
+        double[] resultWeights = new double[this.centroidCount + n];
+        int resultCount = 0;
+        int i = 0;
+        int j = 0;
+        double currentMean = 0.0;
+        double currentWeight = 0.0;
+        double weightSoFar = 0.0;
+        double limit = total * weightLimit(0.0);
+        while (i < this.centroidCount || j < n) {
+            double mean;
+            double weight;
+            if (j >= n || (i < this.centroidCount 
+                    && this.means[i] <= m[j])) {
+                mean = this.means[i];
+                weight = this.weights[i];
+                i++;
+            } else {
+                mean = m[j];
+                weight = w == null ? 1.0 : w[j];
+                j++;
+            }
+            if (currentWeight > 0.0 
+                    && weightSoFar + currentWeight + weight <= limit) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            } else {
+                if (currentWeight > 0.0) {
+                    resultMeans[resultCount] = currentMean;
+                    resultWeights[resultCount] = currentWeight;
+                    resultCount++;
+                    weightSoFar += currentWeight;
+                    limit = total * weightLimit(weightSoFar / total);
+                }
+                currentMean = mean;
+                currentWeight = weight;
+            }
+        }
+        resultMeans[resultCount] = currentMean;
+        resultWeights[resultCount] = currentWeight;
+        resultCount++;
+        this.means = resultMeans;
+        this.weights = resultWeights;
+        this.centroidCount = resultCount;
+    }
+
+    /**
+     * Returns the quantile up to which a centroid that starts at quantile 
+     * {@code q} can extend, using the arcsine scale function (so centroids
+     * are smaller near the ends of the distribution).
+     *
+     * @param q  the quantile at the start of the centroid.
+     *
+     * @return The quantile limit.
+     */
+    private double weightLimit(double q) {
+        double k = this.compression / (2 * Math.PI) 
+                * Math.asin(2 * q - 1) + 1.0;
+        if (k >= this.compression / 4.0) {
+            return 1.0;
+        }
+        return (Math.sin(k * 2 * Math.PI / this.compression) + 1.0) / 2.0;
+    }
+
+    /**
+     * Tests this sketch for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof QuantileSketch)) {
+            return false;
+        }
+        QuantileSketch that = (QuantileSketch) obj;
+        if (this.compression != that.compression 
+                || this.count != that.count 
+                || this.centroidCount != that.centroidCount
+                || this.bufferCount != that.bufferCount) {
+            return false;
+        }
+        if (this.count > 0 && (this.sum != that.sum 
+                || this.minimum != that.minimum 
+                || this.maximum != that.maximum)) {
+            return false;
+        }
+        return Arrays.equals(this.means, 0, this.centroidCount, 
+                that.means, 0, that.centroidCount)
+                && Arrays.equals(this.weights, 0, this.centroidCount, 
+                that.weights, 0, that.centroidCount)
+                && Arrays.equals(this.buffer, 0, this.bufferCount, 
+                that.buffer, 0, that.bufferCount);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 83 * hash + Double.hashCode(this.compression);
+        hash = 83 * hash + Long.hashCode(this.count);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but 
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        QuantileSketch clone = (QuantileSketch) super.clone();
+        clone.means = this.means.clone();
+        clone.weights = this.weights.clone();
+        clone.buffer = this.buffer.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,384 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.KeyedObjects2D;
+import org.jfree.data.general.BatchUpdate;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * A box-and-whisker dataset in which each item is summarised by a 
+ * {@link BoxAndWhiskerSketch}, so that any number of values can be added 
+ * to an item in constant memory (the raw values are not kept).  The 
+ * statistics presented by the dataset are calculated from the sketches 
+ * when a sketch is set and each time {@link #refresh()} is called 
+ * (typically from a timer on the event dispatch thread), so that a chart
+ * is drawn from consistent data while values continue to arrive.
+ * <p>
+ * The {@code add()} methods (which create the sketch for an item when 
+ * required) are for use on the thread that owns the dataset.  Other 
+ * threads can add values directly to a sketch obtained from 
+ * {@link #getSketch(Comparable, Comparable)}, or build their own sketches
+ * and merge them in.
+ *
+ * @param <R>  the type for the row keys.
+ * @param <C>  the type for the column keys.
+ *
+ * @since 2.0.0
+ */
+public class StreamingBoxAndWhiskerCategoryDataset<R extends Comparable<R>, 
+        C extends Comparable<C>> 
+        extends DefaultBoxAndWhiskerCategoryDataset<R, C> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6129048311729035428L;
+
+    /** The sketches. */
+    private KeyedObjects2D<R, C> sketches;
+
+    /** The compression for new sketches. */
+    private final double compression;
+
+    /** The maximum number of outliers (at each end) for new sketches. */
+    private final int maxOutliers;
+
+    /**
+     * Creates a new dataset that uses the default compression and the 
+     * default number of outliers for the sketches that it creates.
+     */
+    public StreamingBoxAndWhiskerCategoryDataset() {
+        this(QuantileSketch.DEFAULT_COMPRESSION, 
+                BoxAndWhiskerSketch.DEFAULT_MAX_OUTLIERS);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param compression  the compression for the sketches created by the 
+     *     dataset (at least 10).
+     * @param maxOutliers  the maximum number of outliers kept at each end 
+     *     of the distribution by the sketches created by the dataset (at 
+     *     least 1).
+     */
+    public StreamingBoxAndWhiskerCategoryDataset(double compression, 
+            int maxOutliers) {
+        if (!(compression >= 10.0) || Double.isInfinite(compression)) {
+            throw new IllegalArgumentException("Require 'compression' (" 
+                    + compression + ") to be at least 10.");
+        }
+        Args.requireInRange(maxOutliers, "maxOutliers", 1, 
+                Integer.MAX_VALUE);
+        this.sketches = new KeyedObjects2D<>();
+        this.compression = compression;
+        this.maxOutliers = maxOutliers;
+    }
+
+    /**
+     * Returns the compression for the sketches created by the dataset.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Returns the maximum number of outliers (at each end) for the sketches
+     * created by the dataset.
+     *
+     * @return The maximum number of outliers.
+     */
+    public int getMaxOutliers() {
+        return this.maxOutliers;
+    }
+
+    /**
+     * Returns the sketch for an item.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The sketch (possibly {@code null}).
+     */
+    public BoxAndWhiskerSketch getSketch(R rowKey, C columnKey) {
+        Args.nullNotPermitted(rowKey, "rowKey");
+        Args.nullNotPermitted(columnKey, "columnKey");
+        if (this.sketches.getRowIndex(rowKey) < 0 
+                || this.sketches.getColumnIndex(columnKey) < 0) {
+            return null;
+        }
+        return (BoxAndWhiskerSketch) this.sketches.getObject(rowKey, 
+                columnKey);
+    }
+
+    /**
+     * Sets the sketch for an item, calculates the statistics for the item
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setSketch(BoxAndWhiskerSketch sketch, R rowKey, 
+            C columnKey) {
+        Args.nullNotPermitted(sketch, "sketch");
+        Args.nullNotPermitted(rowKey, "rowKey");
+        Args.nullNotPermitted(columnKey, "columnKey");
+        this.sketches.setObject(sketch, rowKey, columnKey);
+        BoxAndWhiskerItem item 
+                = BoxAndWhiskerCalculator.calculateSketchStatistics(
+                sketch);
+        if (item != null) {
+            add(item, rowKey, columnKey);
+        } else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Adds a value to the sketch for an item (creating the sketch if 
+     * necessary).  No event is sent, the change is seen after the next
+     * call to {@link #refresh()}.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void add(double value, R rowKey, C columnKey) {
+        getOrCreateSketch(rowKey, columnKey).add(value);
+    }
+
+    /**
+     * Adds an array of values to the sketch for an item (creating the 
+     * sketch if necessary).  No event is sent, the change is seen after 
+     * the next call to {@link #refresh()}.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void add(double[] values, R rowKey, C columnKey) {
+        Args.nullNotPermitted(values, "values");
+        getOrCreateSketch(rowKey, columnKey).add(values);
+    }
+
+    /**
+     * Returns the sketch for an item, creating it if necessary.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The sketch (never {@code null}).
+     */
+    private BoxAndWhiskerSketch getOrCreateSketch(R rowKey, C columnKey) {
+        BoxAndWhiskerSketch sketch = getSketch(rowKey, columnKey);
+        if (sketch == null) {
+            sketch = new BoxAndWhiskerSketch(this.compression, 
+                    this.maxOutliers);
+            this.sketches.setObject(sketch, rowKey, columnKey);
+        }
+        return sketch;
+    }
+
+    /**
+     * Recalculates the statistics for every item from its sketch and sends
+     * a single {@link DatasetChangeEvent} to all registered listeners.
+     */
+    @SuppressWarnings("try")
+    public void refresh() {
+        try (BatchUpdate batch = beginBatch()) {
+            List<R> rowKeys = this.sketches.getRowKeys();
+            List<C> columnKeys = this.sketches.getColumnKeys();
+            for (int r = 0; r < rowKeys.size(); r++) {
+                for (int c = 0; c < columnKeys.size(); c++) {
+                    BoxAndWhiskerSketch sketch 
+                            = (BoxAndWhiskerSketch) this.sketches.getObject(
+                            r, c);
+                    if (sketch == null) {
+                        continue;
+                    }
+                    BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                            .calculateSketchStatistics(sketch);
+                    if (item != null) {
+                        add(item, rowKeys.get(r), columnKeys.get(c));
+                    }
+                }
+            }
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes an item (and its sketch) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    @Override
+    public void remove(R rowKey, C columnKey) {
+        if (getSketch(rowKey, columnKey) != null) {
+            this.sketches.removeObject(rowKey, columnKey);
+        }
+        if (getRowIndex(rowKey) >= 0 && getColumnIndex(columnKey) >= 0) {
+            super.remove(rowKey, columnKey);
+        } else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes a row (and its sketches) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     */
+    @Override
+    public void removeRow(int rowIndex) {
+        removeRow(getRowKey(rowIndex));
+    }
+
+    /**
+     * Removes a row (and its sketches) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKey  the row key.
+     */
+    @Override
+    public void removeRow(R rowKey) {
+        if (this.sketches.getRowIndex(rowKey) >= 0) {
+            this.sketches.removeRow(rowKey);
+        }
+        if (getRowIndex(rowKey) >= 0) {
+            super.removeRow(rowKey);
+        } else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes a column (and its sketches) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     */
+    @Override
+    public void removeColumn(int columnIndex) {
+        removeColumn(getColumnKey(columnIndex));
+    }
+
+    /**
+     * Removes a column (and its sketches) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key.
+     */
+    @Override
+    public void removeColumn(C columnKey) {
+        if (this.sketches.getColumnIndex(columnKey) >= 0) {
+            this.sketches.removeColumn(columnKey);
+        }
+        if (getColumnIndex(columnKey) >= 0) {
+            super.removeColumn(columnKey);
+        } else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Clears all data (and sketches) from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        this.sketches.clear();
+        super.clear();
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingBoxAndWhiskerCategoryDataset)) {
+            return false;
+        }
+        StreamingBoxAndWhiskerCategoryDataset<?, ?> that 
+                = (StreamingBoxAndWhiskerCategoryDataset<?, ?>) obj;
+        if (this.compression != that.compression) {
+            return false;
+        }
+        if (this.maxOutliers != that.maxOutliers) {
+            return false;
+        }
+        if (!Objects.equals(this.sketches, that.sketches)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = super.hashCode();
+        hash = 83 * hash + Double.hashCode(this.compression);
+        hash = 83 * hash + this.maxOutliers;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this dataset (the sketches are cloned too).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if cloning is not possible.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        StreamingBoxAndWhiskerCategoryDataset<R, C> clone 
+                = (StreamingBoxAndWhiskerCategoryDataset<R, C>) super.clone();
+        @SuppressWarnings("unchecked")
+        KeyedObjects2D<R, C> sketches 
+                = (KeyedObjects2D<R, C>) this.sketches.clone();
+        clone.sketches = sketches;
+        return clone;
+    }
+
+}
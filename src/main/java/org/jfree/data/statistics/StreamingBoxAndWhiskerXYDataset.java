@@ -0,0 +1,610 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * A box-and-whisker dataset (with one series) in which the item for each
+ * date is summarised by a {@link BoxAndWhiskerSketch}, so that any number
+ * of values can be added in constant memory (the raw values are not kept).
+ * The statistics presented by the dataset are calculated from the 
+ * sketches when a sketch is set and each time {@link #refresh()} is called
+ * (typically from a timer on the event dispatch thread), so that a chart 
+ * is drawn from consistent data while values continue to arrive.
+ * <p>
+ * The {@link #add(Date, double)} method (which creates the sketch for a 
+ * date when required) is for use on the thread that owns the dataset.  
+ * Other threads can add values directly to a sketch obtained from 
+ * {@link #getSketch(Date)}, or build their own sketches and merge them in.
+ *
+ * @param <S>  the type for the series key.
+ *
+ * @see StreamingBoxAndWhiskerCategoryDataset
+ *
+ * @since 2.0.0
+ */
+public class StreamingBoxAndWhiskerXYDataset<S extends Comparable<S>> 
+        extends AbstractXYDataset<S>
+        implements BoxAndWhiskerXYDataset<S>, RangeInfo, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3577716316386287442L;
+
+    /** The series key. */
+    private final S seriesKey;
+
+    /** The compression for new sketches. */
+    private final double compression;
+
+    /** The maximum number of outliers (at each end) for new sketches. */
+    private final int maxOutliers;
+
+    /** The dates of the sketches (in ascending order). */
+    private List<Date> sketchDates;
+
+    /** The sketches. */
+    private List<BoxAndWhiskerSketch> sketches;
+
+    /** The dates for the items (in ascending order). */
+    private List<Date> dates;
+
+    /** The items (calculated from the non-empty sketches). */
+    private List<BoxAndWhiskerItem> items;
+
+    /** The range of values ({@code null} if there are no items). */
+    private Range rangeBounds;
+
+    /**
+     * Creates a new dataset that uses the default compression and the 
+     * default number of outliers for the sketches that it creates.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     */
+    public StreamingBoxAndWhiskerXYDataset(S seriesKey) {
+        this(seriesKey, QuantileSketch.DEFAULT_COMPRESSION, 
+                BoxAndWhiskerSketch.DEFAULT_MAX_OUTLIERS);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param compression  the compression for the sketches created by the 
+     *     dataset (at least 10).
+     * @param maxOutliers  the maximum number of outliers kept at each end 
+     *     of the distribution by the sketches created by the dataset (at 
+     *     least 1).
+     */
+    public StreamingBoxAndWhiskerXYDataset(S seriesKey, double compression,
+            int maxOutliers) {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        if (!(compression >= 10.0) || Double.isInfinite(compression)) {
+            throw new IllegalArgumentException("Require 'compression' (" 
+                    + compression + ") to be at least 10.");
+        }
+        Args.requireInRange(maxOutliers, "maxOutliers", 1, 
+                Integer.MAX_VALUE);
+        this.seriesKey = seriesKey;
+        this.compression = compression;
+        this.maxOutliers = maxOutliers;
+        this.sketchDates = new ArrayList<>();
+        this.sketches = new ArrayList<>();
+        this.dates = new ArrayList<>();
+        this.items = new ArrayList<>();
+    }
+
+    /**
+     * Returns the compression for the sketches created by the dataset.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Returns the maximum number of outliers (at each end) for the sketches
+     * created by the dataset.
+     *
+     * @return The maximum number of outliers.
+     */
+    public int getMaxOutliers() {
+        return this.maxOutliers;
+    }
+
+    /**
+     * Returns the sketch for a date.
+     *
+     * @param date  the date ({@code null} not permitted).
+     *
+     * @return The sketch (possibly {@code null}).
+     */
+    public BoxAndWhiskerSketch getSketch(Date date) {
+        Args.nullNotPermitted(date, "date");
+        int index = Collections.binarySearch(this.sketchDates, date);
+        return index >= 0 ? this.sketches.get(index) : null;
+    }
+
+    /**
+     * Sets the sketch for a date, recalculates the statistics for all 
+     * items and sends a {@link DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param date  the date ({@code null} not permitted).
+     * @param sketch  the sketch ({@code null} not permitted).
+     */
+    public void setSketch(Date date, BoxAndWhiskerSketch sketch) {
+        Args.nullNotPermitted(date, "date");
+        Args.nullNotPermitted(sketch, "sketch");
+        int index = Collections.binarySearch(this.sketchDates, date);
+        if (index >= 0) {
+            this.sketches.set(index, sketch);
+        } else {
+            this.sketchDates.add(-index - 1, new Date(date.getTime()));
+            this.sketches.add(-index - 1, sketch);
+        }
+        refresh();
+    }
+
+    /**
+     * Adds a value to the sketch for a date (creating the sketch if 
+     * necessary).  No event is sent, the change is seen after the next 
+     * call to {@link #refresh()}.
+     *
+     * @param date  the date ({@code null} not permitted).
+     * @param value  the value.
+     */
+    public void add(Date date, double value) {
+        Args.nullNotPermitted(date, "date");
+        BoxAndWhiskerSketch sketch;
+        // values usually arrive in date order, so check the last date first
+        int last = this.sketchDates.size() - 1;
+        if (last >= 0 && this.sketchDates.get(last).equals(date)) {
+            sketch = this.sketches.get(last);
+        } else {
+            int index = Collections.binarySearch(this.sketchDates, date);
+            if (index >= 0) {
+                sketch = this.sketches.get(index);
+            } else {
+                sketch = new BoxAndWhiskerSketch(this.compression, 
+                        this.maxOutliers);
+                this.sketchDates.add(-index - 1, new Date(date.getTime()));
+                this.sketches.add(-index - 1, sketch);
+            }
+        }
+        sketch.add(value);
+    }
+
+    /**
+     * Removes the sketch for a date, recalculates the statistics for all 
+     * items and sends a {@link DatasetChangeEvent} to all registered 
+     * listeners.  If there is no sketch for the date, this method does 
+     * nothing.
+     *
+     * @param date  the date ({@code null} not permitted).
+     */
+    public void remove(Date date) {
+        Args.nullNotPermitted(date, "date");
+        int index = Collections.binarySearch(this.sketchDates, date);
+        if (index >= 0) {
+            this.sketchDates.remove(index);
+            this.sketches.remove(index);
+            refresh();
+        }
+    }
+
+    /**
+     * Removes all the sketches from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        this.sketchDates.clear();
+        this.sketches.clear();
+        refresh();
+    }
+
+    /**
+     * Recalculates the statistics for every item from its sketch and sends
+     * a {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void refresh() {
+        List<Date> newDates = new ArrayList<>(this.sketches.size());
+        List<BoxAndWhiskerItem> newItems 
+                = new ArrayList<>(this.sketches.size());
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.sketches.size(); i++) {
+            BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                    .calculateSketchStatistics(this.sketches.get(i));
+            if (item != null) {
+                newDates.add(this.sketchDates.get(i));
+                newItems.add(item);
+                min = Math.min(min, 
+                        item.getMinRegularValue().doubleValue());
+                max = Math.max(max, 
+                        item.getMaxRegularValue().doubleValue());
+            }
+        }
+        this.dates = newDates;
+        this.items = newItems;
+        this.rangeBounds = newItems.isEmpty() ? null : new Range(min, max);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the value used as the outlier coefficient, which is fixed 
+     * at 1.5 (the value used by {@link BoxAndWhiskerCalculator}).
+     *
+     * @return The outlier coefficient.
+     */
+    @Override
+    public double getOutlierCoefficient() {
+        return 1.5;
+    }
+
+    /**
+     * Returns the value used as the farout coefficient, which is fixed 
+     * at 2.0 (the value used by {@link BoxAndWhiskerCalculator}).
+     *
+     * @return The farout coefficient.
+     */
+    @Override
+    public double getFaroutCoefficient() {
+        return 2.0;
+    }
+
+    /**
+     * Returns the number of series in the dataset (always 1).
+     *
+     * @return The number of series.
+     */
+    @Override
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the series key.
+     *
+     * @param series  the series index (ignored, since this dataset contains
+     *                only one series).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.seriesKey;
+    }
+
+    /**
+     * Returns the number of items (non-empty sketches) at the time of the 
+     * last refresh.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.items.size();
+    }
+
+    /**
+     * Returns an item from the dataset.
+     *
+     * @param series  the series index (ignored, since this dataset contains
+     *                only one series).
+     * @param item  the item index (zero-based).
+     *
+     * @return The item.
+     */
+    public BoxAndWhiskerItem getItem(int series, int item) {
+        return this.items.get(item);
+    }
+
+    /**
+     * Returns the x-value for an item (the time in milliseconds of the 
+     * date).
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.dates.get(item).getTime();
+    }
+
+    /**
+     * Returns the x-value for an item, as a date.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The date.
+     */
+    public Date getXDate(int series, int item) {
+        return this.dates.get(item);
+    }
+
+    /**
+     * Returns the y-value for an item, which is the mean value.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getMeanValue(series, item);
+    }
+
+    /**
+     * Returns the mean value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The mean value.
+     */
+    @Override
+    public Number getMeanValue(int series, int item) {
+        return this.items.get(item).getMean();
+    }
+
+    /**
+     * Returns the median value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The median value.
+     */
+    @Override
+    public Number getMedianValue(int series, int item) {
+        return this.items.get(item).getMedian();
+    }
+
+    /**
+     * Returns the first quartile for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The first quartile.
+     */
+    @Override
+    public Number getQ1Value(int series, int item) {
+        return this.items.get(item).getQ1();
+    }
+
+    /**
+     * Returns the third quartile for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The third quartile.
+     */
+    @Override
+    public Number getQ3Value(int series, int item) {
+        return this.items.get(item).getQ3();
+    }
+
+    /**
+     * Returns the minimum regular (non outlier) value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The minimum regular (non outlier) value.
+     */
+    @Override
+    public Number getMinRegularValue(int series, int item) {
+        return this.items.get(item).getMinRegularValue();
+    }
+
+    /**
+     * Returns the maximum regular (non outlier) value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The maximum regular (non outlier) value.
+     */
+    @Override
+    public Number getMaxRegularValue(int series, int item) {
+        return this.items.get(item).getMaxRegularValue();
+    }
+
+    /**
+     * Returns the minimum outlier (non farout) value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The minimum outlier (non farout) value.
+     */
+    @Override
+    public Number getMinOutlier(int series, int item) {
+        return this.items.get(item).getMinOutlier();
+    }
+
+    /**
+     * Returns the maximum outlier (non farout) value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The maximum outlier (non farout) value.
+     */
+    @Override
+    public Number getMaxOutlier(int series, int item) {
+        return this.items.get(item).getMaxOutlier();
+    }
+
+    /**
+     * Returns the outliers for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The outliers (the most extreme only, if there are more than the
+     *     sketch keeps).
+     */
+    @Override
+    public List getOutliers(int series, int item) {
+        return this.items.get(item).getOutliers();
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        return this.rangeBounds != null ? this.rangeBounds.getLowerBound() 
+                : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        return this.rangeBounds != null ? this.rangeBounds.getUpperBound() 
+                : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range ({@code null} if the dataset has no items).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return this.rangeBounds;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingBoxAndWhiskerXYDataset)) {
+            return false;
+        }
+        StreamingBoxAndWhiskerXYDataset<?> that 
+                = (StreamingBoxAndWhiskerXYDataset<?>) obj;
+        if (!Objects.equals(this.seriesKey, that.seriesKey)) {
+            return false;
+        }
+        if (this.compression != that.compression) {
+            return false;
+        }
+        if (this.maxOutliers != that.maxOutliers) {
+            return false;
+        }
+        if (!this.sketchDates.equals(that.sketchDates)) {
+            return false;
+        }
+        if (!this.sketches.equals(that.sketches)) {
+            return false;
+        }
+        if (!this.dates.equals(that.dates)) {
+            return false;
+        }
+        return this.items.equals(that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 59 * hash + Objects.hashCode(this.seriesKey);
+        hash = 59 * hash + Objects.hashCode(this.sketchDates);
+        hash = 59 * hash + Objects.hashCode(this.dates);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this dataset (the sketches are cloned too).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if cloning is not possible.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        StreamingBoxAndWhiskerXYDataset<S> clone 
+                = (StreamingBoxAndWhiskerXYDataset<S>) super.clone();
+        clone.sketchDates = new ArrayList<>(this.sketchDates);
+        clone.sketches = new ArrayList<>(this.sketches.size());
+        for (BoxAndWhiskerSketch sketch : this.sketches) {
+            clone.sketches.add((BoxAndWhiskerSketch) sketch.clone());
+        }
+        clone.dates = new ArrayList<>(this.dates);
+        clone.items = new ArrayList<>(this.items);
+        return clone;
+    }
+
+}
@@ -0,0 +1,502 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Counts values into the bins of a {@link HistogramBinning} as they arrive,
+ * without keeping the values themselves, so the memory used depends only 
+ * on the number of bins.  Values can be added one at a time or in bulk from
+ * {@code double[]} arrays, by any number of threads at once: the counts are
+ * held in several stripes (each with its own lock), and a thread always 
+ * uses the same stripe, so threads rarely contend.  A histogram computed 
+ * on each worker thread can also be combined with 
+ * {@link #merge(StreamingHistogram)}.
+ * <p>
+ * An adaptive histogram extends its range when a value falls outside it,
+ * doubling the range (on the binning scale) and combining pairs of bins, so
+ * that the number of bins stays the same.  Otherwise, values outside the 
+ * range are counted in the first or last bin.  NaN values are ignored.
+ * <p>
+ * Use a {@link StreamingHistogramDataset} to display one or more 
+ * histograms in a chart.
+ *
+ * @since 2.0.0
+ */
+public class StreamingHistogram implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6930264125706915398L;
+
+    /** The maximum number of stripes. */
+    private static final int MAX_STRIPES = 64;
+
+    /** The current binning (only changed while all stripes are locked). */
+    private transient volatile HistogramBinning binning;
+
+    /** Is the range extended to include new values? */
+    private final boolean adaptive;
+
+    /** The stripes (a power of two). */
+    private transient Stripe[] stripes;
+
+    /**
+     * Creates a new histogram with a fixed range.
+     *
+     * @param binning  the binning ({@code null} not permitted).
+     */
+    public StreamingHistogram(HistogramBinning binning) {
+        this(binning, false);
+    }
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param binning  the (initial) binning ({@code null} not permitted).
+     * @param adaptive  extend the range to include new values (in which 
+     *     case the number of bins must be even)?
+     */
+    public StreamingHistogram(HistogramBinning binning, boolean adaptive) {
+        Args.nullNotPermitted(binning, "binning");
+        if (adaptive && binning.getBinCount() % 2 != 0) {
+            throw new IllegalArgumentException(
+                    "An adaptive histogram requires an even number of bins.");
+        }
+        this.binning = binning;
+        this.adaptive = adaptive;
+        this.stripes = createStripes();
+    }
+
+    /**
+     * Creates the stripes, with one per processor (rounded up to a power of 
+     * two).
+     *
+     * @return The stripes.
+     */
+    private static Stripe[] createStripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int n = Math.min(MAX_STRIPES, 
+                Integer.highestOneBit(Math.max(1, processors * 2 - 1)));
+        Stripe[] result = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = new Stripe();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current binning.  For an adaptive histogram, this changes
+     * when values outside the range are added.
+     *
+     * @return The binning (never {@code null}).
+     */
+    public HistogramBinning getBinning() {
+        return this.binning;
+    }
+
+    /**
+     * Returns {@code true} if the range is extended to include new values.
+     *
+     * @return A boolean.
+     */
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Adds a value to the histogram.
+     *
+     * @param value  the value (NaN is ignored).
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        Stripe stripe = stripe();
+        while (true) {
+            stripe.lock.lock();
+            try {
+                HistogramBinning b = this.binning;
+                if (!needsExpansion(b, value)) {
+                    stripe.counts(b)[b.getBinIndex(value)]++;
+                    stripe.total++;
+                    return;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            expandToInclude(value);
+        }
+    }
+
+    /**
+     * Adds all the values in an array to the histogram.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void add(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        add(values, 0, values.length);
+    }
+
+    /**
+     * Adds a range of values in an array to the histogram.  This is much
+     * faster than adding the values one at a time, because the lock is only
+     * acquired once.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        Args.nullNotPermitted(values, "values");
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset = " 
+                    + offset + ", length = " + length);
+        }
+        Stripe stripe = stripe();
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            stripe.lock.lock();
+            try {
+                HistogramBinning b = this.binning;
+                long[] counts = stripe.counts(b);
+                int start = i;
+                int ignored = 0;
+                for (; i < end; i++) {
+                    double value = values[i];
+                    if (Double.isNaN(value)) {
+                        ignored++;
+                    } else if (needsExpansion(b, value)) {
+                        break;
+                    } else {
+                        counts[b.getBinIndex(value)]++;
+                    }
+                }
+                stripe.total += i - start - ignored;
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (i < end) {
+                expandToInclude(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts from another histogram to this histogram (the other
+     * histogram is not changed).  If this histogram is adaptive, its range 
+     * is first extended to include the range of the other histogram.  If 
+     * the binnings differ, the count for each bin of the other histogram is
+     * added to the bin that contains its midpoint.
+     *
+     * @param other  the other histogram ({@code null} not permitted).
+     */
+    public void merge(StreamingHistogram other) {
+        Args.nullNotPermitted(other, "other");
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge with itself.");
+        }
+        HistogramSnapshot snapshot = other.snapshot();
+        if (snapshot.getTotalCount() == 0) {
+            return;
+        }
+        HistogramBinning ob = snapshot.getBinning();
+        if (this.adaptive) {
+            expandToInclude(ob.getLowerBound());
+            expandToInclude(ob.getUpperBound());
+        }
+        Stripe stripe = stripe();
+        stripe.lock.lock();
+        try {
+            HistogramBinning b = this.binning;
+            long[] counts = stripe.counts(b);
+            boolean same = b.equals(ob);
+            for (int bin = 0; bin < ob.getBinCount(); bin++) {
+                long count = snapshot.getCount(bin);
+                if (count != 0) {
+                    int target = same ? bin : b.getBinIndex(
+                            (ob.getBinLowerBound(bin) 
+                            + ob.getBinUpperBound(bin)) / 2.0);
+                    counts[target] += count;
+                }
+            }
+            stripe.total += snapshot.getTotalCount();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of values that have been counted.
+     *
+     * @return The total count.
+     */
+    public long getTotalCount() {
+        long result = 0L;
+        for (Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                result += stripe.total;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the count for each bin of the current binning.
+     *
+     * @return A new array containing the counts.
+     */
+    public long[] getCounts() {
+        return snapshot().getCounts();
+    }
+
+    /**
+     * Sets all the counts to zero (the binning is not changed).
+     */
+    public void clear() {
+        lockAll();
+        try {
+            for (Stripe stripe : this.stripes) {
+                stripe.counts = null;
+                stripe.total = 0L;
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns a consistent copy of the binning and counts.
+     *
+     * @return The snapshot.
+     */
+    HistogramSnapshot snapshot() {
+        lockAll();
+        try {
+            HistogramBinning b = this.binning;
+            long[] counts = new long[b.getBinCount()];
+            long total = 0L;
+            for (Stripe stripe : this.stripes) {
+                if (stripe.counts != null) {
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] += stripe.counts[i];
+                    }
+                }
+                total += stripe.total;
+            }
+            return new HistogramSnapshot(b, counts, total);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the range must be extended to count a value.
+     *
+     * @param b  the current binning.
+     * @param value  the value (not NaN).
+     *
+     * @return A boolean.
+     */
+    private boolean needsExpansion(HistogramBinning b, double value) {
+        return this.adaptive && Double.isFinite(value) && !b.contains(value)
+                && b.canExpand(value > b.getUpperBound());
+    }
+
+    /**
+     * Extends the range until it includes the specified value (or cannot be
+     * extended further), combining the existing counts.
+     *
+     * @param value  the value.
+     */
+    private void expandToInclude(double value) {
+        lockAll();
+        try {
+            HistogramBinning b = this.binning;
+            while (needsExpansion(b, value)) {
+                boolean upwards = value > b.getUpperBound();
+                for (Stripe stripe : this.stripes) {
+                    if (stripe.counts != null) {
+                        long[] counts = new long[stripe.counts.length];
+                        for (int i = 0; i < counts.length; i++) {
+                            counts[b.getExpandedBinIndex(i, upwards)] 
+                                    += stripe.counts[i];
+                        }
+                        stripe.counts = counts;
+                    }
+                }
+                b = b.expand(upwards);
+            }
+            this.binning = b;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns the stripe for the current thread.
+     *
+     * @return The stripe.
+     */
+    private Stripe stripe() {
+        return this.stripes[(int) Thread.currentThread().getId() 
+                & (this.stripes.length - 1)];
+    }
+
+    /**
+     * Acquires the locks for all the stripes (always in the same order).
+     */
+    private void lockAll() {
+        for (Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+        }
+    }
+
+    /**
+     * Releases the locks for all the stripes.
+     */
+    private void unlockAll() {
+        for (int i = this.stripes.length - 1; i >= 0; i--) {
+            this.stripes[i].lock.unlock();
+        }
+    }
+
+    /**
+     * Tests this histogram for equality with an arbitrary object.  Two 
+     * histograms are equal if they have the same binning and counts.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogram)) {
+            return false;
+        }
+        StreamingHistogram that = (StreamingHistogram) obj;
+        if (this.adaptive != that.adaptive) {
+            return false;
+        }
+        HistogramSnapshot s1 = snapshot();
+        HistogramSnapshot s2 = that.snapshot();
+        return s1.getBinning().equals(s2.getBinning())
+                && Arrays.equals(s1.getCounts(), s2.getCounts());
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.binning.hashCode();
+    }
+
+    /**
+     * Provides serialization support (the binning and counts are written 
+     * from a snapshot).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        HistogramSnapshot snapshot = snapshot();
+        stream.writeObject(snapshot.getBinning());
+        stream.writeObject(snapshot.getCounts());
+        stream.writeLong(snapshot.getTotalCount());
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.binning = (HistogramBinning) stream.readObject();
+        this.stripes = createStripes();
+        this.stripes[0].counts = (long[]) stream.readObject();
+        this.stripes[0].total = stream.readLong();
+    }
+
+    /**
+     * A share of the counts, with its own lock.
+     */
+    private static final class Stripe {
+
+        /** The lock that guards the counts. */
+        final ReentrantLock lock = new ReentrantLock();
+
+        /** The counts (created when first required). */
+        long[] counts;
+
+        /** The number of values counted in this stripe. */
+        long total;
+
+        /**
+         * Returns the counts, creating them if necessary.
+         *
+         * @param binning  the current binning.
+         *
+         * @return The counts.
+         */
+        long[] counts(HistogramBinning binning) {
+            if (this.counts == null) {
+                this.counts = new long[binning.getBinCount()];
+            }
+            return this.counts;
+        }
+
+    }
+
+}
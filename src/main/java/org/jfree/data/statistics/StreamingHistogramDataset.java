@@ -0,0 +1,410 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+
+/**
+ * A histogram dataset in which each series is a {@link StreamingHistogram},
+ * so values can be added (by any thread) after the series has been created,
+ * and the raw values are not kept.  The dataset presents a snapshot of the
+ * counts that is taken when a series is added and each time 
+ * {@link #refresh()} is called (typically from a timer on the event 
+ * dispatch thread), so that a chart is drawn from consistent data while 
+ * values continue to arrive.
+ * <p>
+ * The y-values are calculated according to the {@link HistogramType}, as 
+ * for {@link HistogramDataset}.
+ *
+ * @param <S>  the type for the series keys.
+ *
+ * @since 2.0.0
+ */
+public class StreamingHistogramDataset<S extends Comparable<S>> 
+        extends AbstractIntervalXYDataset<S> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1432951648250826613L;
+
+    /** The series keys. */
+    private List<S> keys;
+
+    /** The histograms. */
+    private List<StreamingHistogram> histograms;
+
+    /** The snapshot of each histogram. */
+    private List<HistogramSnapshot> snapshots;
+
+    /** The histogram type. */
+    private HistogramType type;
+
+    /**
+     * Creates a new (empty) dataset with the type 
+     * {@link HistogramType#FREQUENCY}.
+     */
+    public StreamingHistogramDataset() {
+        this.keys = new ArrayList<>();
+        this.histograms = new ArrayList<>();
+        this.snapshots = new ArrayList<>();
+        this.type = HistogramType.FREQUENCY;
+    }
+
+    /**
+     * Returns the histogram type.
+     *
+     * @return The type (never {@code null}).
+     */
+    public HistogramType getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the histogram type and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param type  the type ({@code null} not permitted).
+     */
+    public void setType(HistogramType type) {
+        Args.nullNotPermitted(type, "type");
+        this.type = type;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a series to the dataset and sends a {@link DatasetChangeEvent} 
+     * to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param histogram  the histogram ({@code null} not permitted).
+     */
+    public void addSeries(S key, StreamingHistogram histogram) {
+        Args.nullNotPermitted(key, "key");
+        Args.nullNotPermitted(histogram, "histogram");
+        if (this.keys.contains(key)) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        this.keys.add(key);
+        this.histograms.add(histogram);
+        this.snapshots.add(histogram.snapshot());
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, getSeriesCount() - 1);
+        this.keys.remove(series);
+        this.histograms.remove(series);
+        this.snapshots.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the histogram for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The histogram.
+     */
+    public StreamingHistogram getHistogram(int series) {
+        return this.histograms.get(series);
+    }
+
+    /**
+     * Takes a new snapshot of the counts in every histogram and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void refresh() {
+        for (int i = 0; i < this.histograms.size(); i++) {
+            this.snapshots.set(i, this.histograms.get(i).snapshot());
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.keys.get(series);
+    }
+
+    /**
+     * Returns the order of the x-values ({@link DomainOrder#ASCENDING}, 
+     * because the bins are in order).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items (bins) in a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.snapshots.get(series).getBinning().getBinCount();
+    }
+
+    /**
+     * Returns the x-value (the midpoint) for a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return (getStartXValue(series, item) + getEndXValue(series, item)) 
+                / 2.0;
+    }
+
+    /**
+     * Returns the x-value (the midpoint) for a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated according to the histogram
+     * type).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        HistogramSnapshot snapshot = this.snapshots.get(series);
+        double count = snapshot.getCount(item);
+        double total = snapshot.getTotalCount();
+        switch (this.type) {
+            case FREQUENCY:
+                return count;
+            case RELATIVE_FREQUENCY:
+                return count / total;
+            case SCALE_AREA_TO_1:
+                HistogramBinning binning = snapshot.getBinning();
+                double width = binning.getBinUpperBound(item) 
+                        - binning.getBinLowerBound(item);
+                return count / (width * total);
+            default:
+                throw new IllegalStateException("Unrecognised type.");
+        }
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated according to the histogram
+     * type).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the lower bound of a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The start value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.snapshots.get(series).getBinning().getBinLowerBound(item);
+    }
+
+    /**
+     * Returns the lower bound of a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The start value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the upper bound of a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The end value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.snapshots.get(series).getBinning().getBinUpperBound(item);
+    }
+
+    /**
+     * Returns the upper bound of a bin.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The end value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the start y-value for a bin (which is the same as the 
+     * y-value).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for a bin (which is the same as the y-value).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item (bin) index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogramDataset)) {
+            return false;
+        }
+        StreamingHistogramDataset<?> that = (StreamingHistogramDataset<?>) obj;
+        if (!Objects.equals(this.type, that.type)) {
+            return false;
+        }
+        if (!Objects.equals(this.keys, that.keys)) {
+            return false;
+        }
+        if (!Objects.equals(this.histograms, that.histograms)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 83 * hash + Objects.hashCode(this.keys);
+        hash = 83 * hash + Objects.hashCode(this.type);
+        return hash;
+    }
+
+}
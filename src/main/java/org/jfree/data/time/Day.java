@@ -54,7 +54,7 @@ import org.jfree.chart.internal.Args;
  * is immutable, which is a requirement for all {@link RegularTimePeriod}
  * subclasses.
  */
-public class Day extends RegularTimePeriod implements Serializable {
+public class Day extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7082667380758962755L;
@@ -79,6 +79,9 @@ public class Day extends RegularTimePeriod implements Serializable {
     protected static final DateFormat DATE_FORMAT_LONG 
             = DateFormat.getDateInstance(DateFormat.LONG);
 
+    /** The serial number of the day 1970-01-01. */
+    private static final int SERIAL_EPOCH_DAY = 25569;
+
     /** The day (uses SerialDate for convenience). */
     private SerialDate serialDate;
 
@@ -108,7 +111,7 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     public Day(int day, int month, int year) {
         this.serialDate = SerialDate.createInstance(day, month, year);
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -121,7 +124,7 @@ public class Day extends RegularTimePeriod implements Serializable {
     public Day(SerialDate serialDate) {
         Args.nullNotPermitted(serialDate, "serialDate");
         this.serialDate = serialDate;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -149,6 +152,18 @@ public class Day extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            long local = engine.toLocalMillis(time.getTime());
+            this.serialDate = SerialDate.createInstance(
+                    EpochCalendar.getDayOfMonth(local),
+                    EpochCalendar.getMonth(local), 
+                    EpochCalendar.getYear(local));
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         initUsing(calendar);
@@ -262,6 +277,39 @@ public class Day extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the day in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return (this.serialDate.toSerial() - SERIAL_EPOCH_DAY) 
+                * EpochCalendar.MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the last millisecond of the day in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return getFirstLocalMillisecond() + EpochCalendar.MILLIS_PER_DAY - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the day.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the day preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -331,6 +379,10 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
@@ -353,6 +405,10 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
@@ -0,0 +1,175 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.data.xy.DownsampledXYDataset;
+import org.jfree.data.xy.DownsamplingMethod;
+import org.jfree.data.xy.IntervalXYDataset;
+
+/**
+ * A downsampled view of a {@link TimeSeriesCollection} (see
+ * {@link DownsampledXYDataset}).  The view also implements
+ * {@link IntervalXYDataset}, so it can be used with renderers that draw the
+ * time periods (for example, the {@code XYBarRenderer}).
+ *
+ * @param <S> the type for the series keys.
+ */
+public class DownsampledTimeSeriesCollection<S extends Comparable<S>>
+        extends DownsampledXYDataset<S> implements IntervalXYDataset<S> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The source dataset. */
+    private final TimeSeriesCollection<S> collection;
+
+    /**
+     * Creates a new view of the specified collection.
+     *
+     * @param source  the source collection ({@code null} not permitted).
+     * @param method  the downsampling method ({@code null} not permitted).
+     */
+    @SuppressWarnings("unchecked")
+    public DownsampledTimeSeriesCollection(TimeSeriesCollection<S> source,
+            DownsamplingMethod method) {
+        // TimeSeriesCollection implements the raw XYDataset type, but its
+        // series keys are of type S
+        super(source, method);
+        this.collection = source;
+    }
+
+    /**
+     * Returns the starting x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return this.collection.getStartX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the starting x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.collection.getStartXValue(series,
+                getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the ending x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return this.collection.getEndX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the ending x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.collection.getEndXValue(series,
+                getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the starting y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return this.collection.getStartY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the starting y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return this.collection.getStartYValue(series,
+                getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the ending y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return this.collection.getEndY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the ending y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return this.collection.getEndYValue(series,
+                getSourceItem(series, item));
+    }
+
+}
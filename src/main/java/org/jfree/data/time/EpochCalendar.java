@@ -0,0 +1,424 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A time engine that converts between instants (milliseconds since the 
+ * epoch) and local date/time values in a time zone using plain epoch 
+ * arithmetic, instead of a {@link Calendar} instance.  The zone offset 
+ * transitions are taken from the {@code java.time} zone rules and 
+ * precomputed when the engine is created, so that the conversions do not 
+ * allocate any objects.
+ * <P>
+ * The results are the same as those of a lenient {@link GregorianCalendar}
+ * in the same time zone, including the handling of local times that fall
+ * in a daylight saving gap (they are interpreted using the offset in effect
+ * before the transition) or overlap (the later instant is used).  An 
+ * engine is only available for calendars and time zones where this holds, 
+ * and only for local times from 1901 to 2036 (outside this range, callers
+ * should use a {@code Calendar}).  Local times are expressed as 
+ * milliseconds since 1970-01-01T00:00 in the proleptic Gregorian calendar,
+ * ignoring the time zone.
+ * <P>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 2.0.0
+ */
+public final class EpochCalendar {
+
+    /** The number of milliseconds in a day. */
+    static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** 
+     * The first supported local time (1901-01-01T00:00).  In 1900, the 
+     * results of {@code java.util.TimeZone} differ for some zones that were
+     * still using local mean time.
+     */
+    private static final long MIN_LOCAL_MILLIS = -2177452800000L;
+
+    /** 
+     * The end of the supported local times (2037-01-01T00:00).  Beyond this
+     * the time zone data in {@code java.util.TimeZone} switches to a 
+     * rule-based calculation that resolves daylight saving gaps differently.
+     */
+    private static final long MAX_LOCAL_MILLIS = 2114380800000L;
+
+    /** The default Gregorian cutover date used by GregorianCalendar. */
+    private static final long DEFAULT_GREGORIAN_CUTOVER = -12219292800000L;
+
+    /** The maximum number of engines retained in the cache. */
+    private static final int MAX_CACHED_ZONES = 64;
+
+    /** A marker for time zones that are not supported. */
+    private static final EpochCalendar UNSUPPORTED = new EpochCalendar();
+
+    /** The engines, keyed by (a copy of) the time zone. */
+    private static final Map<TimeZone, EpochCalendar> ENGINES
+            = new ConcurrentHashMap<>();
+
+    /** Records whether or not each locale uses a Gregorian calendar. */
+    private static final Map<Locale, Boolean> GREGORIAN_LOCALES
+            = new ConcurrentHashMap<>();
+
+    /** The transition instants, in ascending order. */
+    private final long[] transitions;
+
+    /** 
+     * The local times at which the transitions occur (the transition 
+     * instant plus the offset after the transition).
+     */
+    private final long[] wallTransitions;
+
+    /** 
+     * The offsets, {@code offsets[0]} is the offset before the first 
+     * transition and {@code offsets[i + 1]} the offset after transition 
+     * {@code i}.
+     */
+    private final int[] offsets;
+
+    /**
+     * Creates the marker for unsupported zones.
+     */
+    private EpochCalendar() {
+        this.transitions = new long[0];
+        this.wallTransitions = new long[0];
+        this.offsets = new int[1];
+    }
+
+    /**
+     * Creates an engine for the specified zone rules.
+     *
+     * @param rules  the zone rules ({@code null} not permitted).
+     */
+    private EpochCalendar(ZoneRules rules) {
+        List<ZoneOffsetTransition> list = new ArrayList<>(
+                rules.getTransitions());
+        int lastYear = list.isEmpty() ? 1900 
+                : list.get(list.size() - 1).getDateTimeBefore().getYear();
+        for (int year = lastYear; year <= 2037; year++) {
+            for (ZoneOffsetTransitionRule rule 
+                    : rules.getTransitionRules()) {
+                ZoneOffsetTransition t = rule.createTransition(year);
+                if (list.isEmpty() || t.getInstant().isAfter(
+                        list.get(list.size() - 1).getInstant())) {
+                    list.add(t);
+                }
+            }
+        }
+        list.sort((t1, t2) -> t1.getInstant().compareTo(t2.getInstant()));
+        int n = list.size();
+        this.transitions = new long[n];
+        this.wallTransitions = new long[n];
+        this.offsets = new int[n + 1];
+        this.offsets[0] = n > 0 
+                ? list.get(0).getOffsetBefore().getTotalSeconds() * 1000
+                : rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000;
+        for (int i = 0; i < n; i++) {
+            ZoneOffsetTransition t = list.get(i);
+            int after = t.getOffsetAfter().getTotalSeconds() * 1000;
+            this.transitions[i] = t.getInstant().toEpochMilli();
+            this.offsets[i + 1] = after;
+            this.wallTransitions[i] = this.transitions[i] + after;
+        }
+    }
+
+    /**
+     * Returns an engine that gives the same results as a lenient 
+     * {@link GregorianCalendar} in the specified time zone, or 
+     * {@code null} if the time zone has rules that cannot be reproduced 
+     * from the {@code java.time} zone rules (for example, a 
+     * {@code SimpleTimeZone} with custom daylight saving rules).
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The engine (possibly {@code null}).
+     */
+    public static EpochCalendar getInstance(TimeZone zone) {
+        Args.nullNotPermitted(zone, "zone");
+        EpochCalendar result = ENGINES.get(zone);
+        if (result == null) {
+            result = UNSUPPORTED;
+            ZoneId zoneId = null;
+            try {
+                zoneId = zone.toZoneId();
+            } catch (RuntimeException e) {
+                // the zone has no java.time equivalent
+            }
+            if (zoneId != null 
+                    && TimeZone.getTimeZone(zoneId).hasSameRules(zone)) {
+                result = new EpochCalendar(zoneId.getRules());
+            }
+            if (ENGINES.size() >= MAX_CACHED_ZONES) {
+                ENGINES.clear();
+            }
+            ENGINES.put((TimeZone) zone.clone(), result);
+        }
+        return result == UNSUPPORTED ? null : result;
+    }
+
+    /**
+     * Returns an engine that gives the same results as the calendar returned
+     * by {@code Calendar.getInstance(zone, locale)}, or {@code null} if 
+     * there is no such engine (for example, if the locale selects a 
+     * non-Gregorian calendar).
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @return The engine (possibly {@code null}).
+     */
+    public static EpochCalendar getInstance(TimeZone zone, Locale locale) {
+        Args.nullNotPermitted(locale, "locale");
+        Boolean gregorian = GREGORIAN_LOCALES.get(locale);
+        if (gregorian == null) {
+            Calendar calendar = Calendar.getInstance(
+                    TimeZone.getTimeZone("UTC"), locale);
+            gregorian = calendar.getClass() == GregorianCalendar.class;
+            GREGORIAN_LOCALES.put(locale, gregorian);
+        }
+        return gregorian ? getInstance(zone) : null;
+    }
+
+    /**
+     * Returns an engine that gives the same results as the specified 
+     * calendar, or {@code null} if there is no such engine.  An engine is
+     * available for lenient {@link GregorianCalendar} instances with the
+     * default Gregorian cutover date, in most time zones.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return The engine (possibly {@code null}).
+     */
+    public static EpochCalendar getInstance(Calendar calendar) {
+        Args.nullNotPermitted(calendar, "calendar");
+        if (calendar.getClass() != GregorianCalendar.class 
+                || !calendar.isLenient()) {
+            return null;
+        }
+        GregorianCalendar gc = (GregorianCalendar) calendar;
+        if (gc.getGregorianChange().getTime() != DEFAULT_GREGORIAN_CUTOVER) {
+            return null;
+        }
+        return getInstance(calendar.getTimeZone());
+    }
+
+    /**
+     * Returns {@code true} if the specified local time is within the range
+     * supported by the engine, and {@code false} otherwise.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return A boolean.
+     */
+    public boolean isSupportedLocalTime(long localMillis) {
+        return localMillis >= MIN_LOCAL_MILLIS 
+                && localMillis < MAX_LOCAL_MILLIS;
+    }
+
+    /**
+     * Returns {@code true} if the specified instant is within the range
+     * supported by the engine, and {@code false} otherwise.
+     *
+     * @param millis  the instant (milliseconds since the epoch).
+     *
+     * @return A boolean.
+     */
+    public boolean isSupportedInstant(long millis) {
+        return millis >= MIN_LOCAL_MILLIS + MILLIS_PER_DAY 
+                && millis < MAX_LOCAL_MILLIS - MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the zone offset (in milliseconds) at the specified instant.
+     *
+     * @param millis  the instant (milliseconds since the epoch).
+     *
+     * @return The offset.
+     */
+    public int getOffset(long millis) {
+        int index = Arrays.binarySearch(this.transitions, millis);
+        // an exact match takes the offset after the transition
+        index = index >= 0 ? index + 1 : -index - 1;
+        return this.offsets[index];
+    }
+
+    /**
+     * Converts an instant to local time.
+     *
+     * @param millis  the instant (milliseconds since the epoch).
+     *
+     * @return The local time.
+     */
+    public long toLocalMillis(long millis) {
+        return millis + getOffset(millis);
+    }
+
+    /**
+     * Converts a local time to an instant, in the same way as a lenient
+     * {@code GregorianCalendar}.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return The instant (milliseconds since the epoch).
+     */
+    public long toEpochMillis(long localMillis) {
+        int index = Arrays.binarySearch(this.wallTransitions, localMillis);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return localMillis - this.offsets[index];
+    }
+
+    /**
+     * Returns the local time for the specified fields.  The fields are 
+     * interpreted leniently (for example, a day-of-month of zero is the
+     * last day of the previous month).
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     * @param hour  the hour of the day.
+     * @param minute  the minute.
+     * @param second  the second.
+     * @param millisecond  the millisecond.
+     *
+     * @return The local time.
+     */
+    public static long toLocalMillis(int year, int month, int day, int hour,
+            int minute, int second, int millisecond) {
+        int y = year + Math.floorDiv(month - 1, 12);
+        int m = Math.floorMod(month - 1, 12) + 1;
+        long epochDay = toEpochDay(y, m, 1) + day - 1;
+        return epochDay * MILLIS_PER_DAY + hour * 3600000L 
+                + minute * 60000L + second * 1000L + millisecond;
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the specified date in 
+     * the proleptic Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month (1 to 31).
+     *
+     * @return The epoch day.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long mp = (month + 9) % 12;
+        long doy = (153 * mp + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * Returns the date for an epoch day, packed into an integer as
+     * {@code year * 10000 + month * 100 + day}.
+     *
+     * @param epochDay  the epoch day.
+     *
+     * @return The packed date.
+     */
+    private static int toPackedDate(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int d = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int m = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long y = yoe + era * 400 + (m <= 2 ? 1 : 0);
+        return (int) y * 10000 + m * 100 + d;
+    }
+
+    /**
+     * Returns the year for a local time.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return The year.
+     */
+    public static int getYear(long localMillis) {
+        return toPackedDate(Math.floorDiv(localMillis, MILLIS_PER_DAY)) 
+                / 10000;
+    }
+
+    /**
+     * Returns the month (1 to 12) for a local time.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return The month.
+     */
+    public static int getMonth(long localMillis) {
+        return toPackedDate(Math.floorDiv(localMillis, MILLIS_PER_DAY)) 
+                / 100 % 100;
+    }
+
+    /**
+     * Returns the day of the month for a local time.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return The day of the month.
+     */
+    public static int getDayOfMonth(long localMillis) {
+        return toPackedDate(Math.floorDiv(localMillis, MILLIS_PER_DAY)) 
+                % 100;
+    }
+
+    /**
+     * Returns the millisecond of the day for a local time.
+     *
+     * @param localMillis  the local time.
+     *
+     * @return The millisecond of the day (0 to 86399999).
+     */
+    public static int getMillisecondOfDay(long localMillis) {
+        return (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+    }
+
+}
@@ -47,7 +47,7 @@ import org.jfree.chart.internal.Args;
  * Represents an hour in a specific day.  This class is immutable, which is a
  * requirement for all {@link RegularTimePeriod} subclasses.
  */
-public class Hour extends RegularTimePeriod implements Serializable {
+public class Hour extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -835471579831937652L;
@@ -58,6 +58,9 @@ public class Hour extends RegularTimePeriod implements Serializable {
     /** Useful constant for the last hour in the day. */
     public static final int LAST_HOUR_IN_DAY = 23;
 
+    /** The number of milliseconds in an hour. */
+    private static final int MILLIS_PER_HOUR = 60 * 60 * 1000;
+
     /** The day. */
     private Day day;
 
@@ -91,7 +94,7 @@ public class Hour extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(day, "day");
         this.hour = (byte) hour;
         this.day = day;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -136,6 +139,17 @@ public class Hour extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            long local = engine.toLocalMillis(time.getTime());
+            this.hour = (byte) (EpochCalendar.getMillisecondOfDay(local) 
+                    / MILLIS_PER_HOUR);
+            this.day = new Day(time, zone, locale);
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
@@ -249,6 +263,39 @@ public class Hour extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the hour in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return this.day.getFirstLocalMillisecond() 
+                + this.hour * (long) MILLIS_PER_HOUR;
+    }
+
+    /**
+     * Returns the last millisecond of the hour in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return getFirstLocalMillisecond() + MILLIS_PER_HOUR - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the hour.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the hour preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -323,6 +370,10 @@ public class Hour extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
@@ -343,6 +394,10 @@ public class Hour extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
@@ -0,0 +1,93 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+
+/**
+ * A base class for the time periods that are defined by calendar fields 
+ * alone ({@link Year}, {@link Quarter}, {@link Month}, {@link Day}, 
+ * {@link Hour}, {@link Minute}, {@link Second} and {@link Millisecond}).  
+ * The first and last milliseconds of these periods can be calculated from
+ * local times with an {@link EpochCalendar}, instead of a 
+ * {@link Calendar}.
+ */
+abstract class LocalTimePeriod extends RegularTimePeriod {
+
+    /**
+     * Creates a new time period.
+     */
+    LocalTimePeriod() {
+        super();
+    }
+
+    /**
+     * Returns the first millisecond of the time period in local time 
+     * (milliseconds since 1970-01-01T00:00, ignoring the time zone).
+     *
+     * @return The local time.
+     */
+    abstract long getFirstLocalMillisecond();
+
+    /**
+     * Returns the last millisecond of the time period in local time.
+     *
+     * @return The local time.
+     */
+    abstract long getLastLocalMillisecond();
+
+    /**
+     * Sets the first and last milliseconds of the time period.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    abstract void setMillisecondBounds(long first, long last);
+
+    /**
+     * Pegs the time period to the calendar returned by 
+     * {@link #getCalendarInstance()}, using the equivalent 
+     * {@link EpochCalendar} where there is one.
+     */
+    final void pegDefault() {
+        EpochCalendar engine = getEpochCalendarInstance();
+        if (engine != null) {
+            long first = getFirstLocalMillisecond();
+            long last = getLastLocalMillisecond();
+            if (engine.isSupportedLocalTime(first) 
+                    && engine.isSupportedLocalTime(last)) {
+                setMillisecondBounds(engine.toEpochMillis(first), 
+                        engine.toEpochMillis(last));
+                return;
+            }
+        }
+        peg(getCalendarInstance());
+    }
+
+}
@@ -48,7 +48,7 @@ import java.util.TimeZone;
  * Represents a millisecond.  This class is immutable, which is a requirement
  * for all {@link RegularTimePeriod} subclasses.
  */
-public class Millisecond extends RegularTimePeriod implements Serializable {
+public class Millisecond extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     static final long serialVersionUID = -5316836467277638485L;
@@ -103,7 +103,24 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         this.minute = (byte) second.getMinute().getMinute();
         this.hour = (byte) second.getMinute().getHourValue();
         this.day = second.getMinute().getDay();
-        peg(getCalendarInstance());
+        pegDefault();
+    }
+
+    /**
+     * Creates a new millisecond in the same second as another millisecond,
+     * without creating intermediate {@link Second}, {@link Minute} and
+     * {@link Hour} instances.
+     *
+     * @param millisecond  the millisecond (0-999).
+     * @param other  the other millisecond ({@code null} not permitted).
+     */
+    private Millisecond(int millisecond, Millisecond other) {
+        this.millisecond = millisecond;
+        this.second = other.second;
+        this.minute = other.minute;
+        this.hour = other.hour;
+        this.day = other.day;
+        pegDefault();
     }
 
     /**
@@ -152,6 +169,19 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            int ms = EpochCalendar.getMillisecondOfDay(
+                    engine.toLocalMillis(time.getTime()));
+            this.millisecond = ms % 1000;
+            this.second = (byte) (ms / 1000 % 60);
+            this.minute = (byte) (ms / 60000 % 60);
+            this.hour = (byte) (ms / 3600000);
+            this.day = new Day(time, zone, locale);
+            this.firstMillisecond = engine.toEpochMillis(
+                    getFirstLocalMillisecond());
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         this.millisecond = calendar.get(Calendar.MILLISECOND);
@@ -245,6 +275,39 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the millisecond in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return this.day.getFirstLocalMillisecond() 
+                + ((this.hour * 60L + this.minute) * 60L + this.second) 
+                * 1000L + this.millisecond;
+    }
+
+    /**
+     * Returns the last millisecond of the millisecond in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return getFirstLocalMillisecond();
+    }
+
+    /**
+     * Sets the first and last milliseconds of the millisecond.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+    }
+
     /**
      * Returns the millisecond preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -257,7 +320,7 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod previous() {
         RegularTimePeriod result = null;
         if (this.millisecond != FIRST_MILLISECOND_IN_SECOND) {
-            result = new Millisecond(this.millisecond - 1, getSecond());
+            result = new Millisecond(this.millisecond - 1, this);
         }
         else {
             Second previous = (Second) getSecond().previous();
@@ -280,7 +343,7 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod next() {
         RegularTimePeriod result = null;
         if (this.millisecond != LAST_MILLISECOND_IN_SECOND) {
-            result = new Millisecond(this.millisecond + 1, getSecond());
+            result = new Millisecond(this.millisecond + 1, this);
         }
         else {
             Second next = (Second) getSecond().next();
@@ -424,6 +487,10 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
@@ -47,7 +47,7 @@ import org.jfree.chart.internal.Args;
  * Represents a minute.  This class is immutable, which is a requirement for
  * all {@link RegularTimePeriod} subclasses.
  */
-public class Minute extends RegularTimePeriod implements Serializable {
+public class Minute extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 2144572840034842871L;
@@ -58,6 +58,9 @@ public class Minute extends RegularTimePeriod implements Serializable {
     /** Useful constant for the last minute in a day. */
     public static final int LAST_MINUTE_IN_HOUR = 59;
 
+    /** The number of milliseconds in a minute. */
+    private static final int MILLIS_PER_MINUTE = 60 * 1000;
+
     /** The day. */
     private Day day;
 
@@ -95,7 +98,22 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.minute = (byte) minute;
         this.hour = (byte) hour.getHour();
         this.day = hour.getDay();
-        peg(getCalendarInstance());
+        pegDefault();
+    }
+
+    /**
+     * Creates a new minute in the specified hour of a day, without 
+     * creating an intermediate {@link Hour} instance.
+     *
+     * @param minute  the minute (0 to 59).
+     * @param hour  the hour (0 to 23).
+     * @param day  the day ({@code null} not permitted).
+     */
+    private Minute(int minute, int hour, Day day) {
+        this.minute = (byte) minute;
+        this.hour = (byte) hour;
+        this.day = day;
+        pegDefault();
     }
 
     /**
@@ -125,6 +143,18 @@ public class Minute extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            int ms = EpochCalendar.getMillisecondOfDay(
+                    engine.toLocalMillis(time.getTime()));
+            this.minute = (byte) (ms / MILLIS_PER_MINUTE % 60);
+            this.hour = (byte) (ms / MILLIS_PER_MINUTE / 60);
+            this.day = new Day(time, zone, locale);
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         int min = calendar.get(Calendar.MINUTE);
@@ -252,6 +282,39 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the minute in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return this.day.getFirstLocalMillisecond() 
+                + (this.hour * 60L + this.minute) * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * Returns the last millisecond of the minute in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return getFirstLocalMillisecond() + MILLIS_PER_MINUTE - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the minute.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the minute preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -264,12 +327,16 @@ public class Minute extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod previous() {
         Minute result;
         if (this.minute != FIRST_MINUTE_IN_HOUR) {
-            result = new Minute(this.minute - 1, getHour());
+            result = new Minute(this.minute - 1, this.hour, this.day);
+        }
+        else if (this.hour != Hour.FIRST_HOUR_IN_DAY) {
+            result = new Minute(LAST_MINUTE_IN_HOUR, this.hour - 1, this.day);
         }
         else {
-            Hour h = (Hour) getHour().previous();
-            if (h != null) {
-                result = new Minute(LAST_MINUTE_IN_HOUR, h);
+            Day d = (Day) this.day.previous();
+            if (d != null) {
+                result = new Minute(LAST_MINUTE_IN_HOUR, Hour.LAST_HOUR_IN_DAY,
+                        d);
             }
             else {
                 result = null;
@@ -290,12 +357,17 @@ public class Minute extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod next() {
         Minute result;
         if (this.minute != LAST_MINUTE_IN_HOUR) {
-            result = new Minute(this.minute + 1, getHour());
+            result = new Minute(this.minute + 1, this.hour, this.day);
         }
-        else { // we are at the last minute in the hour...
-            Hour nextHour = (Hour) getHour().next();
-            if (nextHour != null) {
-                result = new Minute(FIRST_MINUTE_IN_HOUR, nextHour);
+        else if (this.hour != Hour.LAST_HOUR_IN_DAY) {
+            // we are at the last minute in the hour...
+            result = new Minute(FIRST_MINUTE_IN_HOUR, this.hour + 1, this.day);
+        }
+        else { // we are at the last minute in the day...
+            Day d = (Day) this.day.next();
+            if (d != null) {
+                result = new Minute(FIRST_MINUTE_IN_HOUR, 
+                        Hour.FIRST_HOUR_IN_DAY, d);
             }
             else {
                 result = null;
@@ -328,6 +400,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
@@ -352,6 +428,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
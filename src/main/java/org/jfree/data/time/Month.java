@@ -48,7 +48,7 @@ import org.jfree.chart.date.SerialDate;
  * Represents a single month.  This class is immutable, which is a requirement
  * for all {@link RegularTimePeriod} subclasses.
  */
-public class Month extends RegularTimePeriod implements Serializable {
+public class Month extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -5090216912548722570L;
@@ -88,7 +88,7 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -105,7 +105,7 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year.getYear();
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -132,6 +132,16 @@ public class Month extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Month(Date time, TimeZone zone, Locale locale) {
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            long local = engine.toLocalMillis(time.getTime());
+            this.month = EpochCalendar.getMonth(local);
+            this.year = EpochCalendar.getYear(local);
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         this.month = calendar.get(Calendar.MONTH) + 1;
@@ -225,6 +235,40 @@ public class Month extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the month in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return EpochCalendar.toLocalMillis(this.year, this.month, 1, 0, 0, 0, 
+                0);
+    }
+
+    /**
+     * Returns the last millisecond of the month in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return EpochCalendar.toLocalMillis(this.year, this.month + 1, 1, 0, 0, 
+                0, 0) - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the month.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the month preceding this one.  Note that the returned
      * {@link Month} is "pegged" using the default calendar, obtained
@@ -399,6 +443,10 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         calendar.set(this.year, this.month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -417,6 +465,10 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int eom = SerialDate.lastDayOfMonth(this.month, this.year);
         calendar.set(this.year, this.month - 1, eom, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
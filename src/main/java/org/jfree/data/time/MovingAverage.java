@@ -42,7 +42,10 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for calculating moving averages of time series data.
+ * A utility class for calculating moving averages of time series data.  The
+ * methods in this class return a copy that is not updated when the source
+ * data changes; see {@link MovingStatisticTimeSeries} and 
+ * {@link MovingStatisticXYSeries} for series that are kept up to date.
  */
 public class MovingAverage {
 
@@ -0,0 +1,57 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+/**
+ * The statistics that can be calculated over a moving window by
+ * {@link MovingStatisticTimeSeries} and {@link MovingStatisticXYSeries}.
+ *
+ * @since 2.0.0
+ */
+public enum MovingStatistic {
+
+    /** The mean of the values in the window. */
+    MEAN,
+
+    /**
+     * An exponentially weighted mean, in which the weight of each value
+     * decays by a factor of e over the length of the window.
+     */
+    EXPONENTIAL_MEAN,
+
+    /** The minimum value in the window. */
+    MINIMUM,
+
+    /** The maximum value in the window. */
+    MAXIMUM,
+
+    /** The sample standard deviation of the values in the window. */
+    STANDARD_DEVIATION
+
+}
@@ -0,0 +1,459 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+/**
+ * Maintains a {@link MovingStatistic} over a window of items that is moved
+ * forward one item at a time, in constant (amortised) time per item.  The
+ * window for an item contains the earlier items whose key is greater than
+ * the item's key minus the window length.  The mean and standard deviation
+ * are updated as values enter and leave the window (using Welford's 
+ * method, so that rounding errors do not build up on long streams), the
+ * minimum and maximum use a queue of candidate items with increasing (or 
+ * decreasing) values, and the exponential mean only needs the previous 
+ * result.
+ * <p>
+ * The values in the window are copied from the source as they are added,
+ * and the copies are used when the values leave the window.  A change to a
+ * value in the source after it has been added therefore does not affect 
+ * the later results (see {@link #isWindowUnchanged()}).
+ * <p>
+ * Items are identified by an absolute position that does not change when
+ * items are removed from the start of the source (see 
+ * {@link #removeFirst(int)}).  Missing values are represented by NaN and 
+ * ignored.
+ */
+class MovingStatisticCalculator {
+
+    /**
+     * The source of the items.
+     */
+    interface Source {
+
+        /**
+         * Returns the key (time or x-value) for an item.
+         *
+         * @param index  the item index in the source.
+         *
+         * @return The key.
+         */
+        double getKey(int index);
+
+        /**
+         * Returns the value for an item.
+         *
+         * @param index  the item index in the source.
+         *
+         * @return The value ({@code Double.NaN} if missing).
+         */
+        double getValue(int index);
+
+    }
+
+    /** The statistic. */
+    private final MovingStatistic statistic;
+
+    /** The window length (in units of the key). */
+    private final double length;
+
+    /** The source. */
+    private final Source source;
+
+    /** The absolute position of the item at index 0 in the source. */
+    private long base;
+
+    /** The absolute position of the first item in the window. */
+    private long start;
+
+    /** The absolute position after the last item in the window. */
+    private long end;
+
+    /** 
+     * The values for the items in the window, indexed by absolute position
+     * modulo the array length (a ring).
+     */
+    private double[] values;
+
+    /** The mean of the values in the window. */
+    private double windowMean;
+
+    /** 
+     * The sum of the squared differences between the values in the window
+     * and their mean.
+     */
+    private double m2;
+
+    /** The number of (non-missing) values in the window. */
+    private int count;
+
+    /** The candidate positions for the minimum or maximum (a ring). */
+    private long[] queue;
+
+    /** The index of the head of the queue. */
+    private int head;
+
+    /** The number of positions in the queue. */
+    private int size;
+
+    /** The exponential mean up to the last item. */
+    private double mean;
+
+    /** The key of the last value included in the exponential mean. */
+    private double meanKey;
+
+    /** The exponential mean before the last item. */
+    private double previousMean;
+
+    /** The value of {@code meanKey} before the last item. */
+    private double previousMeanKey;
+
+    /**
+     * Creates a new calculator.
+     *
+     * @param statistic  the statistic.
+     * @param length  the window length.
+     * @param source  the source.
+     */
+    MovingStatisticCalculator(MovingStatistic statistic, double length,
+            Source source) {
+        this.statistic = statistic;
+        this.length = length;
+        this.source = source;
+        this.queue = new long[16];
+        this.values = new double[16];
+        reset();
+    }
+
+    /**
+     * Empties the window, ready to process the source from the first item.
+     */
+    final void reset() {
+        this.base = 0L;
+        this.start = 0L;
+        this.end = 0L;
+        this.windowMean = 0.0;
+        this.m2 = 0.0;
+        this.count = 0;
+        this.head = 0;
+        this.size = 0;
+        this.mean = Double.NaN;
+        this.meanKey = Double.NaN;
+        this.previousMean = Double.NaN;
+        this.previousMeanKey = Double.NaN;
+    }
+
+    /**
+     * Returns the number of source items that have been added to the 
+     * window (adjusted for items removed from the start of the source).
+     *
+     * @return The item count.
+     */
+    int getItemCount() {
+        return (int) (this.end - this.base);
+    }
+
+    /**
+     * Records that items have been removed from the start of the source.
+     *
+     * @param removed  the number of items removed.
+     *
+     * @return {@code false} if items in the current window were removed, in
+     *     which case the calculator must be reset.
+     */
+    boolean removeFirst(int removed) {
+        this.base += removed;
+        return this.start >= this.base;
+    }
+
+    /**
+     * Returns {@code true} if the values in the source for the items in the
+     * window (other than the last item) are the same as the values that 
+     * were added to the window.  If not, the calculator should be reset and
+     * the source processed again.  The time taken is proportional to the 
+     * number of items in the window.
+     *
+     * @return A boolean.
+     */
+    boolean isWindowUnchanged() {
+        for (long p = this.start; p < this.end - 1; p++) {
+            if (Double.compare(windowValue(p), value(p)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the next item in the source to the window, removes the items that
+     * have fallen out of the window, and returns the statistic.
+     *
+     * @return The statistic ({@code Double.NaN} if there are no values).
+     */
+    double addNext() {
+        long position = this.end;
+        double key = key(position);
+        this.previousMean = this.mean;
+        this.previousMeanKey = this.meanKey;
+        this.end++;
+        include(position);
+        double limit = key - this.length;
+        while (this.start < position && key(this.start) <= limit) {
+            exclude(this.start);
+            this.start++;
+        }
+        return current();
+    }
+
+    /**
+     * Recalculates the statistic after the value of the last item that was 
+     * added has changed in the source.
+     *
+     * @return The statistic ({@code Double.NaN} if there are no values).
+     */
+    double replaceLast() {
+        long last = this.end - 1;
+        double oldValue = windowValue(last);
+        double value = value(last);
+        this.values[index(last)] = value;
+        if (!Double.isNaN(oldValue)) {
+            removeValue(oldValue);
+        }
+        if (!Double.isNaN(value)) {
+            addValue(value);
+        }
+        if (this.statistic == MovingStatistic.MINIMUM 
+                || this.statistic == MovingStatistic.MAXIMUM) {
+            // values dropped from the queue may be needed again, so the 
+            // queue is rebuilt from the window (linear in the window size)
+            this.size = 0;
+            for (long p = this.start; p < this.end; p++) {
+                offer(p);
+            }
+        }
+        this.mean = this.previousMean;
+        this.meanKey = this.previousMeanKey;
+        updateMean(value, key(last));
+        return current();
+    }
+
+    /**
+     * Returns the statistic for the current window.
+     *
+     * @return The statistic ({@code Double.NaN} if there are no values).
+     */
+    private double current() {
+        switch (this.statistic) {
+            case MEAN:
+                return this.count > 0 ? this.windowMean : Double.NaN;
+            case EXPONENTIAL_MEAN:
+                return this.mean;
+            case MINIMUM:
+            case MAXIMUM:
+                return this.size > 0 ? windowValue(this.queue[this.head]) 
+                        : Double.NaN;
+            case STANDARD_DEVIATION:
+                if (this.count < 2) {
+                    return Double.NaN;
+                }
+                return Math.sqrt(Math.max(this.m2, 0.0) / (this.count - 1));
+            default:
+                throw new IllegalStateException("Unrecognised statistic.");
+        }
+    }
+
+    /**
+     * Adds an item to the window.
+     *
+     * @param position  the absolute position of the item.
+     */
+    private void include(long position) {
+        if (position - this.start == this.values.length) {
+            double[] grown = new double[this.values.length * 2];
+            for (long p = this.start; p < position; p++) {
+                grown[(int) (p % grown.length)] = windowValue(p);
+            }
+            this.values = grown;
+        }
+        double value = value(position);
+        this.values[index(position)] = value;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        addValue(value);
+        offer(position);
+        updateMean(value, key(position));
+    }
+
+    /**
+     * Removes the first item from the window.
+     *
+     * @param position  the absolute position of the item.
+     */
+    private void exclude(long position) {
+        double value = windowValue(position);
+        if (Double.isNaN(value)) {
+            return;
+        }
+        removeValue(value);
+        if (this.size > 0 && this.queue[this.head] == position) {
+            this.head = (this.head + 1) % this.queue.length;
+            this.size--;
+        }
+    }
+
+    /**
+     * Adds a value to the running mean and sum of squared differences.
+     *
+     * @param value  the value (not NaN).
+     */
+    private void addValue(double value) {
+        this.count++;
+        double delta = value - this.windowMean;
+        this.windowMean += delta / this.count;
+        this.m2 += delta * (value - this.windowMean);
+    }
+
+    /**
+     * Removes a value from the running mean and sum of squared differences.
+     *
+     * @param value  the value (not NaN, and previously added).
+     */
+    private void removeValue(double value) {
+        this.count--;
+        if (this.count == 0) {
+            // start again from zero, so rounding errors do not accumulate
+            this.windowMean = 0.0;
+            this.m2 = 0.0;
+            return;
+        }
+        double delta = value - this.windowMean;
+        this.windowMean -= delta / this.count;
+        this.m2 -= delta * (value - this.windowMean);
+    }
+
+    /**
+     * Adds an item to the queue of candidates for the minimum or maximum,
+     * first removing the candidates that it supersedes.
+     *
+     * @param position  the absolute position of the item.
+     */
+    private void offer(long position) {
+        boolean min = this.statistic == MovingStatistic.MINIMUM;
+        if (!min && this.statistic != MovingStatistic.MAXIMUM) {
+            return;
+        }
+        double value = windowValue(position);
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (this.size > 0) {
+            double tail = windowValue(this.queue[(this.head + this.size - 1) 
+                    % this.queue.length]);
+            if (min ? tail < value : tail > value) {
+                break;
+            }
+            this.size--;
+        }
+        if (this.size == this.queue.length) {
+            long[] grown = new long[this.queue.length * 2];
+            for (int i = 0; i < this.size; i++) {
+                grown[i] = this.queue[(this.head + i) % this.queue.length];
+            }
+            this.queue = grown;
+            this.head = 0;
+        }
+        this.queue[(this.head + this.size) % this.queue.length] = position;
+        this.size++;
+    }
+
+    /**
+     * Updates the exponential mean with a new value.
+     *
+     * @param value  the value.
+     * @param key  the key for the value.
+     */
+    private void updateMean(double value, double key) {
+        if (this.statistic != MovingStatistic.EXPONENTIAL_MEAN 
+                || Double.isNaN(value)) {
+            return;
+        }
+        if (Double.isNaN(this.mean)) {
+            this.mean = value;
+        } else {
+            double weight = -Math.expm1(-(key - this.meanKey) / this.length);
+            this.mean += weight * (value - this.mean);
+        }
+        this.meanKey = key;
+    }
+
+    /**
+     * Returns the key for an item.
+     *
+     * @param position  the absolute position of the item.
+     *
+     * @return The key.
+     */
+    private double key(long position) {
+        return this.source.getKey((int) (position - this.base));
+    }
+
+    /**
+     * Returns the value for an item in the source.
+     *
+     * @param position  the absolute position of the item.
+     *
+     * @return The value.
+     */
+    private double value(long position) {
+        return this.source.getValue((int) (position - this.base));
+    }
+
+    /**
+     * Returns the value that was added to the window for an item.
+     *
+     * @param position  the absolute position of the item (in the window).
+     *
+     * @return The value.
+     */
+    private double windowValue(long position) {
+        return this.values[index(position)];
+    }
+
+    /**
+     * Returns the index in the {@code values} array for an item.
+     *
+     * @param position  the absolute position of the item.
+     *
+     * @return The index.
+     */
+    private int index(long position) {
+        return (int) (position % this.values.length);
+    }
+
+}
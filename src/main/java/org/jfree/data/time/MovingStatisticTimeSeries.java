@@ -0,0 +1,295 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.BatchUpdate;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+
+/**
+ * A time series that is derived from another (source) time series by 
+ * calculating a {@link MovingStatistic} (such as a moving average) over a
+ * window of time periods.  Unlike 
+ * {@link MovingAverage#createMovingAverage(TimeSeries, Comparable, int, int)},
+ * which returns a detached copy, this series listens for changes to the 
+ * source and updates itself, and the work done for each item appended to 
+ * the source does not depend on the number of items in the window.  
+ * Updates to the last item in the source are also handled incrementally, 
+ * and items removed from the start of the source (for example, by the 
+ * maximum item age) are removed from this series without recalculating 
+ * the remaining items; other changes cause the series to be recalculated.
+ * <p>
+ * The window for an item contains the items in the source whose time 
+ * periods are less than {@code periodCount} periods earlier (as for
+ * {@code createMovingAverage()}).  There is one item in this series for 
+ * each item in the source, and the value is {@code null} where the window
+ * has no values.  A change to the value of an earlier item that is still 
+ * in the window of the last item is detected (the series is recalculated)
+ * unless items are appended to the source in the same change event.  A 
+ * change to an item that has left the window does not affect the later 
+ * values, but the earlier values in this series are not updated, so call
+ * {@link #recalculate()} after making such a change.
+ *
+ * @param <S>  the type for the series key.
+ *
+ * @since 2.0.0
+ */
+public class MovingStatisticTimeSeries<S extends Comparable<S>> 
+        extends TimeSeries<S> implements SeriesChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4413052587106478853L;
+
+    /** The source series. */
+    private final TimeSeries<?> source;
+
+    /** The statistic. */
+    private final MovingStatistic statistic;
+
+    /** The number of periods in the window. */
+    private final int periodCount;
+
+    /** The calculator. */
+    private transient MovingStatisticCalculator calculator;
+
+    /** The time period of the last source item processed. */
+    private RegularTimePeriod lastPeriod;
+
+    /** The value of the last source item processed. */
+    private double lastValue;
+
+    /**
+     * Creates a new series and calculates the values for the items 
+     * currently in the source.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param key  the key for this series ({@code null} not permitted).
+     * @param statistic  the statistic ({@code null} not permitted).
+     * @param periodCount  the number of periods in the window (must be 
+     *     positive).
+     */
+    public MovingStatisticTimeSeries(TimeSeries<?> source, S key,
+            MovingStatistic statistic, int periodCount) {
+        super(key);
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(statistic, "statistic");
+        Args.requireInRange(periodCount, "periodCount", 1, Integer.MAX_VALUE);
+        this.source = source;
+        this.statistic = statistic;
+        this.periodCount = periodCount;
+        this.calculator = createCalculator();
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Creates the calculator for this series.
+     *
+     * @return The calculator.
+     */
+    private MovingStatisticCalculator createCalculator() {
+        return new MovingStatisticCalculator(this.statistic, this.periodCount,
+                new MovingStatisticCalculator.Source() {
+                    @Override
+                    public double getKey(int index) {
+                        return source.getTimePeriod(index).getSerialIndex();
+                    }
+                    @Override
+                    public double getValue(int index) {
+                        return valueOf(source.getValue(index));
+                    }
+                });
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never {@code null}).
+     */
+    public TimeSeries<?> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the statistic calculated by this series.
+     *
+     * @return The statistic (never {@code null}).
+     */
+    public MovingStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Returns the number of periods in the window.
+     *
+     * @return The period count.
+     */
+    public int getPeriodCount() {
+        return this.periodCount;
+    }
+
+    /**
+     * Receives a change event from the source series and updates this 
+     * series.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getSource() == this.source) {
+            update();
+        }
+    }
+
+    /**
+     * Recalculates all the items in this series from the source, and sends 
+     * a change event to all registered listeners.
+     */
+    @SuppressWarnings("try")
+    public void recalculate() {
+        try (BatchUpdate batch = beginBatch()) {
+            clear();
+            this.calculator.reset();
+            this.lastPeriod = null;
+            appendFrom(0);
+        }
+    }
+
+    /**
+     * Brings this series up to date with the source.
+     */
+    @SuppressWarnings("try")
+    private void update() {
+        int processed = this.calculator.getItemCount();
+        if (processed == 0) {
+            appendFrom(0);
+            return;
+        }
+        int index = this.source.getIndex(this.lastPeriod);
+        int removed = processed - 1 - index;
+        // if items were removed from the start of the source, the first 
+        // remaining item is in this series at the position after the items
+        // to drop (unless this series has dropped items itself)
+        int excess = getItemCount() - (processed - removed);
+        if (index < 0 || removed < 0 || (removed > 0 && excess >= 0 
+                && !getTimePeriod(excess).equals(
+                        this.source.getTimePeriod(0)))
+                || !this.calculator.removeFirst(removed)) {
+            recalculate();
+            return;
+        }
+        // when no items were appended, the event may be for a change to an
+        // item before the last item, which is only picked up by comparing 
+        // the window with the source
+        if (this.source.getItemCount() == index + 1 
+                && !this.calculator.isWindowUnchanged()) {
+            recalculate();
+            return;
+        }
+        try (BatchUpdate batch = beginBatch()) {
+            if (excess > 0) {
+                delete(0, excess - 1);
+            }
+            double value = valueOf(this.source.getValue(index));
+            if (Double.compare(value, this.lastValue) != 0) {
+                double result = this.calculator.replaceLast();
+                this.lastValue = value;
+                int last = getIndex(this.lastPeriod);
+                if (last >= 0) {
+                    update(last, toNumber(result));
+                }
+            }
+            appendFrom(index + 1);
+        }
+    }
+
+    /**
+     * Adds the items for the source items from the specified index onwards.
+     *
+     * @param first  the index of the first source item.
+     */
+    private void appendFrom(int first) {
+        int itemCount = this.source.getItemCount();
+        if (first >= itemCount) {
+            return;
+        }
+        for (int i = first; i < itemCount; i++) {
+            double result = this.calculator.addNext();
+            add(this.source.getTimePeriod(i), toNumber(result), false);
+        }
+        this.lastPeriod = this.source.getTimePeriod(itemCount - 1);
+        this.lastValue = valueOf(this.source.getValue(itemCount - 1));
+        fireSeriesChanged();
+    }
+
+    /**
+     * Converts a value to a primitive, with {@code null} converted to NaN.
+     *
+     * @param value  the value ({@code null} permitted).
+     *
+     * @return The value.
+     */
+    private static double valueOf(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Converts a result to a {@code Number}, with NaN converted to 
+     * {@code null}.
+     *
+     * @param result  the result.
+     *
+     * @return The number (possibly {@code null}).
+     */
+    private static Number toNumber(double result) {
+        return Double.isNaN(result) ? null : result;
+    }
+
+    /**
+     * Provides serialization support (the series registers with the source
+     * again, and is brought up to date).
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.calculator = createCalculator();
+        recalculate();
+        this.source.addChangeListener(this);
+    }
+
+}
@@ -0,0 +1,313 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.BatchUpdate;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * An XY series that is derived from one series in an {@link XYDataset} by
+ * calculating a {@link MovingStatistic} (such as a moving average) over a
+ * window of x-values.  This is the live equivalent of 
+ * {@link MovingAverage#createMovingAverage(XYDataset, int, String, double, 
+ * double)}: the series listens for changes to the source dataset and 
+ * updates itself, and the work done for each item appended to the source 
+ * series does not depend on the number of items in the window.  Updates to
+ * the last item are also handled incrementally, and items removed from the
+ * start of the source series are removed from this series without 
+ * recalculating the remaining items; other changes cause the series to be
+ * recalculated.
+ * <p>
+ * The source series must be in ascending order of x-values.  The window for
+ * an item contains the items in the source series with x-values greater 
+ * than the item's x-value minus the period.  There is one item in this 
+ * series for each item in the source series, and the y-value is 
+ * {@code null} where the window has no values.  A change to the y-value of
+ * an earlier item that is still in the window of the last item is detected
+ * (the series is recalculated) unless items are appended to the source 
+ * series in the same change event.  A change to an item that has left the
+ * window does not affect the later values, but the earlier values in this
+ * series are not updated, so call {@link #recalculate()} after making such
+ * a change.
+ *
+ * @param <S>  the type for the series key.
+ *
+ * @since 2.0.0
+ */
+public class MovingStatisticXYSeries<S extends Comparable<S>> 
+        extends XYSeries<S> implements DatasetChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6209176395847051367L;
+
+    /** The source dataset. */
+    private final XYDataset<?> source;
+
+    /** The index of the source series. */
+    private final int series;
+
+    /** The statistic. */
+    private final MovingStatistic statistic;
+
+    /** The length of the window (in units of the x-values). */
+    private final double period;
+
+    /** The calculator. */
+    private transient MovingStatisticCalculator calculator;
+
+    /** The x-value of the last source item processed. */
+    private double lastX;
+
+    /** The y-value of the last source item processed. */
+    private double lastY;
+
+    /**
+     * Creates a new series and calculates the values for the items 
+     * currently in the source series.
+     *
+     * @param source  the source dataset ({@code null} not permitted).
+     * @param series  the index of the source series.
+     * @param key  the key for this series ({@code null} not permitted).
+     * @param statistic  the statistic ({@code null} not permitted).
+     * @param period  the length of the window (must be positive).
+     */
+    public MovingStatisticXYSeries(XYDataset<?> source, int series, S key,
+            MovingStatistic statistic, double period) {
+        super(key, false, true);
+        Args.nullNotPermitted(source, "source");
+        Args.requireInRange(series, "series", 0, 
+                source.getSeriesCount() - 1);
+        Args.nullNotPermitted(statistic, "statistic");
+        if (!(period > 0.0)) {
+            throw new IllegalArgumentException("period must be positive.");
+        }
+        this.source = source;
+        this.series = series;
+        this.statistic = statistic;
+        this.period = period;
+        this.calculator = createCalculator();
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Creates the calculator for this series.
+     *
+     * @return The calculator.
+     */
+    private MovingStatisticCalculator createCalculator() {
+        return new MovingStatisticCalculator(this.statistic, this.period,
+                new MovingStatisticCalculator.Source() {
+                    @Override
+                    public double getKey(int index) {
+                        return source.getXValue(series, index);
+                    }
+                    @Override
+                    public double getValue(int index) {
+                        return source.getYValue(series, index);
+                    }
+                });
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never {@code null}).
+     */
+    public XYDataset<?> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index of the source series.
+     *
+     * @return The series index.
+     */
+    public int getSourceSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the statistic calculated by this series.
+     *
+     * @return The statistic (never {@code null}).
+     */
+    public MovingStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Returns the length of the window.
+     *
+     * @return The period.
+     */
+    public double getPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Receives a change event from the source dataset and updates this 
+     * series.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        if (event.getDataset() == this.source) {
+            update();
+        }
+    }
+
+    /**
+     * Recalculates all the items in this series from the source, and sends 
+     * a change event to all registered listeners.
+     */
+    @SuppressWarnings("try")
+    public void recalculate() {
+        try (BatchUpdate batch = beginBatch()) {
+            clear();
+            this.calculator.reset();
+            appendFrom(0);
+        }
+    }
+
+    /**
+     * Brings this series up to date with the source.
+     */
+    @SuppressWarnings("try")
+    private void update() {
+        if (this.series >= this.source.getSeriesCount()) {
+            return;
+        }
+        int processed = this.calculator.getItemCount();
+        if (processed == 0) {
+            appendFrom(0);
+            return;
+        }
+        // the last item processed is normally still at the same index, or a
+        // few places earlier if items were removed from the start
+        int index = Math.min(processed, 
+                this.source.getItemCount(this.series)) - 1;
+        while (index >= 0 && Double.compare(this.lastX, 
+                this.source.getXValue(this.series, index)) != 0) {
+            index--;
+        }
+        int removed = processed - 1 - index;
+        // if items were removed from the start of the source, the first 
+        // remaining item is in this series at the position after the items
+        // to drop (unless this series has dropped items itself)
+        int excess = getItemCount() - (processed - removed);
+        if (index < 0 || (removed > 0 && excess >= 0 
+                && Double.compare(getX(excess).doubleValue(), 
+                        this.source.getXValue(this.series, 0)) != 0)
+                || !this.calculator.removeFirst(removed)) {
+            recalculate();
+            return;
+        }
+        // when no items were appended, the event may be for a change to an
+        // item before the last item, which is only picked up by comparing 
+        // the window with the source
+        if (this.source.getItemCount(this.series) == index + 1 
+                && !this.calculator.isWindowUnchanged()) {
+            recalculate();
+            return;
+        }
+        try (BatchUpdate batch = beginBatch()) {
+            if (excess > 0) {
+                delete(0, excess - 1);
+            }
+            double y = this.source.getYValue(this.series, index);
+            if (Double.compare(y, this.lastY) != 0) {
+                double result = this.calculator.replaceLast();
+                this.lastY = y;
+                if (!isEmpty()) {
+                    updateByIndex(getItemCount() - 1, toNumber(result));
+                }
+            }
+            appendFrom(index + 1);
+        }
+    }
+
+    /**
+     * Adds the items for the source items from the specified index onwards.
+     *
+     * @param first  the index of the first source item.
+     */
+    private void appendFrom(int first) {
+        int itemCount = this.source.getItemCount(this.series);
+        if (first >= itemCount) {
+            return;
+        }
+        for (int i = first; i < itemCount; i++) {
+            double result = this.calculator.addNext();
+            add(this.source.getXValue(this.series, i), toNumber(result), 
+                    false);
+        }
+        this.lastX = this.source.getXValue(this.series, itemCount - 1);
+        this.lastY = this.source.getYValue(this.series, itemCount - 1);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Converts a result to a {@code Number}, with NaN converted to 
+     * {@code null}.
+     *
+     * @param result  the result.
+     *
+     * @return The number (possibly {@code null}).
+     */
+    private static Number toNumber(double result) {
+        return Double.isNaN(result) ? null : result;
+    }
+
+    /**
+     * Provides serialization support (the series registers with the source
+     * again, and is brought up to date).
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.calculator = createCalculator();
+        recalculate();
+        this.source.addChangeListener(this);
+    }
+
+}
@@ -49,7 +49,7 @@ import org.jfree.chart.date.SerialDate;
  * Q4 9999.  This class is immutable, which is a requirement for all
  * {@link RegularTimePeriod} subclasses.
  */
-public class Quarter extends RegularTimePeriod implements Serializable {
+public class Quarter extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 3810061714380888671L;
@@ -107,7 +107,7 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year;
         this.quarter = (byte) quarter;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -124,7 +124,7 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year.getYear();
         this.quarter = (byte) quarter;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -151,6 +151,17 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Quarter(Date time, TimeZone zone, Locale locale) {
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            long local = engine.toLocalMillis(time.getTime());
+            this.quarter = (byte) SerialDate.monthCodeToQuarter(
+                    EpochCalendar.getMonth(local));
+            this.year = (short) EpochCalendar.getYear(local);
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         int month = calendar.get(Calendar.MONTH) + 1;
@@ -248,6 +259,41 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the quarter in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        int month = Quarter.FIRST_MONTH_IN_QUARTER[this.quarter];
+        return EpochCalendar.toLocalMillis(this.year, month, 1, 0, 0, 0, 0);
+    }
+
+    /**
+     * Returns the last millisecond of the quarter in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        int month = Quarter.LAST_MONTH_IN_QUARTER[this.quarter];
+        return EpochCalendar.toLocalMillis(this.year, month + 1, 1, 0, 0, 0, 
+                0) - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the quarter.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the quarter preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -422,6 +468,10 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int month = Quarter.FIRST_MONTH_IN_QUARTER[this.quarter];
         calendar.set(this.year, month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
@@ -441,6 +491,10 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int month = Quarter.LAST_MONTH_IN_QUARTER[this.quarter];
         int eom = SerialDate.lastDayOfMonth(month, this.year);
         calendar.set(this.year, month - 1, eom, 23, 59, 59);
@@ -40,6 +40,7 @@ import java.lang.reflect.Constructor;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -62,6 +63,12 @@ public abstract class RegularTimePeriod implements TimePeriod, Comparable,
 
     private static final ThreadLocal<Calendar> threadLocalCalendar = new ThreadLocal<>();
 
+    /** 
+     * A marker value returned by {@link #toEpochMillis(Calendar, long)} when
+     * a local time cannot be converted without the calendar. 
+     */
+    static final long NO_LOCAL_TIME = Long.MIN_VALUE;
+
     /**
      * Creates a time period that includes the specified millisecond, assuming
      * the given time zone.
@@ -75,6 +82,27 @@ public abstract class RegularTimePeriod implements TimePeriod, Comparable,
      */
     public static RegularTimePeriod createInstance(Class c, Date millisecond,
             TimeZone zone, Locale locale) {
+        // the standard period classes are created directly, reflection is
+        // only needed for other classes
+        if (c == Minute.class) {
+            return new Minute(millisecond, zone, locale);
+        } else if (c == Hour.class) {
+            return new Hour(millisecond, zone, locale);
+        } else if (c == Day.class) {
+            return new Day(millisecond, zone, locale);
+        } else if (c == Second.class) {
+            return new Second(millisecond, zone, locale);
+        } else if (c == Millisecond.class) {
+            return new Millisecond(millisecond, zone, locale);
+        } else if (c == Month.class) {
+            return new Month(millisecond, zone, locale);
+        } else if (c == Quarter.class) {
+            return new Quarter(millisecond, zone, locale);
+        } else if (c == Year.class) {
+            return new Year(millisecond, zone, locale);
+        } else if (c == Week.class) {
+            return new Week(millisecond, zone, locale);
+        }
         RegularTimePeriod result = null;
         try {
             Constructor constructor = c.getDeclaredConstructor(
@@ -157,6 +185,24 @@ public abstract class RegularTimePeriod implements TimePeriod, Comparable,
         return calendar != null ? calendar : Calendar.getInstance();
     }
 
+    /**
+     * Returns a time engine that gives the same results as the calendar 
+     * returned by {@link #getCalendarInstance()}, or {@code null} if there
+     * is no such engine (in which case the calendar should be used).  When
+     * neither a thread-local calendar nor a prototype has been set, this 
+     * avoids creating a new calendar for every calculation.
+     *
+     * @return The engine (possibly {@code null}).
+     */
+    static EpochCalendar getEpochCalendarInstance() {
+        Calendar calendar = threadLocalCalendar.get();
+        if (calendar == null && calendarPrototype.get() == null) {
+            return EpochCalendar.getInstance(TimeZone.getDefault(),
+                    Locale.getDefault(Locale.Category.FORMAT));
+        }
+        return EpochCalendar.getInstance(getCalendarInstance());
+    }
+
     /**
      * Sets the thread-local calendar instance for time calculations.
      * <p>
@@ -255,6 +301,28 @@ public abstract class RegularTimePeriod implements TimePeriod, Comparable,
      */
     public abstract void peg(Calendar calendar);
 
+    /**
+     * Converts a local time to milliseconds since the epoch using the 
+     * {@link EpochCalendar} that is equivalent to the specified calendar.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     * @param localMillis  the local time.
+     *
+     * @return The milliseconds since the epoch, or {@link #NO_LOCAL_TIME} 
+     *     if there is no equivalent engine or the local time is not 
+     *     supported (the caller should then use the calendar).
+     *
+     * @throws NullPointerException if {@code calendar} is {@code null}.
+     */
+    static long toEpochMillis(Calendar calendar, long localMillis) {
+        Objects.requireNonNull(calendar, "calendar");
+        EpochCalendar engine = EpochCalendar.getInstance(calendar);
+        if (engine == null || !engine.isSupportedLocalTime(localMillis)) {
+            return NO_LOCAL_TIME;
+        }
+        return engine.toEpochMillis(localMillis);
+    }
+
     /**
      * Returns the date/time that marks the start of the time period.  This
      * method returns a new {@code Date} instance every time it is called.
@@ -0,0 +1,352 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A fixed-capacity time series for high-rate streaming data, storing each
+ * item as a timestamp (in milliseconds) and a {@code double} value in
+ * primitive arrays used as a ring buffer.  When the buffer is full, adding
+ * an item evicts the oldest item in O(1) time, and items can also be
+ * evicted by age (see {@link #setMaximumItemAge(long)}).  No objects are
+ * allocated when items are added.
+ * <p>
+ * The series supports one writer thread and any number of reader threads
+ * without locking.  Items are identified by a sequence number that
+ * increases by one for each item added: the valid items are those from
+ * {@link #getFirstSequence()} (inclusive) to {@link #getEndSequence()}
+ * (exclusive).  If the writer evicts an item while a reader is accessing
+ * it, {@link #getXValue(long)} and {@link #getYValue(long)} return
+ * {@code Double.NaN} rather than the value of a newer item.
+ * <p>
+ * The {@link #add(long, double)} method does not send a
+ * {@link SeriesChangeEvent}; call {@link #fireSeriesChanged()} (usually
+ * from the event dispatch thread, at the rate the chart should be
+ * refreshed) to update the registered listeners.  Use a
+ * {@link RingBufferTimeSeriesCollection} to display the series in a chart.
+ *
+ * @param <S>  the type for the series keys.
+ */
+public class RingBufferTimeSeries<S extends Comparable<S>> extends Series<S>
+        implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The maximum number of items. */
+    private final int capacity;
+
+    /** The timestamps (in milliseconds). */
+    private long[] millis;
+
+    /** The values. */
+    private double[] values;
+
+    /** The sequence number of the next item to be added. */
+    private volatile long end;
+
+    /** The sequence number of the oldest item in the series. */
+    private volatile long first;
+
+    /** The maximum age of an item (in milliseconds). */
+    private volatile long maximumItemAge;
+
+    /**
+     * Creates a new (empty) series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param capacity  the maximum number of items (must be positive).
+     */
+    public RingBufferTimeSeries(S key, int capacity) {
+        super(key);
+        Args.requireInRange(capacity, "capacity", 1, Integer.MAX_VALUE);
+        this.capacity = capacity;
+        this.millis = new long[capacity];
+        this.values = new double[capacity];
+        this.maximumItemAge = Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the maximum number of items in the series.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the maximum age of the items in the series, in milliseconds.
+     * The default value is {@code Long.MAX_VALUE}.
+     *
+     * @return The maximum item age.
+     */
+    public long getMaximumItemAge() {
+        return this.maximumItemAge;
+    }
+
+    /**
+     * Sets the maximum age of the items in the series, in milliseconds.  An
+     * item is evicted when an item with a timestamp more than
+     * {@code maximumItemAge} milliseconds later is added.  Changing this
+     * setting does not remove any items until the next item is added.
+     *
+     * @param maximumItemAge  the maximum age (must be non-negative).
+     */
+    public void setMaximumItemAge(long maximumItemAge) {
+        if (maximumItemAge < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'maximumItemAge' argument.");
+        }
+        this.maximumItemAge = maximumItemAge;
+    }
+
+    /**
+     * Returns the number of items in the series.  When the series is being
+     * updated by another thread, this is a snapshot that may be out of date
+     * immediately.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        long f = this.first;
+        long e = this.end;
+        return (int) Math.min(e - f, this.capacity);
+    }
+
+    /**
+     * Returns the sequence number of the oldest item in the series.
+     *
+     * @return The sequence number.
+     */
+    public long getFirstSequence() {
+        return this.first;
+    }
+
+    /**
+     * Returns the sequence number that will be assigned to the next item
+     * added to the series.
+     *
+     * @return The sequence number.
+     */
+    public long getEndSequence() {
+        return this.end;
+    }
+
+    /**
+     * Adds an item to the series, evicting the oldest items if the series
+     * is full or if they exceed the maximum item age.  This method must only
+     * be called from one thread at a time, and no change event is sent.
+     *
+     * @param millis  the timestamp in milliseconds (must not be earlier than
+     *     the timestamp of the last item added).
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(long millis, double value) {
+        long e = this.end;
+        long f = this.first;
+        if (e > f && millis < this.millis[slot(e - 1)]) {
+            throw new SeriesException("Timestamps must be added in "
+                    + "ascending order.");
+        }
+        long newFirst = f;
+        if (e - newFirst == this.capacity) {
+            newFirst++;
+        }
+        long maxAge = this.maximumItemAge;
+        if (maxAge != Long.MAX_VALUE) {
+            long limit = millis - maxAge;
+            while (newFirst < e && this.millis[slot(newFirst)] < limit) {
+                newFirst++;
+            }
+        }
+        if (newFirst != f) {
+            this.first = newFirst;
+            // readers must see the eviction before the slot is overwritten
+            VarHandle.storeStoreFence();
+        }
+        int s = slot(e);
+        this.millis[s] = millis;
+        this.values[s] = value;
+        this.end = e + 1;  // publishes the new item
+    }
+
+    /**
+     * Adds an item to the series, using the middle of the time period as the
+     * timestamp (see {@link #add(long, double)}).
+     *
+     * @param period  the time period ({@code null} not permitted).
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(RegularTimePeriod period, double value) {
+        Args.nullNotPermitted(period, "period");
+        add(period.getMiddleMillisecond(), value);
+    }
+
+    /**
+     * Removes all items from the series.  Like {@link #add(long, double)},
+     * this must only be called from the writer thread, and no change event
+     * is sent.
+     */
+    public void clear() {
+        this.first = this.end;
+    }
+
+    /**
+     * Returns the timestamp (in milliseconds) for an item.
+     *
+     * @param sequence  the item sequence number (see
+     *     {@link #getFirstSequence()}).
+     *
+     * @return The timestamp, or {@code Double.NaN} if the item has been
+     *     evicted.
+     */
+    public double getXValue(long sequence) {
+        checkSequence(sequence);
+        double x = this.millis[slot(sequence)];
+        VarHandle.loadLoadFence();
+        return sequence >= this.first ? x : Double.NaN;
+    }
+
+    /**
+     * Returns the value for an item.
+     *
+     * @param sequence  the item sequence number (see
+     *     {@link #getFirstSequence()}).
+     *
+     * @return The value, or {@code Double.NaN} if the item has been evicted.
+     */
+    public double getYValue(long sequence) {
+        checkSequence(sequence);
+        double y = this.values[slot(sequence)];
+        VarHandle.loadLoadFence();
+        return sequence >= this.first ? y : Double.NaN;
+    }
+
+    /**
+     * Throws an exception if the sequence number has not been assigned yet.
+     *
+     * @param sequence  the sequence number.
+     */
+    private void checkSequence(long sequence) {
+        if (sequence < 0 || sequence >= this.end) {
+            throw new IndexOutOfBoundsException("Sequence " + sequence
+                    + " has not been added.");
+        }
+    }
+
+    /**
+     * Returns the array index for a sequence number.
+     *
+     * @param sequence  the sequence number.
+     *
+     * @return The array index.
+     */
+    private int slot(long sequence) {
+        return (int) (sequence % this.capacity);
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RingBufferTimeSeries)) {
+            return false;
+        }
+        RingBufferTimeSeries<?> that = (RingBufferTimeSeries<?>) obj;
+        if (this.capacity != that.capacity) {
+            return false;
+        }
+        if (this.maximumItemAge != that.maximumItemAge) {
+            return false;
+        }
+        int count = getItemCount();
+        if (count != that.getItemCount()) {
+            return false;
+        }
+        long f1 = this.first;
+        long f2 = that.first;
+        for (int i = 0; i < count; i++) {
+            if (Double.compare(getXValue(f1 + i), that.getXValue(f2 + i)) != 0
+                    || Double.compare(getYValue(f1 + i),
+                    that.getYValue(f2 + i)) != 0) {
+                return false;
+            }
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = super.hashCode();
+        hash = 43 * hash + this.capacity;
+        hash = 43 * hash + Long.hashCode(this.maximumItemAge);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of the series.  The clone contains a copy of the
+     * items present when this method is called.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferTimeSeries<S> clone = (RingBufferTimeSeries) super.clone();
+        clone.millis = Arrays.copyOf(this.millis, this.capacity);
+        clone.values = Arrays.copyOf(this.values, this.capacity);
+        return clone;
+    }
+
+}
@@ -0,0 +1,359 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link XYDataset} view of one or more {@link RingBufferTimeSeries}
+ * objects.  The x-values are the item timestamps in milliseconds.
+ * <p>
+ * The dataset presents a fixed window of items for each series, captured
+ * when the dataset is created or refreshed (see {@link #refresh()}), so the
+ * item counts do not change while a chart is being drawn even if a producer
+ * thread continues to add items to the series.  Items that the producer
+ * evicts while the window is in use read as {@code Double.NaN}.  The
+ * dataset refreshes itself when any series sends a
+ * {@link SeriesChangeEvent}.
+ *
+ * @param <S>  the type for the series keys.
+ */
+public class RingBufferTimeSeriesCollection<S extends Comparable<S>>
+        extends AbstractXYDataset<S> implements XYDataset<S>, DomainInfo,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The series. */
+    private final List<RingBufferTimeSeries<S>> data;
+
+    /**
+     * The first sequence number and the item count for each series, at
+     * positions {@code 2 * series} and {@code 2 * series + 1}.  The array is
+     * replaced (never modified) by {@link #refresh()}.
+     */
+    private volatile long[] windows;
+
+    /**
+     * Creates a new (empty) collection.
+     */
+    public RingBufferTimeSeriesCollection() {
+        this.data = new ArrayList<>();
+        this.windows = new long[0];
+    }
+
+    /**
+     * Creates a new collection containing a single series.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public RingBufferTimeSeriesCollection(RingBufferTimeSeries<S> series) {
+        this();
+        addSeries(series);
+    }
+
+    /**
+     * Adds a series to the collection and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void addSeries(RingBufferTimeSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (indexOf(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                    "Duplicate key " + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        refresh();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void removeSeries(RingBufferTimeSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (this.data.remove(series)) {
+            series.removeChangeListener(this);
+            refresh();
+        }
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     */
+    public RingBufferTimeSeries<S> getSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        return this.data.get(series);
+    }
+
+    /**
+     * Captures the current items in each series as the items presented by
+     * this dataset, and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     */
+    public void refresh() {
+        long[] w = new long[2 * this.data.size()];
+        for (int s = 0; s < this.data.size(); s++) {
+            RingBufferTimeSeries<S> series = this.data.get(s);
+            long end = series.getEndSequence();
+            long first = Math.max(series.getFirstSequence(),
+                    end - series.getCapacity());
+            w[2 * s] = first;
+            w[2 * s + 1] = Math.max(end - first, 0);
+        }
+        this.windows = w;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Receives notification that a series has changed, refreshes the
+     * items presented by this dataset and notifies the listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        refresh();
+    }
+
+    /**
+     * Returns the order of the domain values, which is always ascending for
+     * this dataset.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.windows.length / 2;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the number of items in a series (as captured by the last
+     * refresh).
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return (int) this.windows[2 * series + 1];
+    }
+
+    /**
+     * Returns the x-value (timestamp in milliseconds) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.data.get(series).getXValue(this.windows[2 * series]
+                + item);
+    }
+
+    /**
+     * Returns the x-value (timestamp in milliseconds) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getYValue(this.windows[2 * series]
+                + item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value ({@code Double.NaN} if there are no items).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value ({@code Double.NaN} if there are no items).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  Since the items in
+     * each series are in ascending order, this only reads the first and last
+     * item of each series.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range ({@code null} if there are no items).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            int count = getItemCount(s);
+            if (count > 0) {
+                // the first item may have been evicted, so search forward
+                for (int i = 0; i < count; i++) {
+                    double x = getXValue(s, i);
+                    if (!Double.isNaN(x)) {
+                        lower = Math.min(lower, x);
+                        break;
+                    }
+                }
+                upper = Math.max(upper, getXValue(s, count - 1));
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RingBufferTimeSeriesCollection)) {
+            return false;
+        }
+        RingBufferTimeSeriesCollection<?> that
+                = (RingBufferTimeSeriesCollection<?>) obj;
+        return Objects.equals(this.data, that.data);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+
+}
@@ -47,7 +47,7 @@ import org.jfree.chart.internal.Args;
  * Represents a second in a particular day.  This class is immutable, which is
  * a requirement for all {@link RegularTimePeriod} subclasses.
  */
-public class Second extends RegularTimePeriod implements Serializable {
+public class Second extends LocalTimePeriod implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -6536564190712383466L;
@@ -101,7 +101,24 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.hour = (byte) minute.getHourValue();
         this.minute = (byte) minute.getMinute();
         this.second = (byte) second;
-        peg(getCalendarInstance());
+        pegDefault();
+    }
+
+    /**
+     * Creates a new second in the specified minute of a day, without 
+     * creating intermediate {@link Minute} and {@link Hour} instances.
+     *
+     * @param second  the second (0 to 59).
+     * @param minute  the minute (0 to 59).
+     * @param hour  the hour (0 to 23).
+     * @param day  the day ({@code null} not permitted).
+     */
+    private Second(int second, int minute, int hour, Day day) {
+        this.day = day;
+        this.hour = (byte) hour;
+        this.minute = (byte) minute;
+        this.second = (byte) second;
+        pegDefault();
     }
 
     /**
@@ -144,7 +161,28 @@ public class Second extends RegularTimePeriod implements Serializable {
      * @since 1.0.13
      */
     public Second(Date time, TimeZone zone, Locale locale) {
-        this(time, Calendar.getInstance(zone, locale));
+        Args.nullNotPermitted(time, "time");
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(locale, "locale");
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            int s = EpochCalendar.getMillisecondOfDay(
+                    engine.toLocalMillis(time.getTime())) / 1000;
+            this.second = (byte) (s % 60);
+            this.minute = (byte) (s / 60 % 60);
+            this.hour = (byte) (s / 3600);
+            this.day = new Day(time, zone, locale);
+            this.firstMillisecond = engine.toEpochMillis(
+                    getFirstLocalMillisecond());
+            return;
+        }
+        Calendar calendar = Calendar.getInstance(zone, locale);
+        calendar.setTime(time);
+        this.second = (byte) calendar.get(Calendar.SECOND);
+        this.minute = (byte) calendar.get(Calendar.MINUTE);
+        this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
+        this.day = new Day(time, calendar);
+        peg(calendar);
     }
 
     /**
@@ -225,6 +263,39 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the second in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return this.day.getFirstLocalMillisecond() 
+                + ((this.hour * 60L + this.minute) * 60L + this.second) 
+                * 1000L;
+    }
+
+    /**
+     * Returns the last millisecond of the second in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return getFirstLocalMillisecond() + 999L;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the second.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+    }
+
     /**
      * Returns the second preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -237,12 +308,23 @@ public class Second extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod previous() {
         Second result = null;
         if (this.second != FIRST_SECOND_IN_MINUTE) {
-            result = new Second(this.second - 1, getMinute());
+            result = new Second(this.second - 1, this.minute, this.hour, 
+                    this.day);
+        }
+        else if (this.minute != Minute.FIRST_MINUTE_IN_HOUR) {
+            result = new Second(LAST_SECOND_IN_MINUTE, this.minute - 1, 
+                    this.hour, this.day);
+        }
+        else if (this.hour != Hour.FIRST_HOUR_IN_DAY) {
+            result = new Second(LAST_SECOND_IN_MINUTE, 
+                    Minute.LAST_MINUTE_IN_HOUR, this.hour - 1, this.day);
         }
         else {
-            Minute previous = (Minute) getMinute().previous();
+            Day previous = (Day) this.day.previous();
             if (previous != null) {
-                result = new Second(LAST_SECOND_IN_MINUTE, previous);
+                result = new Second(LAST_SECOND_IN_MINUTE, 
+                        Minute.LAST_MINUTE_IN_HOUR, Hour.LAST_HOUR_IN_DAY, 
+                        previous);
             }
         }
         return result;
@@ -260,12 +342,23 @@ public class Second extends RegularTimePeriod implements Serializable {
     public RegularTimePeriod next() {
         Second result = null;
         if (this.second != LAST_SECOND_IN_MINUTE) {
-            result = new Second(this.second + 1, getMinute());
+            result = new Second(this.second + 1, this.minute, this.hour, 
+                    this.day);
+        }
+        else if (this.minute != Minute.LAST_MINUTE_IN_HOUR) {
+            result = new Second(FIRST_SECOND_IN_MINUTE, this.minute + 1, 
+                    this.hour, this.day);
+        }
+        else if (this.hour != Hour.LAST_HOUR_IN_DAY) {
+            result = new Second(FIRST_SECOND_IN_MINUTE, 
+                    Minute.FIRST_MINUTE_IN_HOUR, this.hour + 1, this.day);
         }
         else {
-            Minute next = (Minute) getMinute().next();
+            Day next = (Day) this.day.next();
             if (next != null) {
-                result = new Second(FIRST_SECOND_IN_MINUTE, next);
+                result = new Second(FIRST_SECOND_IN_MINUTE, 
+                        Minute.FIRST_MINUTE_IN_HOUR, Hour.FIRST_HOUR_IN_DAY, 
+                        next);
             }
         }
         return result;
@@ -294,6 +387,10 @@ public class Second extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
@@ -38,8 +38,6 @@
 package org.jfree.data.time;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
@@ -53,6 +51,7 @@ import java.util.TimeZone;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxSegmentTree;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -101,6 +100,13 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     private double maxY;
 
+    /**
+     * An index of the y-values used to find the y-range for a range of
+     * x-values (created when first required, and discarded when items are
+     * inserted or removed other than at the ends of the series).
+     */
+    private transient MinMaxSegmentTree yIndex;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -279,29 +285,113 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @return The range of y-values.
      */
     public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor, Calendar calendar) {
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
-        double lowY = Double.POSITIVE_INFINITY;
-        double highY = Double.NEGATIVE_INFINITY;
-        for (TimeSeriesDataItem item : this.data) {
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = minIgnoreNaN(lowY, v);
-                    highY = maxIgnoreNaN(highY, v);
-                }
+        // the items are ordered by time period, so the items in the x-range
+        // are found with a binary search and the y-range is looked up in
+        // the index
+        int first = findFirstItem(xRange.getLowerBound(), false, xAnchor,
+                calendar);
+        int last = findFirstItem(xRange.getUpperBound(), true, xAnchor,
+                calendar) - 1;
+        Range result = null;
+        if (first <= last) {
+            result = getYIndex().find(first, last);
+        }
+        if (result == null) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or,
+     * if {@code strict} is {@code false}, equal to) the specified value.
+     *
+     * @param x  the x-value (in milliseconds).
+     * @param strict  a flag that controls whether items with an x-value
+     *     equal to {@code x} are skipped.
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItem(double x, boolean strict,
+            TimePeriodAnchor xAnchor, Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midX = this.data.get(mid).getPeriod().getMillisecond(xAnchor,
+                    calendar);
+            if (midX < x || (strict && midX == x)) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
-            if (lowY < highY) {
-                return new Range(lowY, highY);
+        return low;
+    }
+
+    /**
+     * Returns the y-value index, creating it if necessary.
+     *
+     * @return The index (never {@code null}).
+     */
+    private MinMaxSegmentTree getYIndex() {
+        int count = this.data.size();
+        // the size check guards against subclasses that modify the data
+        // list directly
+        if (this.yIndex == null || this.yIndex.size() != count) {
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = valueOf(this.data.get(i));
+            }
+            this.yIndex = new MinMaxSegmentTree(values, count);
+        }
+        return this.yIndex;
+    }
+
+    /**
+     * Returns the value of an item as a {@code double}.
+     *
+     * @param item  the item ({@code null} not permitted).
+     *
+     * @return The value ({@code Double.NaN} for a {@code null} value).
+     */
+    private static double valueOf(TimeSeriesDataItem item) {
+        Number n = item.getValue();
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Updates the y-value index for an item that has just been added.  The
+     * index is updated if the item was appended to the series, otherwise it
+     * is discarded.
+     *
+     * @param item  the item added ({@code null} not permitted).
+     */
+    private void updateIndexForAddedItem(TimeSeriesDataItem item) {
+        if (this.yIndex != null) {
+            if (this.data.get(this.data.size() - 1) == item) {
+                this.yIndex.add(valueOf(item));
             } else {
-                return new Range(Double.NaN, Double.NaN);
+                this.yIndex = null;
             }
         }
-        return new Range(lowY, highY);
+    }
+
+    /**
+     * Removes the first item in the series (without updating the cached
+     * minimum and maximum y-values).
+     *
+     * @return The item removed.
+     */
+    private TimeSeriesDataItem removeFirstItem() {
+        TimeSeriesDataItem removed = this.data.remove(0);
+        if (this.yIndex != null) {
+            this.yIndex.removeFirst();
+        }
+        return removed;
     }
 
     /**
@@ -586,9 +676,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
         if (added) {
             updateBoundsForAddedItem(item);
+            updateIndexForAddedItem(item);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
+                TimeSeriesDataItem d = removeFirstItem();
                 updateBoundsForRemovedItem(d);
             }
 
@@ -702,6 +793,9 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         item.setValue(value);
+        if (this.yIndex != null) {
+            this.yIndex.set(index, valueOf(item));
+        }
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -805,6 +899,9 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            if (this.yIndex != null) {
+                this.yIndex.set(index, valueOf(existing));
+            }
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -818,10 +915,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
             updateBoundsForAddedItem(item);
+            updateIndexForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
+                TimeSeriesDataItem d = removeFirstItem();
                 updateBoundsForRemovedItem(d);
             }
         }
@@ -846,13 +944,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
-            while ((latest - getTimePeriod(0).getSerialIndex())
-                    > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
-            }
-            if (removed) {
+            if (removeItemsOlderThan(latest)) {
                 updateMinMaxYByIteration();
                 if (notify) {
                     fireSeriesChanged();
@@ -876,35 +968,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             return;  // nothing to do
         }
         // find the serial index of the period specified by 'latest'
-        long index = Long.MAX_VALUE;
-        try {
-            Method m = RegularTimePeriod.class.getDeclaredMethod(
-                    "createInstance", Class.class, Date.class,
-                    TimeZone.class, Locale.class);
-            RegularTimePeriod newest = (RegularTimePeriod) m.invoke(
-                    this.timePeriodClass, new Object[] {this.timePeriodClass,
-                            new Date(latest), TimeZone.getDefault(), Locale.getDefault()});
-            index = newest.getSerialIndex();
-        }
-        catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
-        catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-        catch (InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-
-        // check if there are any values earlier than specified by the history
-        // count...
-        boolean removed = false;
-        while (getItemCount() > 0 && (index
-                - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
-        }
-        if (removed) {
+        RegularTimePeriod newest = RegularTimePeriod.createInstance(
+                this.timePeriodClass, new Date(latest), TimeZone.getDefault(),
+                Locale.getDefault());
+        if (removeItemsOlderThan(newest.getSerialIndex())) {
             updateMinMaxYByIteration();
             if (notify) {
                 fireSeriesChanged();
@@ -912,6 +979,41 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
     }
 
+    /**
+     * Removes (in a single operation) the items at the start of the series 
+     * that are more than {@code maximumItemAge} periods older than the 
+     * specified serial index.  The items are sorted by time period, so the
+     * last item to remove is found with a binary search.  The cached minimum
+     * and maximum y-values are not updated.
+     *
+     * @param latest  the serial index of the latest time period.
+     *
+     * @return A boolean that indicates whether or not any items were removed.
+     */
+    private boolean removeItemsOlderThan(long latest) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (latest - getTimePeriod(mid).getSerialIndex() 
+                    > this.maximumItemAge) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return false;
+        }
+        if (low == 1) {
+            removeFirstItem();
+        } else {
+            this.data.subList(0, low).clear();
+            this.yIndex = null;
+        }
+        return true;
+    }
+
     /**
      * Removes all data items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -919,6 +1021,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.yIndex = null;
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
@@ -938,6 +1041,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         int index = getIndex(period);
         if (index >= 0) {
             TimeSeriesDataItem item = this.data.remove(index);
+            this.yIndex = null;
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -972,6 +1076,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        this.yIndex = null;
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1000,6 +1105,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public Object clone() throws CloneNotSupportedException {
         TimeSeries<S> clone = (TimeSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.yIndex = null;
         return clone;
     }
 
@@ -1026,6 +1132,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         TimeSeries<S> copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
+        copy.yIndex = null;
         copy.data = new java.util.ArrayList();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
@@ -1083,6 +1190,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (emptyRange) {
             TimeSeries<S> copy = (TimeSeries) super.clone();
             copy.data = new java.util.ArrayList();
+            copy.yIndex = null;
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -46,7 +46,7 @@ import java.util.TimeZone;
  * Represents a year in the range -9999 to 9999.  This class is immutable,
  * which is a requirement for all {@link RegularTimePeriod} subclasses.
  */
-public class Year extends RegularTimePeriod implements Serializable {
+public class Year extends LocalTimePeriod implements Serializable {
 
     /**
      * The minimum year value.
@@ -96,7 +96,7 @@ public class Year extends RegularTimePeriod implements Serializable {
                 "Year constructor: year (" + year + ") outside valid range.");
         }
         this.year = (short) year;
-        peg(getCalendarInstance());
+        pegDefault();
     }
 
     /**
@@ -123,6 +123,15 @@ public class Year extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Year(Date time, TimeZone zone, Locale locale) {
+        EpochCalendar engine = EpochCalendar.getInstance(zone, locale);
+        if (engine != null && engine.isSupportedInstant(time.getTime())) {
+            long local = engine.toLocalMillis(time.getTime());
+            this.year = (short) EpochCalendar.getYear(local);
+            setMillisecondBounds(
+                    engine.toEpochMillis(getFirstLocalMillisecond()),
+                    engine.toEpochMillis(getLastLocalMillisecond()));
+            return;
+        }
         Calendar calendar = Calendar.getInstance(zone, locale);
         calendar.setTime(time);
         this.year = (short) calendar.get(Calendar.YEAR);
@@ -196,6 +205,39 @@ public class Year extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Returns the first millisecond of the year in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getFirstLocalMillisecond() {
+        return EpochCalendar.toLocalMillis(this.year, 1, 1, 0, 0, 0, 0);
+    }
+
+    /**
+     * Returns the last millisecond of the year in local time.
+     *
+     * @return The local time.
+     */
+    @Override
+    long getLastLocalMillisecond() {
+        return EpochCalendar.toLocalMillis(this.year + 1, 1, 1, 0, 0, 0, 0) 
+                - 1;
+    }
+
+    /**
+     * Sets the first and last milliseconds of the year.
+     *
+     * @param first  the first millisecond.
+     * @param last  the last millisecond.
+     */
+    @Override
+    void setMillisecondBounds(long first, long last) {
+        this.firstMillisecond = first;
+        this.lastMillisecond = last;
+    }
+
     /**
      * Returns the year preceding this one.
      * No matter what time zone and locale this instance was created with,
@@ -259,6 +301,10 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getFirstLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         calendar.set(this.year, Calendar.JANUARY, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -277,6 +323,10 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = toEpochMillis(calendar, getLastLocalMillisecond());
+        if (result != NO_LOCAL_TIME) {
+            return result;
+        }
         calendar.set(this.year, Calendar.DECEMBER, 31, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
@@ -0,0 +1,605 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link OHLCDataset} (with one series) that builds its bars from a 
+ * stream of (time, price, volume) ticks.  Each tick updates the current 
+ * bar in place, and a new bar is started automatically when a tick falls 
+ * in a later {@link RegularTimePeriod}.  Bars are kept for several 
+ * resolutions at once (for example, {@code Second}, {@code Minute} and 
+ * {@code Hour}), each up to a maximum bar count, and the dataset presents
+ * the bars for one resolution at a time, so that a chart can show the 
+ * resolution that suits the current zoom level (see 
+ * {@link #selectResolution(double, int)}).
+ * <p>
+ * Ticks can be added by any thread with 
+ * {@link #addTick(long, double, double)}, which does not send an event.  
+ * The dataset presents a snapshot of the bars that is taken each time 
+ * {@link #refresh()} is called (typically from a timer on the event 
+ * dispatch thread), so that a chart is drawn from consistent data while
+ * ticks continue to arrive.
+ *
+ * @since 2.0.0
+ *
+ * @see OHLCSeriesCollection
+ */
+public class AggregatingOHLCDataset extends AbstractXYDataset 
+        implements OHLCDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2690418221347519583L;
+
+    /** The series key. */
+    private final Comparable seriesKey;
+
+    /** The bars for each resolution (finest first). */
+    private OHLCBarList[] resolutions;
+
+    /** The typical length (in milliseconds) of a bar at each resolution. */
+    private final long[] periodLengths;
+
+    /** The index of the resolution presented by the dataset. */
+    private int resolution;
+
+    /** The snapshot of the bars presented by the dataset. */
+    private volatile OHLCBarList snapshot;
+
+    /** The position within each time period used for the x-values. */
+    private TimePeriodAnchor xPosition;
+
+    /**
+     * Creates a new dataset that uses the default time zone and locale to
+     * create the time periods.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param maximumBarCount  the maximum number of bars kept for each 
+     *     resolution (at least 1).
+     * @param periodClasses  the time period classes for the resolutions, 
+     *     from the shortest period to the longest (at least one).
+     */
+    public AggregatingOHLCDataset(Comparable seriesKey, int maximumBarCount, 
+            Class... periodClasses) {
+        this(seriesKey, maximumBarCount, TimeZone.getDefault(), 
+                Locale.getDefault(), periodClasses);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param maximumBarCount  the maximum number of bars kept for each 
+     *     resolution (at least 1).
+     * @param zone  the time zone used to create the time periods 
+     *     ({@code null} not permitted).
+     * @param locale  the locale used to create the time periods 
+     *     ({@code null} not permitted).
+     * @param periodClasses  the time period classes for the resolutions, 
+     *     from the shortest period to the longest (at least one).
+     */
+    public AggregatingOHLCDataset(Comparable seriesKey, int maximumBarCount, 
+            TimeZone zone, Locale locale, Class... periodClasses) {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        Args.requireInRange(maximumBarCount, "maximumBarCount", 1, 
+                Integer.MAX_VALUE);
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(locale, "locale");
+        Args.nullNotPermitted(periodClasses, "periodClasses");
+        if (periodClasses.length == 0) {
+            throw new IllegalArgumentException(
+                    "Require at least one time period class.");
+        }
+        this.seriesKey = seriesKey;
+        this.resolutions = new OHLCBarList[periodClasses.length];
+        this.periodLengths = new long[periodClasses.length];
+        for (int i = 0; i < periodClasses.length; i++) {
+            Args.nullNotPermitted(periodClasses[i], "periodClasses[i]");
+            if (!RegularTimePeriod.class.isAssignableFrom(periodClasses[i])) {
+                throw new IllegalArgumentException(periodClasses[i] 
+                        + " is not a RegularTimePeriod class.");
+            }
+            this.resolutions[i] = new OHLCBarList(periodClasses[i], 
+                    (TimeZone) zone.clone(), locale, maximumBarCount);
+            RegularTimePeriod p = this.resolutions[i].createPeriod(0L);
+            this.periodLengths[i] = p.getLastMillisecond() 
+                    - p.getFirstMillisecond() + 1;
+            if (i > 0 && this.periodLengths[i] <= this.periodLengths[i - 1]) {
+                throw new IllegalArgumentException(
+                        "The time period classes must be in ascending order"
+                        + " of length.");
+            }
+        }
+        this.snapshot = this.resolutions[0].snapshot();
+        this.xPosition = TimePeriodAnchor.MIDDLE;
+    }
+
+    /**
+     * Adds a tick to the bars for every resolution.  A tick that falls in 
+     * the period of the latest bar updates that bar (the tick price becomes
+     * the close price), and a tick in a later period starts a new bar (the 
+     * oldest bar is dropped when the maximum bar count is reached).  A tick
+     * that arrives late updates the high, low and volume of the bar for its
+     * period, or is ignored if there is no such bar.  Ticks with a NaN 
+     * price are ignored.
+     * <p>
+     * This method can be called by any thread, and does not send an event 
+     * (the change is seen after the next call to {@link #refresh()}).
+     *
+     * @param millis  the time of the tick (in milliseconds since the 
+     *     epoch).
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    public void addTick(long millis, double price, double volume) {
+        if (Double.isNaN(price)) {
+            return;
+        }
+        for (OHLCBarList bars : this.resolutions) {
+            bars.add(millis, price, volume);
+        }
+    }
+
+    /**
+     * Returns the number of resolutions.
+     *
+     * @return The number of resolutions.
+     */
+    public int getResolutionCount() {
+        return this.resolutions.length;
+    }
+
+    /**
+     * Returns the time period class for a resolution.
+     *
+     * @param resolution  the resolution index (zero is the shortest 
+     *     period).
+     *
+     * @return The time period class.
+     */
+    public Class getPeriodClass(int resolution) {
+        return this.resolutions[resolution].getPeriodClass();
+    }
+
+    /**
+     * Returns the index of the resolution presented by the dataset.
+     *
+     * @return The resolution index.
+     */
+    public int getResolution() {
+        return this.resolution;
+    }
+
+    /**
+     * Sets the resolution presented by the dataset, takes a new snapshot 
+     * of the bars and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param resolution  the resolution index (in the range {@code 0} to 
+     *     {@code getResolutionCount() - 1}).
+     */
+    public void setResolution(int resolution) {
+        Args.requireInRange(resolution, "resolution", 0, 
+                this.resolutions.length - 1);
+        this.resolution = resolution;
+        refresh();
+    }
+
+    /**
+     * Selects the shortest resolution that shows no more than the 
+     * specified number of bars across a time span (or the longest 
+     * resolution, if none does), typically called when the range of the 
+     * date axis changes.  If the resolution changes, a new snapshot of the
+     * bars is taken and a {@link DatasetChangeEvent} is sent to all 
+     * registered listeners.
+     *
+     * @param visibleMillis  the length of the visible time span (in 
+     *     milliseconds).
+     * @param maximumBarCount  the maximum number of bars to show.
+     *
+     * @return The index of the selected resolution.
+     */
+    public int selectResolution(double visibleMillis, int maximumBarCount) {
+        Args.requireInRange(maximumBarCount, "maximumBarCount", 1, 
+                Integer.MAX_VALUE);
+        int r = this.resolutions.length - 1;
+        for (int i = 0; i < this.resolutions.length; i++) {
+            if (visibleMillis / this.periodLengths[i] <= maximumBarCount) {
+                r = i;
+                break;
+            }
+        }
+        if (r != this.resolution) {
+            setResolution(r);
+        }
+        return r;
+    }
+
+    /**
+     * Takes a new snapshot of the bars for the current resolution and 
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void refresh() {
+        this.snapshot = this.resolutions[this.resolution].snapshot();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the position within each time period that is used for the x
+     * value.
+     *
+     * @return The anchor position (never {@code null}).
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each time period that is used for the x 
+     * values, then sends a {@link DatasetChangeEvent} to all registered 
+     * listeners.
+     *
+     * @param anchor  the anchor position ({@code null} not permitted).
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        Args.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the time period for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The time period.
+     */
+    public RegularTimePeriod getPeriod(int series, int item) {
+        OHLCBarList bars = this.snapshot;
+        return bars.createPeriod(bars.getStart(item));
+    }
+
+    /**
+     * Returns the order of the domain values (always ascending).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of series in the dataset (always 1).
+     *
+     * @return The number of series.
+     */
+    @Override
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the series key.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.seriesKey;
+    }
+
+    /**
+     * Returns the number of bars in the current snapshot.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.snapshot.getItemCount();
+    }
+
+    /**
+     * Returns the x-value for a bar, which depends on the x-position 
+     * setting.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @see #getXPosition()
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return getMillisecond(item);
+    }
+
+    /**
+     * Returns the millisecond within a bar that is used for the x-value.
+     *
+     * @param item  the item index (zero-based).
+     *
+     * @return The millisecond.
+     */
+    private long getMillisecond(int item) {
+        OHLCBarList bars = this.snapshot;
+        long start = bars.getStart(item);
+        long end = bars.getEnd(item);
+        if (this.xPosition == TimePeriodAnchor.START) {
+            return start;
+        } else if (this.xPosition == TimePeriodAnchor.END) {
+            return end;
+        }
+        return start + (end - start) / 2;
+    }
+
+    /**
+     * Returns the x-value for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getMillisecond(item);
+    }
+
+    /**
+     * Returns the y-value for a bar, which is the close price.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getCloseValue(series, item);
+    }
+
+    /**
+     * Returns the open price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The open price.
+     */
+    @Override
+    public double getOpenValue(int series, int item) {
+        return this.snapshot.getOpen(item);
+    }
+
+    /**
+     * Returns the open price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The open price.
+     */
+    @Override
+    public Number getOpen(int series, int item) {
+        return getOpenValue(series, item);
+    }
+
+    /**
+     * Returns the high price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The high price.
+     */
+    @Override
+    public double getHighValue(int series, int item) {
+        return this.snapshot.getHigh(item);
+    }
+
+    /**
+     * Returns the high price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The high price.
+     */
+    @Override
+    public Number getHigh(int series, int item) {
+        return getHighValue(series, item);
+    }
+
+    /**
+     * Returns the low price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The low price.
+     */
+    @Override
+    public double getLowValue(int series, int item) {
+        return this.snapshot.getLow(item);
+    }
+
+    /**
+     * Returns the low price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The low price.
+     */
+    @Override
+    public Number getLow(int series, int item) {
+        return getLowValue(series, item);
+    }
+
+    /**
+     * Returns the close price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The close price.
+     */
+    @Override
+    public double getCloseValue(int series, int item) {
+        return this.snapshot.getClose(item);
+    }
+
+    /**
+     * Returns the close price for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The close price.
+     */
+    @Override
+    public Number getClose(int series, int item) {
+        return getCloseValue(series, item);
+    }
+
+    /**
+     * Returns the volume for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The volume.
+     */
+    @Override
+    public double getVolumeValue(int series, int item) {
+        return this.snapshot.getVolume(item);
+    }
+
+    /**
+     * Returns the volume for a bar.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index (zero-based).
+     *
+     * @return The volume.
+     */
+    @Override
+    public Number getVolume(int series, int item) {
+        return getVolumeValue(series, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof AggregatingOHLCDataset)) {
+            return false;
+        }
+        AggregatingOHLCDataset that = (AggregatingOHLCDataset) obj;
+        if (!Objects.equals(this.seriesKey, that.seriesKey)) {
+            return false;
+        }
+        if (this.resolution != that.resolution) {
+            return false;
+        }
+        if (!this.xPosition.equals(that.xPosition)) {
+            return false;
+        }
+        if (!this.snapshot.equals(that.snapshot)) {
+            return false;
+        }
+        for (int i = 0; i < this.resolutions.length; i++) {
+            if (i >= that.resolutions.length 
+                    || !this.resolutions[i].equals(that.resolutions[i])) {
+                return false;
+            }
+        }
+        return this.resolutions.length == that.resolutions.length;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 83 * hash + Objects.hashCode(this.seriesKey);
+        hash = 83 * hash + this.resolution;
+        hash = 83 * hash + this.resolutions.length;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this dataset (the bars are copied).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        AggregatingOHLCDataset clone 
+                = (AggregatingOHLCDataset) super.clone();
+        clone.resolutions = new OHLCBarList[this.resolutions.length];
+        for (int i = 0; i < this.resolutions.length; i++) {
+            clone.resolutions[i] = this.resolutions[i].snapshot();
+        }
+        return clone;
+    }
+
+}
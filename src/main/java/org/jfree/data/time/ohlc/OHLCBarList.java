@@ -0,0 +1,476 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.jfree.data.time.RegularTimePeriod;
+
+/**
+ * The bars for one resolution of an {@link AggregatingOHLCDataset}, held 
+ * in primitive arrays that are used as a ring buffer (so that the oldest
+ * bar is dropped when the maximum bar count is reached).  Ticks are added 
+ * and snapshots taken while holding the lock on this object; the 
+ * accessor methods are for use on snapshots only.
+ */
+final class OHLCBarList implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4185330675287926744L;
+
+    /** The time period class for the bars. */
+    private final Class periodClass;
+
+    /** The time zone used to create the time periods. */
+    private final TimeZone zone;
+
+    /** The locale used to create the time periods. */
+    private final Locale locale;
+
+    /** The maximum number of bars. */
+    private final int capacity;
+
+    /** A calendar for the time zone and locale (created when required). */
+    private transient Calendar calendar;
+
+    /** The first millisecond of each bar. */
+    private long[] starts;
+
+    /** The last millisecond of each bar. */
+    private long[] ends;
+
+    /** The open prices. */
+    private double[] opens;
+
+    /** The high prices. */
+    private double[] highs;
+
+    /** The low prices. */
+    private double[] lows;
+
+    /** The close prices. */
+    private double[] closes;
+
+    /** The volumes. */
+    private double[] volumes;
+
+    /** The array index of the oldest bar. */
+    private int head;
+
+    /** The number of bars. */
+    private int count;
+
+    /**
+     * Creates a new (empty) list.
+     *
+     * @param periodClass  the time period class.
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     * @param capacity  the maximum number of bars.
+     */
+    OHLCBarList(Class periodClass, TimeZone zone, Locale locale, 
+            int capacity) {
+        this(periodClass, zone, locale, capacity, Math.min(capacity, 16));
+    }
+
+    /**
+     * Creates a new (empty) list with the specified array length.
+     *
+     * @param periodClass  the time period class.
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     * @param capacity  the maximum number of bars.
+     * @param length  the initial array length.
+     */
+    private OHLCBarList(Class periodClass, TimeZone zone, Locale locale, 
+            int capacity, int length) {
+        this.periodClass = periodClass;
+        this.zone = zone;
+        this.locale = locale;
+        this.capacity = capacity;
+        this.starts = new long[length];
+        this.ends = new long[length];
+        this.opens = new double[length];
+        this.highs = new double[length];
+        this.lows = new double[length];
+        this.closes = new double[length];
+        this.volumes = new double[length];
+    }
+
+    /**
+     * Returns the time period class for the bars.
+     *
+     * @return The time period class.
+     */
+    Class getPeriodClass() {
+        return this.periodClass;
+    }
+
+    /**
+     * Returns the time period that contains the specified millisecond.
+     *
+     * @param millis  the millisecond.
+     *
+     * @return The time period.
+     */
+    RegularTimePeriod createPeriod(long millis) {
+        return RegularTimePeriod.createInstance(this.periodClass, 
+                new Date(millis), this.zone, this.locale);
+    }
+
+    /**
+     * Returns the calendar for the time zone and locale.
+     *
+     * @return The calendar.
+     */
+    private Calendar getCalendar() {
+        if (this.calendar == null) {
+            this.calendar = Calendar.getInstance(this.zone, this.locale);
+        }
+        return this.calendar;
+    }
+
+    /**
+     * Adds a tick.  A tick in the period of the latest bar updates that 
+     * bar, and a later tick starts a new bar.  An earlier tick updates the
+     * high, low and volume of the bar for its period, or is ignored if 
+     * there is no such bar.
+     *
+     * @param millis  the time of the tick.
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    synchronized void add(long millis, double price, double volume) {
+        if (this.count > 0) {
+            int last = index(this.count - 1);
+            if (millis >= this.starts[last]) {
+                if (millis <= this.ends[last]) {
+                    update(last, price, volume);
+                    this.closes[last] = price;
+                    return;
+                }
+            } else {
+                int item = find(millis);
+                if (item >= 0) {
+                    update(index(item), price, volume);
+                }
+                return;
+            }
+        }
+        RegularTimePeriod period = createPeriod(millis);
+        Calendar c = getCalendar();
+        append(period.getFirstMillisecond(c), period.getLastMillisecond(c),
+                price, volume);
+    }
+
+    /**
+     * Updates the high, low and volume of a bar.
+     *
+     * @param i  the array index.
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    private void update(int i, double price, double volume) {
+        if (price > this.highs[i]) {
+            this.highs[i] = price;
+        }
+        if (price < this.lows[i]) {
+            this.lows[i] = price;
+        }
+        this.volumes[i] += volume;
+    }
+
+    /**
+     * Returns the item index of the bar that contains the specified 
+     * millisecond.
+     *
+     * @param millis  the millisecond.
+     *
+     * @return The item index, or -1 if there is no such bar.
+     */
+    private int find(long millis) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int i = index(mid);
+            if (millis < this.starts[i]) {
+                high = mid - 1;
+            } else if (millis > this.ends[i]) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a new bar, dropping the oldest bar if the list is full.
+     *
+     * @param start  the first millisecond of the bar.
+     * @param end  the last millisecond of the bar.
+     * @param price  the price (used for all four values).
+     * @param volume  the volume.
+     */
+    private void append(long start, long end, double price, double volume) {
+        if (this.count == this.capacity) {
+            this.head = index(1);
+            this.count--;
+        } else if (this.count == this.starts.length) {
+            grow(Math.min(this.capacity, Math.max(16, this.count * 2)));
+        }
+        int i = index(this.count);
+        this.starts[i] = start;
+        this.ends[i] = end;
+        this.opens[i] = price;
+        this.highs[i] = price;
+        this.lows[i] = price;
+        this.closes[i] = price;
+        this.volumes[i] = volume;
+        this.count++;
+    }
+
+    /**
+     * Replaces the arrays with longer ones, with the oldest bar first.
+     *
+     * @param length  the new length.
+     */
+    private void grow(int length) {
+        this.starts = copy(this.starts, length);
+        this.ends = copy(this.ends, length);
+        this.opens = copy(this.opens, length);
+        this.highs = copy(this.highs, length);
+        this.lows = copy(this.lows, length);
+        this.closes = copy(this.closes, length);
+        this.volumes = copy(this.volumes, length);
+        this.head = 0;
+    }
+
+    /**
+     * Copies the bars from a ring buffer array to a new array, with the 
+     * oldest bar first.
+     *
+     * @param array  the array.
+     * @param length  the length of the new array.
+     *
+     * @return The new array.
+     */
+    private long[] copy(long[] array, int length) {
+        long[] result = new long[length];
+        int n = Math.min(this.count, array.length - this.head);
+        System.arraycopy(array, this.head, result, 0, n);
+        System.arraycopy(array, 0, result, n, this.count - n);
+        return result;
+    }
+
+    /**
+     * Copies the bars from a ring buffer array to a new array, with the 
+     * oldest bar first.
+     *
+     * @param array  the array.
+     * @param length  the length of the new array.
+     *
+     * @return The new array.
+     */
+    private double[] copy(double[] array, int length) {
+        double[] result = new double[length];
+        int n = Math.min(this.count, array.length - this.head);
+        System.arraycopy(array, this.head, result, 0, n);
+        System.arraycopy(array, 0, result, n, this.count - n);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this list, which is not changed by later ticks.
+     *
+     * @return The copy.
+     */
+    synchronized OHLCBarList snapshot() {
+        OHLCBarList result = new OHLCBarList(this.periodClass, this.zone, 
+                this.locale, this.capacity, 0);
+        result.starts = copy(this.starts, this.count);
+        result.ends = copy(this.ends, this.count);
+        result.opens = copy(this.opens, this.count);
+        result.highs = copy(this.highs, this.count);
+        result.lows = copy(this.lows, this.count);
+        result.closes = copy(this.closes, this.count);
+        result.volumes = copy(this.volumes, this.count);
+        result.count = this.count;
+        return result;
+    }
+
+    /**
+     * Returns the array index for an item.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The array index.
+     */
+    private int index(int item) {
+        int i = this.head + item;
+        return i < this.starts.length ? i : i - this.starts.length;
+    }
+
+    /**
+     * Returns the number of bars.
+     *
+     * @return The bar count.
+     */
+    int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the first millisecond of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The first millisecond.
+     */
+    long getStart(int item) {
+        return this.starts[index(item)];
+    }
+
+    /**
+     * Returns the last millisecond of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The last millisecond.
+     */
+    long getEnd(int item) {
+        return this.ends[index(item)];
+    }
+
+    /**
+     * Returns the open price of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The open price.
+     */
+    double getOpen(int item) {
+        return this.opens[index(item)];
+    }
+
+    /**
+     * Returns the high price of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The high price.
+     */
+    double getHigh(int item) {
+        return this.highs[index(item)];
+    }
+
+    /**
+     * Returns the low price of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The low price.
+     */
+    double getLow(int item) {
+        return this.lows[index(item)];
+    }
+
+    /**
+     * Returns the close price of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The close price.
+     */
+    double getClose(int item) {
+        return this.closes[index(item)];
+    }
+
+    /**
+     * Returns the volume of a bar.
+     *
+     * @param item  the item index (zero is the oldest bar).
+     *
+     * @return The volume.
+     */
+    double getVolume(int item) {
+        return this.volumes[index(item)];
+    }
+
+    /**
+     * Tests this list for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof OHLCBarList)) {
+            return false;
+        }
+        OHLCBarList s1 = snapshot();
+        OHLCBarList s2 = ((OHLCBarList) obj).snapshot();
+        return s1.periodClass.equals(s2.periodClass)
+                && s1.zone.equals(s2.zone)
+                && s1.locale.equals(s2.locale)
+                && s1.capacity == s2.capacity
+                && Arrays.equals(s1.starts, s2.starts)
+                && Arrays.equals(s1.ends, s2.ends)
+                && Arrays.equals(s1.opens, s2.opens)
+                && Arrays.equals(s1.highs, s2.highs)
+                && Arrays.equals(s1.lows, s2.lows)
+                && Arrays.equals(s1.closes, s2.closes)
+                && Arrays.equals(s1.volumes, s2.volumes);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 83 * hash + Objects.hashCode(this.periodClass);
+        hash = 83 * hash + this.capacity;
+        return hash;
+    }
+
+}
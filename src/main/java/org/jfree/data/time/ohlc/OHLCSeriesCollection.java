@@ -56,6 +56,7 @@ import org.jfree.data.xy.XYDataset;
  * @since 1.0.4
  *
  * @see OHLCSeries
+ * @see AggregatingOHLCDataset
  */
 public class OHLCSeriesCollection extends AbstractXYDataset
                                 implements OHLCDataset, Serializable {
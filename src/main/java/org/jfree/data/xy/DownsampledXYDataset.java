@@ -0,0 +1,738 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtils;
+
+/**
+ * A read-only view of an {@link XYDataset} that presents a reduced number of
+ * items for each series, selected with either the LTTB or M4 algorithm (see
+ * {@link DownsamplingMethod}).  Only the items in the visible x-range are
+ * included in the view, and the number of items selected is derived from
+ * the number of pixels that the x-range is drawn across.  Both values are
+ * supplied by the {@link org.jfree.chart.plot.XYPlot} during rendering
+ * (see {@link ViewportAware}), so any XY renderer can draw a very large
+ * dataset through this view at a cost proportional to the plot width.
+ * <p>
+ * The view holds only the indices of the selected source items, and these
+ * are recalculated lazily - when the source dataset sends a
+ * {@link DatasetChangeEvent} or the viewport changes.  The domain and range
+ * bounds reported by the view are those of the complete source dataset, so
+ * auto-ranging is not affected by the downsampling.
+ * <p>
+ * Downsampling is only applied to source datasets with x-values in
+ * ascending order; other datasets are passed through unchanged.  The M4
+ * method assumes a linear domain axis when dividing the x-range into pixel
+ * columns.
+ *
+ * @param <S> the type for the series keys.
+ */
+public class DownsampledXYDataset<S extends Comparable<S>>
+        extends AbstractXYDataset<S> implements ViewportAware, DomainInfo,
+        RangeInfo, DatasetChangeListener, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of pixels assumed until a viewport is set. */
+    public static final int DEFAULT_PIXELS = 1000;
+
+    /** The source dataset. */
+    private final XYDataset<S> source;
+
+    /** The downsampling method. */
+    private final DownsamplingMethod method;
+
+    /**
+     * The number of items per pixel selected by the LTTB method (the M4
+     * method always selects up to 4 items per pixel).
+     */
+    private double itemsPerPixel;
+
+    /** The visible x-range ({@code null} for the full range). */
+    private Range xRange;
+
+    /** The number of pixels. */
+    private int pixels;
+
+    /** The selected source item indices for each series (lazily created). */
+    private transient int[][] selections;
+
+    /** The number of selected items for each series. */
+    private transient int[] selectionCounts;
+
+    /** The min/max indices used by the M4 method (lazily created). */
+    private transient XYMinMaxPyramid[] pyramids;
+
+    /**
+     * Creates a new view of the specified dataset.
+     *
+     * @param source  the source dataset ({@code null} not permitted).
+     * @param method  the downsampling method ({@code null} not permitted).
+     */
+    public DownsampledXYDataset(XYDataset<S> source,
+            DownsamplingMethod method) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(method, "method");
+        this.source = source;
+        this.method = method;
+        this.itemsPerPixel = 2.0;
+        this.pixels = DEFAULT_PIXELS;
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never {@code null}).
+     */
+    public XYDataset<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the downsampling method.
+     *
+     * @return The method (never {@code null}).
+     */
+    public DownsamplingMethod getMethod() {
+        return this.method;
+    }
+
+    /**
+     * Returns the number of items per pixel selected by the LTTB method.
+     * The default value is {@code 2.0}.
+     *
+     * @return The number of items per pixel.
+     */
+    public double getItemsPerPixel() {
+        return this.itemsPerPixel;
+    }
+
+    /**
+     * Sets the number of items per pixel selected by the LTTB method and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param itemsPerPixel  the number of items per pixel (must be
+     *     positive).
+     */
+    public void setItemsPerPixel(double itemsPerPixel) {
+        Args.requireFinite(itemsPerPixel, "itemsPerPixel");
+        if (itemsPerPixel <= 0.0) {
+            throw new IllegalArgumentException(
+                    "Requires 'itemsPerPixel' to be positive.");
+        }
+        this.itemsPerPixel = itemsPerPixel;
+        invalidate();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the visible x-range (as last set by
+     * {@link #setViewport(Range, int)}).
+     *
+     * @return The x-range ({@code null} if no viewport has been set).
+     */
+    public Range getXRange() {
+        return this.xRange;
+    }
+
+    /**
+     * Returns the number of pixels (as last set by
+     * {@link #setViewport(Range, int)}).
+     *
+     * @return The number of pixels.
+     */
+    public int getPixels() {
+        return this.pixels;
+    }
+
+    /**
+     * Sets the viewport.  If either value differs from the current
+     * viewport, the selected items are recalculated the next time they are
+     * accessed.  No change event is sent.
+     *
+     * @param xRange  the visible x-range ({@code null} not permitted).
+     * @param pixels  the number of pixels (must be positive).
+     */
+    @Override
+    public void setViewport(Range xRange, int pixels) {
+        Args.nullNotPermitted(xRange, "xRange");
+        Args.requireInRange(pixels, "pixels", 1, Integer.MAX_VALUE);
+        if (!xRange.equals(this.xRange) || pixels != this.pixels) {
+            this.xRange = xRange;
+            this.pixels = pixels;
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the selected items so that they are recalculated on the next
+     * access.
+     */
+    private void invalidate() {
+        this.selections = null;
+        this.selectionCounts = null;
+    }
+
+    /**
+     * Receives notification of a change to the source dataset.  The selected
+     * items and the min/max indices are discarded (the event does not say 
+     * which items changed) and the event is passed on to the listeners
+     * registered with this dataset.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        invalidate();
+        if (this.pyramids != null) {
+            for (XYMinMaxPyramid pyramid : this.pyramids) {
+                if (pyramid != null) {
+                    pyramid.invalidate();
+                }
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index of the source item for an item in this view.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The index of the item in the source dataset.
+     */
+    protected int getSourceItem(int series, int item) {
+        int[] selection = getSelection(series);
+        if (selection == null) {
+            return item;
+        }
+        Args.requireInRange(item, "item", 0, this.selectionCounts[series] - 1);
+        return selection[item];
+    }
+
+    /**
+     * Returns the selected source items for a series, calculating them if
+     * necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return The selected items ({@code null} if the series is not being
+     *     downsampled).
+     */
+    private int[] getSelection(int series) {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.selections == null
+                || this.selections.length != seriesCount) {
+            this.selections = new int[seriesCount][];
+            this.selectionCounts = new int[seriesCount];
+            Arrays.fill(this.selectionCounts, -1);
+        }
+        if (this.selectionCounts[series] < 0) {
+            select(series);
+        }
+        return this.selections[series];
+    }
+
+    /**
+     * Selects the items for the specified series.
+     *
+     * @param series  the series index.
+     */
+    private void select(int series) {
+        int itemCount = this.source.getItemCount(series);
+        if (this.source.getDomainOrder() != DomainOrder.ASCENDING
+                || itemCount == 0) {
+            this.selections[series] = null;
+            this.selectionCounts[series] = itemCount;
+            return;
+        }
+        int first = 0;
+        int last = itemCount - 1;
+        if (this.xRange != null) {
+            // include one item either side of the range so that lines are
+            // drawn to the edge of the data area
+            first = Math.max(findFirstItem(series, this.xRange.getLowerBound(),
+                    itemCount) - 1, 0);
+            last = Math.min(findFirstItem(series, Math.nextUp(
+                    this.xRange.getUpperBound()), itemCount), last);
+        }
+        int[] selection;
+        int count;
+        if (this.method == DownsamplingMethod.M4) {
+            selection = new int[4 * this.pixels + 2];
+            count = selectM4(series, first, last, selection);
+        } else {
+            int budget = (int) Math.max(3, Math.ceil(
+                    this.pixels * this.itemsPerPixel));
+            selection = new int[Math.min(budget, last - first + 1)];
+            count = selectLTTB(series, first, last, selection);
+        }
+        this.selections[series] = selection;
+        this.selectionCounts[series] = count;
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value
+     * greater than or equal to {@code x} (or {@code itemCount} if there
+     * is no such item).
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param itemCount  the number of items in the series.
+     *
+     * @return The item index.
+     */
+    private int findFirstItem(int series, double x, int itemCount) {
+        int low = 0;
+        int high = itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.source.getXValue(series, mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Selects items using the Largest-Triangle-Three-Buckets algorithm.
+     *
+     * @param series  the series index.
+     * @param first  the first item.
+     * @param last  the last item.
+     * @param selection  the array to populate (its length is the number of
+     *     items to select).
+     *
+     * @return The number of items selected.
+     */
+    private int selectLTTB(int series, int first, int last, int[] selection) {
+        int n = last - first + 1;
+        int budget = selection.length;
+        if (n <= budget) {
+            for (int i = 0; i < n; i++) {
+                selection[i] = first + i;
+            }
+            return n;
+        }
+        int count = 0;
+        selection[count++] = first;
+        double bucketSize = (double) (n - 2) / (budget - 2);
+        int a = first;
+        for (int b = 0; b < budget - 2; b++) {
+            int bucketStart = first + 1 + (int) Math.floor(b * bucketSize);
+            int bucketEnd = first + 1 + (int) Math.floor((b + 1) * bucketSize);
+            bucketEnd = Math.min(bucketEnd, last);
+
+            // the average of the next bucket (or the last item)
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min(first + 1 + (int) Math.floor(
+                    (b + 2) * bucketSize), last + 1);
+            double avgX = 0.0;
+            double avgY = 0.0;
+            int avgCount = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                double y = this.source.getYValue(series, i);
+                if (!Double.isNaN(y)) {
+                    avgX += this.source.getXValue(series, i);
+                    avgY += y;
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX = avgX / avgCount;
+                avgY = avgY / avgCount;
+            } else {
+                avgX = this.source.getXValue(series, last);
+                avgY = this.source.getYValue(series, last);
+            }
+
+            double ax = this.source.getXValue(series, a);
+            double ay = this.source.getYValue(series, a);
+            double maxArea = -1.0;
+            int selected = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                double y = this.source.getYValue(series, i);
+                if (Double.isNaN(y)) {
+                    continue;
+                }
+                double x = this.source.getXValue(series, i);
+                double area = Math.abs((ax - avgX) * (y - ay)
+                        - (ax - x) * (avgY - ay));
+                if (Double.isNaN(area)) {
+                    // the previous item or the next bucket has no y-value
+                    area = 0.0;
+                }
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = i;
+                }
+            }
+            if (selected > selection[count - 1]) {
+                selection[count++] = selected;
+                a = selected;
+            }
+        }
+        selection[count++] = last;
+        return count;
+    }
+
+    /**
+     * Selects items using the M4 algorithm (the first, last, lowest and
+     * highest items in each pixel column).
+     *
+     * @param series  the series index.
+     * @param first  the first item.
+     * @param last  the last item.
+     * @param selection  the array to populate.
+     *
+     * @return The number of items selected.
+     */
+    private int selectM4(int series, int first, int last, int[] selection) {
+        int n = last - first + 1;
+        if (n <= 4 * this.pixels) {
+            for (int i = 0; i < n; i++) {
+                selection[i] = first + i;
+            }
+            return n;
+        }
+        XYMinMaxPyramid pyramid = getPyramid(series);
+        double x0 = this.source.getXValue(series, first);
+        double x1 = this.source.getXValue(series, last);
+        if (this.xRange != null) {
+            x0 = this.xRange.getLowerBound();
+            x1 = this.xRange.getUpperBound();
+        }
+        double columnWidth = (x1 - x0) / this.pixels;
+        int[] minMax = new int[2];
+        int[] column = new int[4];
+        int count = 0;
+        selection[count++] = first;
+        int start = first + 1;
+        for (int c = 1; c <= this.pixels && start < last; c++) {
+            int end = Math.min(pyramid.findFirstItem(x0 + c * columnWidth),
+                    last) - 1;
+            if (end >= start) {
+                if (end - start < 4) {
+                    for (int i = start; i <= end; i++) {
+                        selection[count++] = i;
+                    }
+                } else {
+                    pyramid.findMinMax(start, end, minMax);
+                    column[0] = start;
+                    column[1] = minMax[0];
+                    column[2] = minMax[1];
+                    column[3] = end;
+                    Arrays.sort(column);
+                    for (int item : column) {
+                        if (item > selection[count - 1]) {
+                            selection[count++] = item;
+                        }
+                    }
+                }
+                start = end + 1;
+            }
+        }
+        // any remaining items (possible due to rounding) are taken as is
+        // up to the capacity of the array
+        for (int i = start; i < last && count < selection.length - 1; i++) {
+            selection[count++] = i;
+        }
+        selection[count++] = last;
+        return count;
+    }
+
+    /**
+     * Returns an up-to-date min/max index for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The index.
+     */
+    private XYMinMaxPyramid getPyramid(int series) {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.pyramids == null || this.pyramids.length != seriesCount) {
+            this.pyramids = new XYMinMaxPyramid[seriesCount];
+        }
+        if (this.pyramids[series] == null) {
+            this.pyramids[series] = new XYMinMaxPyramid(this.source, series);
+        }
+        this.pyramids[series].update();
+        return this.pyramids[series];
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.
+     *
+     * @return The order (never {@code null}).
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the number of items in the view of a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        getSelection(series);
+        return this.selectionCounts[series];
+    }
+
+    /**
+     * Returns the x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.source.getX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.source.getY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item in the view.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the minimum x-value in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the x-values in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return DatasetUtils.findDomainBounds(this.source, includeInterval);
+    }
+
+    /**
+     * Returns the minimum y-value in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum y-value in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the y-values in the source dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return DatasetUtils.findRangeBounds(this.source, includeInterval);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DownsampledXYDataset)) {
+            return false;
+        }
+        DownsampledXYDataset<?> that = (DownsampledXYDataset<?>) obj;
+        if (this.method != that.method) {
+            return false;
+        }
+        if (this.itemsPerPixel != that.itemsPerPixel) {
+            return false;
+        }
+        return Objects.equals(this.source, that.source);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 53 * hash + this.method.hashCode();
+        hash = 53 * hash + Double.hashCode(this.itemsPerPixel);
+        return hash;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.source.addChangeListener(this);
+    }
+
+}
@@ -0,0 +1,53 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * The algorithms that can be used by a {@link DownsampledXYDataset} to
+ * reduce the number of items in a series.
+ */
+public enum DownsamplingMethod {
+
+    /**
+     * Largest-Triangle-Three-Buckets.  The items are divided into equal
+     * sized buckets and from each bucket the item forming the largest
+     * triangle with the previously selected item and the average of the next
+     * bucket is selected.  This preserves the visual shape of a line well
+     * with a small number of items.
+     */
+    LTTB,
+
+    /**
+     * M4 aggregation.  For each pixel column the first, last, lowest and
+     * highest items are selected, so a line drawn through the selected items
+     * is identical (at the pixel level) to a line through all the items.
+     */
+    M4
+
+}
@@ -0,0 +1,54 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.Range;
+
+/**
+ * An interface for datasets whose content depends on the region in which
+ * they are displayed.  The {@link org.jfree.chart.plot.XYPlot} class calls
+ * {@link #setViewport(Range, int)} before rendering a dataset that
+ * implements this interface.
+ *
+ * @see DownsampledXYDataset
+ */
+public interface ViewportAware {
+
+    /**
+     * Sets the x-range that is visible and the number of pixels that range
+     * is drawn across.  Implementations should not send a change event in
+     * response to this call (since it happens during rendering).
+     *
+     * @param xRange  the visible x-range ({@code null} not permitted).
+     * @param pixels  the length of the data area along the x-axis (in
+     *     Java2D units).
+     */
+    void setViewport(Range xRange, int pixels);
+
+}
@@ -0,0 +1,563 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A series of (x, y) data items where the x-values and y-values are held in
+ * growable {@code double[]} arrays.  Compared to {@link XYSeries}, which
+ * creates an {@link XYDataItem} (holding two {@code Number} objects) for
+ * every data item, this series uses just 16 bytes per item and adding an
+ * item does not allocate any objects (apart from when the arrays need to
+ * grow), so it is well suited to very large series.
+ * <p>
+ * Items must be added in ascending order of x-value (duplicate x-values are
+ * permitted) so that adding an item is an O(1) operation and the series can
+ * be searched with a binary search.  Missing y-values are represented by
+ * {@code Double.NaN}.
+ *
+ * @param <K> the type for the series key.
+ *
+ * @see XYArraySeriesCollection
+ */
+public class XYArraySeries<K extends Comparable<K>> extends Series<K>
+        implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the x-values (only the first itemCount are used). */
+    private transient double[] xValues;
+
+    /** Storage for the y-values (only the first itemCount are used). */
+    private transient double[] yValues;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public XYArraySeries(K key) {
+        this(key, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series with storage pre-allocated for the specified
+     * number of items.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param initialCapacity  the initial capacity (must be &gt;= 0).
+     */
+    public XYArraySeries(K key, int initialCapacity) {
+        super(key);
+        Args.requireNonNegative(initialCapacity, "initialCapacity");
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.itemCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item in the series.
+     *
+     * @param index  the item index (in the range {@code 0} to
+     *     {@code getItemCount() - 1}).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        return this.xValues[index];
+    }
+
+    /**
+     * Returns the y-value for an item in the series.
+     *
+     * @param index  the item index (in the range {@code 0} to
+     *     {@code getItemCount() - 1}).
+     *
+     * @return The y-value (possibly {@code Double.NaN}).
+     */
+    public double getYValue(int index) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        return this.yValues[index];
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Adds a data item to the end of the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (must not be {@code Double.NaN} and must be
+     *     greater than or equal to the last x-value in the series).
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     *
+     * @throws SeriesException if {@code x} is less than the last x-value in
+     *     the series.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the end of the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (must not be {@code Double.NaN} and must be
+     *     greater than or equal to the last x-value in the series).
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *     {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @throws SeriesException if {@code x} is less than the last x-value in
+     *     the series.
+     */
+    public void add(double x, double y, boolean notify) {
+        checkXValue(x, this.itemCount > 0 ? this.maxX : Double.NaN);
+        ensureCapacity(this.itemCount + 1);
+        this.xValues[this.itemCount] = x;
+        this.yValues[this.itemCount] = y;
+        this.itemCount++;
+        updateBoundsForAddedItem(x, y);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a block of data items to the end of the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values ({@code null} not permitted, values must be in
+     *     ascending order and not less than the last x-value in the series).
+     * @param y  the y-values ({@code null} not permitted, must be the same
+     *     length as {@code x}).
+     *
+     * @throws SeriesException if the x-values are not in ascending order.
+     */
+    public void add(double[] x, double[] y) {
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        if (x.length == 0) {
+            return;
+        }
+        double last = this.itemCount > 0 ? this.maxX : Double.NaN;
+        for (double xx : x) {
+            checkXValue(xx, last);
+            last = xx;
+        }
+        ensureCapacity(this.itemCount + x.length);
+        System.arraycopy(x, 0, this.xValues, this.itemCount, x.length);
+        System.arraycopy(y, 0, this.yValues, this.itemCount, y.length);
+        this.itemCount += x.length;
+        for (int i = 0; i < x.length; i++) {
+            updateBoundsForAddedItem(x[i], y[i]);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Checks that an x-value can be appended to the series.
+     *
+     * @param x  the x-value.
+     * @param lastX  the last x-value in the series ({@code Double.NaN} if
+     *     the series is empty).
+     */
+    private static void checkXValue(double x, double lastX) {
+        if (Double.isNaN(x)) {
+            throw new IllegalArgumentException("Null 'x' value.");
+        }
+        if (x < lastX) {
+            throw new SeriesException(
+                    "X-values must be added in ascending order.");
+        }
+    }
+
+    /**
+     * Updates the y-value for an existing item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value ({@code Double.NaN} for a missing value).
+     */
+    public void updateByIndex(int index, double y) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        double old = this.yValues[index];
+        this.yValues[index] = y;
+        if (!Double.isNaN(old) && (old <= this.minY || old >= this.maxY)) {
+            findBoundsByIteration();
+        } else {
+            updateBoundsForAddedItem(this.xValues[index], y);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  The storage is
+     * retained so that the series can be refilled without reallocating.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the index of the first item with the specified x-value, or a
+     * negative value (following the convention of
+     * {@link Arrays#binarySearch(double[], double)}) if there is no such item.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        int index = Arrays.binarySearch(this.xValues, 0, this.itemCount, x);
+        while (index > 0 && this.xValues[index - 1] == x) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Returns a copy of the x-values in the series.
+     *
+     * @return An array (never {@code null}).
+     */
+    public double[] getXValues() {
+        return Arrays.copyOf(this.xValues, this.itemCount);
+    }
+
+    /**
+     * Returns a copy of the y-values in the series.
+     *
+     * @return An array (never {@code null}).
+     */
+    public double[] getYValues() {
+        return Arrays.copyOf(this.yValues, this.itemCount);
+    }
+
+    /**
+     * Reduces the storage for the series to the current item count.
+     */
+    public void trimToSize() {
+        if (this.xValues.length > this.itemCount) {
+            this.xValues = Arrays.copyOf(this.xValues, this.itemCount);
+            this.yValues = Arrays.copyOf(this.yValues, this.itemCount);
+        }
+    }
+
+    /**
+     * Ensures that the storage can hold the specified number of items.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new SeriesException("Maximum series size exceeded.");
+        }
+        if (capacity > this.xValues.length) {
+            int newCapacity = Math.max(capacity, Math.max(DEFAULT_CAPACITY,
+                    this.xValues.length + (this.xValues.length >> 1)));
+            if (newCapacity < 0) {
+                newCapacity = Integer.MAX_VALUE - 8;
+            }
+            this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+            this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        XYArraySeries<K> clone = (XYArraySeries<K>) super.clone();
+        clone.xValues = Arrays.copyOf(this.xValues, this.itemCount);
+        clone.yValues = Arrays.copyOf(this.yValues, this.itemCount);
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYArraySeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        XYArraySeries<?> that = (XYArraySeries<?>) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        if (!Arrays.equals(this.xValues, 0, this.itemCount, that.xValues, 0,
+                that.itemCount)) {
+            return false;
+        }
+        return Arrays.equals(this.yValues, 0, this.itemCount, that.yValues, 0,
+                that.itemCount);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        int count = this.itemCount;
+        result = 29 * result + count;
+        if (count > 0) {
+            result = 29 * result + Double.hashCode(this.xValues[0]);
+            result = 29 * result + Double.hashCode(this.yValues[0]);
+        }
+        if (count > 1) {
+            result = 29 * result + Double.hashCode(this.xValues[count - 1]);
+            result = 29 * result + Double.hashCode(this.yValues[count - 1]);
+        }
+        if (count > 2) {
+            result = 29 * result + Double.hashCode(this.xValues[count / 2]);
+            result = 29 * result + Double.hashCode(this.yValues[count / 2]);
+        }
+        return result;
+    }
+
+    /**
+     * Provides serialization support (the unused storage is not written).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int i = 0; i < this.itemCount; i++) {
+            stream.writeDouble(this.xValues[i]);
+            stream.writeDouble(this.yValues[i]);
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.xValues = new double[this.itemCount];
+        this.yValues = new double[this.itemCount];
+        for (int i = 0; i < this.itemCount; i++) {
+            this.xValues[i] = stream.readDouble();
+            this.yValues[i] = stream.readDouble();
+        }
+    }
+
+}
@@ -0,0 +1,466 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * A collection of {@link XYArraySeries} objects that can be used as a
+ * dataset.  The {@link #getXValue(int, int)} and {@link #getYValue(int, int)}
+ * methods read directly from the primitive arrays in each series, and
+ * because the series are always ordered by x-value the dataset reports a
+ * domain order of {@link DomainOrder#ASCENDING} (which allows renderers to
+ * locate the visible items with a binary search).
+ *
+ * @param <S> the type for the series keys.
+ */
+public class XYArraySeriesCollection<S extends Comparable<S>>
+        extends AbstractXYDataset<S>
+        implements XYDataset<S>, DomainInfo, RangeInfo, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The series that are included in the collection. */
+    private List<XYArraySeries<S>> data;
+
+    /**
+     * Constructs an empty dataset.
+     */
+    public XYArraySeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Constructs a dataset and populates it with a single series.
+     *
+     * @param series  the series ({@code null} ignored).
+     */
+    public XYArraySeriesCollection(XYArraySeries<S> series) {
+        this.data = new ArrayList<>();
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the order of the domain (X) values, which is always
+     * {@link DomainOrder#ASCENDING} for this dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if the key for the series is not
+     *     unique within the dataset.
+     */
+    public void addSeries(XYArraySeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (getSeriesIndex(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                "This dataset already contains a series with the key "
+                + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        removeSeries(this.data.get(series));
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void removeSeries(XYArraySeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (this.data.contains(series)) {
+            series.removeChangeListener(this);
+            this.data.remove(series);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (XYArraySeries<S> series : this.data) {
+            series.removeChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if {@code series} is not in the
+     *     range {@code 0} to {@code getSeriesCount() - 1}.
+     */
+    public XYArraySeries<S> getSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        return this.data.get(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The series with the specified key.
+     *
+     * @throws UnknownKeyException if {@code key} is not found in the
+     *         collection.
+     */
+    public XYArraySeries<S> getSeries(S key) {
+        int index = getSeriesIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        return this.data.get(index);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for a series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        // defer argument checking
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if no
+     * series has that key.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    public int getSeriesIndex(S key) {
+        Args.nullNotPermitted(key, "key");
+        for (int i = 0; i < this.data.size(); i++) {
+            if (key.equals(this.data.get(i).getKey())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        // defer argument checking
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.data.get(series).getXValue(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getYValue(item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (XYArraySeries<S> series : this.data) {
+            result = minIgnoreNaN(result, series.getMinX());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (XYArraySeries<S> series : this.data) {
+            result = maxIgnoreNaN(result, series.getMaxX());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = getDomainLowerBound(includeInterval);
+        double upper = getDomainUpperBound(includeInterval);
+        if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (XYArraySeries<S> series : this.data) {
+            result = minIgnoreNaN(result, series.getMinY());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        double result = Double.NaN;
+        for (XYArraySeries<S> series : this.data) {
+            result = maxIgnoreNaN(result, series.getMaxY());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = getRangeLowerBound(includeInterval);
+        double upper = getRangeUpperBound(includeInterval);
+        if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYArraySeriesCollection)) {
+            return false;
+        }
+        XYArraySeriesCollection<?> that = (XYArraySeriesCollection<?>) obj;
+        return Objects.equals(this.data, that.data);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.data);
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        XYArraySeriesCollection<S> clone
+                = (XYArraySeriesCollection<S>) super.clone();
+        clone.data = CloneUtils.cloneList(this.data);
+        for (XYArraySeries<S> series : clone.data) {
+            series.addChangeListener(clone);
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,363 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+
+/**
+ * A multi-resolution index of the minimum and maximum y-values in one series
+ * of an {@link XYDataset} whose x-values are in ascending order.  The items
+ * are grouped into blocks of {@link #BLOCK_SIZE} items and the index records,
+ * for each block, the items holding the lowest and highest y-values.  Each
+ * higher level of the index combines pairs of nodes from the level below, so
+ * the lowest and highest items for any range of items can be found in
+ * O(log n) time by {@link #findMinMax(int, int, int[])}.
+ * <p>
+ * The index is built incrementally - each call to {@link #update()} indexes
+ * the items that have been appended to the series since the previous call.
+ * If the series has been reduced in size or the last indexed item has
+ * changed, the index is rebuilt.  Changes to the y-values of items that have
+ * already been indexed are not detected, so the owner of the index should
+ * call {@link #invalidate()} when it receives a change event from the
+ * dataset (as {@code DecimatingXYLineRenderer} does).
+ *
+ * @see org.jfree.chart.renderer.xy.DecimatingXYLineRenderer
+ */
+public class XYMinMaxPyramid {
+
+    /** The number of items in each node at the lowest level of the index. */
+    public static final int BLOCK_SIZE = 64;
+
+    /** The dataset. */
+    private final XYDataset dataset;
+
+    /** The series index. */
+    private final int series;
+
+    /** The number of items that have been indexed. */
+    private int indexedCount;
+
+    /** The x-value of the last indexed item. */
+    private double lastX;
+
+    /** The y-value of the last indexed item. */
+    private double lastY;
+
+    /** The number of levels in use. */
+    private int levelCount;
+
+    /**
+     * The index of the item with the lowest y-value for each node, by level
+     * ({@code -1} for nodes that contain no y-values).
+     */
+    private int[][] minItems;
+
+    /**
+     * The index of the item with the highest y-value for each node, by level
+     * ({@code -1} for nodes that contain no y-values).
+     */
+    private int[][] maxItems;
+
+    /**
+     * Creates a new (empty) index for a series in a dataset.  Call
+     * {@link #update()} to index the items in the series.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     */
+    public XYMinMaxPyramid(XYDataset dataset, int series) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.requireNonNegative(series, "series");
+        this.dataset = dataset;
+        this.series = series;
+        this.minItems = new int[0][];
+        this.maxItems = new int[0][];
+    }
+
+    /**
+     * Returns the dataset.
+     *
+     * @return The dataset (never {@code null}).
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Returns the series index.
+     *
+     * @return The series index.
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the number of items that have been indexed.
+     *
+     * @return The item count.
+     */
+    public int getIndexedCount() {
+        return this.indexedCount;
+    }
+
+    /**
+     * Returns {@code true} if the dataset reports that the x-values are in
+     * ascending order (the index can only be used in that case).
+     *
+     * @return A boolean.
+     */
+    public boolean isSupported() {
+        return this.dataset.getDomainOrder() == DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Discards the index so that it will be rebuilt on the next call to
+     * {@link #update()}.
+     */
+    public void invalidate() {
+        this.indexedCount = 0;
+        this.levelCount = 0;
+    }
+
+    /**
+     * Brings the index up to date with the dataset, indexing only the items
+     * added since the last update where possible.
+     */
+    public void update() {
+        int count = this.dataset.getItemCount(this.series);
+        if (count < this.indexedCount || (this.indexedCount > 0
+                && !isSameAsLastIndexed(this.indexedCount - 1))) {
+            invalidate();
+        }
+        if (count == this.indexedCount) {
+            return;
+        }
+        int from = this.indexedCount / BLOCK_SIZE;
+        int nodeCount = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        ensureLevel(0, nodeCount);
+        for (int node = from; node < nodeCount; node++) {
+            int first = node * BLOCK_SIZE;
+            int last = Math.min(first + BLOCK_SIZE, count) - 1;
+            int minItem = -1;
+            int maxItem = -1;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = first; i <= last; i++) {
+                double y = this.dataset.getYValue(this.series, i);
+                if (y < min) {
+                    min = y;
+                    minItem = i;
+                }
+                if (y > max) {
+                    max = y;
+                    maxItem = i;
+                }
+            }
+            this.minItems[0][node] = minItem;
+            this.maxItems[0][node] = maxItem;
+        }
+        int level = 0;
+        while (nodeCount > 1) {
+            level++;
+            from = from / 2;
+            int childCount = nodeCount;
+            nodeCount = (nodeCount + 1) / 2;
+            ensureLevel(level, nodeCount);
+            for (int node = from; node < nodeCount; node++) {
+                int left = 2 * node;
+                int right = left + 1;
+                int[] childMins = this.minItems[level - 1];
+                int[] childMaxs = this.maxItems[level - 1];
+                if (right < childCount) {
+                    this.minItems[level][node] = lower(childMins[left],
+                            childMins[right]);
+                    this.maxItems[level][node] = higher(childMaxs[left],
+                            childMaxs[right]);
+                } else {
+                    this.minItems[level][node] = childMins[left];
+                    this.maxItems[level][node] = childMaxs[left];
+                }
+            }
+        }
+        this.levelCount = level + 1;
+        this.indexedCount = count;
+        this.lastX = this.dataset.getXValue(this.series, count - 1);
+        this.lastY = this.dataset.getYValue(this.series, count - 1);
+    }
+
+    /**
+     * Returns {@code true} if the item at the specified index has the same
+     * x and y-values as the last item indexed.
+     *
+     * @param item  the item index.
+     *
+     * @return A boolean.
+     */
+    private boolean isSameAsLastIndexed(int item) {
+        double x = this.dataset.getXValue(this.series, item);
+        double y = this.dataset.getYValue(this.series, item);
+        return Double.compare(x, this.lastX) == 0
+                && Double.compare(y, this.lastY) == 0;
+    }
+
+    /**
+     * Ensures that storage exists for the specified number of nodes at the
+     * given level.
+     *
+     * @param level  the level.
+     * @param nodeCount  the number of nodes.
+     */
+    private void ensureLevel(int level, int nodeCount) {
+        if (level >= this.minItems.length) {
+            this.minItems = Arrays.copyOf(this.minItems, level + 1);
+            this.maxItems = Arrays.copyOf(this.maxItems, level + 1);
+        }
+        int[] mins = this.minItems[level];
+        if (mins == null || mins.length < nodeCount) {
+            int capacity = Math.max(nodeCount, mins == null ? 4
+                    : mins.length + (mins.length >> 1));
+            this.minItems[level] = mins == null ? new int[capacity]
+                    : Arrays.copyOf(mins, capacity);
+            int[] maxs = this.maxItems[level];
+            this.maxItems[level] = maxs == null ? new int[capacity]
+                    : Arrays.copyOf(maxs, capacity);
+        }
+    }
+
+    /**
+     * Returns the item (of the two specified) with the lower y-value.
+     *
+     * @param i1  the first item index ({@code -1} permitted).
+     * @param i2  the second item index ({@code -1} permitted).
+     *
+     * @return The item index.
+     */
+    private int lower(int i1, int i2) {
+        if (i1 < 0) {
+            return i2;
+        }
+        if (i2 < 0) {
+            return i1;
+        }
+        return this.dataset.getYValue(this.series, i2)
+                < this.dataset.getYValue(this.series, i1) ? i2 : i1;
+    }
+
+    /**
+     * Returns the item (of the two specified) with the higher y-value.
+     *
+     * @param i1  the first item index ({@code -1} permitted).
+     * @param i2  the second item index ({@code -1} permitted).
+     *
+     * @return The item index.
+     */
+    private int higher(int i1, int i2) {
+        if (i1 < 0) {
+            return i2;
+        }
+        if (i2 < 0) {
+            return i1;
+        }
+        return this.dataset.getYValue(this.series, i2)
+                > this.dataset.getYValue(this.series, i1) ? i2 : i1;
+    }
+
+    /**
+     * Finds the items with the lowest and highest y-values in a range of
+     * items.  The range must lie within the items that have been indexed
+     * (see {@link #update()}).
+     *
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param result  an array of length 2 ({@code null} not permitted) that
+     *     is populated with the index of the item with the lowest y-value
+     *     (at position 0) and the highest y-value (at position 1).  Both
+     *     indices are {@code -1} if all y-values in the range are
+     *     {@code Double.NaN}.
+     */
+    public void findMinMax(int first, int last, int[] result) {
+        Args.requireInRange(first, "first", 0, this.indexedCount - 1);
+        Args.requireInRange(last, "last", first, this.indexedCount - 1);
+        int minItem = -1;
+        int maxItem = -1;
+        int i = first;
+        while (i <= last) {
+            if (i % BLOCK_SIZE == 0 && i + BLOCK_SIZE - 1 <= last) {
+                // use the largest complete node that starts at item i
+                int level = 0;
+                int span = BLOCK_SIZE;
+                while (level + 1 < this.levelCount && i % (span * 2) == 0
+                        && i + span * 2 - 1 <= last) {
+                    level++;
+                    span = span * 2;
+                }
+                int node = i / span;
+                minItem = lower(minItem, this.minItems[level][node]);
+                maxItem = higher(maxItem, this.maxItems[level][node]);
+                i += span;
+            } else {
+                if (!Double.isNaN(this.dataset.getYValue(this.series, i))) {
+                    minItem = lower(minItem, i);
+                    maxItem = higher(maxItem, i);
+                }
+                i++;
+            }
+        }
+        result[0] = minItem;
+        result[1] = maxItem;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than or
+     * equal to {@code x}, or {@code getIndexedCount()} if there is no such
+     * item.  This is found with a binary search over the indexed items.
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index.
+     */
+    public int findFirstItem(double x) {
+        int low = 0;
+        int high = this.indexedCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.dataset.getXValue(this.series, mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
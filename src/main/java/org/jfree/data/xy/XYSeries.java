@@ -49,6 +49,8 @@ import java.util.Objects;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxSegmentTree;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -97,6 +99,13 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * An index of the y-values used to find the y-range for a range of
+     * x-values (created when first required, and discarded when items are
+     * inserted or removed other than at the ends of the series).
+     */
+    private transient MinMaxSegmentTree yIndex;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -201,6 +210,89 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         return this.maxY;
     }
 
+    /**
+     * Returns the range of the y-values for the items with an x-value in the
+     * specified range, ignoring any {@code null} and {@code Double.NaN}
+     * values.  For a series that is sorted by x-value, the items are located
+     * with a binary search and the y-range is found with an index that is
+     * maintained as items are added, so the cost is O(log n) rather than a
+     * scan of the items.
+     *
+     * @param xRange  the x-range ({@code null} not permitted).
+     *
+     * @return The range of y-values ({@code null} if there are no y-values
+     *     in the x-range).
+     *
+     * @since 2.0.0
+     */
+    public Range findValueRange(Range xRange) {
+        Args.nullNotPermitted(xRange, "xRange");
+        if (!this.autoSort) {
+            double lowY = Double.POSITIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            for (XYDataItem item : this.data) {
+                double y = item.getYValue();
+                if (xRange.contains(item.getXValue()) && !Double.isNaN(y)) {
+                    lowY = Math.min(lowY, y);
+                    highY = Math.max(highY, y);
+                }
+            }
+            return lowY <= highY ? new Range(lowY, highY) : null;
+        }
+        int first = findFirstItem(xRange.getLowerBound(), false);
+        int last = findFirstItem(xRange.getUpperBound(), true) - 1;
+        if (first > last) {
+            return null;
+        }
+        return getYIndex().find(first, last);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or,
+     * if {@code strict} is {@code false}, equal to) the specified value.
+     * This method requires the series to be sorted.
+     *
+     * @param x  the x-value.
+     * @param strict  a flag that controls whether items with an x-value
+     *     equal to {@code x} are skipped.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItem(double x, boolean strict) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double midX = this.data.get(mid).getXValue();
+            if (midX < x || (strict && midX == x)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the y-value index, creating it if necessary.
+     *
+     * @return The index (never {@code null}).
+     */
+    private MinMaxSegmentTree getYIndex() {
+        int count = this.data.size();
+        // the size check guards against subclasses that modify the data
+        // list directly
+        if (this.yIndex == null || this.yIndex.size() != count) {
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = this.data.get(i).getYValue();
+            }
+            this.yIndex = new MinMaxSegmentTree(values, count);
+        }
+        return this.yIndex;
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -274,6 +366,34 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         }
     }
 
+    /**
+     * Updates the y-value index for an item that has just been added.  The
+     * index is updated if the item was appended to the series, otherwise it
+     * is discarded.
+     *
+     * @param item  the item added ({@code null} not permitted).
+     */
+    private void updateIndexForAddedItem(XYDataItem item) {
+        if (this.yIndex != null) {
+            if (this.data.get(this.data.size() - 1) == item) {
+                this.yIndex.add(item.getYValue());
+            } else {
+                this.yIndex = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series, updating the cached bounds.
+     */
+    private void removeFirstItem() {
+        XYDataItem removed = this.data.remove(0);
+        if (this.yIndex != null) {
+            this.yIndex.removeFirst();
+        }
+        updateBoundsForRemovedItem(removed);
+    }
+
     /**
      * Returns the flag that controls whether the items in the series are
      * automatically sorted.  There is no setter for this flag, it must be
@@ -348,6 +468,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            this.yIndex = null;
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -503,9 +624,9 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        updateIndexForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            removeFirstItem();
         }
         if (notify) {
             fireSeriesChanged();
@@ -521,6 +642,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        this.yIndex = null;
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -535,6 +657,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
+        this.yIndex = null;
         updateBoundsForRemovedItem(removed);
         fireSeriesChanged();
         return removed;
@@ -561,6 +684,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.yIndex = null;
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -673,6 +797,9 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        if (this.yIndex != null) {
+            this.yIndex.set(index, item.getYValue());
+        }
 
         if (iterate) {
             findBoundsByIteration();
@@ -763,6 +890,9 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(item.getY());
+            if (this.yIndex != null) {
+                this.yIndex.set(index, existing.getYValue());
+            }
 
             if (iterate) {
                 findBoundsByIteration();
@@ -786,11 +916,11 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                 this.data.add(item);
             }
             updateBoundsForAddedItem(item);
+            updateIndexForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstItem();
             }
         }
         fireSeriesChanged();
@@ -857,6 +987,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public Object clone() throws CloneNotSupportedException {
         XYSeries<K> clone = (XYSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.yIndex = null;
         return clone;
     }
 
@@ -876,6 +1007,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
         XYSeries<K> copy = (XYSeries) super.clone();
         copy.data = new ArrayList<>();
+        copy.yIndex = null;
         if (!this.data.isEmpty()) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
@@ -66,7 +66,7 @@ import org.jfree.data.general.Series;
  */
 public class XYSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset<S>
-        implements IntervalXYDataset<S>, DomainInfo, RangeInfo, 
+        implements IntervalXYDataset<S>, DomainInfo, RangeInfo, XYRangeInfo,
         VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
@@ -641,6 +641,37 @@ public class XYSeriesCollection<S extends Comparable<S>>
         }
     }
 
+    /**
+     * Returns the range of the y-values for the items in the specified
+     * series that have an x-value within {@code xRange}.  For sorted series
+     * this is found in O(log n) time (see
+     * {@link XYSeries#findValueRange(Range)}).
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     ({@code null} not permitted, keys that are not in the collection
+     *     are ignored).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or {@code null} if there are no values).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        for (Object key : visibleSeriesKeys) {
+            int index = indexOf((S) key);
+            if (index >= 0) {
+                result = Range.combine(result,
+                        getSeries(index).findValueRange(xRange));
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum y-value in the dataset.
      *
@@ -0,0 +1,247 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for drawing charts in layers (see {@link ChartLayer}).
+ */
+public class ChartLayerTest {
+
+    private static final int WIDTH = 300;
+
+    private static final int HEIGHT = 200;
+
+    private static XYSeriesCollection<String> createXYDataset(String key,
+            double offset) {
+        XYSeries<String> s = new XYSeries<>(key);
+        for (int i = 0; i < 50; i++) {
+            s.add(i, Math.sin(i / 5.0) + offset);
+        }
+        return new XYSeriesCollection<>(s);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JFreeChart createXYChart() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                createXYDataset("S1", 0.0));
+        XYPlot<String> plot = (XYPlot<String>) chart.getPlot();
+        plot.setDataset(1, createXYDataset("S2", 0.5));
+        plot.setRenderer(1, new XYLineAndShapeRenderer());
+        return chart;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JFreeChart createCategoryChart() {
+        DefaultCategoryDataset<String, String> d1
+                = new DefaultCategoryDataset<>();
+        DefaultCategoryDataset<String, String> d2
+                = new DefaultCategoryDataset<>();
+        for (int i = 0; i < 6; i++) {
+            d1.addValue(i, "R1", "C" + i);
+            d2.addValue(6 - i, "R2", "C" + i);
+        }
+        JFreeChart chart = ChartFactory.createBarChart("Title", "C", "V", d1);
+        CategoryPlot<String, String> plot
+                = (CategoryPlot<String, String>) chart.getPlot();
+        plot.setDataset(1, d2);
+        plot.setRenderer(1, new LineAndShapeRenderer());
+        return chart;
+    }
+
+    private static BufferedImage draw(JFreeChart chart, ChartLayer layer,
+            int datasetIndex, ChartRenderingInfo info) {
+        return draw(chart, layer, datasetIndex, info, null);
+    }
+
+    private static BufferedImage draw(JFreeChart chart, ChartLayer layer,
+            int datasetIndex, ChartRenderingInfo info,
+            ChartLayerLayout layout) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        if (layer != null) {
+            g2.setRenderingHint(JFreeChart.KEY_LAYER, layer);
+            g2.setRenderingHint(JFreeChart.KEY_LAYER_DATASET_INDEX,
+                    datasetIndex);
+        }
+        if (layout != null) {
+            g2.setRenderingHint(JFreeChart.KEY_LAYER_LAYOUT, layout);
+        }
+        chart.draw(g2, new Rectangle2D.Double(0, 0, WIDTH, HEIGHT), null,
+                info);
+        g2.dispose();
+        return image;
+    }
+
+    private static BufferedImage drawLayers(JFreeChart chart,
+            ChartLayerLayout layout) {
+        BufferedImage result = new BufferedImage(WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = result.createGraphics();
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.drawImage(draw(chart, ChartLayer.BACKGROUND, -1, null, layout),
+                0, 0, null);
+        for (int i : chart.getPlot().getLayerDatasetIndices()) {
+            g2.drawImage(draw(chart, ChartLayer.DATA, i, null, layout), 0, 0,
+                    null);
+        }
+        g2.drawImage(draw(chart, ChartLayer.ANNOTATIONS, -1, null, layout),
+                0, 0, null);
+        g2.drawImage(draw(chart, ChartLayer.AXES, -1, null, layout), 0, 0,
+                null);
+        g2.dispose();
+        return result;
+    }
+
+    private static void assertSimilar(BufferedImage expected,
+            BufferedImage actual) {
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                Color c1 = new Color(expected.getRGB(x, y), true);
+                Color c2 = new Color(actual.getRGB(x, y), true);
+                int diff = Math.max(Math.max(
+                        Math.abs(c1.getRed() - c2.getRed()),
+                        Math.abs(c1.getGreen() - c2.getGreen())),
+                        Math.max(Math.abs(c1.getBlue() - c2.getBlue()),
+                        Math.abs(c1.getAlpha() - c2.getAlpha())));
+                assertTrue(diff <= 2, "Pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * The layers of an XY chart, composited in order, match the chart drawn
+     * in one pass.
+     */
+    @Test
+    public void testXYPlotLayers() {
+        JFreeChart chart = createXYChart();
+        // the default rendering order is REVERSE
+        assertEquals(List.of(1, 0), chart.getPlot().getLayerDatasetIndices());
+        assertSimilar(draw(chart, null, -1, null), drawLayers(chart, null));
+    }
+
+    /**
+     * The layers of a category chart, composited in order, match the chart
+     * drawn in one pass.
+     */
+    @Test
+    public void testCategoryPlotLayers() {
+        JFreeChart chart = createCategoryChart();
+        assertSimilar(draw(chart, null, -1, null), drawLayers(chart, null));
+    }
+
+    /**
+     * Layers that share a layout, so that it is calculated in the first pass
+     * only, also match the chart drawn in one pass.
+     */
+    @Test
+    public void testSharedLayout() {
+        JFreeChart chart = createXYChart();
+        ChartLayerLayout layout = new ChartLayerLayout();
+        assertSimilar(draw(chart, null, -1, null), drawLayers(chart, layout));
+        Rectangle2D chartArea = new Rectangle2D.Double(0, 0, WIDTH, HEIGHT);
+        assertNotNull(layout.getPlotArea(chartArea));
+        assertNotNull(layout.getAxisStates());
+        assertNull(layout.getPlotArea(new Rectangle2D.Double(0, 0, 10, 10)));
+
+        chart = createCategoryChart();
+        assertSimilar(draw(chart, null, -1, null),
+                drawLayers(chart, new ChartLayerLayout()));
+    }
+
+    /**
+     * A data layer only draws, and creates entities for, one dataset.
+     */
+    @Test
+    public void testDataLayerEntities() {
+        JFreeChart chart = createXYChart();
+        ChartRenderingInfo info = new ChartRenderingInfo(
+                new StandardEntityCollection());
+        draw(chart, ChartLayer.DATA, 1, info);
+        int count = 0;
+        for (ChartEntity entity : info.getEntityCollection().getEntities()) {
+            assertTrue(entity instanceof XYItemEntity);
+            assertEquals("S2", ((XYItemEntity) entity).getDataset()
+                    .getSeriesKey(0));
+            count++;
+        }
+        assertEquals(50, count);
+        assertNotNull(info.getPlotInfo().getDataArea());
+    }
+
+    /**
+     * A change to one dataset is reported with its index.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDatasetIndexInEvent() {
+        JFreeChart chart = createXYChart();
+        int[] index = {-2};
+        chart.addChangeListener(
+                e -> index[0] = ((PlotChangeEvent) e).getDatasetIndex());
+        XYPlot<String> plot = (XYPlot<String>) chart.getPlot();
+        ((XYSeriesCollection<String>) plot.getDataset(1)).getSeries(0).add(
+                60, 1.0);
+        assertEquals(1, index[0]);
+    }
+
+    /**
+     * Combined plots don't support layers.
+     */
+    @Test
+    public void testCombinedPlot() {
+        assertNull(new CombinedDomainXYPlot<String>()
+                .getLayerDatasetIndices());
+    }
+
+}
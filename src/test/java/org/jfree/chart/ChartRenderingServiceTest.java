@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartRenderingService} class.
+ */
+public class ChartRenderingServiceTest {
+
+    private static JFreeChart createChart() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            s.add(i, Math.sin(i / 10.0));
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection<>(s));
+    }
+
+    /**
+     * Render several charts and check the output and the metrics.
+     */
+    @Test
+    public void testSubmit() throws Exception {
+        try (ChartRenderingService service = new ChartRenderingService(2)) {
+            List<ByteArrayOutputStream> outs = new ArrayList<>();
+            List<Future<ChartRenderingResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                outs.add(out);
+                futures.add(service.submit(createChart(), 200, 100, out));
+            }
+            for (int i = 0; i < 6; i++) {
+                ChartRenderingResult r = futures.get(i).get();
+                byte[] bytes = outs.get(i).toByteArray();
+                assertEquals(bytes.length, r.getByteCount());
+                BufferedImage image = ImageIO.read(
+                        new ByteArrayInputStream(bytes));
+                assertEquals(200, image.getWidth());
+                assertEquals(100, image.getHeight());
+            }
+            ChartRenderingMetrics m = service.getMetrics();
+            assertEquals(6, m.getSubmittedJobs());
+            assertEquals(6, m.getCompletedJobs());
+            assertEquals(0, m.getFailedJobs());
+            assertEquals(0, m.getQueuedJobs());
+            assertEquals(0, m.getActiveJobs());
+            assertTrue(m.getTotalRenderNanos() > 0);
+            assertTrue(service.getImagePool().getIdleImageCount() > 0);
+        }
+    }
+
+    /**
+     * A failure to write the output is reported through the future.
+     */
+    @Test
+    public void testFailure() throws InterruptedException {
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Failed.");
+            }
+        };
+        try (ChartRenderingService service = new ChartRenderingService(1)) {
+            Future<ChartRenderingResult> f = service.submit(createChart(),
+                    50, 50, out);
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    f::get);
+            assertTrue(e.getCause() instanceof IOException);
+            assertEquals(1, service.getMetrics().getFailedJobs());
+        }
+    }
+
+    /**
+     * A job that is cancelled while it waits for a thread is no longer
+     * counted as queued.
+     */
+    @Test
+    public void testCancelQueuedJob() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        try (ChartRenderingService service
+                = new ChartRenderingService(executor)) {
+            // keep the only thread busy so that the job stays queued
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<ChartRenderingResult> f = service.submit(createChart(),
+                    50, 50, new ByteArrayOutputStream());
+            assertEquals(1, service.getMetrics().getQueuedJobs());
+            assertTrue(f.cancel(false));
+            assertEquals(0, service.getMetrics().getQueuedJobs());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Images are reused by size and type.
+     */
+    @Test
+    public void testImagePool() {
+        BufferedImagePool pool = new BufferedImagePool(1);
+        BufferedImage i1 = pool.acquire(10, 20, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage i2 = pool.acquire(10, 20, BufferedImage.TYPE_INT_ARGB);
+        assertNotSame(i1, i2);
+        pool.release(i1);
+        pool.release(i2);  // exceeds the limit, so is discarded
+        assertEquals(1, pool.getIdleImageCount());
+        assertNotSame(i1, pool.acquire(10, 20, BufferedImage.TYPE_INT_RGB));
+        assertNotSame(i1, pool.acquire(20, 10, BufferedImage.TYPE_INT_ARGB));
+        assertSame(i1, pool.acquire(10, 20, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(0, pool.getIdleImageCount());
+    }
+
+}
@@ -42,6 +42,7 @@ import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.RenderingHints;
 import java.util.List;
+import javax.swing.SwingUtilities;
 
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
@@ -179,6 +180,12 @@ public class JFreeChartTest implements ChartChangeListener {
         assertNotEquals(chart1, chart2);
         chart2.setBackgroundImageAlpha(0.1f);
         assertEquals(chart1, chart2);
+
+        // changeEventInterval
+        chart1.setChangeEventInterval(16);
+        assertNotEquals(chart1, chart2);
+        chart2.setChangeEventInterval(16);
+        assertEquals(chart1, chart2);
     }
 
     /**
@@ -440,6 +447,38 @@ public class JFreeChartTest implements ChartChangeListener {
         this.lastChartChangeEvent = null;
     }
 
+    /**
+     * With a change event interval, a burst of changes results in a single
+     * event.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCoalescedChangeEvents() throws Exception {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        JFreeChart chart = ChartFactory.createBarChart("title", "C", "V",
+                dataset);
+        chart.setChangeEventInterval(10000);
+        int[] count = new int[1];
+        chart.addChangeListener(e -> count[0]++);
+        for (int i = 0; i < 100; i++) {
+            dataset.addValue(i, "R", "C" + i);
+        }
+        assertEquals(0, count[0]);
+        SwingUtilities.invokeAndWait(() -> chart.flushChangeEvents());
+        assertEquals(1, count[0]);
+        SwingUtilities.invokeAndWait(() -> chart.flushChangeEvents());
+        assertEquals(1, count[0]);
+
+        // the events are sent immediately when the interval is zero
+        dataset.addValue(1.0, "R", "X");
+        chart.setChangeEventInterval(0);
+        assertEquals(2, count[0]);
+        dataset.addValue(2.0, "R", "X");
+        assertEquals(3, count[0]);
+    }
+
     /**
      * Test for bug 942.
      * 
@@ -36,9 +36,12 @@
 
 package org.jfree.chart;
 
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.renderer.AbstractRenderer;
 
 import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.Collection;
 
@@ -192,5 +195,66 @@ public class TestUtils {
         
         // TODO many remaining attributes
     }
-    
+
+    /**
+     * Draws a chart with a combined plot that draws its subplots 
+     * sequentially, then again after {@code enableParallel} has switched
+     * the plot to parallel rendering, and checks that the images, the 
+     * entities and the subplot info are the same.
+     * 
+     * @param chart  the chart ({@code null} not permitted).
+     * @param subplotCount  the number of subplots in the plot.
+     * @param enableParallel  switches the plot to parallel rendering.
+     */
+    public static void checkParallelRendering(JFreeChart chart, 
+            int subplotCount, Runnable enableParallel) {
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = drawChart(chart, info1);
+        enableParallel.run();
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = drawChart(chart, info2);
+
+        assertEquals(info1.getEntityCollection().getEntityCount(),
+                info2.getEntityCollection().getEntityCount());
+        PlotRenderingInfo plotInfo1 = info1.getPlotInfo();
+        PlotRenderingInfo plotInfo2 = info2.getPlotInfo();
+        assertEquals(subplotCount, plotInfo2.getSubplotCount());
+        for (int i = 0; i < subplotCount; i++) {
+            assertEquals(plotInfo1.getSubplotInfo(i).getDataArea(),
+                    plotInfo2.getSubplotInfo(i).getDataArea());
+            assertSame(info2, plotInfo2.getSubplotInfo(i).getOwner());
+        }
+        // tiles are composited, so allow for rounding in anti-aliased pixels
+        for (int y = 0; y < image1.getHeight(); y++) {
+            for (int x = 0; x < image1.getWidth(); x++) {
+                int p1 = image1.getRGB(x, y);
+                int p2 = image2.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int c1 = (p1 >> shift) & 0xFF;
+                    int c2 = (p2 >> shift) & 0xFF;
+                    assertTrue(Math.abs(c1 - c2) <= 2, "(" + x + ", " + y
+                            + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws a chart to a 400 x 300 image.
+     * 
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage drawChart(JFreeChart chart, 
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0), info);
+        g2.dispose();
+        return image;
+    }
+
 }
@@ -39,8 +39,16 @@ package org.jfree.chart.axis;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
 
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -188,6 +196,48 @@ public class CategoryAxisTest {
         assertEquals(a1, a2);
     }
 
+    /**
+     * The category labels are reused while the categories, data area and
+     * axis attributes are unchanged.
+     */
+    @Test
+    public void testTickLayoutCache() {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        CategoryAxis axis = new CategoryAxis("Category");
+        new CategoryPlot<>(dataset, axis, new NumberAxis("Value"),
+                new BarRenderer());
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 300.0, 200.0);
+        AxisState state1 = new AxisState();
+        List<?> ticks1 = axis.refreshTicks(g2, state1, area,
+                RectangleEdge.BOTTOM);
+        AxisState state2 = new AxisState();
+        List<?> ticks2 = axis.refreshTicks(g2, state2, area,
+                RectangleEdge.BOTTOM);
+        assertEquals(2, ticks2.size());
+        assertSame(ticks1.get(0), ticks2.get(0));
+        assertEquals(state1.getMax(), state2.getMax());
+
+        // a new category gives new ticks...
+        dataset.addValue(3.0, "R1", "C3");
+        List<?> ticks3 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(3, ticks3.size());
+        assertNotSame(ticks1.get(0), ticks3.get(0));
+
+        // ...as does a change to the axis
+        axis.setTickLabelFont("C1", new Font("SansSerif", Font.BOLD, 20));
+        List<?> ticks4 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertNotSame(ticks3.get(0), ticks4.get(0));
+        g2.dispose();
+    }
+
     /**
      * Serialize an instance, restore it, and check for equality.
      */
@@ -1153,6 +1153,37 @@ public class DateAxisTest {
         assertEquals("31-May-2008", t3.getText());
     }
 
+    /**
+     * The tick layout is reused while the range and data area length are
+     * unchanged.
+     */
+    @Test
+    public void testTickLayoutCache() {
+        DateAxis axis = new DateAxis("Date", TimeZone.getTimeZone("GMT"),
+                Locale.UK);
+        axis.setRange(new Date(0L), new Date(30L * 24 * 60 * 60 * 1000));
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 500, 200);
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.BOTTOM);
+        List<? extends Tick> ticks1 = axis.refreshTicks(g2, new AxisState(),
+                area, RectangleEdge.BOTTOM);
+        DateTickUnit unit = axis.getTickUnit();
+        List<? extends Tick> ticks2 = axis.refreshTicks(g2, new AxisState(),
+                area, RectangleEdge.BOTTOM);
+        assertSame(ticks1.get(0), ticks2.get(0));
+        assertEquals(unit, axis.getTickUnit());
+
+        // a longer range gives new ticks
+        axis.setRange(new Date(0L), new Date(300L * 24 * 60 * 60 * 1000));
+        List<? extends Tick> ticks3 = axis.refreshTicks(g2, new AxisState(),
+                area, RectangleEdge.BOTTOM);
+        assertNotSame(ticks1.get(0), ticks3.get(0));
+        assertNotEquals(unit, axis.getTickUnit());
+        g2.dispose();
+    }
+
     /**
      * A test for bug 3484403 (SourceForge 
      * https://sourceforge.net/p/jfreechart/bugs/1078/).
@@ -39,6 +39,11 @@ package org.jfree.chart.axis;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
 import org.jfree.chart.TestUtils;
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +85,33 @@ public class DateTickUnitTest {
         assertEquals(a1, a2);
     }
 
+    /**
+     * Check that {@code addToDate()} and {@code rollDate()} give the same
+     * results as the calendar, including across daylight saving changes.
+     */
+    @Test
+    public void testAddToDate() {
+        TimeZone zone = TimeZone.getTimeZone("Australia/Lord_Howe");
+        DateTickUnitType[] types = {DateTickUnitType.DAY, 
+            DateTickUnitType.HOUR, DateTickUnitType.MINUTE};
+        for (DateTickUnitType type : types) {
+            DateTickUnit unit = new DateTickUnit(type, 3, type, 2, 
+                    new SimpleDateFormat());
+            Calendar calendar = Calendar.getInstance(zone);
+            calendar.clear();
+            calendar.set(2019, Calendar.APRIL, 5);
+            for (int i = 0; i < 200; i++) {
+                Date base = calendar.getTime();
+                Calendar c = Calendar.getInstance(zone);
+                c.setTime(base);
+                c.add(type.getCalendarField(), 3);
+                assertEquals(c.getTime(), unit.addToDate(base, zone));
+                c.setTime(base);
+                c.add(type.getCalendarField(), 2);
+                assertEquals(c.getTime(), unit.rollDate(base, zone));
+                calendar.add(Calendar.MINUTE, 17);
+            }
+        }
+    }
+
 }
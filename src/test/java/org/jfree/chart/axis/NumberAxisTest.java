@@ -36,8 +36,12 @@
 
 package org.jfree.chart.axis;
 
+import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
+import java.util.List;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
@@ -371,6 +375,63 @@ public class NumberAxisTest {
 //        assertTrue(pass);
 //    }
 
+    /**
+     * The tick layout is reused while the range, data area length and axis
+     * attributes are unchanged, and recalculated when any of them change.
+     */
+    @Test
+    public void testTickLayoutCache() {
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 100.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 400.0, 100.0);
+
+        // the layout is stored under the selected tick unit, so the first
+        // layout is reused...
+        List<?> ticks0 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        List<?> ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertSame(ticks0.get(0), ticks1.get(0));
+        NumberTickUnit unit = axis.getTickUnit();
+        List<?> ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(ticks1.size(), ticks2.size());
+        assertSame(ticks1.get(0), ticks2.get(0));
+        assertEquals(unit, axis.getTickUnit());
+
+        // only the length of the data area matters...
+        Rectangle2D area2 = new Rectangle2D.Double(50.0, 20.0, 400.0, 60.0);
+        List<?> ticks3 = axis.refreshTicks(g2, new AxisState(), area2,
+                RectangleEdge.BOTTOM);
+        assertSame(ticks1.get(0), ticks3.get(0));
+
+        // a change to the range gives new ticks...
+        axis.setRange(0.0, 1000.0);
+        List<?> ticks4 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals("0", ((NumberTick) ticks4.get(0)).getText());
+        assertNotEquals(unit, axis.getTickUnit());
+
+        // ...as does a change to an axis attribute
+        axis.setRange(0.0, 100.0);
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.BOTTOM);
+        axis.setTickLabelFont(new Font("SansSerif", Font.PLAIN, 30));
+        List<?> ticks5 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertNotSame(ticks1.get(0), ticks5.get(0));
+        assertTrue(axis.getTickUnit().getSize() > unit.getSize());
+
+        // the formatter is honoured for cached layouts
+        axis.setNumberFormatOverride(new DecimalFormat("0.00"));
+        List<?> ticks6 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals("0.00", ((NumberTick) ticks6.get(0)).getText());
+        g2.dispose();
+    }
+
     /**
      * Some checks for the setLowerBound() method.
      */
@@ -0,0 +1,161 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FastPNGEncoder} class.
+ */
+public class FastPNGEncoderTest {
+
+    private static BufferedImage createImage(int type, boolean flat) {
+        BufferedImage image = new BufferedImage(173, 211, type);
+        Graphics2D g2 = image.createGraphics();
+        if (!flat) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setPaint(new GradientPaint(0, 0, Color.YELLOW, 173, 211,
+                    new Color(0, 0, 255, 100)));
+            g2.fillRect(10, 10, 150, 150);
+        }
+        g2.setPaint(Color.RED);
+        g2.setStroke(new BasicStroke(3f));
+        g2.drawLine(0, 200, 170, 5);
+        g2.setPaint(new Color(0, 128, 0, 128));
+        g2.fillRect(40, 60, 50, 120);
+        g2.dispose();
+        return image;
+    }
+
+    private static void assertRoundTrip(BufferedImage image,
+            FastPNGEncoder encoder) throws IOException {
+        byte[] bytes = encoder.encode(image);
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertEquals(image.getWidth(), result.getWidth());
+        assertEquals(image.getHeight(), result.getHeight());
+        boolean alpha = encoder.isEncodingAlpha()
+                && image.getColorModel().hasAlpha();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int expected = image.getRGB(x, y);
+                if (!alpha) {
+                    expected |= 0xFF000000;
+                }
+                assertEquals(expected, result.getRGB(x, y),
+                        "Pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Check that each filter strategy produces a valid image with the same
+     * pixels.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB, false);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        for (PNGFilterStrategy strategy : PNGFilterStrategy.values()) {
+            encoder.setFilterStrategy(strategy);
+            assertRoundTrip(image, encoder);
+        }
+    }
+
+    /**
+     * Check alpha handling and the other image types.
+     */
+    @Test
+    public void testImageTypes() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        assertRoundTrip(createImage(BufferedImage.TYPE_INT_RGB, false),
+                encoder);
+        assertRoundTrip(createImage(BufferedImage.TYPE_3BYTE_BGR, false),
+                encoder);
+        encoder.setEncodingAlpha(false);
+        assertRoundTrip(createImage(BufferedImage.TYPE_INT_ARGB, false),
+                encoder);
+    }
+
+    /**
+     * Indexed output is used for images with few colours, and the encoder
+     * falls back to true colour otherwise.
+     */
+    @Test
+    public void testPalette() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setPaletteEnabled(true);
+        BufferedImage flat = createImage(BufferedImage.TYPE_INT_ARGB, true);
+        assertRoundTrip(flat, encoder);
+        assertEquals(3, encoder.encode(flat)[25]);  // IHDR colour type
+        BufferedImage smooth = createImage(BufferedImage.TYPE_INT_ARGB,
+                false);
+        assertRoundTrip(smooth, encoder);
+        assertEquals(6, encoder.encode(smooth)[25]);
+    }
+
+    /**
+     * Stripes compressed in parallel are combined into one valid stream.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setParallelism(4);
+        assertRoundTrip(createImage(BufferedImage.TYPE_INT_ARGB, false),
+                encoder);
+        encoder.setQuality(9f);
+        encoder.setFilterStrategy(PNGFilterStrategy.PAETH);
+        assertRoundTrip(createImage(BufferedImage.TYPE_INT_RGB, false),
+                encoder);
+    }
+
+    /**
+     * The encoder is registered for the fast PNG format.
+     */
+    @Test
+    public void testFactory() {
+        ImageEncoder encoder = ImageEncoderFactory.newInstance(
+                ImageFormat.FAST_PNG, 2f);
+        assertTrue(encoder instanceof FastPNGEncoder);
+        assertEquals(2f, encoder.getQuality());
+    }
+
+}
@@ -0,0 +1,140 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SpatialEntityCollection} class.
+ */
+public class SpatialEntityCollectionTest {
+
+    private static ChartEntity createEntity(double x, double y, double size,
+            String toolTip) {
+        return new ChartEntity(new Rectangle2D.Double(x, y, size, size),
+                toolTip);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        c1.add(createEntity(1.0, 2.0, 3.0, "A"));
+        assertNotNull(c1.getEntity(2.0, 3.0));
+        SpatialEntityCollection c2 = (SpatialEntityCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+        c2.add(createEntity(100.0, 100.0, 3.0, "B"));
+        assertNotNull(c2.getEntity(101.0, 101.0));
+        assertNull(c1.getEntity(101.0, 101.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        c1.add(createEntity(1.0, 2.0, 3.0, "A"));
+        SpatialEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals("A", c2.getEntity(2.0, 3.0).getToolTipText());
+    }
+
+    /**
+     * The results of a point query match those of the
+     * {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testGetEntity() {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        StandardEntityCollection c2 = new StandardEntityCollection();
+        ChartEntity plot = createEntity(0.0, 0.0, 1000.0, "Plot");
+        c1.add(plot);
+        c2.add(plot);
+        for (int i = 0; i < 1000; i++) {
+            ChartEntity e = new ChartEntity(new Ellipse2D.Double(
+                    (i * 37) % 990, (i * 53) % 990, 10.0, 10.0), "E" + i);
+            c1.add(e);
+            c2.add(e);
+        }
+        for (int x = 0; x < 1010; x += 7) {
+            for (int y = 0; y < 1010; y += 11) {
+                assertSame(c2.getEntity(x, y), c1.getEntity(x, y));
+            }
+        }
+
+        // entities added after the index is created
+        ChartEntity e = createEntity(500.0, 500.0, 2.0, "Last");
+        c1.add(e);
+        assertSame(e, c1.getEntity(501.0, 501.0));
+        ChartEntity outside = createEntity(2000.0, 2000.0, 2.0, "Outside");
+        c1.add(outside);
+        assertSame(outside, c1.getEntity(2001.0, 2001.0));
+
+        c1.clear();
+        assertNull(c1.getEntity(501.0, 501.0));
+        assertEquals(0, c1.getEntityCount());
+    }
+
+    /**
+     * Some checks for the rectangle query.
+     */
+    @Test
+    public void testGetEntitiesInRectangle() {
+        SpatialEntityCollection c = new SpatialEntityCollection();
+        ChartEntity plot = createEntity(0.0, 0.0, 100.0, "Plot");
+        c.add(plot);
+        for (int i = 0; i < 10; i++) {
+            c.add(createEntity(i * 10.0, i * 10.0, 5.0, "E" + i));
+        }
+        List<ChartEntity> result = c.getEntities(
+                new Rectangle2D.Double(12.0, 12.0, 20.0, 20.0));
+        assertEquals(4, result.size());
+        assertSame(plot, result.get(0));
+        assertEquals("E1", result.get(1).getToolTipText());
+        assertEquals("E2", result.get(2).getToolTipText());
+        assertEquals("E3", result.get(3).getToolTipText());
+        assertTrue(c.getEntities(
+                new Rectangle2D.Double(200.0, 200.0, 5.0, 5.0)).isEmpty());
+    }
+
+}
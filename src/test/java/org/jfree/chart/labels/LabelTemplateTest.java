@@ -0,0 +1,167 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.labels;
+
+import java.text.MessageFormat;
+import java.util.Date;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LabelTemplate} class.
+ */
+public class LabelTemplateTest {
+
+    /**
+     * Checks that the template gives the same result as 
+     * {@link MessageFormat}.
+     * 
+     * @param pattern  the pattern.
+     * @param items  the arguments.
+     */
+    private static void check(String pattern, Object... items) {
+        assertEquals(MessageFormat.format(pattern, items), 
+                LabelTemplate.compile(pattern).format(items));
+    }
+
+    /**
+     * Some simple patterns.
+     */
+    @Test
+    public void testSimplePatterns() {
+        check("", "A", "B");
+        check("No arguments", "A");
+        check("{0}", "A");
+        check("{0}: ({1}, {2})", "S1", "1.5", "2.5");
+        check("{2}{1}{0}{2}", "A", "B", "C");
+        check("{01}", "A", "B");
+        assertTrue(LabelTemplate.compile("{0}: ({1}, {2})").isCompiled());
+    }
+
+    /**
+     * Quotes are handled in the same way as {@code MessageFormat}.
+     */
+    @Test
+    public void testQuotes() {
+        check("It''s {0}", "A");
+        check("'{0}' = {0}", "A");
+        check("'It''s {0}'", "A");
+        check("'unterminated {0}", "A");
+        check("closing } brace {0}", "A");
+    }
+
+    /**
+     * Missing and {@code null} arguments, and arguments that are not 
+     * strings.
+     */
+    @Test
+    public void testArguments() {
+        check("{0} {1} {5}", "A");
+        check("{0} {1}", "A", null);
+        check("{0}", (Object[]) null);
+        check("{0}", new StringBuilder("B"));
+        check("{0} {1}", "A", 1234567.891);
+        check("{0} {1}", "A", new Date(0L));
+    }
+
+    /**
+     * Patterns that are not compiled are handled by {@code MessageFormat}.
+     */
+    @Test
+    public void testFallback() {
+        LabelTemplate t = LabelTemplate.compile("{0,number,#.##}");
+        assertFalse(t.isCompiled());
+        assertEquals("1.23", t.format(new Object[] {1.23456}));
+        check("{0, number} {1}", 1.5, "A");
+        assertThrows(IllegalArgumentException.class, 
+                () -> LabelTemplate.compile("{0").format(new Object[] {"A"}));
+        assertThrows(IllegalArgumentException.class, 
+                () -> LabelTemplate.compile("{x}").format(new Object[] {"A"}));
+    }
+
+    /**
+     * Labels created by the generators match the format string.
+     */
+    @Test
+    public void testGenerators() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        XYSeriesCollection<String> xy = new XYSeriesCollection<>(s);
+        StandardXYItemLabelGenerator g1 = new StandardXYItemLabelGenerator(
+                "'{0}' {0}: ({1}, {2})");
+        assertEquals("{0} S1: (1, 2)", g1.generateLabel(xy, 0, 0));
+        
+        DefaultCategoryDataset<String, String> c 
+                = new DefaultCategoryDataset<>();
+        c.addValue(3.0, "R1", "C1");
+        StandardCategoryItemLabelGenerator g2 
+                = new StandardCategoryItemLabelGenerator();
+        assertEquals("3", g2.generateLabel(c, 0, 0));
+        StandardCategoryToolTipGenerator g3 
+                = new StandardCategoryToolTipGenerator();
+        assertEquals("(R1, C1) = 3", g3.generateToolTip(c, 0, 0));
+    }
+
+    /**
+     * A cached template is reused only for the same pattern.
+     */
+    @Test
+    public void testReuseOrCompile() {
+        LabelTemplate t1 = LabelTemplate.reuseOrCompile(null, "{0}");
+        assertEquals("{0}", t1.getPattern());
+        assertSame(t1, LabelTemplate.reuseOrCompile(t1, "{0}"));
+        LabelTemplate t2 = LabelTemplate.reuseOrCompile(t1, "{1}");
+        assertNotSame(t1, t2);
+        assertEquals("{1}", t2.getPattern());
+    }
+
+    /**
+     * Templates are not serialized, so a generator compiles its template
+     * again after deserialization.
+     */
+    @Test
+    public void testSerialization() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        XYSeriesCollection<String> xy = new XYSeriesCollection<>(s);
+        StandardXYItemLabelGenerator g1 = new StandardXYItemLabelGenerator(
+                "{0}: ''{1}''");
+        assertEquals("S1: '1'", g1.generateLabel(xy, 0, 0));
+        StandardXYItemLabelGenerator g2 = TestUtils.serialised(g1);
+        assertEquals("S1: '1'", g2.generateLabel(xy, 0, 0));
+    }
+
+}
@@ -101,6 +101,11 @@ public class CombinedDomainCategoryPlotTest implements ChartChangeListener {
         CombinedDomainCategoryPlot plot1 = createPlot();
         CombinedDomainCategoryPlot plot2 = createPlot();
         assertEquals(plot1, plot2);
+
+        plot1.setParallelRendering(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setParallelRendering(true);
+        assertEquals(plot1, plot2);
     }
 
     /**
@@ -125,6 +130,17 @@ public class CombinedDomainCategoryPlotTest implements ChartChangeListener {
         assertEquals(plot1, plot2);
     }
 
+    /**
+     * Drawing the subplots in parallel should give the same image and the
+     * same entities as drawing them sequentially.
+     */
+    @Test
+    public void testParallelRendering() {
+        CombinedDomainCategoryPlot plot = createPlot();
+        TestUtils.checkParallelRendering(new JFreeChart(plot), 2,
+                () -> plot.setParallelRendering(true));
+    }
+
     /**
      * Check that only one chart change event is generated by a change to a
      * subplot.
@@ -112,6 +112,11 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
         CombinedDomainXYPlot<String> plot2 = createPlot();
         assertEquals(plot1, plot2);
         assertEquals(plot2, plot1);
+
+        plot1.setParallelRendering(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setParallelRendering(true);
+        assertEquals(plot1, plot2);
     }
 
     /**
@@ -137,6 +142,17 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
         assertEquals(plot1, plot2);
     }
 
+    /**
+     * Drawing the subplots in parallel should give the same image and the
+     * same entities as drawing them sequentially.
+     */
+    @Test
+    public void testParallelRendering() {
+        CombinedDomainXYPlot<String> plot = createPlot();
+        TestUtils.checkParallelRendering(new JFreeChart(plot), 2,
+                () -> plot.setParallelRendering(true));
+    }
+
     /**
      * Check that only one chart change event is generated by a change to a
      * subplot.
@@ -108,6 +108,17 @@ public class CombinedRangeCategoryPlotTest implements ChartChangeListener {
         assertEquals(plot1, plot2);
     }
 
+    /**
+     * Drawing the subplots in parallel should give the same image and the
+     * same entities as drawing them sequentially.
+     */
+    @Test
+    public void testParallelRendering() {
+        CombinedRangeCategoryPlot plot = createPlot();
+        TestUtils.checkParallelRendering(new JFreeChart(plot), 2,
+                () -> plot.setParallelRendering(true));
+    }
+
     /**
      * This is a test to replicate the bug report 1121172.
      */
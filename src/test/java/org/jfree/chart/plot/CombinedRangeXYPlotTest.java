@@ -128,6 +128,17 @@ public class CombinedRangeXYPlotTest implements ChartChangeListener {
         assertEquals(plot1, plot2);
     }
 
+    /**
+     * Drawing the subplots in parallel should give the same image and the
+     * same entities as drawing them sequentially.
+     */
+    @Test
+    public void testParallelRendering() {
+        CombinedRangeXYPlot<String> plot = createPlot();
+        TestUtils.checkParallelRendering(new JFreeChart(plot), 2,
+                () -> plot.setParallelRendering(true));
+    }
+
     /**
      * Check that only one chart change event is generated by a change to a
      * subplot.
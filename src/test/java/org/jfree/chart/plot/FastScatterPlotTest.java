@@ -39,13 +39,18 @@ package org.jfree.chart.plot;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.renderer.GrayPaintScale;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -119,6 +124,21 @@ public class FastScatterPlotTest {
         plot2.setRangePannable(true);
         assertEquals(plot1, plot2);
 
+        plot1.setDensityPaintScale(new GrayPaintScale(0.0, 10.0));
+        assertNotEquals(plot1, plot2);
+        plot2.setDensityPaintScale(new GrayPaintScale(0.0, 10.0));
+        assertEquals(plot1, plot2);
+
+        plot1.setDensityLogScaled(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setDensityLogScaled(true);
+        assertEquals(plot1, plot2);
+
+        plot1.setDensityParallel(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setDensityParallel(true);
+        assertEquals(plot1, plot2);
+
     }
 
     /**
@@ -212,6 +232,68 @@ public class FastScatterPlotTest {
         }
     }
 
+    /**
+     * In density mode, the points are counted per pixel and the counts are
+     * coloured using the paint scale.
+     */
+    @Test
+    public void testDensityMode() {
+        // 3 points at (10, 10), 1 point at (30, 30)
+        float[][] data = new float[][] {{10f, 10f, 10f, 30f},
+                {10f, 10f, 10f, 30f}};
+        FastScatterPlot plot = new FastScatterPlot(data,
+                new NumberAxis("X"), new NumberAxis("Y"));
+        plot.getDomainAxis().setRange(0.0, 40.0);
+        plot.getRangeAxis().setRange(0.0, 40.0);
+        plot.setDensityPaintScale(new GrayPaintScale(0.0, 1.0));
+        BufferedImage image = new BufferedImage(40, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 40.0, 40.0), null,
+                null);
+        g2.dispose();
+
+        assertEquals(0xFFFFFFFF, image.getRGB(10, 30));
+        assertEquals(0xFF555555, image.getRGB(30, 10));
+        assertEquals(0, image.getRGB(20, 20));
+
+        plot.setDensityLogScaled(true);
+        image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        g2 = image.createGraphics();
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 40.0, 40.0), null,
+                null);
+        g2.dispose();
+        assertEquals(0xFFFFFFFF, image.getRGB(10, 30));
+        assertEquals(0xFF7F7F7F, image.getRGB(30, 10));
+    }
+
+    /**
+     * Binning the points in parallel gives the same image as binning them
+     * sequentially.
+     */
+    @Test
+    public void testDensityParallel() {
+        float[][] data = new float[2][500000];
+        Random random = new Random(123L);
+        for (int i = 0; i < data[0].length; i++) {
+            data[0][i] = (float) random.nextGaussian();
+            data[1][i] = (float) random.nextGaussian();
+        }
+        FastScatterPlot plot = new FastScatterPlot(data,
+                new NumberAxis("X"), new NumberAxis("Y"));
+        plot.setDensityPaintScale(new GrayPaintScale(0.0, 1.0));
+        plot.setDensityLogScaled(true);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image1 = chart.createBufferedImage(300, 200, null);
+        plot.setDensityParallel(true);
+        BufferedImage image2 = chart.createBufferedImage(300, 200, null);
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 300; x++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+    }
+
     /**
      * Populates the data array with random values.
      *
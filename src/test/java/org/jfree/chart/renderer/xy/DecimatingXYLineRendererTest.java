@@ -0,0 +1,212 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYArraySeries;
+import org.jfree.data.xy.XYArraySeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DecimatingXYLineRenderer} class.
+ */
+public class DecimatingXYLineRendererTest {
+
+    /**
+     * A renderer that records the items passed to drawItem().
+     */
+    static class CountingRenderer extends DecimatingXYLineRenderer {
+        private static final long serialVersionUID = 1L;
+        int count;
+        boolean minDrawn;
+        boolean maxDrawn;
+        double minY = -1000.0;
+        double maxY = 1000.0;
+
+        @Override
+        @SuppressWarnings("rawtypes") // the overridden method uses raw types
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            if (pass == 0) {
+                this.count++;
+                double y = dataset.getYValue(series, item);
+                this.minDrawn = this.minDrawn || y == this.minY;
+                this.maxDrawn = this.maxDrawn || y == this.maxY;
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Check that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = new DecimatingXYLineRenderer();
+        assertEquals(r1, r2);
+        assertEquals(r1.hashCode(), r2.hashCode());
+        r1.setDefaultShapesVisible(true);
+        assertNotEquals(r1, r2);
+        r2.setDefaultShapesVisible(true);
+        assertEquals(r1, r2);
+        assertNotEquals(r1, new XYLineAndShapeRenderer(true, true));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = CloneUtils.clone(r1);
+        assertNotSame(r1, r2);
+        assertSame(r1.getClass(), r2.getClass());
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DecimatingXYLineRenderer r1 = new DecimatingXYLineRenderer();
+        DecimatingXYLineRenderer r2 = TestUtils.serialised(r1);
+        assertEquals(r1, r2);
+        r2.clearIndices();
+    }
+
+    /**
+     * For a large series the number of items drawn is bounded by the width
+     * of the data area, and the extreme values are still drawn.
+     */
+    @Test
+    public void testDecimation() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        for (int i = 0; i < 200000; i++) {
+            double y = Math.sin(i / 1000.0);
+            if (i == 12345) {
+                y = -1000.0;
+            } else if (i == 123456) {
+                y = 1000.0;
+            }
+            s.add(i, y);
+        }
+        CountingRenderer r = new CountingRenderer();
+        XYPlot<String> plot = new XYPlot<>(new XYArraySeriesCollection<>(s),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(400, 300, null);
+        assertTrue(r.count > 0);
+        assertTrue(r.count <= 4 * 400 + 2, "Drawn: " + r.count);
+        assertTrue(r.minDrawn);
+        assertTrue(r.maxDrawn);
+
+        // append some more data (in one block, so that the axis range is
+        // updated once only) and draw again
+        double[] x = new double[50000];
+        double[] y = new double[50000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 200000 + i;
+            y[i] = 2000.0;
+        }
+        s.add(x, y);
+        r.count = 0;
+        r.maxY = 2000.0;
+        r.maxDrawn = false;
+        chart.createBufferedImage(400, 300, null);
+        assertTrue(r.count <= 4 * 400 + 2, "Drawn: " + r.count);
+        assertTrue(r.maxDrawn);
+    }
+
+    /**
+     * A change to the y-value of an item in the middle of a series is
+     * picked up by the renderer, so the new extreme values are drawn.
+     */
+    @Test
+    public void testMidSeriesUpdate() {
+        XYSeries<String> s = new XYSeries<>("S");
+        for (int i = 0; i < 20000; i++) {
+            s.add(i, Math.sin(i / 100.0));
+        }
+        CountingRenderer r = new CountingRenderer();
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(s),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(400, 300, null);
+        assertTrue(r.count <= 4 * 400 + 2, "Drawn: " + r.count);
+        assertFalse(r.minDrawn);
+        assertFalse(r.maxDrawn);
+
+        s.updateByIndex(5000, -1000.0);
+        s.updateByIndex(15000, 1000.0);
+        r.count = 0;
+        chart.createBufferedImage(400, 300, null);
+        assertTrue(r.count <= 4 * 400 + 2, "Drawn: " + r.count);
+        assertTrue(r.minDrawn);
+        assertTrue(r.maxDrawn);
+    }
+
+    /**
+     * Datasets that are not in ascending order are drawn in full.
+     */
+    @Test
+    public void testUnorderedDataset() {
+        XYSeries<String> s = new XYSeries<>("S", false);
+        for (int i = 0; i < 5000; i++) {
+            s.add(i, i % 10);
+        }
+        CountingRenderer r = new CountingRenderer();
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(s),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(400, 300, null);
+        assertEquals(5000, r.count);
+    }
+
+}
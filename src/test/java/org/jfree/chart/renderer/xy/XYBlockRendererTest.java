@@ -37,8 +37,15 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.Color;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
@@ -89,6 +96,65 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertEquals(r1, r2);
 
+        // rasterized
+        r1.setRasterized(true);
+        assertNotEquals(r1, r2);
+        r2.setRasterized(true);
+        assertEquals(r1, r2);
+
+    }
+
+    /**
+     * In raster mode, each cell is drawn in the same colour (and location)
+     * as in the default mode, for both plot orientations.
+     */
+    @Test
+    public void testRasterized() {
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        double[] x = new double[12];
+        double[] y = new double[12];
+        double[] z = new double[12];
+        for (int i = 0; i < 12; i++) {
+            x[i] = i % 4;
+            y[i] = i / 4;
+            z[i] = i * 93;
+        }
+        dataset.addSeries("S1", new double[][] {x, y, z});
+        for (PlotOrientation orientation : new PlotOrientation[] {
+                PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL}) {
+            XYBlockRenderer renderer = new XYBlockRenderer();
+            renderer.setDrawOutlines(false);
+            renderer.setPaintScale(new GrayPaintScale(0.0, 1023.0));
+            NumberAxis xAxis = new NumberAxis("X");
+            xAxis.setRange(-1.0, 4.0);
+            NumberAxis yAxis = new NumberAxis("Y");
+            yAxis.setRange(-1.0, 3.0);
+            XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis,
+                    renderer);
+            plot.setOrientation(orientation);
+            JFreeChart chart = new JFreeChart(plot);
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            BufferedImage image1 = chart.createBufferedImage(300, 200, info);
+            renderer.setRasterized(true);
+            ChartRenderingInfo info2 = new ChartRenderingInfo();
+            BufferedImage image2 = chart.createBufferedImage(300, 200, info2);
+            Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+            for (int i = 0; i < 12; i++) {
+                int xx = (int) xAxis.valueToJava2D(x[i], dataArea,
+                        plot.getDomainAxisEdge());
+                int yy = (int) yAxis.valueToJava2D(y[i], dataArea,
+                        plot.getRangeAxisEdge());
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    int tmp = xx;
+                    xx = yy;
+                    yy = tmp;
+                }
+                assertEquals(image1.getRGB(xx, yy), image2.getRGB(xx, yy));
+            }
+            // no item entities in raster mode
+            assertEquals(info.getEntityCollection().getEntityCount() - 12,
+                    info2.getEntityCollection().getEntityCount());
+        }
     }
 
     /**
@@ -43,6 +43,7 @@ import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import javax.swing.event.CaretListener;
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.EventListener;
@@ -355,5 +357,64 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         assertEquals(Color.MAGENTA, readPanel.getZoomFillPaint());
         assertEquals(Color.CYAN, readPanel.getZoomOutlinePaint());
     }
-}
 
+    private static BufferedImage paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(
+                300, 200, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * With the layered buffer enabled, the panel shows the same chart after
+     * a dataset change as a panel that redraws the whole chart.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLayeredBuffer() {
+        DefaultXYDataset<String> d0 = new DefaultXYDataset<>();
+        d0.addSeries("S1", new double[][] {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}});
+        DefaultXYDataset<String> d1 = new DefaultXYDataset<>();
+        d1.addSeries("S2", new double[][] {{1.0, 2.0, 3.0}, {6.0, 5.0, 4.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", d0);
+        XYPlot<String> plot = (XYPlot<String>) chart.getPlot();
+        plot.setDataset(1, d1);
+        plot.setRenderer(1, new XYLineAndShapeRenderer());
+        ChartPanel layered = new ChartPanel(chart);
+        layered.setLayeredBufferEnabled(true);
+        assertTrue(layered.isLayeredBufferEnabled());
+        layered.setSize(300, 200);
+        ChartPanel plain = new ChartPanel(chart);
+        plain.setSize(300, 200);
+        paint(layered);
+
+        // this also changes the range axis
+        d1.addSeries("S3", new double[][] {{1.0, 2.0}, {9.0, 8.0}});
+        assertSamePixels(paint(plain), paint(layered));
+
+        // this only changes the data layer for dataset 1
+        d1.addSeries("S2", new double[][] {{1.0, 2.0, 3.0}, {5.0, 5.0, 5.0}});
+        assertSamePixels(paint(plain), paint(layered));
+        assertEquals(plain.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount(), layered.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+    }
+
+    private static void assertSamePixels(BufferedImage expected,
+            BufferedImage actual) {
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 300; x++) {
+                Color c1 = new Color(expected.getRGB(x, y), true);
+                Color c2 = new Color(actual.getRGB(x, y), true);
+                assertTrue(Math.abs(c1.getRed() - c2.getRed()) <= 2
+                        && Math.abs(c1.getGreen() - c2.getGreen()) <= 2
+                        && Math.abs(c1.getBlue() - c2.getBlue()) <= 2,
+                        "Pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+}
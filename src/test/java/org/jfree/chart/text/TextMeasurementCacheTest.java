@@ -0,0 +1,122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTest {
+
+    /**
+     * Cached bounds match the uncached measurement, and the hit and miss 
+     * counts are updated.
+     */
+    @Test
+    public void testGetTextBounds() {
+        TextMeasurementCache cache = new TextMeasurementCache();
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Font font = new Font("SansSerif", Font.PLAIN, 12);
+        FontMetrics fm = g2.getFontMetrics(font);
+        Rectangle2D expected = TextUtils.measureTextBounds("ABC", g2, fm);
+        Rectangle2D b1 = cache.getTextBounds("ABC", g2, fm);
+        assertEquals(expected, b1);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // the caller may modify the result without affecting the cache...
+        b1.setRect(0.0, 0.0, 1.0, 1.0);
+        Rectangle2D b2 = cache.getTextBounds("ABC", g2, fm);
+        assertEquals(expected, b2);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getSize());
+
+        // a different font is a different entry
+        FontMetrics fm2 = g2.getFontMetrics(font.deriveFont(24f));
+        assertTrue(cache.getTextBounds("ABC", g2, fm2).getWidth()
+                > expected.getWidth());
+        assertEquals(2, cache.getMissCount());
+        g2.dispose();
+    }
+
+    /**
+     * Line metrics and text layouts are cached.
+     */
+    @Test
+    public void testLineMetricsAndTextLayout() {
+        TextMeasurementCache cache = new TextMeasurementCache();
+        Font font = new Font("SansSerif", Font.PLAIN, 12);
+        FontRenderContext frc = new FontRenderContext(null, true, true);
+        LineMetrics lm = cache.getLineMetrics("ABCxyz", font, frc);
+        assertEquals(font.getLineMetrics("ABCxyz", frc).getHeight(),
+                lm.getHeight());
+        assertSame(lm, cache.getLineMetrics("ABCxyz", font, frc));
+        assertSame(cache.getTextLayout("ABC", font, frc),
+                cache.getTextLayout("ABC", font, frc));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    /**
+     * The cache does not grow beyond its maximum size.
+     */
+    @Test
+    public void testMaximumSize() {
+        TextMeasurementCache cache = new TextMeasurementCache(64);
+        assertEquals(64, cache.getMaximumSize());
+        Font font = new Font("SansSerif", Font.PLAIN, 12);
+        FontRenderContext frc = new FontRenderContext(null, true, true);
+        for (int i = 0; i < 1000; i++) {
+            cache.getLineMetrics("Label " + i, font, frc);
+        }
+        assertTrue(cache.getSize() <= 64);
+        assertEquals(1000, cache.getMissCount());
+
+        cache.setMaximumSize(160);
+        assertEquals(160, cache.getMaximumSize());
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getMissCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.setMaximumSize(0));
+    }
+
+}
@@ -40,6 +40,7 @@ import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.BatchUpdate;
 
 import org.junit.jupiter.api.Test;
 
@@ -379,4 +380,26 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+
+    /**
+     * Changes made in a batch send a single event when the batch is closed.
+     */
+    @Test
+    @SuppressWarnings("try")
+    public void testBatch() {
+        DefaultCategoryDataset<String, String> d
+                = new DefaultCategoryDataset<>();
+        int[] count = new int[1];
+        d.addChangeListener(e -> count[0]++);
+        try (BatchUpdate batch = d.beginBatch()) {
+            for (int i = 0; i < 100; i++) {
+                d.setValue(i, "R", "C" + i);
+            }
+            assertEquals(0, count[0]);
+        }
+        assertEquals(1, count[0]);
+        d.setValue(1.0, "R", "C1");
+        assertEquals(2, count[0]);
+    }
+
 }
@@ -0,0 +1,272 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DataUtils;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DoubleMatrixCategoryDataset} class.
+ */
+public class DoubleMatrixCategoryDatasetTest implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Receives a dataset change event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    private DoubleMatrixCategoryDataset<String, String> createDataset() {
+        DoubleMatrixCategoryDataset<String, String> d
+                = new DoubleMatrixCategoryDataset<>(List.of("R1", "R2", "R3"),
+                List.of("C1", "C2"));
+        d.setRow("R1", new double[] {1.0, -2.0});
+        d.setRow("R2", new double[] {3.0, Double.NaN});
+        d.setRow("R3", new double[] {-4.0, 5.0});
+        return d;
+    }
+
+    /**
+     * Some checks for the basic accessors.
+     */
+    @Test
+    public void testGetValue() {
+        DoubleMatrixCategoryDataset<String, String> d = createDataset();
+        assertEquals(3, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals(Arrays.asList("R1", "R2", "R3"), d.getRowKeys());
+        assertEquals(Arrays.asList("C1", "C2"), d.getColumnKeys());
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getRowIndex("XX"));
+        assertEquals(1, d.getColumnIndex("C2"));
+        assertEquals(-4.0, d.getValue(2, 0));
+        assertEquals(-2.0, d.getValue("R1", "C2"));
+        assertNull(d.getValue(1, 1));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 1)));
+        assertThrows(UnknownKeyException.class, () -> d.getValue("XX", "C1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> d.getValue(3, 0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> d.getRowKeys().add("R4"));
+    }
+
+    /**
+     * Setting values for new keys adds rows and columns.
+     */
+    @Test
+    public void testAddRowsAndColumns() {
+        DoubleMatrixCategoryDataset<String, String> d
+                = new DoubleMatrixCategoryDataset<>();
+        for (int r = 0; r < 20; r++) {
+            d.setValue(r, "R" + r, "C1");
+        }
+        d.setValue(99.0, "R3", "C2");
+        d.setColumn("C3", new double[20]);
+        assertEquals(20, d.getRowCount());
+        assertEquals(3, d.getColumnCount());
+        for (int r = 0; r < 20; r++) {
+            assertEquals((double) r, d.getValue(r, 0));
+            assertEquals(r == 3 ? Double.valueOf(99.0) : null,
+                    d.getValue(r, 1));
+            assertEquals(0.0, d.getValue(r, 2));
+        }
+        d.setValue((Number) null, "R3", "C2");
+        assertNull(d.getValue("R3", "C2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.setRow("R1", new double[2]));
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+    }
+
+    /**
+     * The bulk loaders send a single event.
+     */
+    @Test
+    public void testBulkLoadEvents() {
+        DoubleMatrixCategoryDataset<String, String> d = createDataset();
+        d.addChangeListener(this);
+        d.setRow("R4", new double[] {1.0, 2.0});
+        d.setColumn("C2", new double[] {1.0, 2.0, 3.0, 4.0});
+        assertEquals(2, this.eventCount);
+    }
+
+    /**
+     * Check the totals, and that the cache is cleared when the data changes.
+     */
+    @Test
+    public void testTotals() {
+        DoubleMatrixCategoryDataset<String, String> d = createDataset();
+        assertEquals(-1.0, d.getRowTotal(0));
+        assertEquals(3.0, d.getRowTotal(1));
+        assertEquals(0.0, d.getColumnTotal(0));
+        assertEquals(3.0, d.getColumnTotal(1));
+        assertEquals(4.0, d.getPositiveColumnTotal(0));
+        assertEquals(-4.0, d.getNegativeColumnTotal(0));
+        assertEquals(0.0, DataUtils.calculateColumnTotal(d, 0));
+        assertEquals(0.0, DataUtils.calculateColumnTotal(d, 0,
+                new int[] {0, 1, 2}));
+        assertEquals(-3.0, DataUtils.calculateColumnTotal(d, 0,
+                new int[] {0, 2}));
+
+        d.setValue(10.0, "R2", "C2");
+        assertEquals(13.0, d.getRowTotal(1));
+        assertEquals(13.0, d.getColumnTotal(1));
+        assertEquals(13.0, DataUtils.calculateRowTotal(d, 1));
+    }
+
+    /**
+     * The stacked range bounds match those for a
+     * {@link DefaultCategoryDataset} with the same values.
+     */
+    @Test
+    public void testFindStackedRangeBounds() {
+        DoubleMatrixCategoryDataset<String, String> d = createDataset();
+        DefaultCategoryDataset<String, String> d2
+                = new DefaultCategoryDataset<>();
+        for (int r = 0; r < d.getRowCount(); r++) {
+            for (int c = 0; c < d.getColumnCount(); c++) {
+                d2.addValue(d.getValue(r, c), d.getRowKey(r),
+                        d.getColumnKey(c));
+            }
+        }
+        assertEquals(DatasetUtils.findStackedRangeBounds(d2, 1.0),
+                DatasetUtils.findStackedRangeBounds(d, 1.0));
+        assertEquals(new Range(-3.0, 6.0),
+                DatasetUtils.findStackedRangeBounds(d, 1.0));
+        assertNull(DatasetUtils.findStackedRangeBounds(
+                new DoubleMatrixCategoryDataset<String, String>()));
+    }
+
+    /**
+     * Check the start and end values.
+     */
+    @Test
+    public void testIntervals() {
+        DoubleMatrixCategoryDataset<String, String> d = createDataset();
+        assertEquals(1.0, d.getStartValue(0, 0));
+        assertEquals(1.0, d.getEndValue("R1", "C1"));
+        d.setInterval(0.5, 1.5, "R1", "C1");
+        assertEquals(0.5, d.getStartValue(0, 0));
+        assertEquals(1.5, d.getEndValue("R1", "C1"));
+        assertEquals(3.0, d.getStartValue(1, 0));
+        d.setValue(7.0, "R4", "C3");
+        assertEquals(7.0, d.getValue("R4", "C3"));
+        assertEquals(7.0, d.getStartValue("R4", "C3"));
+        assertEquals(7.0, d.getEndValue("R4", "C3"));
+        assertNull(d.getStartValue("R4", "C1"));
+        assertEquals(0.5, d.getStartValue(0, 0));
+
+        // setting a value replaces the interval
+        d.setValue(5.0, "R1", "C2");
+        assertEquals(5.0, d.getStartValue("R1", "C2"));
+        assertEquals(5.0, d.getEndValue("R1", "C2"));
+        d.setRow("R5", new double[] {1.0, 2.0, 3.0});
+        assertEquals(2.0, d.getEndValue("R5", "C2"));
+        d.setColumn("C1", new double[] {9.0, 8.0, 7.0, 6.0, 5.0});
+        assertEquals(9.0, d.getStartValue(0, 0));
+        assertEquals(9.0, d.getEndValue(0, 0));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DoubleMatrixCategoryDataset<String, String> d1 = createDataset();
+        DoubleMatrixCategoryDataset<String, String> d2 = createDataset();
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        d1.setValue(9.0, "R1", "C1");
+        assertNotEquals(d1, d2);
+        d2.setValue(9.0, "R1", "C1");
+        assertEquals(d1, d2);
+
+        d1.setInterval(1.0, 2.0, "R1", "C1");
+        assertNotEquals(d1, d2);
+        d2.setInterval(1.0, 2.0, "R1", "C1");
+        assertEquals(d1, d2);
+
+        d1.setValue(1.0, "R9", "C1");
+        assertNotEquals(d1, d2);
+        d2.setValue(1.0, "R9", "C1");
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DoubleMatrixCategoryDataset<String, String> d1 = createDataset();
+        DoubleMatrixCategoryDataset<String, String> d2 = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+
+        // check independence
+        d1.setValue(9.0, "R1", "C3");
+        assertNotEquals(d1, d2);
+        assertEquals(2, d2.getColumnCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DoubleMatrixCategoryDataset<String, String> d1 = createDataset();
+        d1.getColumnTotal(0);
+        DoubleMatrixCategoryDataset<String, String> d2
+                = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(3.0, d2.getColumnTotal(1));
+    }
+
+}
@@ -0,0 +1,100 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Some tests for the {@link HeatMapUtils} class.
+ */
+public class HeatMapUtilsTest {
+
+    /**
+     * The raster path gives the same image as the original method when the
+     * z-values fall on the lookup table samples.
+     */
+    @Test
+    public void testCreateHeatMapImageRaster() {
+        DefaultHeatMapDataset dataset = new DefaultHeatMapDataset(30, 20,
+                0.0, 29.0, 0.0, 19.0);
+        for (int x = 0; x < 30; x++) {
+            for (int y = 0; y < 20; y++) {
+                dataset.setZValue(x, y, (x * 20 + y) % 256);
+            }
+        }
+        PaintScale scale = new GrayPaintScale(0.0, 255.0);
+        BufferedImage image1 = HeatMapUtils.createHeatMapImage(dataset,
+                scale);
+        BufferedImage image2 = HeatMapUtils.createHeatMapImage(dataset,
+                scale, 256, false);
+        BufferedImage image3 = HeatMapUtils.createHeatMapImage(dataset,
+                scale, 256, true);
+        for (int x = 0; x < 30; x++) {
+            for (int y = 0; y < 20; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                assertEquals(image1.getRGB(x, y), image3.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Some checks for the colour lookup.
+     */
+    @Test
+    public void testLookupColor() {
+        LookupPaintScale scale = new LookupPaintScale(0.0, 10.0,
+                Color.BLACK);
+        scale.add(5.0, Color.RED);
+        int[] lookup = HeatMapUtils.createColorLookup(scale, 11);
+        assertEquals(0xFF000000, lookup[4]);
+        assertEquals(0xFFFF0000, lookup[5]);
+        double factor = (11 - 1) / 10.0;
+        assertEquals(0xFF000000, HeatMapUtils.lookupColor(lookup, 4.4, 0.0,
+                factor));
+        assertEquals(0xFFFF0000, HeatMapUtils.lookupColor(lookup, 4.6, 0.0,
+                factor));
+        assertEquals(0xFFFF0000, HeatMapUtils.lookupColor(lookup, 99.0, 0.0,
+                factor));
+        assertEquals(0xFF000000, HeatMapUtils.lookupColor(lookup, -99.0, 0.0,
+                factor));
+        assertEquals(0, HeatMapUtils.lookupColor(lookup, Double.NaN, 0.0,
+                factor));
+        assertThrows(IllegalArgumentException.class,
+                () -> HeatMapUtils.createColorLookup(scale, 1));
+    }
+
+}
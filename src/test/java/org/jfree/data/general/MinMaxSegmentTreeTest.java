@@ -0,0 +1,121 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MinMaxSegmentTree} class.
+ */
+public class MinMaxSegmentTreeTest {
+
+    private static Range bruteForce(List<Double> values, int first,
+            int last) {
+        double lo = Double.POSITIVE_INFINITY;
+        double hi = Double.NEGATIVE_INFINITY;
+        for (int i = first; i <= last; i++) {
+            double v = values.get(i);
+            if (!Double.isNaN(v)) {
+                lo = Math.min(lo, v);
+                hi = Math.max(hi, v);
+            }
+        }
+        return lo <= hi ? new Range(lo, hi) : null;
+    }
+
+    /**
+     * Some checks for a tree built from an array.
+     */
+    @Test
+    public void testFind() {
+        double[] values = {3.0, Double.NaN, -1.0, 7.0, 2.0};
+        MinMaxSegmentTree t = new MinMaxSegmentTree(values, 5);
+        assertEquals(5, t.size());
+        assertEquals(new Range(-1.0, 7.0), t.find(0, 4));
+        assertEquals(new Range(3.0, 3.0), t.find(0, 1));
+        assertNull(t.find(1, 1));
+        assertEquals(new Range(2.0, 7.0), t.find(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> t.find(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> t.find(3, 2));
+    }
+
+    /**
+     * Appends, removals from the start and updates give the same results as
+     * a brute force search.
+     */
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(123L);
+        MinMaxSegmentTree t = new MinMaxSegmentTree();
+        List<Double> values = new ArrayList<>();
+        for (int op = 0; op < 5000; op++) {
+            int choice = random.nextInt(10);
+            if (choice < 6 || values.isEmpty()) {
+                double v = random.nextInt(20) == 0 ? Double.NaN
+                        : random.nextGaussian();
+                t.add(v);
+                values.add(v);
+            } else if (choice < 8) {
+                t.removeFirst();
+                values.remove(0);
+            } else {
+                int i = random.nextInt(values.size());
+                double v = random.nextGaussian();
+                t.set(i, v);
+                values.set(i, v);
+            }
+            assertEquals(values.size(), t.size());
+            if (!values.isEmpty()) {
+                int a = random.nextInt(values.size());
+                int b = random.nextInt(values.size());
+                int first = Math.min(a, b);
+                int last = Math.max(a, b);
+                assertEquals(bruteForce(values, first, last),
+                        t.find(first, last));
+            }
+        }
+    }
+
+    /**
+     * Removing the first item from an empty tree is an error.
+     */
+    @Test
+    public void testRemoveFirstWhenEmpty() {
+        MinMaxSegmentTree t = new MinMaxSegmentTree();
+        assertThrows(IllegalStateException.class, () -> t.removeFirst());
+    }
+
+}
@@ -0,0 +1,258 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DoubleMatrixCategoryDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYArraySeries;
+import org.jfree.data.xy.XYSeries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CSVReader} class.
+ */
+public class CSVReaderTest {
+
+    /**
+     * Creates a channel that reads the specified text.
+     *
+     * @param text  the text.
+     *
+     * @return The channel.
+     */
+    private static ReadableByteChannel channel(String text) {
+        return Channels.newChannel(new ByteArrayInputStream(
+                text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads all the fields of all the records as strings.
+     *
+     * @param reader  the reader.
+     * @param text  the input.
+     *
+     * @return The records.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static List<List<String>> readAll(CSVReader reader, String text) 
+            throws IOException {
+        List<List<String>> result = new ArrayList<>();
+        reader.read(channel(text), r -> {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < r.getFieldCount(); i++) {
+                fields.add(r.getString(i));
+            }
+            result.add(fields);
+        });
+        return result;
+    }
+
+    /**
+     * Check the parsing of delimiters, line breaks and white space.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testParse() throws IOException {
+        CSVReader reader = new CSVReader();
+        List<List<String>> records = readAll(reader, 
+                "a, b ,\"c,d\"\r\n\n\"e \"\"f\"\"\",\"g\nh\"\r  \n,x,");
+        assertEquals(3, records.size());
+        assertEquals(List.of("a", "b", "c,d"), records.get(0));
+        assertEquals(List.of("e \"f\"", "g\nh"), records.get(1));
+        assertEquals(List.of("", "x", ""), records.get(2));
+
+        reader = new CSVReader('\t', '\'');
+        reader.setSkipRecords(1);
+        records = readAll(reader, "x\ty\n1\t'2\t3'\n");
+        assertEquals(1, records.size());
+        assertEquals(List.of("1", "2\t3"), records.get(0));
+    }
+
+    /**
+     * The numbers parsed from the buffer should be the same as the numbers
+     * parsed by the JDK.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testGetDouble() throws IOException {
+        Random random = new Random(1L);
+        List<String> values = new ArrayList<>(List.of("0", "-0", "+1.5", 
+                "1e3", "1E-3", ".5", "5.", "0.000001234", "123456789012345",
+                "1234567890123456789", "0.1234567890123456789", "1e23",
+                "4.9e-324", "NaN", "-Infinity", "007", "2.5e+10"));
+        for (int i = 0; i < 2000; i++) {
+            double d = (random.nextDouble() - 0.5) 
+                    * Math.pow(10, random.nextInt(40) - 20);
+            values.add(Double.toString(d));
+            values.add(String.format(Locale.US, "%.4f", d));
+            values.add(Long.toString(random.nextLong() % 100000000L));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String v : values) {
+            sb.append(v).append('\n');
+        }
+        List<Double> parsed = new ArrayList<>();
+        new CSVReader().read(channel(sb.toString()), 
+                r -> parsed.add(r.getDouble(0)));
+        assertEquals(values.size(), parsed.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(Double.valueOf(values.get(i)), parsed.get(i), 
+                    values.get(i));
+        }
+        List<Long> longs = new ArrayList<>();
+        new CSVReader().read(channel("-42,\n9223372036854775807"), 
+                r -> longs.add(r.getLong(0)));
+        assertEquals(List.of(-42L, Long.MAX_VALUE), longs);
+        assertThrows(NumberFormatException.class, () -> new CSVReader()
+                .read(channel("1,x"), r -> r.getDouble(1)));
+    }
+
+    /**
+     * Records that span buffer boundaries, multi-byte characters and a
+     * record that is larger than the buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testLargeInput() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            sb.append(i).append(",é€").append(i).append('\n');
+        }
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            big.append((char) ('a' + i % 26));
+        }
+        sb.append("-1,\"").append(big).append("\"\n");
+        List<String> text = new ArrayList<>();
+        long count = new CSVReader().read(channel(sb.toString()), r -> {
+            assertEquals(text.size() < 50000 ? text.size() : -1, 
+                    r.getLong(0));
+            text.add(r.getString(1));
+        });
+        assertEquals(50001, count);
+        assertEquals("é€49999", text.get(49999));
+        assertEquals(big.toString(), text.get(50000));
+    }
+
+    /**
+     * Read XY data into both kinds of series, with a single event.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadXYSeries() throws IOException {
+        String text = "x,y\n1,10\n2,\n3,30.5\n4,40\n";
+        CSVReader reader = new CSVReader();
+        reader.setSkipRecords(1);
+        reader.setBatchSize(3);
+        XYArraySeries<String> s1 = new XYArraySeries<>("S1");
+        int[] events = new int[1];
+        s1.addChangeListener(e -> events[0]++);
+        assertEquals(4, reader.readXYArraySeries(channel(text), 0, 1, s1));
+        assertEquals(4, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getYValue(1)));
+        assertEquals(30.5, s1.getYValue(2));
+        assertEquals(1, events[0]);
+
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        s2.addChangeListener(e -> events[0]++);
+        assertEquals(4, reader.readXYSeries(channel(text), 0, 1, s2));
+        assertEquals(4, s2.getItemCount());
+        assertEquals(40.0, s2.getY(3).doubleValue());
+        assertEquals(2, events[0]);
+    }
+
+    /**
+     * Read a time series from a file (which is memory-mapped).
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadTimeSeries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("data.csv");
+        TimeZone zone = TimeZone.getTimeZone("UTC");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            sb.append(i * 86400000L).append(',').append(i * 1.5).append('\n');
+        }
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        TimeSeries<String> series = new TimeSeries<>("T");
+        try (FileChannel in = FileChannel.open(file)) {
+            assertEquals(10, new CSVReader().readTimeSeries(in, 0, 1, series,
+                    Day.class, zone, Locale.UK));
+        }
+        assertEquals(10, series.getItemCount());
+        assertEquals(new Day(10, 1, 1970), series.getTimePeriod(9));
+        assertEquals(13.5, series.getValue(9).doubleValue());
+    }
+
+    /**
+     * Read a category dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadCategoryDataset() throws IOException {
+        DoubleMatrixCategoryDataset<String, String> dataset 
+                = new CSVReader().readCategoryDataset(channel(
+                "\"\",C1,C2\nR1,1.0,2.0\n\"R2\",3.0,\nR3,5\n"));
+        assertEquals(List.of("C1", "C2"), dataset.getColumnKeys());
+        assertEquals(List.of("R1", "R2", "R3"), dataset.getRowKeys());
+        assertEquals(3.0, dataset.getDoubleValue(1, 0));
+        assertTrue(Double.isNaN(dataset.getDoubleValue(1, 1)));
+        assertTrue(Double.isNaN(dataset.getDoubleValue(2, 1)));
+        assertEquals(0, new CSVReader().readCategoryDataset(channel(""))
+                .getRowCount());
+    }
+
+}
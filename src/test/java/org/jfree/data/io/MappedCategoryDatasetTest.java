@@ -0,0 +1,91 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedCategoryDataset} class.
+ */
+public class MappedCategoryDatasetTest {
+
+    /**
+     * The keys and values survive a round trip.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testRoundTrip(@TempDir Path dir) throws IOException {
+        DefaultCategoryDataset<String, String> source 
+                = new DefaultCategoryDataset<>();
+        source.addValue(1.0, "R1", "C1");
+        source.addValue(-2.0, "R1", "C2");
+        source.addValue(null, "R2", "C1");
+        source.addValue(8.0, "R2", "C2");
+        source.addValue(null, "R3", "C1");
+        Path file = dir.resolve("data.bin");
+        new BinaryDatasetWriter().writeCategoryDataset(source, file);
+        MappedCategoryDataset d = new MappedCategoryDataset(file);
+        assertEquals(source.getRowKeys(), d.getRowKeys());
+        assertEquals(source.getColumnKeys(), d.getColumnKeys());
+        assertEquals(1, d.getColumnIndex("C2"));
+        assertEquals(-2.0, d.getValue("R1", "C2"));
+        assertNull(d.getValue(1, 0));
+        assertNull(d.getValue("R3", "C2"));
+        assertEquals(8.0, d.getDoubleValue(1, 1));
+        assertEquals(new Range(-2.0, 8.0), d.getRangeBounds(false));
+        assertThrows(UnknownKeyException.class, () -> d.getValue("R4", "C1"));
+        assertThrows(IllegalArgumentException.class, 
+                () -> d.getDoubleValue(0, 2));
+    }
+
+    /**
+     * A file that contains XY data is rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWrongKind(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("xy.bin");
+        new BinaryDatasetWriter().writeXYDataset(
+                new XYSeriesCollection<String>(), file);
+        assertThrows(IOException.class, () -> new MappedCategoryDataset(file));
+    }
+
+}
@@ -0,0 +1,245 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYIntervalSeries;
+import org.jfree.data.xy.XYIntervalSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedXYDataset} class.
+ */
+public class MappedXYDatasetTest {
+
+    /**
+     * Writes a dataset and maps it again.
+     *
+     * @param dir  the directory for the file.
+     * @param writer  the writer.
+     * @param dataset  the dataset.
+     *
+     * @return The mapped dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private MappedXYDataset roundTrip(Path dir, BinaryDatasetWriter writer,
+            XYDataset<?> dataset) throws IOException {
+        Path file = dir.resolve("data.bin");
+        writer.writeXYDataset(dataset, file);
+        return new MappedXYDataset(file);
+    }
+
+    /**
+     * The values of an {@code XYSeriesCollection} survive a round trip.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testXYSeriesCollection(@TempDir Path dir) throws IOException {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, null);
+        s1.add(3.0, -5.0);
+        XYSeries<String> s2 = new XYSeries<>("S2", false);
+        s2.add(7.0, 1.0);
+        s2.add(4.0, 2.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>();
+        source.addSeries(s1);
+        source.addSeries(s2);
+        MappedXYDataset d = roundTrip(dir, new BinaryDatasetWriter(), source);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(1, d.indexOf("S2"));
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(3.0, d.getXValue(0, 2));
+        assertEquals(-5.0, d.getY(0, 2));
+        assertNull(d.getY(0, 1));
+        assertEquals(3.5, d.getStartXValue(1, 1));
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertFalse(d.isTimeDomain());
+        assertEquals(new Range(1.0, 7.0), d.getDomainBounds(false));
+        assertEquals(new Range(0.5, 7.5), d.getDomainBounds(true));
+        assertEquals(new Range(-5.0, 10.0), d.getRangeBounds(false));
+        assertThrows(IndexOutOfBoundsException.class, 
+                () -> d.getXValue(0, 3));
+    }
+
+    /**
+     * A time series collection is written with the time periods as 
+     * x-intervals.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testTimeSeriesCollection(@TempDir Path dir) throws IOException {
+        TimeSeries<String> series = new TimeSeries<>("T");
+        Day day = new Day(1, 3, 2024);
+        for (int i = 0; i < 10; i++) {
+            series.add(day, i * 2.0);
+            day = (Day) day.next();
+        }
+        TimeSeriesCollection<String> source = new TimeSeriesCollection<>(
+                series);
+        MappedXYDataset d = roundTrip(dir, new BinaryDatasetWriter(), source);
+        assertTrue(d.isTimeDomain());
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(source.getXValue(0, i), d.getXValue(0, i));
+            assertEquals(source.getStartXValue(0, i), d.getStartXValue(0, i));
+            assertEquals(source.getEndXValue(0, i), d.getEndXValue(0, i));
+            assertEquals(source.getYValue(0, i), d.getYValue(0, i));
+        }
+        assertEquals(source.getDomainBounds(true), d.getDomainBounds(true));
+    }
+
+    /**
+     * Y-intervals are stored when they differ from the y-values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testYIntervals(@TempDir Path dir) throws IOException {
+        XYIntervalSeries<String> s = new XYIntervalSeries<>("S");
+        s.add(1.0, 0.5, 1.5, 2.0, 1.0, 3.0);
+        s.add(2.0, 1.5, 2.5, 4.0, 3.5, 9.0);
+        XYIntervalSeriesCollection<String> source 
+                = new XYIntervalSeriesCollection<>();
+        source.addSeries(s);
+        MappedXYDataset d = roundTrip(dir, new BinaryDatasetWriter(), source);
+        assertEquals(3.5, d.getStartYValue(0, 1));
+        assertEquals(9.0, d.getEndY(0, 1));
+        assertEquals(new Range(2.0, 4.0), d.getRangeBounds(false));
+        assertEquals(new Range(1.0, 9.0), d.getRangeBounds(true));
+        assertEquals(new Range(1.0, 3.0), d.getRangeBounds(
+                Collections.singletonList("S"), new Range(0.0, 1.0), true));
+    }
+
+    /**
+     * The y-range for a window of x-values matches a full scan, with blocks
+     * that are inside, outside and across the edges of the window.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWindowedRangeBounds(@TempDir Path dir) throws IOException {
+        Random random = new Random(17L);
+        XYSeries<String> sorted = new XYSeries<>("A");
+        XYSeries<String> unsorted = new XYSeries<>("B", false);
+        for (int i = 0; i < 1000; i++) {
+            sorted.add(i, random.nextGaussian());
+            unsorted.add(random.nextDouble() * 1000.0, 
+                    i % 97 == 0 ? null : random.nextGaussian());
+        }
+        XYSeriesCollection<String> source = new XYSeriesCollection<>();
+        source.addSeries(sorted);
+        source.addSeries(unsorted);
+        BinaryDatasetWriter writer = new BinaryDatasetWriter();
+        writer.setBlockSize(16);
+        MappedXYDataset d = roundTrip(dir, writer, source);
+        for (Range xRange : Arrays.asList(new Range(0.0, 999.0),
+                new Range(100.5, 400.5), new Range(32.0, 47.0),
+                new Range(2000.0, 3000.0))) {
+            for (String key : Arrays.asList("A", "B")) {
+                assertEquals(DatasetUtils.iterateToFindRangeBounds(source,
+                        Collections.singletonList(key), xRange, false),
+                        d.getRangeBounds(Collections.singletonList(key), 
+                        xRange, false));
+            }
+        }
+    }
+
+    /**
+     * The file is mapped again when the dataset is deserialized.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSerialization(@TempDir Path dir) throws IOException {
+        XYSeries<String> s = new XYSeries<>("S");
+        s.add(1.0, 2.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+        MappedXYDataset d1 = roundTrip(dir, new BinaryDatasetWriter(), source);
+        MappedXYDataset d2 = TestUtils.serialised(d1);
+        assertEquals(d1.getPath(), d2.getPath());
+        assertEquals(2.0, d2.getYValue(0, 0));
+    }
+
+    /**
+     * A file in another format is rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testInvalidFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> new MappedXYDataset(file));
+    }
+
+    /**
+     * A file with a negative directory length is rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testNegativeDirectoryLength(@TempDir Path dir) 
+            throws IOException {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        Path file = dir.resolve("data.bin");
+        new BinaryDatasetWriter().writeXYDataset(new XYSeriesCollection<>(s),
+                file);
+        byte[] bytes = Files.readAllBytes(file);
+        // the directory length is a little-endian long at offset 24
+        Arrays.fill(bytes, 24, 32, (byte) 0xFF);
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> new MappedXYDataset(file));
+    }
+
+}
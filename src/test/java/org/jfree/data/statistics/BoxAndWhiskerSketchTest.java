@@ -0,0 +1,215 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BoxAndWhiskerSketch} class.
+ */
+public class BoxAndWhiskerSketchTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * When the sketch holds all the values, the item is the same as the 
+     * one calculated from the list of values.
+     */
+    @Test
+    public void testExactForSmallCounts() {
+        List<Double> values = new ArrayList<>();
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch(100.0, 20);
+        Random random = new Random(1L);
+        for (int i = 0; i < 18; i++) {
+            double v = random.nextGaussian();
+            values.add(v);
+            s.add(v);
+        }
+        values.add(9.0);
+        s.add(9.0);
+        assertEquals(BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(
+                values), 
+                BoxAndWhiskerCalculator.calculateSketchStatistics(s));
+        assertNull(BoxAndWhiskerCalculator.calculateSketchStatistics(
+                new BoxAndWhiskerSketch()));
+    }
+
+    /**
+     * For a large number of values (with a few outliers), the item is 
+     * close to the one calculated from the list of values, and the 
+     * whiskers and outliers are the same.
+     */
+    @Test
+    public void testLargeCount() {
+        List<Double> values = new ArrayList<>();
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch();
+        Random random = new Random(2L);
+        for (int i = 0; i < 100000; i++) {
+            double v = random.nextDouble();
+            values.add(v);
+            s.add(v);
+        }
+        for (double v : new double[] {1.6, 5.0, -3.0}) {
+            values.add(v);
+            s.add(v);
+        }
+        BoxAndWhiskerItem expected 
+                = BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(
+                values);
+        BoxAndWhiskerItem item 
+                = BoxAndWhiskerCalculator.calculateSketchStatistics(s);
+        assertEquals(expected.getMean().doubleValue(), 
+                item.getMean().doubleValue(), EPSILON);
+        assertEquals(expected.getMedian().doubleValue(), 
+                item.getMedian().doubleValue(), 0.005);
+        assertEquals(expected.getQ1().doubleValue(), 
+                item.getQ1().doubleValue(), 0.005);
+        assertEquals(expected.getQ3().doubleValue(), 
+                item.getQ3().doubleValue(), 0.005);
+        assertEquals(expected.getMinRegularValue(), 
+                item.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(), 
+                item.getMaxRegularValue());
+        assertEquals(expected.getMinOutlier(), item.getMinOutlier());
+        assertEquals(expected.getMaxOutlier(), item.getMaxOutlier());
+        assertEquals(List.of(-3.0, 1.6, 5.0), item.getOutliers());
+    }
+
+    /**
+     * When there are more outliers than the sketch keeps, only the most
+     * extreme are reported.
+     */
+    @Test
+    public void testBoundedOutliers() {
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch(100.0, 10);
+        for (int i = 0; i < 10000; i++) {
+            s.add(i / 10000.0);
+        }
+        for (int i = 0; i < 100; i++) {
+            s.add(100.0 + i);
+        }
+        assertEquals(10, s.getLowestValues().length);
+        assertArrayEquals(new double[] {190.0, 191.0, 192.0, 193.0, 194.0, 
+                195.0, 196.0, 197.0, 198.0, 199.0}, s.getHighestValues());
+        BoxAndWhiskerItem item 
+                = BoxAndWhiskerCalculator.calculateSketchStatistics(s);
+        assertEquals(10, item.getOutliers().size());
+        assertEquals(190.0, item.getOutliers().get(0));
+        double q1 = item.getQ1().doubleValue();
+        double q3 = item.getQ3().doubleValue();
+        assertEquals(q3 + 1.5 * (q3 - q1), 
+                item.getMaxRegularValue().doubleValue(), EPSILON);
+        assertEquals(0.0, item.getMinRegularValue().doubleValue());
+    }
+
+    /**
+     * Sketches built on several threads and merged give the same count, 
+     * extremes and mean as a single sketch.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testConcurrentAddAndMerge() throws Exception {
+        BoxAndWhiskerSketch shared = new BoxAndWhiskerSketch();
+        BoxAndWhiskerSketch merged = new BoxAndWhiskerSketch();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    BoxAndWhiskerSketch local = new BoxAndWhiskerSketch();
+                    for (int i = 0; i < 10000; i++) {
+                        double v = random.nextGaussian();
+                        shared.add(v);
+                        local.add(v);
+                    }
+                    merged.merge(local);
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40000L, shared.getCount());
+        assertEquals(40000L, merged.getCount());
+        assertEquals(shared.getMean(), merged.getMean(), EPSILON);
+        assertArrayEquals(shared.getLowestValues(), merged.getLowestValues());
+        assertArrayEquals(shared.getHighestValues(), 
+                merged.getHighestValues());
+        assertEquals(shared.getQuantile(0.5), merged.getQuantile(0.5), 0.02);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        BoxAndWhiskerSketch s1 = new BoxAndWhiskerSketch(50.0, 5);
+        s1.add(new double[] {1.0, 2.0, 3.0});
+        BoxAndWhiskerSketch s2 = (BoxAndWhiskerSketch) s1.clone();
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s1.add(4.0);
+        assertNotEquals(s1, s2);
+        s2.add(4.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        BoxAndWhiskerSketch s1 = new BoxAndWhiskerSketch();
+        for (int i = 0; i < 500; i++) {
+            s1.add(Math.sin(i));
+        }
+        BoxAndWhiskerSketch s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        s2.add(1.0);
+        assertEquals(501L, s2.getCount());
+    }
+
+}
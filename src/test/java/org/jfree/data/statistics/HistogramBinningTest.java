@@ -0,0 +1,103 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link HistogramBinning} class.
+ */
+public class HistogramBinningTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Some checks for a linear binning.
+     */
+    @Test
+    public void testLinear() {
+        HistogramBinning b = new HistogramBinning(0.0, 10.0, 4);
+        assertEquals(2.5, b.getBinUpperBound(0), EPSILON);
+        assertEquals(7.5, b.getBinLowerBound(3), EPSILON);
+        assertEquals(10.0, b.getBinUpperBound(3));
+        assertEquals(0, b.getBinIndex(-1.0));
+        assertEquals(1, b.getBinIndex(2.5));
+        assertEquals(3, b.getBinIndex(10.0));
+        assertEquals(3, b.getBinIndex(11.0));
+        assertTrue(b.contains(10.0));
+        assertFalse(b.contains(10.1));
+    }
+
+    /**
+     * Some checks for a logarithmic binning.
+     */
+    @Test
+    public void testLogarithmic() {
+        HistogramBinning b = new HistogramBinning(1.0, 1000.0, 3, true);
+        assertEquals(10.0, b.getBinUpperBound(0), EPSILON);
+        assertEquals(100.0, b.getBinLowerBound(2), EPSILON);
+        assertEquals(0, b.getBinIndex(9.99));
+        assertEquals(1, b.getBinIndex(50.0));
+        assertEquals(0, b.getBinIndex(-5.0));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new HistogramBinning(0.0, 10.0, 4, true));
+    }
+
+    /**
+     * Expanding the range doubles it and each new bin covers two old bins.
+     */
+    @Test
+    public void testExpand() {
+        HistogramBinning b = new HistogramBinning(0.0, 8.0, 4);
+        HistogramBinning up = b.expand(true);
+        assertEquals(new HistogramBinning(0.0, 16.0, 4), up);
+        assertEquals(1, b.getExpandedBinIndex(3, true));
+        HistogramBinning down = b.expand(false);
+        assertEquals(new HistogramBinning(-8.0, 8.0, 4), down);
+        assertEquals(2, b.getExpandedBinIndex(0, false));
+        assertEquals(3, b.getExpandedBinIndex(3, false));
+        HistogramBinning log = new HistogramBinning(1.0, 100.0, 2, true);
+        assertEquals(10000.0, log.expand(true).getUpperBound(), 1e-6);
+        assertEquals(0.01, log.expand(false).getLowerBound(), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        HistogramBinning b1 = new HistogramBinning(1.0, 5.0, 7, true);
+        HistogramBinning b2 = TestUtils.serialised(b1);
+        assertEquals(b1, b2);
+    }
+
+}
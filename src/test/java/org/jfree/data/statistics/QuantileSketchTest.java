@@ -0,0 +1,189 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link QuantileSketch} class.
+ */
+public class QuantileSketchTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Returns the fraction of the sorted values that are less than the 
+     * specified value.
+     *
+     * @param sorted  the values in ascending order.
+     * @param value  the value.
+     *
+     * @return The rank (as a fraction).
+     */
+    private static double rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return (double) index / sorted.length;
+    }
+
+    /**
+     * Creates an array of random values.
+     *
+     * @param count  the number of values.
+     * @param seed  the random seed.
+     *
+     * @return The values.
+     */
+    private static double[] values(int count, long seed) {
+        Random random = new Random(seed);
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = Math.exp(random.nextGaussian());
+        }
+        return result;
+    }
+
+    /**
+     * The estimated quantiles are close (by rank) to the true quantiles.
+     */
+    @Test
+    public void testAccuracy() {
+        double[] values = values(200000, 1L);
+        QuantileSketch s = new QuantileSketch();
+        for (double v : values) {
+            s.add(v);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : new double[] {0.25, 0.5, 0.75}) {
+            assertEquals(q, rank(sorted, s.getQuantile(q)), 0.005);
+        }
+        for (double q : new double[] {0.001, 0.01, 0.99, 0.999}) {
+            assertEquals(q, rank(sorted, s.getQuantile(q)), 0.001);
+        }
+        assertEquals(sorted[0], s.getQuantile(0.0));
+        assertEquals(sorted[sorted.length - 1], s.getQuantile(1.0));
+    }
+
+    /**
+     * The count, minimum, maximum and mean are exact, and NaN is ignored.
+     */
+    @Test
+    public void testSummary() {
+        QuantileSketch s = new QuantileSketch();
+        assertEquals(0L, s.getCount());
+        assertTrue(Double.isNaN(s.getMean()));
+        assertTrue(Double.isNaN(s.getQuantile(0.5)));
+        s.add(new double[] {4.0, Double.NaN, 1.0, 7.0}, 0, 4);
+        assertEquals(3L, s.getCount());
+        assertEquals(1.0, s.getMinimum());
+        assertEquals(7.0, s.getMaximum());
+        assertEquals(4.0, s.getMean(), EPSILON);
+        assertEquals(4.0, s.getQuantile(0.5), EPSILON);
+    }
+
+    /**
+     * Merging sketches gives the same summary, and quantiles as accurate 
+     * as a single sketch.
+     */
+    @Test
+    public void testMerge() {
+        double[] values = values(100000, 2L);
+        QuantileSketch whole = new QuantileSketch();
+        whole.add(values, 0, values.length);
+        QuantileSketch merged = new QuantileSketch();
+        for (int part = 0; part < 4; part++) {
+            QuantileSketch s = new QuantileSketch();
+            s.add(values, part * 25000, 25000);
+            merged.merge(s);
+            assertEquals(25000L, s.getCount());
+        }
+        assertEquals(whole.getCount(), merged.getCount());
+        assertEquals(whole.getMinimum(), merged.getMinimum());
+        assertEquals(whole.getMaximum(), merged.getMaximum());
+        assertEquals(whole.getMean(), merged.getMean(), EPSILON);
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : new double[] {0.01, 0.25, 0.5, 0.75, 0.99}) {
+            assertEquals(q, rank(sorted, merged.getQuantile(q)), 0.005);
+        }
+    }
+
+    /**
+     * A larger compression gives a more accurate median.
+     */
+    @Test
+    public void testCompression() {
+        assertThrows(IllegalArgumentException.class, 
+                () -> new QuantileSketch(5.0));
+        double[] values = values(100000, 3L);
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        QuantileSketch s = new QuantileSketch(500.0);
+        s.add(values, 0, values.length);
+        assertEquals(0.5, rank(sorted, s.getQuantile(0.5)), 0.001);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        QuantileSketch s1 = new QuantileSketch(50.0);
+        s1.add(values(1000, 4L), 0, 1000);
+        QuantileSketch s2 = (QuantileSketch) s1.clone();
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s1.add(1.0);
+        assertNotEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        QuantileSketch s1 = new QuantileSketch();
+        s1.add(values(2000, 5L), 0, 2000);
+        QuantileSketch s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        assertEquals(s1.getQuantile(0.9), s2.getQuantile(0.9));
+    }
+
+}
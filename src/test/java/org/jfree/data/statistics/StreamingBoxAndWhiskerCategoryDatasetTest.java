@@ -0,0 +1,196 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingBoxAndWhiskerCategoryDataset} class.
+ */
+public class StreamingBoxAndWhiskerCategoryDatasetTest 
+        implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Receives a dataset change event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * The items are calculated from the sketches when the dataset is 
+     * refreshed, with a single event.
+     */
+    @Test
+    public void testRefresh() {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        d.addChangeListener(this);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            d.add(i * 1.5, "R1", "C1");
+            values.add(i * 1.5);
+        }
+        d.add(new double[] {1.0, 2.0}, "R2", "C2");
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, this.eventCount);
+        d.refresh();
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals(BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(
+                values), d.getItem(0, 0));
+        assertEquals(1.5, d.getMedianValue("R2", "C2").doubleValue());
+        assertNull(d.getItem(0, 1));
+        assertEquals(new Range(0.0, 13.5), d.getRangeBounds(false));
+        assertEquals(10L, d.getSketch("R1", "C1").getCount());
+        assertNull(d.getSketch("R1", "C2"));
+        assertNull(d.getSketch("R3", "C1"));
+    }
+
+    /**
+     * A sketch that is built elsewhere can be set for an item.
+     */
+    @Test
+    public void testSetSketch() {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch();
+        for (int i = 0; i < 100000; i++) {
+            s.add(i);
+        }
+        d.setSketch(s, "R1", "C1");
+        assertSame(s, d.getSketch("R1", "C1"));
+        assertEquals(49999.5, d.getMeanValue(0, 0).doubleValue(), 0.000001);
+        assertEquals(50000.0, d.getMedianValue(0, 0).doubleValue(), 500.0);
+        assertEquals(0.0, d.getMinRegularValue(0, 0).doubleValue());
+        assertEquals(99999.0, d.getMaxRegularValue(0, 0).doubleValue());
+        assertTrue(d.getOutliers(0, 0).isEmpty());
+    }
+
+    /**
+     * Removing items also removes their sketches.
+     */
+    @Test
+    public void testRemove() {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        d.add(1.0, "R1", "C1");
+        d.add(2.0, "R1", "C2");
+        d.add(3.0, "R2", "C1");
+        d.refresh();
+        d.remove("R1", "C1");
+        assertNull(d.getSketch("R1", "C1"));
+        d.removeColumn("C2");
+        assertNull(d.getSketch("R1", "C2"));
+        assertEquals(1, d.getColumnCount());
+        d.add(4.0, "R3", "C3");
+        d.removeRow("R3");
+        assertNull(d.getSketch("R3", "C3"));
+        d.clear();
+        assertNull(d.getSketch("R2", "C1"));
+        assertEquals(0, d.getRowCount());
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d1 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d2 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        assertEquals(d1, d2);
+        d1.add(1.0, "R1", "C1");
+        assertNotEquals(d1, d2);
+        d2.add(1.0, "R1", "C1");
+        assertEquals(d1, d2);
+        d1.refresh();
+        assertNotEquals(d1, d2);
+        d2.refresh();
+        assertEquals(d1, d2);
+        assertNotEquals(d1, 
+                new StreamingBoxAndWhiskerCategoryDataset<>(50.0, 32));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d1 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        d1.add(1.0, "R1", "C1");
+        d1.refresh();
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d2 
+                = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d1.add(2.0, "R1", "C1");
+        assertNotEquals(d1, d2);
+        assertEquals(1L, d2.getSketch("R1", "C1").getCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d1 
+                = new StreamingBoxAndWhiskerCategoryDataset<>();
+        d1.add(new double[] {1.0, 5.0, 9.0}, "R1", "C1");
+        d1.refresh();
+        StreamingBoxAndWhiskerCategoryDataset<String, String> d2 
+                = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        d2.add(13.0, "R1", "C1");
+        d2.refresh();
+        assertEquals(7.0, d2.getMeanValue("R1", "C1").doubleValue());
+    }
+
+}
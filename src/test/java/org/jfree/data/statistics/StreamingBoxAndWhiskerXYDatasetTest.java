@@ -0,0 +1,148 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Date;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingBoxAndWhiskerXYDataset} class.
+ */
+public class StreamingBoxAndWhiskerXYDatasetTest {
+
+    /**
+     * The items are calculated from the sketches (in date order) when the
+     * dataset is refreshed.
+     */
+    @Test
+    public void testRefresh() {
+        StreamingBoxAndWhiskerXYDataset<String> d 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        for (int i = 0; i < 30; i++) {
+            d.add(new Date(1000L * (2 - i % 3)), i);
+        }
+        assertEquals(0, d.getItemCount(0));
+        assertNull(d.getRangeBounds(false));
+        d.refresh();
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S", d.getSeriesKey(0));
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(0L, d.getX(0, 0));
+        assertEquals(new Date(2000L), d.getXDate(0, 2));
+        assertEquals(15.5, d.getY(0, 0).doubleValue(), 0.0000001);
+        assertEquals(14.5, d.getMedianValue(0, 1).doubleValue(), 0.0000001);
+        assertEquals(new Range(0.0, 29.0), d.getRangeBounds(false));
+        assertEquals(10L, d.getSketch(new Date(1000L)).getCount());
+        assertNull(d.getSketch(new Date(3000L)));
+    }
+
+    /**
+     * Setting and removing a sketch refreshes the dataset.
+     */
+    @Test
+    public void testSetAndRemoveSketch() {
+        StreamingBoxAndWhiskerXYDataset<String> d 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch();
+        s.add(new double[] {1.0, 2.0, 3.0});
+        d.setSketch(new Date(5L), s);
+        d.setSketch(new Date(1L), new BoxAndWhiskerSketch());
+        assertEquals(1, d.getItemCount(0));
+        assertEquals(5L, d.getX(0, 0));
+        assertEquals(1.5, d.getQ1Value(0, 0).doubleValue(), 0.0000001);
+        d.remove(new Date(5L));
+        assertEquals(0, d.getItemCount(0));
+        assertNull(d.getSketch(new Date(5L)));
+        d.clear();
+        assertNull(d.getSketch(new Date(1L)));
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        StreamingBoxAndWhiskerXYDataset<String> d1 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        StreamingBoxAndWhiskerXYDataset<String> d2 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        assertEquals(d1, d2);
+        d1.add(new Date(1L), 1.0);
+        assertNotEquals(d1, d2);
+        d2.add(new Date(1L), 1.0);
+        assertEquals(d1, d2);
+        d1.refresh();
+        assertNotEquals(d1, d2);
+        d2.refresh();
+        assertEquals(d1, d2);
+        assertNotEquals(new StreamingBoxAndWhiskerXYDataset<>("T"), 
+                new StreamingBoxAndWhiskerXYDataset<>("S"));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingBoxAndWhiskerXYDataset<String> d1 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        d1.add(new Date(1L), 1.0);
+        d1.refresh();
+        StreamingBoxAndWhiskerXYDataset<String> d2 
+                = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d1.add(new Date(1L), 2.0);
+        assertNotEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingBoxAndWhiskerXYDataset<String> d1 
+                = new StreamingBoxAndWhiskerXYDataset<>("S");
+        d1.add(new Date(1L), 1.0);
+        d1.add(new Date(2L), 4.0);
+        d1.refresh();
+        StreamingBoxAndWhiskerXYDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(2, d2.getItemCount(0));
+    }
+
+}
@@ -0,0 +1,125 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingHistogramDataset} class.
+ */
+public class StreamingHistogramDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * The dataset shows a snapshot of the histogram that is updated by
+     * {@code refresh()}.
+     */
+    @Test
+    public void testRefresh() {
+        StreamingHistogram h = new StreamingHistogram(
+                new HistogramBinning(0.0, 4.0, 2));
+        StreamingHistogramDataset<String> d 
+                = new StreamingHistogramDataset<>();
+        d.addSeries("S", h);
+        h.add(new double[] {1.0, 3.0, 3.5});
+        assertEquals(0.0, d.getYValue(0, 1));
+        d.refresh();
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(1.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(2.0, d.getEndXValue(0, 0), EPSILON);
+        assertEquals(2.0, d.getYValue(0, 1));
+        d.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(2.0 / 3.0, d.getYValue(0, 1), EPSILON);
+        d.setType(HistogramType.SCALE_AREA_TO_1);
+        assertEquals(1.0 / 6.0, d.getYValue(0, 0), EPSILON);
+    }
+
+    /**
+     * The y-values match those of a {@link HistogramDataset}.
+     */
+    @Test
+    public void testMatchesHistogramDataset() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 6.0, 12.0, 2.0, 7.0};
+        HistogramDataset d1 = new HistogramDataset();
+        d1.setType(HistogramType.SCALE_AREA_TO_1);
+        d1.addSeries("S", values, 5, 0.0, 10.0);
+        StreamingHistogram h = new StreamingHistogram(
+                new HistogramBinning(0.0, 10.0, 5));
+        h.add(values);
+        StreamingHistogramDataset<String> d2 
+                = new StreamingHistogramDataset<>();
+        d2.setType(HistogramType.SCALE_AREA_TO_1);
+        d2.addSeries("S", h);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(d1.getXValue(0, i), d2.getXValue(0, i), EPSILON);
+            assertEquals(d1.getYValue(0, i), d2.getYValue(0, i), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        StreamingHistogramDataset<String> d1 
+                = new StreamingHistogramDataset<>();
+        StreamingHistogramDataset<String> d2 
+                = new StreamingHistogramDataset<>();
+        assertEquals(d1, d2);
+        d1.addSeries("S", new StreamingHistogram(
+                new HistogramBinning(0.0, 1.0, 2)));
+        assertNotEquals(d1, d2);
+        d2.addSeries("S", new StreamingHistogram(
+                new HistogramBinning(0.0, 1.0, 2)));
+        assertEquals(d1, d2);
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertNotEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingHistogram h = new StreamingHistogram(
+                new HistogramBinning(0.0, 1.0, 2));
+        h.add(0.25);
+        StreamingHistogramDataset<String> d1 
+                = new StreamingHistogramDataset<>();
+        d1.addSeries("S", h);
+        StreamingHistogramDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1.0, d2.getYValue(0, 0));
+    }
+
+}
@@ -0,0 +1,185 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingHistogram} class.
+ */
+public class StreamingHistogramTest {
+
+    /**
+     * The counts match those of a {@link HistogramDataset} for the same 
+     * values, whether the values are added singly or in bulk.
+     */
+    @Test
+    public void testMatchesHistogramDataset() {
+        Random random = new Random(1L);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 3.0;
+        }
+        HistogramDataset dataset = new HistogramDataset();
+        dataset.addSeries("S", values, 10, -5.0, 5.0);
+        StreamingHistogram h1 = new StreamingHistogram(
+                new HistogramBinning(-5.0, 5.0, 10));
+        StreamingHistogram h2 = new StreamingHistogram(
+                new HistogramBinning(-5.0, 5.0, 10));
+        for (double v : values) {
+            h1.add(v);
+        }
+        h2.add(values, 0, 500);
+        h2.add(values, 500, 500);
+        long[] counts = h1.getCounts();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(dataset.getYValue(0, i), counts[i]);
+        }
+        assertArrayEquals(counts, h2.getCounts());
+        assertEquals(1000L, h2.getTotalCount());
+        h2.add(Double.NaN);
+        assertEquals(1000L, h2.getTotalCount());
+    }
+
+    /**
+     * Values added by several threads at once are all counted.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        StreamingHistogram h = new StreamingHistogram(
+                new HistogramBinning(0.0, 1.0, 4), true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    double[] batch = new double[100];
+                    for (int i = 0; i < 100; i++) {
+                        for (int j = 0; j < batch.length; j++) {
+                            batch[j] = random.nextDouble() * (i + 1);
+                        }
+                        h.add(batch);
+                        h.add(random.nextDouble() * 50.0);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4 * 100 * 101L, h.getTotalCount());
+        long sum = 0L;
+        for (long c : h.getCounts()) {
+            sum += c;
+        }
+        assertEquals(h.getTotalCount(), sum);
+        assertTrue(h.getBinning().getUpperBound() >= 99.0);
+    }
+
+    /**
+     * An adaptive histogram combines pairs of bins when it extends its range.
+     */
+    @Test
+    public void testAdaptive() {
+        StreamingHistogram h = new StreamingHistogram(
+                new HistogramBinning(0.0, 4.0, 4), true);
+        h.add(new double[] {0.5, 1.5, 2.5, 3.5});
+        h.add(7.0);
+        assertEquals(new HistogramBinning(0.0, 8.0, 4), h.getBinning());
+        assertArrayEquals(new long[] {2, 2, 0, 1}, h.getCounts());
+        h.add(-1.0);
+        assertEquals(new HistogramBinning(-8.0, 8.0, 4), h.getBinning());
+        assertArrayEquals(new long[] {0, 1, 4, 1}, h.getCounts());
+        h.add(Double.POSITIVE_INFINITY);
+        assertEquals(new HistogramBinning(-8.0, 8.0, 4), h.getBinning());
+        assertArrayEquals(new long[] {0, 1, 4, 2}, h.getCounts());
+        assertThrows(IllegalArgumentException.class, 
+                () -> new StreamingHistogram(
+                        new HistogramBinning(0.0, 3.0, 3), true));
+    }
+
+    /**
+     * Partial histograms can be merged.
+     */
+    @Test
+    public void testMerge() {
+        HistogramBinning binning = new HistogramBinning(1.0, 1000.0, 6, true);
+        StreamingHistogram h1 = new StreamingHistogram(binning);
+        StreamingHistogram h2 = new StreamingHistogram(binning);
+        h1.add(new double[] {2.0, 20.0, 200.0});
+        h2.add(new double[] {3.0, 300.0});
+        h1.merge(h2);
+        assertArrayEquals(new long[] {2, 0, 1, 0, 2, 0}, h1.getCounts());
+        assertEquals(5L, h1.getTotalCount());
+        assertEquals(2L, h2.getTotalCount());
+
+        // an adaptive histogram extends its range to cover the other
+        StreamingHistogram h3 = new StreamingHistogram(
+                new HistogramBinning(0.0, 4.0, 4), true);
+        StreamingHistogram h4 = new StreamingHistogram(
+                new HistogramBinning(0.0, 4.0, 4), true);
+        h3.add(1.5);
+        h4.add(new double[] {0.5, 15.0});
+        h3.merge(h4);
+        assertEquals(h4.getBinning(), h3.getBinning());
+        assertArrayEquals(new long[] {2, 0, 0, 1}, h3.getCounts());
+        assertThrows(IllegalArgumentException.class, () -> h3.merge(h3));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingHistogram h1 = new StreamingHistogram(
+                new HistogramBinning(0.0, 10.0, 10), true);
+        h1.add(new double[] {1.0, 2.0, 12.0});
+        StreamingHistogram h2 = TestUtils.serialised(h1);
+        assertEquals(h1, h2);
+        h2.add(3.0);
+        assertEquals(4L, h2.getTotalCount());
+    }
+
+}
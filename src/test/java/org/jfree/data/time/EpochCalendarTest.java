@@ -0,0 +1,213 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link EpochCalendar} class.
+ */
+public class EpochCalendarTest {
+
+    /** Some time zones with unusual daylight saving rules. */
+    private static final String[] ZONES = {"America/New_York", 
+        "Europe/London", "Australia/Lord_Howe", "America/Sao_Paulo", 
+        "Asia/Kolkata", "Pacific/Apia"};
+
+    /** The local time 2011-01-01T00:00. */
+    private static final long START = 1293840000000L;
+
+    /**
+     * Creates a calendar that gives the same results as a 
+     * {@code GregorianCalendar}, but is not supported by 
+     * {@link EpochCalendar}.
+     * 
+     * @param zone  the time zone.
+     * 
+     * @return A calendar.
+     */
+    private static Calendar createReferenceCalendar(TimeZone zone) {
+        return new GregorianCalendar(zone, Locale.UK) {};
+    }
+
+    /**
+     * Check the offsets against the time zone.
+     */
+    @Test
+    public void testGetOffset() {
+        for (String id : ZONES) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            EpochCalendar engine = EpochCalendar.getInstance(zone);
+            assertNotNull(engine, id);
+            for (long t = START; t < START + 800L * 86400000L; 
+                    t += 15L * 60000L) {
+                assertEquals(zone.getOffset(t), engine.getOffset(t), id);
+                assertEquals(t + zone.getOffset(t), engine.toLocalMillis(t));
+            }
+        }
+    }
+
+    /**
+     * Check the conversion of local times (including times in daylight 
+     * saving gaps and overlaps) against a {@code GregorianCalendar}.
+     */
+    @Test
+    public void testToEpochMillis() {
+        for (String id : ZONES) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            EpochCalendar engine = EpochCalendar.getInstance(zone);
+            Calendar calendar = createReferenceCalendar(zone);
+            for (long local = START; local < START + 800L * 86400000L; 
+                    local += 15L * 60000L) {
+                calendar.clear();
+                calendar.set(EpochCalendar.getYear(local), 
+                        EpochCalendar.getMonth(local) - 1, 
+                        EpochCalendar.getDayOfMonth(local), 0, 0, 0);
+                calendar.set(Calendar.MILLISECOND, 
+                        EpochCalendar.getMillisecondOfDay(local));
+                assertEquals(calendar.getTimeInMillis(), 
+                        engine.toEpochMillis(local), id);
+            }
+        }
+    }
+
+    /**
+     * Check the conversion from calendar fields to local time.
+     */
+    @Test
+    public void testToLocalMillis() {
+        assertEquals(0L, EpochCalendar.toLocalMillis(1970, 1, 1, 0, 0, 0, 0));
+        assertEquals(951782400000L, 
+                EpochCalendar.toLocalMillis(2000, 2, 29, 0, 0, 0, 0));
+        // the fields are lenient
+        assertEquals(EpochCalendar.toLocalMillis(2001, 1, 1, 0, 0, 0, 0), 
+                EpochCalendar.toLocalMillis(2000, 13, 1, 0, 0, 0, 0));
+        assertEquals(EpochCalendar.toLocalMillis(2000, 3, 1, 0, 0, 0, 0), 
+                EpochCalendar.toLocalMillis(2000, 2, 30, 0, 0, 0, 0));
+        long local = EpochCalendar.toLocalMillis(1904, 12, 31, 23, 59, 58, 7);
+        assertEquals(1904, EpochCalendar.getYear(local));
+        assertEquals(12, EpochCalendar.getMonth(local));
+        assertEquals(31, EpochCalendar.getDayOfMonth(local));
+        assertEquals(86398007, EpochCalendar.getMillisecondOfDay(local));
+    }
+
+    /**
+     * Time zones, locales and calendars that the engine cannot reproduce.
+     */
+    @Test
+    public void testUnsupported() {
+        TimeZone custom = new SimpleTimeZone(0, "Europe/London", 
+                Calendar.JANUARY, 1, 0, 0, Calendar.FEBRUARY, 1, 0, 0);
+        assertNull(EpochCalendar.getInstance(custom));
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        assertNotNull(EpochCalendar.getInstance(utc, Locale.UK));
+        assertNull(EpochCalendar.getInstance(utc, new Locale("th", "TH")));
+        assertNull(EpochCalendar.getInstance(createReferenceCalendar(utc)));
+        Calendar strict = new GregorianCalendar(utc);
+        strict.setLenient(false);
+        assertNull(EpochCalendar.getInstance(strict));
+        EpochCalendar engine = EpochCalendar.getInstance(utc);
+        assertFalse(engine.isSupportedLocalTime(
+                EpochCalendar.toLocalMillis(1899, 12, 31, 0, 0, 0, 0)));
+        assertFalse(engine.isSupportedLocalTime(
+                EpochCalendar.toLocalMillis(2100, 1, 1, 0, 0, 0, 0)));
+    }
+
+    /**
+     * Around the lower bound of the supported local times, the periods give
+     * the same results as a {@code GregorianCalendar} in every zone 
+     * (including those that were using local mean time in 1900, where 
+     * {@code TimeZone} differs from the zone rules).
+     */
+    @Test
+    public void testLowerBound() {
+        EpochCalendar utc = EpochCalendar.getInstance(
+                TimeZone.getTimeZone("UTC"));
+        assertFalse(utc.isSupportedLocalTime(
+                EpochCalendar.toLocalMillis(1900, 12, 31, 23, 59, 59, 999)));
+        assertTrue(utc.isSupportedLocalTime(
+                EpochCalendar.toLocalMillis(1901, 1, 1, 0, 0, 0, 0)));
+        for (String id : TimeZone.getAvailableIDs()) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            Calendar calendar = Calendar.getInstance(zone, Locale.UK);
+            Calendar reference = createReferenceCalendar(zone);
+            RegularTimePeriod[] periods = {new Month(1, 1900), 
+                new Day(31, 12, 1900), new Day(1, 1, 1901), 
+                new Month(1, 1901), new Hour(0, 2, 1, 1901)};
+            for (RegularTimePeriod period : periods) {
+                assertEquals(period.getFirstMillisecond(reference), 
+                        period.getFirstMillisecond(calendar), id);
+                assertEquals(period.getLastMillisecond(reference), 
+                        period.getLastMillisecond(calendar), id);
+            }
+        }
+    }
+
+    /**
+     * The time periods should give the same results with and without the
+     * engine.
+     */
+    @Test
+    public void testTimePeriods() {
+        TimeZone zone = TimeZone.getTimeZone("Australia/Lord_Howe");
+        Calendar calendar = Calendar.getInstance(zone, Locale.UK);
+        Calendar reference = createReferenceCalendar(zone);
+        RegularTimePeriod[] periods = {new Year(2019), new Quarter(4, 2019),
+            new Month(10, 2019), new Day(6, 10, 2019), 
+            new Hour(2, 6, 10, 2019), new Minute(30, 2, 6, 10, 2019),
+            new Second(59, 59, 1, 7, 4, 2019), 
+            new Millisecond(500, 30, 45, 1, 7, 4, 2019)};
+        for (RegularTimePeriod period : periods) {
+            assertEquals(period.getFirstMillisecond(reference), 
+                    period.getFirstMillisecond(calendar));
+            assertEquals(period.getLastMillisecond(reference), 
+                    period.getLastMillisecond(calendar));
+        }
+        // the fast path in the constructors
+        long t = new Minute(30, 2, 6, 10, 2019).getFirstMillisecond(calendar);
+        for (long m = t - 3600000L; m < t + 3600000L; m += 60000L) {
+            Minute minute = new Minute(new Date(m), zone, Locale.UK);
+            assertEquals(new Minute(new Date(m), reference), minute);
+            minute.peg(reference);
+            assertEquals(minute.getFirstMillisecond(reference), 
+                    new Minute(new Date(m), zone, Locale.UK)
+                    .getFirstMillisecond());
+        }
+    }
+
+}
@@ -0,0 +1,291 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MovingStatisticTimeSeries} class.
+ */
+public class MovingStatisticTimeSeriesTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Calculates a statistic for one item by examining the whole window.
+     *
+     * @param source  the source.
+     * @param index  the item index.
+     * @param statistic  the statistic.
+     * @param periodCount  the window length.
+     *
+     * @return The statistic (NaN if there are no values).
+     */
+    private static double bruteForce(TimeSeries<?> source, int index,
+            MovingStatistic statistic, int periodCount) {
+        long serial = source.getTimePeriod(index).getSerialIndex();
+        List<Double> values = new ArrayList<>();
+        for (int i = index; i >= 0; i--) {
+            if (source.getTimePeriod(i).getSerialIndex() 
+                    <= serial - periodCount) {
+                break;
+            }
+            Number v = source.getValue(i);
+            if (v != null) {
+                values.add(v.doubleValue());
+            }
+        }
+        if (values.isEmpty()) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double v : values) {
+            sum += v;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        double mean = sum / values.size();
+        switch (statistic) {
+            case MEAN:
+                return mean;
+            case MINIMUM:
+                return min;
+            case MAXIMUM:
+                return max;
+            case STANDARD_DEVIATION:
+                if (values.size() < 2) {
+                    return Double.NaN;
+                }
+                double ss = 0.0;
+                for (double v : values) {
+                    ss += (v - mean) * (v - mean);
+                }
+                return Math.sqrt(ss / (values.size() - 1));
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks every item in a derived series against a full calculation.
+     * If items have been removed from the start of the source, the items 
+     * whose window included the removed items are not checked (they were 
+     * calculated before the items were removed).
+     *
+     * @param derived  the derived series.
+     * @param trimmed  have items been removed from the start of the source?
+     */
+    private static void check(MovingStatisticTimeSeries<String> derived,
+            boolean trimmed) {
+        TimeSeries<?> source = derived.getSource();
+        assertEquals(source.getItemCount(), derived.getItemCount());
+        for (int i = 0; i < source.getItemCount(); i++) {
+            assertEquals(source.getTimePeriod(i), derived.getTimePeriod(i));
+            if (trimmed && i < derived.getPeriodCount() - 1) {
+                continue;
+            }
+            double expected = bruteForce(source, i, derived.getStatistic(),
+                    derived.getPeriodCount());
+            Number actual = derived.getValue(i);
+            if (Double.isNaN(expected)) {
+                assertNull(actual);
+            } else {
+                assertEquals(expected, actual.doubleValue(), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * The moving average matches {@code MovingAverage.createMovingAverage()},
+     * including gaps and missing values.
+     */
+    @Test
+    public void testMatchesMovingAverage() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        Day day = new Day(1, 1, 2024);
+        Random random = new Random(5L);
+        for (int i = 0; i < 200; i++) {
+            source.add(day, i % 13 == 0 ? null : random.nextDouble());
+            day = (Day) day.next();
+            if (i % 17 == 0) {
+                day = (Day) day.next().next();
+            }
+        }
+        MovingStatisticTimeSeries<String> derived 
+                = new MovingStatisticTimeSeries<>(source, "MA", 
+                MovingStatistic.MEAN, 7);
+        TimeSeries<String> copy = MovingAverage.createMovingAverage(source,
+                "MA", 7, 0);
+        assertEquals(copy.getItemCount(), derived.getItemCount());
+        for (int i = 0; i < copy.getItemCount(); i++) {
+            Number expected = copy.getValue(i);
+            Number actual = derived.getValue(i);
+            if (expected == null) {
+                assertNull(actual);
+            } else {
+                assertEquals(expected.doubleValue(), actual.doubleValue(), 
+                        EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Each statistic is kept up to date as the source changes: appends, 
+     * updates to the last item, removal of old items and other changes.
+     */
+    @Test
+    public void testLiveUpdates() {
+        for (MovingStatistic statistic : new MovingStatistic[] {
+                MovingStatistic.MEAN, MovingStatistic.MINIMUM, 
+                MovingStatistic.MAXIMUM, MovingStatistic.STANDARD_DEVIATION}) {
+            TimeSeries<String> source = new TimeSeries<>("S");
+            source.setMaximumItemCount(50);
+            MovingStatisticTimeSeries<String> derived 
+                    = new MovingStatisticTimeSeries<>(source, "D", statistic,
+                    10);
+            Random random = new Random(11L);
+            Minute minute = new Minute(0, 9, 1, 3, 2024);
+            for (int i = 0; i < 120; i++) {
+                source.add(minute, random.nextInt(100));
+                if (i % 3 == 0) {
+                    source.addOrUpdate(minute, random.nextInt(100));
+                }
+                if (i % 7 == 0) {
+                    source.update(minute, null);
+                }
+                minute = (Minute) minute.next();
+                check(derived, i >= 50);
+            }
+            source.delete(10, 12);
+            check(derived, false);
+            source.clear();
+            assertEquals(0, derived.getItemCount());
+        }
+    }
+
+    /**
+     * A change to an item inside the window (other than the last item) 
+     * causes the series to be recalculated, and later appends use the 
+     * new value.
+     */
+    @Test
+    public void testInteriorUpdate() {
+        for (MovingStatistic statistic : new MovingStatistic[] {
+                MovingStatistic.MEAN, MovingStatistic.MINIMUM, 
+                MovingStatistic.MAXIMUM, MovingStatistic.STANDARD_DEVIATION}) {
+            TimeSeries<String> source = new TimeSeries<>("S");
+            Day day = new Day(1, 1, 2024);
+            for (int i = 0; i < 10; i++) {
+                source.add(day, 10.0);
+                day = (Day) day.next();
+            }
+            MovingStatisticTimeSeries<String> derived 
+                    = new MovingStatisticTimeSeries<>(source, "D", statistic,
+                    5);
+            source.update(8, 100.0);
+            check(derived, false);
+            for (int i = 0; i < 10; i++) {
+                source.add(day, 10.0);
+                day = (Day) day.next();
+                check(derived, false);
+            }
+        }
+    }
+
+    /**
+     * The standard deviation of values with a large offset is accurate over
+     * a long stream.
+     */
+    @Test
+    public void testStandardDeviationAccuracy() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        MovingStatisticTimeSeries<String> derived 
+                = new MovingStatisticTimeSeries<>(source, "SD", 
+                MovingStatistic.STANDARD_DEVIATION, 4);
+        Second second = new Second(0, 0, 0, 1, 1, 2024);
+        for (int i = 0; i < 100000; i++) {
+            source.add(second, 1.0e9 + (i % 2 == 0 ? 1.0 : -1.0), false);
+            second = (Second) second.next();
+        }
+        source.fireSeriesChanged();
+        // the window holds two values of each sign
+        double expected = Math.sqrt(4.0 / 3.0);
+        assertEquals(expected, derived.getValue(
+                source.getItemCount() - 1).doubleValue(), 1e-6);
+    }
+
+    /**
+     * The exponential mean starts at the first value and moves towards 
+     * later values, with a weight that depends on the gap between items.
+     */
+    @Test
+    public void testExponentialMean() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        MovingStatisticTimeSeries<String> derived 
+                = new MovingStatisticTimeSeries<>(source, "EMA", 
+                MovingStatistic.EXPONENTIAL_MEAN, 2);
+        source.add(new Day(1, 1, 2024), 10.0);
+        assertEquals(10.0, derived.getValue(0));
+        source.add(new Day(3, 1, 2024), 20.0);
+        double w = 1.0 - Math.exp(-1.0);
+        assertEquals(10.0 + w * 10.0, derived.getValue(1).doubleValue(), 
+                EPSILON);
+        source.update(1, 0.0);
+        assertEquals(10.0 - w * 10.0, derived.getValue(1).doubleValue(), 
+                EPSILON);
+    }
+
+    /**
+     * A deserialized series is registered with the (deserialized) source.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.add(new Year(2020), 1.0);
+        source.add(new Year(2021), 3.0);
+        MovingStatisticTimeSeries<String> d1 = new MovingStatisticTimeSeries<>(
+                source, "D", MovingStatistic.MEAN, 2);
+        MovingStatisticTimeSeries<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        @SuppressWarnings("unchecked")
+        TimeSeries<String> source2 = (TimeSeries<String>) d2.getSource();
+        source2.add(new Year(2022), 5.0);
+        assertEquals(4.0, d2.getValue(2));
+    }
+
+}
@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Random;
+
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MovingStatisticXYSeries} class.
+ */
+public class MovingStatisticXYSeriesTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Checks that a derived series matches 
+     * {@code MovingAverage.createMovingAverage()}.  If items have been 
+     * removed from the start of the source, the items whose window included
+     * the removed items are not checked.
+     *
+     * @param derived  the derived series.
+     * @param trimmed  have items been removed from the start of the source?
+     */
+    private static void check(MovingStatisticXYSeries<String> derived,
+            boolean trimmed) {
+        XYDataset<?> source = derived.getSource();
+        XYSeries<?> copy = MovingAverage.createMovingAverage(source, 
+                derived.getSourceSeries(), "Copy", derived.getPeriod(), 0.0);
+        assertEquals(copy.getItemCount(), derived.getItemCount());
+        double first = source.getXValue(derived.getSourceSeries(), 0);
+        for (int i = 0; i < copy.getItemCount(); i++) {
+            assertEquals(copy.getX(i), derived.getX(i));
+            if (trimmed && copy.getX(i).doubleValue() - derived.getPeriod() 
+                    < first) {
+                continue;
+            }
+            Number expected = copy.getY(i);
+            Number actual = derived.getY(i);
+            if (expected == null) {
+                assertNull(actual);
+            } else {
+                assertEquals(expected.doubleValue(), actual.doubleValue(), 
+                        EPSILON);
+            }
+        }
+    }
+
+    /**
+     * The moving average is kept up to date as items are added to and 
+     * removed from the source series.
+     */
+    @Test
+    public void testLiveMovingAverage() {
+        XYSeries<String> series = new XYSeries<>("S");
+        series.setMaximumItemCount(40);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(series);
+        MovingStatisticXYSeries<String> derived 
+                = new MovingStatisticXYSeries<>(source, 0, "MA", 
+                MovingStatistic.MEAN, 5.5);
+        Random random = new Random(3L);
+        double x = 0.0;
+        for (int i = 0; i < 100; i++) {
+            x += random.nextDouble() * 2.0;
+            series.add(x, i % 9 == 0 ? null : random.nextGaussian());
+            if (i % 4 == 0) {
+                series.updateByIndex(series.getItemCount() - 1, 
+                        random.nextGaussian());
+            }
+            check(derived, i >= 40);
+        }
+        series.remove(series.getItemCount() - 1);
+        check(derived, false);
+    }
+
+    /**
+     * A change to an item inside the window (other than the last item) is
+     * picked up.
+     */
+    @Test
+    public void testInteriorUpdate() {
+        XYSeries<String> series = new XYSeries<>("S");
+        for (int i = 0; i < 10; i++) {
+            series.add(i, 10.0);
+        }
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(series);
+        MovingStatisticXYSeries<String> derived 
+                = new MovingStatisticXYSeries<>(source, 0, "MA", 
+                MovingStatistic.MEAN, 5.0);
+        series.updateByIndex(8, 100.0);
+        check(derived, false);
+        for (int i = 10; i < 20; i++) {
+            series.add(i, 10.0);
+            check(derived, false);
+        }
+    }
+
+    /**
+     * The rolling maximum uses the same window as the moving average.
+     */
+    @Test
+    public void testMaximum() {
+        XYSeries<String> series = new XYSeries<>("S");
+        series.add(1.0, 5.0);
+        series.add(2.0, 3.0);
+        series.add(3.0, 4.0);
+        series.add(4.0, 1.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(series);
+        MovingStatisticXYSeries<String> derived 
+                = new MovingStatisticXYSeries<>(source, 0, "Max", 
+                MovingStatistic.MAXIMUM, 2.0);
+        assertEquals(5.0, derived.getY(0));
+        assertEquals(5.0, derived.getY(1));
+        assertEquals(4.0, derived.getY(2));
+        assertEquals(4.0, derived.getY(3));
+        series.add(5.0, 0.5);
+        assertEquals(1.0, derived.getY(4));
+        series.updateByIndex(4, 7.0);
+        assertEquals(7.0, derived.getY(4));
+        series.updateByIndex(4, 0.0);
+        assertEquals(1.0, derived.getY(4));
+    }
+
+}
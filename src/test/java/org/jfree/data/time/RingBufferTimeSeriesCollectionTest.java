@@ -0,0 +1,96 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.data.DatasetChangeConfirmation;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RingBufferTimeSeriesCollection} class.
+ */
+public class RingBufferTimeSeriesCollectionTest {
+
+    /**
+     * The dataset presents the items captured at the last refresh.
+     */
+    @Test
+    public void testRefresh() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 4);
+        s.add(1L, 10.0);
+        s.add(2L, 20.0);
+        RingBufferTimeSeriesCollection<String> d
+                = new RingBufferTimeSeriesCollection<>(s);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S", d.getSeriesKey(0));
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(2.0, d.getXValue(0, 1));
+        assertEquals(20.0, d.getY(0, 1));
+
+        // the window does not change until the series fires an event
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        d.addChangeListener(listener);
+        s.add(3L, 30.0);
+        assertEquals(2, d.getItemCount(0));
+        assertNull(listener.event);
+        s.fireSeriesChanged();
+        assertNotNull(listener.event);
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(new Range(1.0, 3.0), d.getDomainBounds(false));
+
+        // items evicted after the refresh read as NaN
+        s.add(4L, 40.0);
+        s.add(5L, 50.0);
+        assertEquals(3, d.getItemCount(0));
+        assertTrue(Double.isNaN(d.getXValue(0, 0)));
+        assertNull(d.getY(0, 0));
+        assertEquals(20.0, d.getYValue(0, 1));
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        RingBufferTimeSeriesCollection<String> d1
+                = new RingBufferTimeSeriesCollection<>();
+        RingBufferTimeSeriesCollection<String> d2
+                = new RingBufferTimeSeriesCollection<>();
+        assertEquals(d1, d2);
+        d1.addSeries(new RingBufferTimeSeries<>("S", 4));
+        assertNotEquals(d1, d2);
+        d2.addSeries(new RingBufferTimeSeries<>("S", 4));
+        assertEquals(d1, d2);
+    }
+
+}
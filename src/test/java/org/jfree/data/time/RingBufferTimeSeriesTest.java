@@ -0,0 +1,166 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RingBufferTimeSeries} class.
+ */
+public class RingBufferTimeSeriesTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 10);
+        RingBufferTimeSeries<String> s2 = new RingBufferTimeSeries<>("S", 10);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.add(1L, 2.0);
+        assertNotEquals(s1, s2);
+        s2.add(1L, 2.0);
+        assertEquals(s1, s2);
+        s1.setMaximumItemAge(100L);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemAge(100L);
+        assertEquals(s1, s2);
+        assertNotEquals(s1, new RingBufferTimeSeries<>("S", 11));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 10);
+        s1.add(1L, 2.0);
+        @SuppressWarnings("unchecked")
+        RingBufferTimeSeries<String> s2 = (RingBufferTimeSeries) s1.clone();
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s1.add(2L, 3.0);
+        assertNotEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 10);
+        s1.add(1L, 2.0);
+        s1.add(5L, Double.NaN);
+        RingBufferTimeSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * When the series is full, adding an item evicts the oldest item.
+     */
+    @Test
+    public void testEvictionByCount() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 3);
+        for (int i = 0; i < 5; i++) {
+            s.add(i * 10L, i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(2L, s.getFirstSequence());
+        assertEquals(5L, s.getEndSequence());
+        assertEquals(20.0, s.getXValue(2L));
+        assertEquals(4.0, s.getYValue(4L));
+        assertTrue(Double.isNaN(s.getYValue(1L)));
+        assertThrows(IndexOutOfBoundsException.class, () -> s.getYValue(5L));
+        s.clear();
+        assertEquals(0, s.getItemCount());
+    }
+
+    /**
+     * Items older than the maximum age are evicted when an item is added.
+     */
+    @Test
+    public void testEvictionByAge() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 100);
+        s.setMaximumItemAge(25L);
+        for (int i = 0; i < 10; i++) {
+            s.add(i * 10L, i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(70.0, s.getXValue(s.getFirstSequence()));
+    }
+
+    /**
+     * Timestamps must be added in order.
+     */
+    @Test
+    public void testAddOutOfOrder() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 10);
+        s.add(10L, 1.0);
+        s.add(10L, 2.0);
+        assertThrows(SeriesException.class, () -> s.add(9L, 3.0));
+    }
+
+    /**
+     * A reader never sees an item value that does not belong to the
+     * sequence number it asked for, while a writer thread adds items.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentReader() throws InterruptedException {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 64);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1000000; i++) {
+                s.add(i, i);
+            }
+        });
+        writer.start();
+        boolean ok = true;
+        while (writer.isAlive()) {
+            long end = s.getEndSequence();
+            for (long seq = Math.max(0, end - 64); seq < end; seq++) {
+                double y = s.getYValue(seq);
+                if (!Double.isNaN(y) && y != seq) {
+                    ok = false;
+                }
+            }
+        }
+        writer.join();
+        assertTrue(ok);
+        assertEquals(64, s.getItemCount());
+    }
+
+}
@@ -1111,6 +1111,37 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
     
+    /**
+     * Check that findValueRange() reflects changes made after it was first
+     * called (the y-values are indexed incrementally).
+     */
+    @Test
+    public void testFindValueRangeAfterUpdates() {
+        TimeZone tzone = TimeZone.getTimeZone("UTC");
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        ts.setMaximumItemCount(50);
+        Day day = new Day(1, 1, 2020);
+        for (int i = 0; i < 100; i++) {
+            ts.add(day, i);
+            day = (Day) day.next();
+        }
+        Range all = new Range(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(new Range(50.0, 99.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.add(day, -1.0);
+        assertEquals(new Range(-1.0, 99.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.update(0, 500.0);
+        assertEquals(new Range(-1.0, 500.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.delete(0, 0);
+        assertEquals(new Range(-1.0, 99.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.addOrUpdate(new Day(1, 1, 2020), 1000.0);
+        assertEquals(new Range(-1.0, 1000.0), ts.findValueRange(all,
+                TimePeriodAnchor.MIDDLE, tzone));
+    }
+
     /**
      * Test findValueRange() method when there are Double.NaN values present.
      */
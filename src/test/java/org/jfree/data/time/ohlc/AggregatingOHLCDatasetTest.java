@@ -0,0 +1,226 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.time.Hour;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.Second;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link AggregatingOHLCDataset} class.
+ */
+public class AggregatingOHLCDatasetTest implements DatasetChangeListener {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Receives a dataset change event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    private static AggregatingOHLCDataset createDataset(int maximumBarCount) {
+        return new AggregatingOHLCDataset("S", maximumBarCount, UTC, 
+                Locale.UK, Second.class, Minute.class, Hour.class);
+    }
+
+    /**
+     * Ticks update the current bar and roll to a new bar for each period,
+     * and the dataset shows a snapshot taken by {@code refresh()}.
+     */
+    @Test
+    public void testTicks() {
+        AggregatingOHLCDataset d = createDataset(100);
+        d.addChangeListener(this);
+        d.addTick(1000L, 10.0, 1.0);
+        d.addTick(1200L, 12.0, 2.0);
+        d.addTick(1900L, 9.0, 1.0);
+        d.addTick(1999L, 11.0, 1.0);
+        d.addTick(3500L, 11.5, 4.0);
+        d.addTick(3600L, Double.NaN, 4.0);
+        assertEquals(0, d.getItemCount(0));
+        assertEquals(0, this.eventCount);
+        d.refresh();
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(10.0, d.getOpenValue(0, 0));
+        assertEquals(12.0, d.getHighValue(0, 0));
+        assertEquals(9.0, d.getLowValue(0, 0));
+        assertEquals(11.0, d.getCloseValue(0, 0));
+        assertEquals(5.0, d.getVolumeValue(0, 0));
+        assertEquals(11.0, d.getY(0, 0));
+        assertEquals(11.5, d.getOpen(0, 1));
+        assertEquals(new Second(3, 0, 0, 1, 1, 1970), d.getPeriod(0, 1));
+        assertEquals(1499.0, d.getXValue(0, 0));
+        d.setXPosition(TimePeriodAnchor.START);
+        assertEquals(3000.0, d.getXValue(0, 1));
+        d.setXPosition(TimePeriodAnchor.END);
+        assertEquals(3999L, d.getX(0, 1));
+
+        d.setResolution(1);
+        assertEquals(1, d.getItemCount(0));
+        assertEquals(10.0, d.getOpenValue(0, 0));
+        assertEquals(12.0, d.getHighValue(0, 0));
+        assertEquals(11.5, d.getCloseValue(0, 0));
+        assertEquals(9.0, d.getVolumeValue(0, 0));
+        assertEquals(Minute.class, d.getPeriodClass(1));
+    }
+
+    /**
+     * A late tick updates the high, low and volume of the bar for its 
+     * period (if there is one).
+     */
+    @Test
+    public void testLateTick() {
+        AggregatingOHLCDataset d = createDataset(100);
+        d.addTick(1000L, 10.0, 1.0);
+        d.addTick(3000L, 11.0, 1.0);
+        d.addTick(1500L, 13.0, 2.0);
+        d.addTick(2500L, 14.0, 2.0);
+        d.refresh();
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(13.0, d.getHighValue(0, 0));
+        assertEquals(10.0, d.getCloseValue(0, 0));
+        assertEquals(3.0, d.getVolumeValue(0, 0));
+        assertEquals(11.0, d.getHighValue(0, 1));
+    }
+
+    /**
+     * The oldest bars are dropped when the maximum bar count is reached.
+     */
+    @Test
+    public void testMaximumBarCount() {
+        AggregatingOHLCDataset d = createDataset(20);
+        for (int i = 0; i < 1000; i++) {
+            d.addTick(i * 500L, i, 1.0);
+        }
+        d.refresh();
+        assertEquals(20, d.getItemCount(0));
+        assertEquals(960.0, d.getOpenValue(0, 0));
+        assertEquals(999.0, d.getCloseValue(0, 19));
+        assertEquals(499499.0, d.getXValue(0, 19));
+        d.setResolution(1);
+        assertEquals(9, d.getItemCount(0));
+        assertEquals(120.0, d.getVolumeValue(0, 0));
+    }
+
+    /**
+     * The resolution is chosen to suit the visible time span.
+     */
+    @Test
+    public void testSelectResolution() {
+        AggregatingOHLCDataset d = createDataset(100);
+        d.addChangeListener(this);
+        assertEquals(0, d.selectResolution(60000.0, 100));
+        assertEquals(0, this.eventCount);
+        assertEquals(1, d.selectResolution(3600000.0, 100));
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.selectResolution(86400000.0, 100));
+        assertEquals(2, d.selectResolution(1.0E12, 100));
+        assertEquals(2, d.getResolution());
+        assertThrows(IllegalArgumentException.class, 
+                () -> new AggregatingOHLCDataset("S", 10, Hour.class, 
+                Minute.class));
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        AggregatingOHLCDataset d1 = createDataset(100);
+        AggregatingOHLCDataset d2 = createDataset(100);
+        assertEquals(d1, d2);
+        d1.addTick(1000L, 1.0, 1.0);
+        assertNotEquals(d1, d2);
+        d2.addTick(1000L, 1.0, 1.0);
+        assertEquals(d1, d2);
+        d1.refresh();
+        assertNotEquals(d1, d2);
+        d2.refresh();
+        assertEquals(d1, d2);
+        d1.setXPosition(TimePeriodAnchor.START);
+        assertNotEquals(d1, d2);
+        d2.setXPosition(TimePeriodAnchor.START);
+        assertEquals(d1, d2);
+        assertNotEquals(d1, createDataset(99));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        AggregatingOHLCDataset d1 = createDataset(100);
+        d1.addTick(1000L, 1.0, 1.0);
+        d1.refresh();
+        AggregatingOHLCDataset d2 = (AggregatingOHLCDataset) d1.clone();
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d1.addTick(2000L, 1.0, 1.0);
+        assertNotEquals(d1, d2);
+        d2.addTick(2000L, 1.0, 1.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        AggregatingOHLCDataset d1 = createDataset(100);
+        d1.addTick(1000L, 1.0, 1.0);
+        d1.refresh();
+        AggregatingOHLCDataset d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        d2.addTick(2000L, 2.0, 1.0);
+        d2.refresh();
+        assertEquals(2, d2.getItemCount(0));
+    }
+
+}
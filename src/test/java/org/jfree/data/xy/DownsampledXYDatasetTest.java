@@ -0,0 +1,206 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.DatasetChangeConfirmation;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DownsampledXYDataset} class.
+ */
+public class DownsampledXYDatasetTest {
+
+    private static XYArraySeriesCollection<String> createSource(int count) {
+        XYArraySeries<String> s = new XYArraySeries<>("S1");
+        for (int i = 0; i < count; i++) {
+            s.add(i, Math.sin(i / 10.0) * 100.0 + (i % 7));
+        }
+        return new XYArraySeriesCollection<>(s);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYArraySeriesCollection<String> source = createSource(10);
+        DownsampledXYDataset<String> d1 = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.LTTB);
+        DownsampledXYDataset<String> d2 = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.LTTB);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.setItemsPerPixel(3.0);
+        assertNotEquals(d1, d2);
+        d2.setItemsPerPixel(3.0);
+        assertEquals(d1, d2);
+        assertNotEquals(d1, new DownsampledXYDataset<>(source,
+                DownsamplingMethod.M4));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DownsampledXYDataset<String> d1 = new DownsampledXYDataset<>(
+                createSource(10), DownsamplingMethod.M4);
+        DownsampledXYDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Small series are passed through unchanged.
+     */
+    @Test
+    public void testSmallSeries() {
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(
+                createSource(10), DownsamplingMethod.LTTB);
+        assertEquals(10, d.getItemCount(0));
+        assertEquals(4.0, d.getXValue(0, 4));
+        assertEquals("S1", d.getSeriesKey(0));
+    }
+
+    /**
+     * The LTTB view keeps the first and last items, selects the requested
+     * number of items in ascending order, and keeps the extreme values.
+     */
+    @Test
+    public void testLTTB() {
+        XYArraySeriesCollection<String> source = new XYArraySeriesCollection<>();
+        XYArraySeries<String> s = new XYArraySeries<>("S1");
+        for (int i = 0; i < 10000; i++) {
+            s.add(i, i == 5000 ? 1000.0 : 0.0);
+        }
+        source.addSeries(s);
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.LTTB);
+        d.setViewport(new Range(0.0, 9999.0), 50);
+        assertEquals(100, d.getItemCount(0));
+        assertEquals(0.0, d.getXValue(0, 0));
+        assertEquals(9999.0, d.getXValue(0, 99));
+        boolean foundSpike = false;
+        for (int i = 1; i < d.getItemCount(0); i++) {
+            assertTrue(d.getXValue(0, i) > d.getXValue(0, i - 1));
+            if (d.getYValue(0, i) == 1000.0) {
+                foundSpike = true;
+            }
+        }
+        assertTrue(foundSpike);
+    }
+
+    /**
+     * The M4 view includes the minimum and maximum in each pixel column.
+     */
+    @Test
+    public void testM4() {
+        XYArraySeriesCollection<String> source = createSource(100000);
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.M4);
+        d.setViewport(new Range(0.0, 99999.0), 100);
+        int count = d.getItemCount(0);
+        assertTrue(count <= 402);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                assertTrue(d.getXValue(0, i) > d.getXValue(0, i - 1));
+            }
+            min = Math.min(min, d.getYValue(0, i));
+            max = Math.max(max, d.getYValue(0, i));
+        }
+        assertEquals(source.getRangeLowerBound(false), min);
+        assertEquals(source.getRangeUpperBound(false), max);
+    }
+
+    /**
+     * The M4 view picks up a change to a value inside the source series.
+     */
+    @Test
+    public void testM4SourceUpdate() {
+        XYArraySeriesCollection<String> source = createSource(100000);
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.M4);
+        d.setViewport(new Range(0.0, 99999.0), 100);
+        assertTrue(d.getItemCount(0) <= 402);
+        source.getSeries(0).updateByIndex(54321, 1000.0);
+        boolean found = false;
+        for (int i = 0; i < d.getItemCount(0); i++) {
+            if (d.getXValue(0, i) == 54321.0) {
+                assertEquals(1000.0, d.getYValue(0, i));
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
+    /**
+     * The view is limited to the visible range (plus one item either side).
+     */
+    @Test
+    public void testViewport() {
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(
+                createSource(10000), DownsamplingMethod.LTTB);
+        d.setViewport(new Range(100.0, 200.0), 1000);
+        assertEquals(103, d.getItemCount(0));
+        assertEquals(99.0, d.getXValue(0, 0));
+        assertEquals(201.0, d.getXValue(0, 102));
+
+        // the bounds are those of the complete source
+        assertEquals(new Range(0.0, 9999.0), d.getDomainBounds(false));
+    }
+
+    /**
+     * A change to the source is passed on to the listeners and the view is
+     * recalculated.
+     */
+    @Test
+    public void testSourceChange() {
+        XYArraySeriesCollection<String> source = createSource(10);
+        DownsampledXYDataset<String> d = new DownsampledXYDataset<>(source,
+                DownsamplingMethod.LTTB);
+        assertEquals(10, d.getItemCount(0));
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        d.addChangeListener(listener);
+        source.getSeries(0).add(10.0, 1.0);
+        assertNotNull(listener.event);
+        assertEquals(11, d.getItemCount(0));
+
+        // a viewport change does not send an event
+        listener.event = null;
+        d.setViewport(new Range(0.0, 5.0), 100);
+        assertNull(listener.event);
+        assertEquals(7, d.getItemCount(0));
+    }
+
+}
@@ -0,0 +1,174 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.data.DatasetChangeConfirmation;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYArraySeriesCollection} class.
+ */
+public class XYArraySeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    private static XYArraySeries<String> createSeries(String key, int count) {
+        XYArraySeries<String> s = new XYArraySeries<>(key);
+        for (int i = 0; i < count; i++) {
+            s.add(i, i * 2.0);
+        }
+        return s;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYArraySeriesCollection<String> c1 = new XYArraySeriesCollection<>(
+                createSeries("S1", 3));
+        XYArraySeriesCollection<String> c2 = new XYArraySeriesCollection<>(
+                createSeries("S1", 3));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        c1.addSeries(new XYArraySeries<>("S2"));
+        assertNotEquals(c1, c2);
+        c2.addSeries(new XYArraySeries<>("S2"));
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYArraySeriesCollection<String> c1 = new XYArraySeriesCollection<>(
+                createSeries("S1", 3));
+        XYArraySeriesCollection<String> c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.getSeries(0).add(10.0, 10.0);
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        XYArraySeriesCollection<String> c1 = new XYArraySeriesCollection<>(
+                createSeries("S1", 3));
+        XYArraySeriesCollection<String> c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Check the data access methods.
+     */
+    @Test
+    public void testValues() {
+        XYArraySeries<String> s = new XYArraySeries<>("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, Double.NaN);
+        XYArraySeriesCollection<String> c = new XYArraySeriesCollection<>(s);
+        assertEquals(1, c.getSeriesCount());
+        assertEquals("S1", c.getSeriesKey(0));
+        assertEquals(2, c.getItemCount(0));
+        assertEquals(1.0, c.getXValue(0, 0), EPSILON);
+        assertEquals(2.0, c.getY(0, 0).doubleValue(), EPSILON);
+        assertNull(c.getY(0, 1));
+        assertTrue(Double.isNaN(c.getYValue(0, 1)));
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        assertSame(s, c.getSeries("S1"));
+        assertThrows(UnknownKeyException.class, () -> c.getSeries("XX"));
+    }
+
+    /**
+     * Check that the bounds are reported correctly.
+     */
+    @Test
+    public void testBounds() {
+        XYArraySeriesCollection<String> c = new XYArraySeriesCollection<>();
+        assertNull(c.getDomainBounds(false));
+        assertNull(c.getRangeBounds(false));
+        c.addSeries(createSeries("S1", 5));
+        XYArraySeries<String> s2 = new XYArraySeries<>("S2");
+        s2.add(-1.0, -5.0);
+        c.addSeries(s2);
+        assertEquals(new Range(-1.0, 4.0), c.getDomainBounds(false));
+        assertEquals(new Range(-5.0, 8.0), c.getRangeBounds(false));
+        assertEquals(new Range(-5.0, 8.0), DatasetUtils.findRangeBounds(c));
+    }
+
+    /**
+     * The dataset reports ascending order, so the renderer utility methods
+     * use a binary search to find the visible items.
+     */
+    @Test
+    public void testFindLiveItems() {
+        XYArraySeriesCollection<String> c = new XYArraySeriesCollection<>(
+                createSeries("S1", 100));
+        int[] bounds = RendererUtils.findLiveItems(c, 0, 10.5, 20.5);
+        assertEquals(11, bounds[0]);
+        assertEquals(20, bounds[1]);
+    }
+
+    /**
+     * A change to a series in the collection triggers a change event.
+     */
+    @Test
+    public void testSeriesChangeEvent() {
+        XYArraySeries<String> s = createSeries("S1", 3);
+        XYArraySeriesCollection<String> c = new XYArraySeriesCollection<>(s);
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        c.addChangeListener(listener);
+        s.add(5.0, 5.0);
+        assertNotNull(listener.event);
+        listener.event = null;
+        c.removeSeries(s);
+        assertNotNull(listener.event);
+        listener.event = null;
+        s.add(6.0, 6.0);
+        assertNull(listener.event);
+    }
+
+}
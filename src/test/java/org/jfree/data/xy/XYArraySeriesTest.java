@@ -0,0 +1,200 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYArraySeries} class.
+ */
+public class XYArraySeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYArraySeries<String> s1 = new XYArraySeries<>("Series");
+        XYArraySeries<String> s2 = new XYArraySeries<>("Series", 1000);
+        assertEquals(s1, s2);
+        s1.add(1.0, 1.1);
+        assertNotEquals(s1, s2);
+        s2.add(1.0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.add(2.0, Double.NaN);
+        assertNotEquals(s1, s2);
+        s2.add(2.0, Double.NaN);
+        assertEquals(s1, s2);
+        assertNotEquals(s1, new XYArraySeries<>("Other"));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYArraySeries<String> s1 = new XYArraySeries<>("Series");
+        s1.add(1.0, 1.1);
+        XYArraySeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertSame(s1.getClass(), s2.getClass());
+        assertEquals(s1, s2);
+
+        // check independence
+        s1.add(2.0, 2.2);
+        assertNotEquals(s1, s2);
+        s2.add(2.0, 2.2);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        XYArraySeries<String> s1 = new XYArraySeries<>("Series", 100);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        XYArraySeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        s2.add(3.0, 3.3);
+        assertEquals(3.3, s2.getYValue(2), EPSILON);
+        s1.add(3.0, 3.3);
+        assertEquals(s1, s2);
+
+        // an empty series
+        s1 = new XYArraySeries<>("Empty");
+        s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        s2.add(1.0, 1.1);
+        assertEquals(1, s2.getItemCount());
+    }
+
+    /**
+     * Adding items beyond the initial capacity grows the storage and the
+     * cached bounds are maintained.
+     */
+    @Test
+    public void testAdd() {
+        XYArraySeries<String> s = new XYArraySeries<>("S", 0);
+        assertTrue(Double.isNaN(s.getMinY()));
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, i % 7 - 3.0, false);
+        }
+        assertEquals(1000, s.getItemCount());
+        assertEquals(0.0, s.getMinX(), EPSILON);
+        assertEquals(999.0, s.getMaxX(), EPSILON);
+        assertEquals(-3.0, s.getMinY(), EPSILON);
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+        assertEquals(1.0, s.getYValue(501), EPSILON);
+
+        // duplicate x-values are permitted, but not out-of-order x-values
+        s.add(999.0, 10.0);
+        assertEquals(10.0, s.getMaxY(), EPSILON);
+        assertThrows(SeriesException.class, () -> s.add(998.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> s.add(Double.NaN, 1.0));
+    }
+
+    /**
+     * Some checks for the bulk add method.
+     */
+    @Test
+    public void testAddArrays() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        s.add(1.0, 5.0);
+        s.add(new double[] {2.0, 3.0, 3.0}, new double[] {-1.0, Double.NaN, 9.0});
+        assertEquals(4, s.getItemCount());
+        assertEquals(-1.0, s.getMinY(), EPSILON);
+        assertEquals(9.0, s.getMaxY(), EPSILON);
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0, 3.0}, s.getXValues(),
+                EPSILON);
+        assertThrows(SeriesException.class, () -> s.add(
+                new double[] {4.0, 0.0}, new double[] {1.0, 1.0}));
+        assertEquals(4, s.getItemCount());
+        assertThrows(IllegalArgumentException.class, () -> s.add(
+                new double[] {4.0}, new double[] {1.0, 1.0}));
+    }
+
+    /**
+     * Some checks for the updateByIndex() method.
+     */
+    @Test
+    public void testUpdateByIndex() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        s.add(1.0, 1.0);
+        s.add(2.0, 5.0);
+        s.add(3.0, 3.0);
+        s.updateByIndex(1, 2.0);
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+        s.updateByIndex(0, -4.0);
+        assertEquals(-4.0, s.getMinY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    @Test
+    public void testIndexOf() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        s.add(1.0, 1.0);
+        s.add(2.0, 2.0);
+        s.add(2.0, 3.0);
+        s.add(4.0, 4.0);
+        assertEquals(0, s.indexOf(1.0));
+        assertEquals(1, s.indexOf(2.0));
+        assertTrue(s.indexOf(3.0) < 0);
+        assertTrue(s.indexOf(5.0) < 0);
+    }
+
+    /**
+     * Clearing the series resets the bounds.
+     */
+    @Test
+    public void testClear() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        s.add(1.0, 1.0);
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMaxX()));
+        s.add(0.5, 2.0);
+        assertEquals(0.5, s.getMinX(), EPSILON);
+    }
+
+}
@@ -0,0 +1,159 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYMinMaxPyramid} class.
+ */
+public class XYMinMaxPyramidTest {
+
+    private static XYArraySeriesCollection<String> createDataset(int count,
+            long seed) {
+        Random random = new Random(seed);
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        for (int i = 0; i < count; i++) {
+            double y = random.nextInt(20) == 0 ? Double.NaN
+                    : random.nextGaussian();
+            s.add(i, y);
+        }
+        return new XYArraySeriesCollection<>(s);
+    }
+
+    /**
+     * Checks the index against the result of a brute force search for a
+     * selection of item ranges.
+     */
+    private static void checkRanges(XYDataset<String> dataset,
+            XYMinMaxPyramid pyramid, Random random, int trials) {
+        int count = dataset.getItemCount(0);
+        int[] result = new int[2];
+        for (int t = 0; t < trials; t++) {
+            int first = random.nextInt(count);
+            int last = first + random.nextInt(count - first);
+            pyramid.findMinMax(first, last, result);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = first; i <= last; i++) {
+                double y = dataset.getYValue(0, i);
+                min = Double.isNaN(y) ? min : Math.min(min, y);
+                max = Double.isNaN(y) ? max : Math.max(max, y);
+            }
+            if (min == Double.POSITIVE_INFINITY) {
+                assertEquals(-1, result[0]);
+                assertEquals(-1, result[1]);
+            } else {
+                assertTrue(result[0] >= first && result[0] <= last);
+                assertTrue(result[1] >= first && result[1] <= last);
+                assertEquals(min, dataset.getYValue(0, result[0]), 0.0);
+                assertEquals(max, dataset.getYValue(0, result[1]), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Compare the index results against a brute force search.
+     */
+    @Test
+    public void testFindMinMax() {
+        XYArraySeriesCollection<String> dataset = createDataset(10000, 1L);
+        XYMinMaxPyramid pyramid = new XYMinMaxPyramid(dataset, 0);
+        assertTrue(pyramid.isSupported());
+        pyramid.update();
+        assertEquals(10000, pyramid.getIndexedCount());
+        checkRanges(dataset, pyramid, new Random(2L), 500);
+    }
+
+    /**
+     * Items appended to the series are added to the index.
+     */
+    @Test
+    public void testIncrementalUpdate() {
+        XYArraySeriesCollection<String> dataset = createDataset(100, 3L);
+        XYMinMaxPyramid pyramid = new XYMinMaxPyramid(dataset, 0);
+        pyramid.update();
+        Random random = new Random(4L);
+        XYArraySeries<String> s = dataset.getSeries(0);
+        for (int batch = 0; batch < 20; batch++) {
+            int n = random.nextInt(300);
+            for (int i = 0; i < n; i++) {
+                s.add(s.getMaxX() + 1.0, random.nextGaussian() * batch);
+            }
+            pyramid.update();
+            assertEquals(s.getItemCount(), pyramid.getIndexedCount());
+            checkRanges(dataset, pyramid, random, 50);
+        }
+    }
+
+    /**
+     * The index is rebuilt if the series is cleared.
+     */
+    @Test
+    public void testRebuild() {
+        XYArraySeriesCollection<String> dataset = createDataset(1000, 5L);
+        XYMinMaxPyramid pyramid = new XYMinMaxPyramid(dataset, 0);
+        pyramid.update();
+        XYArraySeries<String> s = dataset.getSeries(0);
+        s.clear();
+        for (int i = 0; i < 200; i++) {
+            s.add(i, 100.0 - i);
+        }
+        pyramid.update();
+        assertEquals(200, pyramid.getIndexedCount());
+        int[] result = new int[2];
+        pyramid.findMinMax(0, 199, result);
+        assertEquals(199, result[0]);
+        assertEquals(0, result[1]);
+    }
+
+    /**
+     * Some checks for the findFirstItem() method.
+     */
+    @Test
+    public void testFindFirstItem() {
+        XYArraySeries<String> s = new XYArraySeries<>("S");
+        s.add(1.0, 1.0);
+        s.add(2.0, 1.0);
+        s.add(2.0, 1.0);
+        s.add(3.0, 1.0);
+        XYMinMaxPyramid pyramid = new XYMinMaxPyramid(
+                new XYArraySeriesCollection<>(s), 0);
+        pyramid.update();
+        assertEquals(0, pyramid.findFirstItem(0.0));
+        assertEquals(1, pyramid.findFirstItem(2.0));
+        assertEquals(3, pyramid.findFirstItem(2.5));
+        assertEquals(4, pyramid.findFirstItem(9.0));
+    }
+
+}
@@ -36,12 +36,15 @@
 
 package org.jfree.data.xy;
 
+import java.util.List;
+
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.DatasetChangeConfirmation;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -481,4 +484,51 @@ public class XYSeriesCollectionTest {
         assertEquals(6.0, r.getUpperBound(), EPSILON);
     }
 
+
+    /**
+     * Some checks for the getRangeBounds() method with an x-range, including
+     * updates to the series after the first call.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        XYSeries<String> s2 = new XYSeries<>("S2", false);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i % 10);
+            s2.add(99 - i, -i);
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        Range xRange = new Range(10.0, 12.0);
+        List<String> keys = List.of("S1");
+        assertEquals(new Range(0.0, 2.0),
+                dataset.getRangeBounds(keys, xRange, false));
+        assertEquals(new Range(-89.0, 2.0), dataset.getRangeBounds(
+                List.of("S1", "S2"), xRange, false));
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(dataset,
+                List.of("S1", "S2"), xRange, true),
+                dataset.getRangeBounds(List.of("S1", "S2"), xRange, true));
+        assertNull(dataset.getRangeBounds(keys, new Range(200.0, 300.0),
+                false));
+
+        // unknown keys are ignored
+        assertEquals(new Range(0.0, 2.0), dataset.getRangeBounds(
+                List.of("S1", "S3"), xRange, false));
+        assertNull(dataset.getRangeBounds(List.of("S3"), xRange, false));
+
+        // changes after the first call
+        s1.updateByIndex(11, 50.0);
+        assertEquals(new Range(0.0, 50.0),
+                dataset.getRangeBounds(keys, xRange, false));
+        s1.add(10.5, -5.0);
+        assertEquals(new Range(-5.0, 50.0),
+                dataset.getRangeBounds(keys, xRange, false));
+        s1.add(100.0, 7.0);
+        assertEquals(new Range(7.0, 7.0), dataset.getRangeBounds(keys,
+                new Range(99.5, 100.0), false));
+        s1.setMaximumItemCount(20);
+        assertNull(dataset.getRangeBounds(keys, xRange, false));
+    }
+
 }
@@ -38,6 +38,7 @@ package org.jfree.data.xy;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.BatchUpdate;
 import org.jfree.data.general.SeriesException;
 import org.junit.jupiter.api.Test;
 
@@ -760,4 +761,37 @@ public class XYSeriesTest {
         assertEquals(2.0, s1.getMaxY(), EPSILON);
     }
 
+
+    /**
+     * Changes made in a batch send a single event when the batch is closed.
+     */
+    @Test
+    @SuppressWarnings("try")
+    public void testBatch() {
+        XYSeries<String> series = new XYSeries<>("S");
+        int[] count = new int[1];
+        series.addChangeListener(e -> count[0]++);
+        try (BatchUpdate batch = series.beginBatch()) {
+            for (int i = 0; i < 100; i++) {
+                series.add(i, i);
+            }
+            try (BatchUpdate inner = series.beginBatch()) {
+                series.add(100.0, 1.0);
+            }
+            assertTrue(series.isBatchInProgress());
+            assertEquals(0, count[0]);
+        }
+        assertFalse(series.isBatchInProgress());
+        assertEquals(1, count[0]);
+        assertEquals(101, series.getItemCount());
+
+        // a batch with no changes sends no event
+        BatchUpdate batch = series.beginBatch();
+        batch.close();
+        batch.close();
+        assertEquals(1, count[0]);
+        series.add(200.0, 1.0);
+        assertEquals(2, count[0]);
+    }
+
 }